@@ -0,0 +1,53 @@
+package parksoffice.ojtcommunity.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * 빌드 시점에 계산된 내용 해시로 정적 자원의 버전을 결정하는 전략
+ *
+ * <p>
+ *     Gradle 빌드(gradle/static-assets.gradle)가 생성한 클래스패스의 {@code asset-manifest.properties}에서
+ *     자원별 MD5 해시를 읽어, 파일 이름에 해시를 붙인 URL(예: /css/common-&lt;hash&gt;.css)을 만든다.
+ *     manifest에 없는 자원(IDE 실행 등 빌드 후처리를 거치지 않은 경우)은 요청 시 내용 해시를 직접 계산한다.
+ *     (두 경로 모두 같은 MD5 값이므로 만들어지는 URL은 동일하다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Slf4j
+public class AssetManifestVersionStrategy extends ContentVersionStrategy {
+
+    static final String MANIFEST_LOCATION = "asset-manifest.properties";
+
+    private final Properties manifest = new Properties();
+
+    public AssetManifestVersionStrategy() {
+        ClassPathResource manifestResource = new ClassPathResource(MANIFEST_LOCATION);
+        if (manifestResource.exists()) {
+            try (InputStream in = manifestResource.getInputStream()) {
+                manifest.load(in);
+            } catch (IOException ex) {
+                log.warn("Failed to read {}: {}", MANIFEST_LOCATION, ex.getMessage());
+            }
+        }
+        log.info("Loaded {} static asset hash(es) from {}", manifest.size(), MANIFEST_LOCATION);
+    }
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        if (resource instanceof ClassPathResource classPathResource) {
+            String hash = manifest.getProperty(classPathResource.getPath());
+            if (hash != null) {
+                return hash;
+            }
+        }
+        return super.getResourceVersion(resource);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import parksoffice.ojtcommunity.domain.board.Board;
 import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.service.BoardService;
 
 @Configuration
 public class DataInitializer {
@@ -14,10 +15,11 @@ public class DataInitializer {
      * 등록된 게시판이 없으면 "자기소개(남)"과 "자기소개(여)"을 생성하여 저장한다.
      *
      * @param boardRepository BoardRepository 주입
+     * @param boardService BoardService 주입 (게시판 등록 이벤트 발행을 위해 서비스를 통해 저장한다)
      * @return CommandLineRunner 빈
      */
     @Bean
-    public CommandLineRunner initBoards(BoardRepository boardRepository) {
+    public CommandLineRunner initBoards(BoardRepository boardRepository, BoardService boardService) {
         return args -> {
             // 데이터베이스에 등록된 게시판이 없으면 초기화 진행
             if (boardRepository.count() == 0) {
@@ -32,8 +34,8 @@ public class DataInitializer {
                         .code("female")
                         .build();
 
-                boardRepository.save(maleBoard);
-                boardRepository.save(femaleBoard);
+                boardService.registerBoard(maleBoard);
+                boardService.registerBoard(femaleBoard);
             }
         };
     }
@@ -0,0 +1,148 @@
+package parksoffice.ojtcommunity.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.support.TokenBucketLimiter;
+import parksoffice.ojtcommunity.support.TokenBucketLimiter.Rate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 요청(글 작성, 추천, 로그인)의 횟수를 회원별/IP별 토큰 버킷으로 제한하는 필터
+ *
+ * <p>
+ *     제한을 넘은 요청은 컨트롤러와 DB에 닿기 전에 429(Too Many Requests)와 Retry-After 헤더로 바로 응답한다.
+ *     판단에는 메모리의 {@link TokenBucketLimiter}와 이미 로딩된 세션만 사용하므로, 거절된 요청은 SQL을 실행하지 않는다.
+ * </p>
+ *
+ * <p>
+ *     회원 기준 키는 로그인한 회원의 식별자이며, 로그인 요청은 아직 회원이 없으므로 입력한 사용자 이름을 쓴다.
+ *     (한 계정을 노리는 비밀번호 대입과 한 IP에서 여러 계정을 시도하는 경우를 각각 막는다.)
+ *     IP 기준 제한을 먼저 확인하므로, IP 제한에 걸린 요청은 회원 기준 버킷을 만들거나 사용하지 않는다.
+ *     입력한 사용자 이름은 클라이언트가 마음대로 정하므로, 추적 중인 키가 가득 차 있으면 새 버킷을 만들지 않는다.
+ *     ({@link TokenBucketLimiter#tryAcquireIfTracked}, 공용 버킷으로 모든 로그인이 함께 막히지 않도록)
+ *     엔드포인트별 제한은 {@code ojt.rate-limit.*}에서 "요청 수/초" 형식으로 설정하며, 거절 수는 메트릭
+ *     ratelimit.rejected(endpoint, scope)로 확인한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final boolean enabled;
+    private final TokenBucketLimiter limiter;
+    private final Map<String, Rule> rules;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(@Value("${ojt.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${ojt.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${ojt.rate-limit.idle-seconds:600}") long idleSeconds,
+                           @Value("${ojt.rate-limit.board-new.member:10/60}") String boardNewMember,
+                           @Value("${ojt.rate-limit.board-new.ip:30/60}") String boardNewIp,
+                           @Value("${ojt.rate-limit.board-recommend.member:60/60}") String recommendMember,
+                           @Value("${ojt.rate-limit.board-recommend.ip:120/60}") String recommendIp,
+                           @Value("${ojt.rate-limit.members-login.member:5/60}") String loginMember,
+                           @Value("${ojt.rate-limit.members-login.ip:20/60}") String loginIp,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.limiter = new TokenBucketLimiter(maxKeys, idleSeconds, TimeUnit.SECONDS);
+        this.rules = Map.of(
+                "/board/new", new Rule("board-new", Rate.parse(boardNewMember), Rate.parse(boardNewIp), null),
+                "/board/recommend", new Rule("board-recommend", Rate.parse(recommendMember), Rate.parse(recommendIp), null),
+                "/members/login", new Rule("members-login", Rate.parse(loginMember), Rate.parse(loginIp), "username"));
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ratelimit.keys", limiter, TokenBucketLimiter::size)
+                .description("요청 제한을 위해 추적 중인 키 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || !rules.containsKey(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Rule rule = rules.get(path(request));
+
+        if (reject(response, rule, "ip", request.getRemoteAddr(), rule.ipRate())) {
+            return;
+        }
+        String memberKey = memberKey(request, rule);
+        if (memberKey != null && reject(response, rule, "member", memberKey, rule.memberRate())) {
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String memberKey(HttpServletRequest request, Rule rule) {
+        if (rule.memberParameter() != null) {
+            String value = request.getParameter(rule.memberParameter());
+            // 키 길이를 제한하여, 긴 값을 보내 메모리를 늘리지 못하게 한다.
+            return value != null && value.length() > MAX_KEY_LENGTH ? value.substring(0, MAX_KEY_LENGTH) : value;
+        }
+        HttpSession session = request.getSession(false);
+        Object member = session != null ? session.getAttribute("loggedInMember") : null;
+        return member instanceof Member loggedIn && loggedIn.getId() != null ? loggedIn.getId().toString() : null;
+    }
+
+    private boolean reject(HttpServletResponse response, Rule rule, String scope, String key, Rate rate)
+            throws IOException {
+        String bucketScope = rule.name() + ':' + scope;
+        // 요청 파라미터에서 읽은 회원 키는 클라이언트가 정하므로, 가득 찬 동안 새 키를 만들지 않는다.
+        long waitNanos = "member".equals(scope) && rule.memberParameter() != null
+                ? limiter.tryAcquireIfTracked(bucketScope, key, rate)
+                : limiter.tryAcquire(bucketScope, key, rate);
+        if (waitNanos == 0) {
+            return false;
+        }
+        meterRegistry.counter("ratelimit.rejected", "endpoint", rule.name(), "scope", scope).increment();
+        log.debug("Rate limited {} by {} {}", rule.name(), scope, key);
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.");
+        return true;
+    }
+
+    /**
+     * 엔드포인트별 제한
+     *
+     * @param name            메트릭 태그와 버킷 범위에 쓰는 이름
+     * @param memberRate      회원 기준 제한
+     * @param ipRate          IP 기준 제한
+     * @param memberParameter 회원 기준 키를 세션 대신 요청 파라미터에서 읽을 때의 파라미터 이름 (로그인)
+     */
+    private record Rule(String name, Rate memberRate, Rate ipRate, String memberParameter) {
+    }
+}
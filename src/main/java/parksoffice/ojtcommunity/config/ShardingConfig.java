@@ -0,0 +1,144 @@
+package parksoffice.ojtcommunity.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.function.SingletonSupplier;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.board.PostRecommendation;
+import parksoffice.ojtcommunity.repository.shard.ShardDataSources;
+import parksoffice.ojtcommunity.repository.shard.ShardMap;
+import parksoffice.ojtcommunity.repository.shard.ShardReplicator;
+import parksoffice.ojtcommunity.repository.shard.ShardRoutingDataSource;
+import parksoffice.ojtcommunity.repository.shard.ShardRoutingInterceptor;
+import parksoffice.ojtcommunity.repository.shard.ShardSchemaInitializer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 코드 기준 게시글 샤딩 설정 ({@code ojt.sharding.enabled=true}일 때만 적용)
+ *
+ * <p>
+ *     게시글과 추천 정보는 게시판의 샤드에, 회원과 게시판은 기본 샤드에 원본을 두고 나머지 샤드에 사본을 둔다.
+ *     <ul>
+ *         <li>DataSource 빈은 샤드 풀들을 고르는 라우팅 DataSource 하나이며, 샤드는 첫 SQL 실행 시점에 정해진다.</li>
+ *         <li>PostRepository/PostRecommendationRepository 프록시에 {@link ShardRoutingInterceptor}를 붙여 호출마다 샤드를 정한다.</li>
+ *         <li>Hibernate는 트랜잭션이 끝나면 커넥션을 반납하고(OSIV에서 요청 전체가 한 샤드에 묶이지 않도록),
+ *             시퀀스 값을 미리 받아 두지 않는다. (받아 둔 값이 다른 샤드의 게시글에 쓰이지 않도록)</li>
+ *     </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Configuration
+@ConditionalOnProperty(name = "ojt.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final Set<Class<?>> SHARDED_DOMAIN_TYPES = Set.of(Post.class, PostRecommendation.class);
+
+    @Bean
+    public ShardMap shardMap(ShardingProperties properties) {
+        return new ShardMap(properties.getShards().size() + 1, properties.getBoards());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(DataSourceProperties primary, ShardingProperties properties) {
+        List<DataSource> dataSources = new ArrayList<>();
+        dataSources.add(primary.initializeDataSourceBuilder().type(HikariDataSource.class).build());
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            dataSources.add(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(primary.determineDriverClassName())
+                    .url(shard.getUrl())
+                    .username(shard.getUsername() != null ? shard.getUsername() : primary.determineUsername())
+                    .password(shard.getPassword() != null ? shard.getPassword() : primary.determinePassword())
+                    .build());
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    /**
+     * 애플리케이션의 DataSource (샤드 라우팅)
+     * <p>트랜잭션 시작 시점에는 샤드가 정해지지 않았으므로, 실제 커넥션은 첫 SQL을 실행할 때 얻는다.</p>
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDataSources.all()));
+    }
+
+    @Bean
+    public ShardReplicator shardReplicator(ShardDataSources shardDataSources, MeterRegistry meterRegistry) {
+        return new ShardReplicator(shardDataSources, meterRegistry);
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardMap shardMap, ShardDataSources shardDataSources,
+                                                         ShardReplicator shardReplicator) {
+        return new ShardSchemaInitializer(shardMap, shardDataSources, shardReplicator);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardingHibernateProperties(ShardSchemaInitializer shardSchemaInitializer) {
+        return properties -> {
+            properties.put(AvailableSettings.CONNECTION_HANDLING,
+                    PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "none");
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(shardSchemaInitializer));
+        };
+    }
+
+    @Bean
+    public ShardRoutingInterceptor shardRoutingInterceptor(ShardMap shardMap,
+                                                           EntityManagerFactory entityManagerFactory,
+                                                           PlatformTransactionManager transactionManager,
+                                                           MeterRegistry meterRegistry) {
+        return new ShardRoutingInterceptor(shardMap, entityManagerFactory, transactionManager, meterRegistry);
+    }
+
+    /**
+     * 게시글/추천 정보 리포지토리 프록시의 가장 바깥에 샤드 라우팅을 추가한다.
+     * <p>
+     *     BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 인터셉터는 리포지토리를 만드는 시점에 지연 조회한다.
+     * </p>
+     */
+    @Bean
+    public static BeanPostProcessor shardRoutingRepositoryPostProcessor(ObjectProvider<ShardRoutingInterceptor> interceptor) {
+        Supplier<ShardRoutingInterceptor> routing = SingletonSupplier.of(interceptor::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> {
+                                if (SHARDED_DOMAIN_TYPES.contains(repositoryInformation.getDomainType())) {
+                                    proxyFactory.addAdvice(0, routing.get());
+                                }
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+}
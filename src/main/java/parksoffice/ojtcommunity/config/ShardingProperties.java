@@ -0,0 +1,58 @@
+package parksoffice.ojtcommunity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 샤딩 설정 ({@code ojt.sharding.*})
+ *
+ * <p>
+ *     기본 샤드(0번)는 {@code spring.datasource}의 데이터베이스이며, {@link #shards}는 1번부터의 추가 샤드이다.
+ *     샤드별 접속 정보는 목록 형태이므로 {@code @Value} 대신 이 클래스로 바인딩한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@ConfigurationProperties("ojt.sharding")
+@Getter
+@Setter
+public class ShardingProperties {
+
+    /**
+     * 샤딩 사용 여부 (끄면 기존처럼 DataSource 하나만 사용한다.)
+     */
+    private boolean enabled;
+
+    /**
+     * 추가 샤드 접속 정보 (1번 샤드부터 순서대로)
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * 게시판 코드별 샤드 번호 (없는 게시판은 코드의 해시로 정한다.)
+     */
+    private Map<String, Integer> boards = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+
+        /**
+         * 사용자 이름 (없으면 spring.datasource.username)
+         */
+        private String username;
+
+        /**
+         * 비밀번호 (없으면 spring.datasource.password)
+         */
+        private String password;
+    }
+}
@@ -0,0 +1,58 @@
+package parksoffice.ojtcommunity.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import parksoffice.ojtcommunity.service.SqlMonitor;
+import parksoffice.ojtcommunity.support.sql.SqlStatistics;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 식별자(request id)를 붙이고, 요청 동안 실행된 SQL을 집계하는 필터
+ *
+ * <p>
+ *     요청 식별자는 X-Request-Id 요청 헤더가 있으면 그대로 사용하고, 없으면 새로 만든다.
+ *     응답 헤더와 로그 MDC(requestId)에 같은 값을 넣어, 느린 쿼리 로그와 요청을 연결할 수 있게 한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final SqlMonitor sqlMonitor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString().substring(0, 8);
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put("requestId", requestId);
+        SqlStatistics statistics = SqlStatistics.begin(requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatistics.end();
+            MDC.remove("requestId");
+            sqlMonitor.requestCompleted(statistics, request.getMethod(), request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package parksoffice.ojtcommunity.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+import parksoffice.ojtcommunity.service.SqlMonitor;
+import parksoffice.ojtcommunity.support.sql.SqlInterceptor;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+/**
+ * SQL 측정 설정
+ *
+ * <p>
+ *     애플리케이션의 DataSource를 {@link SqlInterceptor}로 감싸, 모든 SQL 문의 실행 시간과 행 수를
+ *     {@link SqlMonitor}와 요청 단위 통계({@link SqlAccountingFilter})로 보낸다.
+ *     show_sql/바인딩 로그를 켜지 않고도 요청별 쿼리 비용과 느린 쿼리를 확인하기 위한 용도이다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Configuration
+public class SqlMonitoringConfig {
+
+    /**
+     * DataSource 빈을 측정용 래퍼로 교체한다.
+     * <p>
+     *     BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 SqlMonitor는 첫 SQL 실행 시점에 지연 조회한다.
+     * </p>
+     */
+    @Bean
+    public static BeanPostProcessor sqlInterceptingDataSourcePostProcessor(ObjectProvider<SqlMonitor> sqlMonitor) {
+        Supplier<SqlMonitor> monitor = SingletonSupplier.of(sqlMonitor::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return SqlInterceptor.wrap(dataSource, query -> monitor.get().afterQuery(query));
+                }
+                return bean;
+            }
+        };
+    }
+}
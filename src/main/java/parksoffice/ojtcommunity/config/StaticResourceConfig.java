@@ -0,0 +1,76 @@
+package parksoffice.ojtcommunity.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * 정적 자원(css, js) 제공 설정
+ *
+ * <p>
+ *     <ul>
+ *         <li>URL에 내용 해시를 붙인 지문(fingerprint) URL로 제공한다. (예: /css/common-&lt;hash&gt;.css)</li>
+ *         <li>지문 URL은 내용이 바뀌면 URL도 바뀌므로, 1년 동안 재검증 없이 캐시하도록(immutable) 응답한다.</li>
+ *         <li>지문이 없는 URL(예: /css/common.css)은 같은 URL로 다른 내용이 나갈 수 있으므로, 매번 재검증(no-cache)하도록 응답한다.</li>
+ *         <li>빌드 시 생성된 .br / .gz 사전 압축본을 Accept-Encoding에 맞춰 그대로 내려준다.</li>
+ *         <li>템플릿의 {@code @{/css/common.css}} 같은 링크는 {@link ResourceUrlEncodingFilter}가 지문 URL로 자동 변환한다.</li>
+ *     </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ * @see AssetManifestVersionStrategy
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    // 지문 URL의 파일 이름 (이름-<MD5 32자리>.확장자). "/css/**"보다 구체적인 패턴이므로 먼저 선택된다.
+    private static final String FINGERPRINTED_FILE = "{name}-{hash:[0-9a-f]{32}}.{extension}";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        AssetManifestVersionStrategy versionStrategy = new AssetManifestVersionStrategy();
+        CacheControl fingerprinted = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        CacheControl unversioned = CacheControl.noCache().cachePublic();
+
+        for (String directory : new String[]{"css", "js"}) {
+            String location = "classpath:/static/" + directory + "/";
+            addAssetHandler(registry, "/" + directory + "/" + FINGERPRINTED_FILE, location, fingerprinted, versionStrategy);
+            addAssetHandler(registry, "/" + directory + "/**", location, unversioned, versionStrategy);
+        }
+    }
+
+    /**
+     * 정적 자원 핸들러를 등록한다.
+     * <p>
+     *     지문 URL용 핸들러는 파일 이름이 지문 형식인 요청만 받고, 나머지 요청(지문 없는 URL, 하위 디렉터리)은
+     *     "/**" 핸들러가 받는다. 템플릿의 지문 URL 생성({@link ResourceUrlEncodingFilter})은 "/**" 핸들러의 버전 해석기를 사용한다.
+     * </p>
+     */
+    private void addAssetHandler(ResourceHandlerRegistry registry, String pattern, String location,
+                                 CacheControl cacheControl, AssetManifestVersionStrategy versionStrategy) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .setCacheControl(cacheControl)
+                .resourceChain(true)
+                // 사전 압축본 확인이 버전 해석보다 먼저 수행되어야 한다.
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver()
+                        .addVersionStrategy(versionStrategy, "/**"));
+    }
+
+    /**
+     * 템플릿에서 생성되는 정적 자원 URL을 지문 URL로 바꿔주는 필터
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        return new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+    }
+}
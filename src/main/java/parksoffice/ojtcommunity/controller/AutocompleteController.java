@@ -0,0 +1,69 @@
+package parksoffice.ojtcommunity.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import parksoffice.ojtcommunity.service.AutocompleteService;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AutocompleteController
+ *
+ * <p>
+ *     멘션/작성자 필터 입력창에서 사용하는 자동완성 API를 제공한다.
+ *     뷰를 렌더링하지 않고 JSON 배열만 반환하며, 모든 응답은 메모리 인덱스에서 만들어진다. (DB 조회 없음)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/autocomplete")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    /**
+     * 접두사로 시작하는 회원 이름 목록을 반환한다.
+     * URL 예시: /api/autocomplete/members?q=jin&limit=10
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit  최대 결과 개수 (기본 10, 최대 50)
+     * @return 회원 이름 목록
+     */
+    @GetMapping("/members")
+    public List<String> suggestMembers(@RequestParam("q") String prefix,
+                                       @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return autocompleteService.suggestUsernames(prefix, limit);
+    }
+
+    /**
+     * 접두사로 시작하는 게시판 이름 목록을 반환한다.
+     * URL 예시: /api/autocomplete/boards?q=자기&limit=10
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit  최대 결과 개수 (기본 10, 최대 50)
+     * @return 게시판 이름 목록
+     */
+    @GetMapping("/boards")
+    public List<String> suggestBoards(@RequestParam("q") String prefix,
+                                      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return autocompleteService.suggestBoardNames(prefix, limit);
+    }
+
+    /**
+     * 회원 이름 인덱스의 크기와 추정 메모리 사용량을 반환한다.
+     *
+     * @return {"usernames": 적재된 이름 수, "estimatedBytes": 추정 메모리 사용량}
+     */
+    @GetMapping("/stats")
+    public Map<String, Long> stats() {
+        return Map.of(
+                "usernames", (long) autocompleteService.usernameCount(),
+                "estimatedBytes", autocompleteService.estimateUsernameIndexBytes());
+    }
+}
@@ -0,0 +1,260 @@
+package parksoffice.ojtcommunity.controller;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import parksoffice.ojtcommunity.dto.board.BoardSummaryDto;
+import parksoffice.ojtcommunity.dto.board.PostDetailDto;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.exception.BoardNotFoundException;
+import parksoffice.ojtcommunity.exception.PostNotFoundException;
+import parksoffice.ojtcommunity.service.BoardService;
+import parksoffice.ojtcommunity.service.PostFeedService;
+import parksoffice.ojtcommunity.service.PostService;
+import parksoffice.ojtcommunity.service.SearchResultCache;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * BoardApiController
+ *
+ * <p>
+ *     모바일 클라이언트용 읽기 전용 JSON API를 제공한다.
+ *     <ul>
+ *         <li>엔티티 대신 필요한 컬럼만 조회한 DTO(projection)를 사용하므로 지연 로딩이 발생하지 않는다.</li>
+ *         <li>목록은 OFFSET 대신 커서(마지막 항목의 식별자)로 페이지를 나눈다. 응답의 nextCursor를 다음 요청의 cursor로 전달한다.</li>
+ *         <li>
+ *             응답은 Jackson의 스트리밍 생성기({@link JsonGenerator})로 출력 스트림에 바로 쓴다.
+ *             템플릿 렌더링이나 중간 트리(Map, JsonNode)를 만들지 않는다.
+ *         </li>
+ *     </ul>
+ *     URL 예시: /api/boards, /api/boards/male/posts?cursor=120&size=20, /api/posts/120, /api/posts/search?q=spring&field=title&board=male, /api/boards/male/feed
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class BoardApiController {
+
+    /**
+     * 한 페이지의 최대 항목 수
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final BoardService boardService;
+    private final PostService postService;
+    private final PostFeedService postFeedService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시판 목록을 반환한다.
+     *
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size     페이지 크기 (기본 20, 최대 100)
+     * @param response 응답을 직접 쓸 HTTP 응답 객체
+     */
+    @GetMapping("/boards")
+    public void listBoards(@RequestParam(value = "cursor", required = false) Long cursor,
+                           @RequestParam(value = "size", defaultValue = "20") int size,
+                           HttpServletResponse response) throws IOException {
+        CursorPage<BoardSummaryDto> page = boardService.getBoardSummaries(cursor, clamp(size));
+        try (JsonGenerator json = open(response, HttpStatus.OK)) {
+            writePage(json, page.getItems(), page.getNextCursor(), (generator, board) -> {
+                generator.writeNumberField("id", board.getId());
+                generator.writeStringField("code", board.getCode());
+                generator.writeStringField("name", board.getName());
+                generator.writeStringField("description", board.getDescription());
+            });
+        }
+    }
+
+    /**
+     * 게시판의 게시글 목록을 최신순으로 반환한다. (본문 제외)
+     *
+     * @param boardCode 게시판 코드
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size      페이지 크기 (기본 20, 최대 100)
+     * @param response  응답을 직접 쓸 HTTP 응답 객체
+     */
+    @GetMapping("/boards/{code}/posts")
+    public void listPosts(@PathVariable("code") String boardCode,
+                          @RequestParam(value = "cursor", required = false) Long cursor,
+                          @RequestParam(value = "size", defaultValue = "20") int size,
+                          HttpServletResponse response) throws IOException {
+        CursorPage<PostSummaryDto> page;
+        try {
+            page = postService.getPostSummaries(boardCode, cursor, clamp(size));
+        } catch (BoardNotFoundException ex) {
+            writeError(response, HttpStatus.NOT_FOUND, ex.getMessage());
+            return;
+        }
+        try (JsonGenerator json = open(response, HttpStatus.OK)) {
+            writePage(json, page.getItems(), page.getNextCursor(), (generator, post) -> {
+                generator.writeNumberField("id", post.getId());
+                generator.writeStringField("title", post.getTitle());
+                generator.writeStringField("author", post.getAuthorUsername());
+                generator.writeNumberField("viewCount", post.getViewCount());
+                writeDateTime(generator, "createdAt", post.getCreatedAt());
+            });
+        }
+    }
+
+    /**
+     * 제목 또는 본문에 검색어가 포함된 게시글 요약 목록을 최신순으로 반환한다.
+     *
+     * @param query     검색어 (대소문자, 앞뒤/연속 공백 무시)
+     * @param field     검색 필드 (title 또는 content, 기본 title)
+     * @param boardCode 게시판 코드 (생략하면 모든 게시판)
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size      페이지 크기 (기본 20, 최대 100)
+     * @param response  응답을 직접 쓸 HTTP 응답 객체
+     */
+    @GetMapping("/posts/search")
+    public void searchPosts(@RequestParam("q") String query,
+                            @RequestParam(value = "field", defaultValue = "title") String field,
+                            @RequestParam(value = "board", required = false) String boardCode,
+                            @RequestParam(value = "cursor", required = false) Long cursor,
+                            @RequestParam(value = "size", defaultValue = "20") int size,
+                            HttpServletResponse response) throws IOException {
+        SearchResultCache.Field searchField;
+        try {
+            searchField = SearchResultCache.Field.valueOf(field.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Unknown search field: " + field);
+            return;
+        }
+        CursorPage<PostSummaryDto> page = postService.searchPostSummaries(searchField, query, boardCode, cursor, clamp(size));
+        try (JsonGenerator json = open(response, HttpStatus.OK)) {
+            writePage(json, page.getItems(), page.getNextCursor(), (generator, post) -> {
+                generator.writeNumberField("id", post.getId());
+                generator.writeStringField("title", post.getTitle());
+                generator.writeStringField("author", post.getAuthorUsername());
+                generator.writeNumberField("viewCount", post.getViewCount());
+                writeDateTime(generator, "createdAt", post.getCreatedAt());
+            });
+        }
+    }
+
+    /**
+     * 게시글 상세 정보를 반환한다.
+     *
+     * @param postId   게시글 식별자
+     * @param response 응답을 직접 쓸 HTTP 응답 객체
+     */
+    @GetMapping("/posts/{id}")
+    public void viewPost(@PathVariable("id") Long postId, HttpServletResponse response) throws IOException {
+        PostDetailDto post;
+        try {
+            post = postService.getPostDetailDto(postId);
+        } catch (PostNotFoundException ex) {
+            writeError(response, HttpStatus.NOT_FOUND, ex.getMessage());
+            return;
+        }
+        long recommendationCount = postService.getRecommendationCount(postId);
+        try (JsonGenerator json = open(response, HttpStatus.OK)) {
+            json.writeStartObject();
+            json.writeNumberField("id", post.getId());
+            json.writeObjectFieldStart("board");
+            json.writeStringField("code", post.getBoardCode());
+            json.writeStringField("name", post.getBoardName());
+            json.writeEndObject();
+            json.writeStringField("title", post.getTitle());
+            json.writeStringField("content", post.getContent());
+            json.writeStringField("author", post.getAuthorUsername());
+            json.writeNumberField("viewCount", post.getViewCount());
+            json.writeNumberField("recommendationCount", recommendationCount);
+            writeDateTime(json, "createdAt", post.getCreatedAt());
+            writeDateTime(json, "updatedAt", post.getUpdatedAt());
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 게시판의 새 게시글 알림을 Server-Sent Events로 구독한다.
+     * <p>
+     *     새 글이 등록되면 "post" 이벤트(게시글 요약 JSON)가, 연결이 밀려 알림이 유실되면 "resync" 이벤트가 전송된다.
+     *     resync를 받으면 목록을 다시 조회해야 한다.
+     * </p>
+     *
+     * @param boardCode 게시판 코드
+     * @return SSE 스트림 (게시판이 없으면 404)
+     */
+    @GetMapping(value = "/boards/{code}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeFeed(@PathVariable("code") String boardCode) {
+        if (!boardService.existsByCode(boardCode)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(postFeedService.subscribe(boardCode));
+    }
+
+    private JsonGenerator open(HttpServletResponse response, HttpStatus status) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        return objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+    }
+
+    private <T> void writePage(JsonGenerator json, List<T> items, Long nextCursor, ItemWriter<T> itemWriter)
+            throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        for (T item : items) {
+            json.writeStartObject();
+            itemWriter.write(json, item);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        if (nextCursor != null) {
+            json.writeNumberField("nextCursor", nextCursor);
+        } else {
+            json.writeNullField("nextCursor");
+        }
+        json.writeEndObject();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        log.warn("API error {}: {}", status.value(), message);
+        try (JsonGenerator json = open(response, status)) {
+            json.writeStartObject();
+            json.writeNumberField("status", status.value());
+            json.writeStringField("message", message);
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator json, String field, LocalDateTime value) throws IOException {
+        if (value != null) {
+            json.writeStringField(field, value.toString());
+        } else {
+            json.writeNullField(field);
+        }
+    }
+
+    private static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface ItemWriter<T> {
+        void write(JsonGenerator json, T item) throws IOException;
+    }
+}
@@ -1,47 +1,109 @@
 package parksoffice.ojtcommunity.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 import parksoffice.ojtcommunity.domain.board.Board;
 import parksoffice.ojtcommunity.domain.board.Post;
 import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.BoardListVersionDto;
 import parksoffice.ojtcommunity.dto.board.CreatePostDto;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.dto.board.PostVersionDto;
 import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
 import parksoffice.ojtcommunity.exception.AlreadyRecommendedException;
+import parksoffice.ojtcommunity.exception.MemberNotFoundException;
+import parksoffice.ojtcommunity.exception.NearDuplicatePostException;
 import parksoffice.ojtcommunity.service.BoardService;
+import parksoffice.ojtcommunity.service.HotLookupService;
+import parksoffice.ojtcommunity.service.InteractionJournal;
 import parksoffice.ojtcommunity.service.PostService;
+import parksoffice.ojtcommunity.support.ChunkedCursor;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
 
 @Controller
 @Slf4j
-@RequiredArgsConstructor
 @RequestMapping("/board")
 public class BoardController {
 
     private final PostService postService;
     private final BoardService boardService;
+    private final HotLookupService hotLookupService; // 목록/상세 화면의 동시 조회를 하나로 합친다.
+    private final InteractionJournal interactionJournal; // 조회수는 저널에 기록하고 백그라운드에서 모아 반영한다.
+    private final int listChunkSize; // 목록 화면이 한 번에 조회하고 출력하는 게시글 수
+
+    public BoardController(PostService postService,
+                           BoardService boardService,
+                           HotLookupService hotLookupService,
+                           InteractionJournal interactionJournal,
+                           @Value("${ojt.board-list.chunk-size:200}") int listChunkSize) {
+        this.postService = postService;
+        this.boardService = boardService;
+        this.hotLookupService = hotLookupService;
+        this.interactionJournal = interactionJournal;
+        this.listChunkSize = listChunkSize;
+    }
 
     /**
      * 게시판 코드에 해당하는 게시글 목록을 조회하여 "board/lists" 뷰를 반환한다.
      * URL 예시: /board/lists/?id=male
+     * <p>
+     *     목록 버전(게시판 수정일, 게시글 최대 수정일, 게시글 수, 작성자 최대 수정일)을 집계 쿼리 한 번으로 확인하여,
+     *     클라이언트가 가진 버전과 같으면 목록 조회와 템플릿 렌더링 없이 304 Not Modified를 반환한다.
+     * </p>
+     * <p>
+     *     게시글 목록은 미리 조회하지 않고 {@link ChunkedCursor}로 넘겨, 템플릿이 행을 출력하면서 커서 페이지 단위로 조회한다.
+     *     페이지를 조회하기 직전마다 응답을 flush하므로 레이아웃 헤더는 첫 조회 전에, 각 페이지의 행은 다음 조회 전에 전송된다.
+     *     (게시글 수와 관계없이 첫 바이트까지의 시간과 요청당 메모리가 일정하다.)
+     * </p>
      *
      * @param boardCode 쿼리 파라미터 'id'에 해당하는 게시판 코드 (예: "male", "female")
      * @param model Thymeleaf 모델 객체
-     * @return 게시글 목록 뷰 이름
+     * @param session 현재 HTTP 세션 (헤더에 로그인 정보가 표시되므로 버전에 포함)
+     * @param webRequest 조건부 요청 처리를 위한 요청 객체
+     * @param response 렌더링 중 flush할 HTTP 응답 객체
+     * @return 게시글 목록 뷰 이름 (304 응답인 경우 null)
      */
     @GetMapping("/lists")
-    public String listBoardPosts(@RequestParam("id") String boardCode, Model model) {
+    public String listBoardPosts(@RequestParam("id") String boardCode, Model model,
+                                 HttpSession session, ServletWebRequest webRequest,
+                                 HttpServletResponse response) {
+        Optional<BoardListVersionDto> version = hotLookupService.getBoardListVersion(boardCode);
+        if (version.isPresent()) {
+            BoardListVersionDto v = version.get();
+            String versionKey = "lists:" + boardCode + ":" + v.getLastModified() + ":" + v.getPostCount()
+                    + ":" + v.getLastAuthorUpdatedAt() + ":" + loggedInMemberId(session);
+            if (isNotModified(webRequest, versionKey, v.getLastModified())) {
+                log.debug("Board list not modified: {}", boardCode);
+                return null;
+            }
+        }
+
         // Board 정보를 별도로 조회
-        Board board = boardService.getBoardByCode(boardCode);
-        List<Post> posts = postService.getPostsByBoardCode(boardCode);
+        Board board = hotLookupService.getBoardByCode(boardCode);
+        ChunkedCursor<PostSummaryDto> posts = new ChunkedCursor<>(
+                cursor -> postService.getPostSummaries(boardCode, cursor, listChunkSize),
+                () -> flush(response));
         model.addAttribute("posts", posts);
         model.addAttribute("board", board);
 
@@ -56,17 +118,40 @@ public class BoardController {
     /**
      * 특정 게시판과 게시글 번호에 해당하는 게시글 상세 정보를 조회하여 "board/view" 뷰를 반환한다.
      * URL 예시: /board/view/?id=male&no=6388256
+     * <p>
+     *     조회는 304 응답을 포함해 {@link InteractionJournal}에 기록만 하고, 조회수는 백그라운드에서 모아 반영한다.
+     *     (조회 요청이 게시글 행을 갱신하지 않으므로 버전/캐시와 무관하다.)
+     * </p>
      *
      * @param boardCode 쿼리 파라미터 'id'에 해당하는 게시판 코드
      * @param postId 쿼리 파라미터 'no'에 해당하는 게시글 번호
      * @param model Thymeleaf 모델 객체
-     * @return 게시글 상세 뷰 이름
+     * @param session 현재 HTTP 세션 (로그인한 회원의 추천 여부 표시에 사용)
+     * @param webRequest 조건부 요청 처리를 위한 요청 객체
+     * @return 게시글 상세 뷰 이름 (304 응답인 경우 null)
      */
     @GetMapping("/view")
     public String viewBoardPost(@RequestParam("id") String boardCode,
                                 @RequestParam("no") Long postId,
-                                Model model) {
-        Post post = postService.getPostById(postId);
+                                Model model,
+                                HttpSession session,
+                                ServletWebRequest webRequest) {
+        // 게시글 엔티티를 로딩하기 전에, 수정일, 작성자 이름과 추천 수(메모리)로 버전을 확인한다.
+        Optional<PostVersionDto> version = hotLookupService.getPostVersion(postId);
+        if (version.isPresent() && version.get().getBoardCode().equalsIgnoreCase(boardCode)) {
+            Long memberId = loggedInMemberId(session);
+            String versionKey = "view:" + postId + ":" + version.get().getUpdatedAt()
+                    + ":" + version.get().getAuthorUsername()
+                    + ":" + postService.getRecommendationCount(postId)
+                    + ":" + memberId + ":" + (memberId != null && postService.hasRecommended(postId, memberId));
+            if (isNotModified(webRequest, versionKey, version.get().getUpdatedAt())) {
+                log.debug("Post not modified: {}", postId);
+                interactionJournal.recordView(postId, memberId);
+                return null;
+            }
+        }
+
+        Post post = hotLookupService.getPostDetail(postId);
         // 조회된 게시글의 Board 코드가 요청된 board 코드가 일치하는지 확인한다.
         if(!post.getBoard().getCode().equalsIgnoreCase(boardCode)) {
             log.warn("Board code mismatch: post board code {} vs request board code {}",
@@ -77,10 +162,17 @@ public class BoardController {
         model.addAttribute("post", post);
         model.addAttribute("boardCode", boardCode);
 
+        // 추천 수와 로그인한 회원의 추천 여부는 추천 컬렉션을 로딩하지 않고 추천자 비트맵에서 조회한다.
+        model.addAttribute("recommendationCount", postService.getRecommendationCount(postId));
+        Member loggedInMember = (Member) session.getAttribute("loggedInMember");
+        model.addAttribute("alreadyRecommended",
+                loggedInMember != null && postService.hasRecommended(postId, loggedInMember.getId()));
+
         // Thymeleaf layout의 head 영역에 전달할 동적 변수들 추가
         model.addAttribute("pageTitle", post.getTitle() + "-" + post.getBoard().getName());
         model.addAttribute("pageDescription", "게시글 상세 페이지입니다.");
 
+        interactionJournal.recordView(postId, loggedInMember != null ? loggedInMember.getId() : null);
         log.info("Viewing post with id: {} on board code: {}", postId, boardCode);
         return "board/view";
     }
@@ -112,18 +204,20 @@ public class BoardController {
 
     /**
      * 신규 게시글 작성 요청을 처리한다.
-     * 유효성 검증 실패 시 작성 폼으로 되돌아간다.
+     * 유효성 검증에 실패하거나 근접 중복으로 거부되면 입력한 내용을 유지한 채 작성 폼으로 되돌아간다.
      * URL 예시: /board/new/?id=male
      *
      * @param boardCode 쿼리 파라미터 'id'에 해당하는 게시판 코드
      * @param createPostDto 작성할 게시글 DTO (폼 데이터를 바인딩)
      * @param bindingResult 유효성 검증 결과
+     * @param model 근접 중복으로 거부된 경우 작성 폼에 전달할 모델 (입력한 게시글과 경고 메시지)
      * @return 게시글 목록 페이지 리다이렉트 또는 작성 폼 뷰 이름
      */
     @PostMapping("/new")
     public String createPost(@RequestParam("id") String boardCode,
                              @ModelAttribute("createPostDto") @Valid CreatePostDto createPostDto,
                              BindingResult bindingResult,
+                             Model model,
                              HttpSession session) {
         if (bindingResult.hasErrors()) {
             log.warn("Post creation failed for board code: {} due to validation errors", boardCode);
@@ -149,7 +243,23 @@ public class BoardController {
                 .board(board)
                 .build();
 
-        postService.registerPost(post);
+        try {
+            postService.registerPost(post);
+        } catch (MemberNotFoundException ex) {
+            // 탈퇴한 회원의 남은 세션이면 세션을 무효화하고 로그인 페이지로 보낸다.
+            log.warn("Rejected post creation from deactivated member id: {}", author.getId());
+            session.invalidate();
+            return "redirect:/members/login";
+        } catch (NearDuplicatePostException ex) {
+            // 최근 게시글과 본문이 거의 같아 거부된 경우 입력한 내용과 경고 메시지를 담아 작성 폼을 다시 보여준다.
+            log.warn("Rejected near-duplicate post for board code: {}", boardCode);
+            model.addAttribute("post", createPostDto);
+            model.addAttribute("boardCode", boardCode);
+            model.addAttribute("warningMessage", ex.getMessage());
+            model.addAttribute("pageTitle", "게시글 작성 - " + board.getName());
+            model.addAttribute("pageDescription", "게시글 작성 페이지입니다.");
+            return "board/createPost";
+        }
         log.info("Created post with title: {} for board code: {}", post.getTitle(), boardCode);
         return "redirect:/board/lists?id=" + boardCode;
     }
@@ -171,6 +281,7 @@ public class BoardController {
         UpdatePostDto updatePostDto = new UpdatePostDto();
         updatePostDto.setTitle(post.getTitle());
         updatePostDto.setContent(post.getContent());
+        updatePostDto.setVersion(post.getVersion());
         model.addAttribute("postId", postId);
         model.addAttribute("updatePostDto", updatePostDto);
         model.addAttribute("boardCode", boardCode);
@@ -187,23 +298,44 @@ public class BoardController {
      * 게시글 수정 요청을 처리한다.
      * 유효성 검증 실패 시 수정 폼으로 되돌아간다.
      * URL 예시: /board/edit/?id=male&no=6388256
+     * <p>
+     *     수정 폼을 연 뒤 다른 사용자가 먼저 수정했다면 409 Conflict와 함께 수정 폼을 다시 보여 준다.
+     *     입력한 내용은 그대로 두고 최신 제목/본문을 함께 표시하며, 버전을 최신으로 바꿔 두므로
+     *     사용자가 확인 후 다시 제출하면 저장된다.
+     * </p>
      *
      * @param boardCode 쿼리 파라미터 'id'에 해당하는 게시판 코드
      * @param postId 쿼리 파라미터 'no'에 해당하는 게시글 번호
-     * @param updatePostDto 수정할 게시글 데이터 (제목과 본문)
+     * @param updatePostDto 수정할 게시글 데이터 (제목과 본문, 수정 폼을 열 때의 버전)
      * @param bindingResult 유효성 검증 결과
+     * @param model Thymeleaf 모델 객체
+     * @param response 충돌 시 상태 코드를 설정할 HTTP 응답 객체
      * @return 게시글 상세 페이지로 리다이렉트 또는 수정 폼 뷰 이름
      */
     @PostMapping("/edit")
     public String updatePost(@RequestParam("id") String boardCode,
                              @RequestParam("no") Long postId,
                              @ModelAttribute("updatePostDto") @Valid UpdatePostDto updatePostDto,
-                             BindingResult bindingResult) {
+                             BindingResult bindingResult,
+                             Model model,
+                             HttpServletResponse response) {
         if (bindingResult.hasErrors()) {
             log.warn("Post update failed for post id: {} on board code: {} due to validation errors", postId, boardCode);
             return "board/edit";
         }
-        postService.updatePost(postId, updatePostDto);
+        try {
+            postService.updatePost(postId, updatePostDto);
+        } catch (OptimisticLockingFailureException ex) {
+            log.warn("Post update conflict for post id: {} on board code: {}", postId, boardCode);
+            Post latestPost = postService.getPostById(postId);
+            updatePostDto.setVersion(latestPost.getVersion());
+            model.addAttribute("postId", postId);
+            model.addAttribute("boardCode", boardCode);
+            model.addAttribute("latestPost", latestPost);
+            model.addAttribute("conflictMessage", "다른 사용자가 먼저 게시글을 수정했습니다. 최신 내용을 확인한 뒤 다시 저장해 주세요.");
+            response.setStatus(HttpStatus.CONFLICT.value());
+            return "board/edit";
+        }
         log.info("Updated post with id: {} on board code: {}", postId, boardCode);
         return "redirect:/board/view?id=" + boardCode + "&no=" + postId;
     }
@@ -250,13 +382,67 @@ public class BoardController {
 
         try {
             postService.recommendPost(postId, memberId);
+        } catch (MemberNotFoundException ex) {
+            // 탈퇴한 회원의 남은 세션이면 세션을 무효화하고 로그인 페이지로 보낸다.
+            log.warn("Rejected recommendation from deactivated member id: {}", memberId);
+            session.invalidate();
+            return "redirect:/members/login";
         } catch (AlreadyRecommendedException ex) {
             // 이미 추천한 경우 경고 메시지를 플래시 속성으로 전달하고 원래 게시글 조회 페이지로 리다이렉트
             redirectAttributes.addFlashAttribute("warningMessage", ex.getMessage());
             return "redirect:/board/view?id=" + boardCode + "&no=" + postId;
+        } catch (OptimisticLockingFailureException ex) {
+            // 재시도 후에도 충돌이 해소되지 않은 경우, 오류 페이지 대신 다시 시도하도록 안내한다.
+            log.warn("Recommendation conflict for post id: {} on board code: {}", postId, boardCode);
+            redirectAttributes.addFlashAttribute("warningMessage", "추천을 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            return "redirect:/board/view?id=" + boardCode + "&no=" + postId;
         }
         log.info("Post id: {} on board code: {} recommended by member id: {}", postId, boardCode, memberId);
         return "redirect:/board/view?id=" + boardCode + "&no=" + postId;
     }
 
+    /**
+     * 조건부 GET 요청을 검사한다.
+     * <p>
+     *     버전 키로 약한 ETag를, 수정일로 Last-Modified를 만들어 요청의 If-None-Match / If-Modified-Since와 비교한다.
+     *     일치하면 응답 상태를 304로 설정하고 true를 반환한다.
+     *     페이지가 로그인 정보에 따라 달라지므로 공유 캐시에는 저장하지 않고(private), 매번 재검증(no-cache)하도록 한다.
+     *     한 번만 표시되어야 하는 플래시 메시지가 있는 요청은 항상 새로 렌더링한다.
+     * </p>
+     *
+     * @param webRequest   현재 요청
+     * @param versionKey   응답 내용을 결정하는 값들을 이어 붙인 문자열
+     * @param lastModified 최종 수정 시각
+     * @return 클라이언트의 사본이 최신이면 true
+     */
+    private boolean isNotModified(ServletWebRequest webRequest, String versionKey, LocalDateTime lastModified) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        Map<String, ?> flashMap = RequestContextUtils.getInputFlashMap(webRequest.getRequest());
+        if (flashMap != null && !flashMap.isEmpty()) {
+            return false;
+        }
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(versionKey.getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return webRequest.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    /**
+     * 지금까지 렌더링한 내용을 클라이언트로 보낸다. (첫 flush에서 응답이 커밋된다.)
+     */
+    private static void flush(HttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Long loggedInMemberId(HttpSession session) {
+        Member member = (Member) session.getAttribute("loggedInMember");
+        return member != null ? member.getId() : null;
+    }
+
 }
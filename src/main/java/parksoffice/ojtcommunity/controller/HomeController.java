@@ -7,6 +7,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import parksoffice.ojtcommunity.domain.board.Board;
 import parksoffice.ojtcommunity.service.BoardService;
+import parksoffice.ojtcommunity.service.BoardStatsService;
 
 import java.util.List;
 
@@ -25,6 +26,7 @@ import java.util.List;
 public class HomeController {
 
     private final BoardService boardService;
+    private final BoardStatsService boardStatsService;
 
     /**
      * 메인 페이지를 반환한다.
@@ -32,6 +34,10 @@ public class HomeController {
      *     전체 게시판 목록(예: "자기소개(남)", "자기소개(여)" 등)을 조회하여 모델에 추가하고,
      *     로그인 컴포넌트와 함께 메인 페이지 뷰를 렌더링한다.
      * </p>
+     * <p>
+     *     게시판별 통계(게시글 수, 오늘 작성된 게시글 수, 마지막 활동 시각)는 {@link BoardStatsService}가 메모리에 유지하는 값을
+     *     그대로 사용하므로, 게시글 테이블에 대한 집계 쿼리를 실행하지 않는다.
+     * </p>
      *
      * @param model Thymeleaf 모델 객체
      * @return 메인 페이지 뷰 이름 ("index")
@@ -40,6 +46,7 @@ public class HomeController {
     public String home(Model model) {
         List<Board> boards = boardService.getAllBoards();
         model.addAttribute("boards", boards);
+        model.addAttribute("boardStats", boardStatsService.getAllStats());
 
         // Thymeleaf layout의 head 영역에 전달할 동적 변수들 추가
         model.addAttribute("pageTitle", "메인 페이지");
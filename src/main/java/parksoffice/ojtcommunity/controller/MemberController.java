@@ -4,16 +4,24 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.dto.member.MemberActivityDto;
 import parksoffice.ojtcommunity.dto.member.LoginRequestDto;
 import parksoffice.ojtcommunity.exception.DuplicateMemberException;
+import parksoffice.ojtcommunity.service.MemberActivityService;
 import parksoffice.ojtcommunity.service.MemberService;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Controller
 @Slf4j
 @RequiredArgsConstructor
@@ -21,6 +29,7 @@ import parksoffice.ojtcommunity.service.MemberService;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberActivityService memberActivityService;
 
     /**
      * 회원 가입 폼을 표시하는 뷰("members/create")를 반환한다.
@@ -65,12 +74,31 @@ public class MemberController {
             // 이미 가입된 username인 경우, 경고 메시지를 플래시 속성으로 전달하고 회원가입 페이지로 리다이렉트
             redirectAttributes.addFlashAttribute("warningMessage", e.getMessage());
             return "redirect:/members/new";
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검증을 동시에 통과한 가입 요청은 DB의 unique 제약 조건에서 걸러진다.
+            log.warn("Member registration rejected by unique constraint: {}", member.getUsername());
+            redirectAttributes.addFlashAttribute("warningMessage", "이미 해당 회원명이 존재합니다: " + member.getUsername());
+            return "redirect:/members/new";
         }
         log.info("Registered new member with username: {}", member.getUsername());
         // 회원가입 성공 후 로그인 페이지("/members/login")로 리다이렉트
         return "redirect:/members/login";
     }
 
+    /**
+     * 사용자 이름 사용 가능 여부를 JSON으로 반환한다.
+     * 회원가입 폼에서 입력할 때마다 호출되므로, 대부분의 요청은 블룸 필터만으로 DB 조회 없이 응답한다.
+     * URL 예시: /members/check-username?username=jinsoo
+     *
+     * @param username 확인할 사용자 이름
+     * @return {"available": 사용 가능 여부}
+     */
+    @GetMapping("/check-username")
+    @ResponseBody
+    public Map<String, Boolean> checkUsername(@RequestParam("username") String username) {
+        return Map.of("available", memberService.isUsernameAvailable(username));
+    }
+
     /**
      * 로그인 폼을 표시하는 뷰("members/login")를 반환한다.
      *
@@ -133,17 +161,33 @@ public class MemberController {
     }
 
     /**
-     * 특정 회원의 상세 정보를 조회하여 "members/view" 뷰를 반환한다.
+     * 특정 회원의 상세 정보와 활동(작성한 게시글) 목록을 조회하여 "members/view" 뷰를 반환한다.
+     * 활동 목록은 최신순 커서 페이지이며, 다음 페이지는 마지막 게시글의 작성일(before)과 식별자(beforeId)로 조회한다.
+     * URL 예시: /members/view/3, /members/view/3?before=2025-03-01T10:15:30&beforeId=120
      *
-     * @param id 조회할 회원의 식별자
-     * @param model Thymeleaf 모델 객체
+     * @param id       조회할 회원의 식별자
+     * @param before   이전 페이지 마지막 게시글의 작성일 (첫 페이지는 생략)
+     * @param beforeId 이전 페이지 마지막 게시글의 식별자 (첫 페이지는 생략)
+     * @param model    Thymeleaf 모델 객체
      * @return 회원 상세 페이지 뷰 이름
      */
     @GetMapping("/view/{id}")
-    public String viewMember(@PathVariable Long id, Model model) {
+    public String viewMember(@PathVariable Long id,
+                             @RequestParam(value = "before", required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                             @RequestParam(value = "beforeId", required = false) Long beforeId,
+                             Model model) {
         Member member = memberService.getMemberById(id);
         model.addAttribute("member", member);
 
+        CursorPage<MemberActivityDto> activity = memberActivityService.getActivity(id, before, beforeId);
+        model.addAttribute("activities", activity.getItems());
+        if (activity.getNextCursor() != null) {
+            // 다음 페이지 커서: 마지막 게시글의 (작성일, 식별자)
+            model.addAttribute("nextBefore", activity.getItems().get(activity.getItems().size() - 1).getCreatedAt());
+            model.addAttribute("nextBeforeId", activity.getNextCursor());
+        }
+
         // Thymeleaf layout의 head 영역에 전달할 동적 변수들 추가
         model.addAttribute("pageTitle", member.getUsername() + "의 정보");
         model.addAttribute("pageDescription", "특정 회원의 정보를 조회하는 페이지입니다.");
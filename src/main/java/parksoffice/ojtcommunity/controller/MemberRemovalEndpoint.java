@@ -0,0 +1,33 @@
+package parksoffice.ojtcommunity.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import parksoffice.ojtcommunity.service.MemberRemovalService;
+
+/**
+ * MemberRemovalEndpoint
+ *
+ * <p>
+ *     탈퇴 회원 정리 작업의 진행 상황을 actuator 엔드포인트로 제공한다.
+ *     URL: /actuator/memberremovals
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Endpoint(id = "memberremovals")
+@RequiredArgsConstructor
+public class MemberRemovalEndpoint {
+
+    private final MemberRemovalService memberRemovalService;
+
+    /**
+     * 진행 중(대기 포함)인 탈퇴 처리와 남은 행 수, 최근 완료된 탈퇴 처리 목록을 반환한다.
+     */
+    @ReadOperation
+    public MemberRemovalService.ProgressReport memberRemovals() {
+        return memberRemovalService.progress();
+    }
+}
@@ -0,0 +1,41 @@
+package parksoffice.ojtcommunity.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import parksoffice.ojtcommunity.service.SqlMonitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SlowQueryEndpoint
+ *
+ * <p>
+ *     최근 느린 쿼리 목록을 actuator 엔드포인트로 제공한다.
+ *     URL: /actuator/slowqueries
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SqlMonitor sqlMonitor;
+
+    /**
+     * 느린 쿼리 설정과 최근 느린 쿼리 목록(최신순)을 반환한다.
+     */
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMs", sqlMonitor.getSlowThresholdMs());
+        body.put("sampleRate", sqlMonitor.getSampleRate());
+        body.put("total", sqlMonitor.slowQueryCount());
+        body.put("queries", sqlMonitor.recentSlowQueries());
+        return body;
+    }
+}
@@ -0,0 +1,60 @@
+package parksoffice.ojtcommunity.domain.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 통계 체크포인트(BoardStats) 엔티티
+ * <p>
+ * 메모리에서 증분으로 유지하는 게시판별 통계(게시글 수, 오늘 작성된 게시글 수, 마지막 활동 시각)를 주기적으로 저장한다.
+ * 서버가 재시작되면 집계 쿼리 없이 이 값으로 시작하고, 이후 재조정(reconcile)이 DB와의 차이를 맞춘다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "board_stats")
+public class BoardStats {
+
+    /**
+     * 게시판 코드
+     */
+    @Id
+    @Column(length = 100)
+    private String boardCode;
+
+    /**
+     * (삭제되지 않은) 게시글 수
+     */
+    @Column(nullable = false)
+    private long postCount;
+
+    /**
+     * {@link #todayCount}를 센 날짜
+     */
+    private LocalDate today;
+
+    /**
+     * {@link #today}에 작성된 게시글 수
+     */
+    @Column(nullable = false)
+    private long todayCount;
+
+    /**
+     * 마지막으로 게시글이 작성된 시각 (게시글이 없으면 null)
+     */
+    private LocalDateTime lastActivityAt;
+
+    /**
+     * 이 값을 저장한 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime checkpointedAt;
+}
@@ -0,0 +1,77 @@
+package parksoffice.ojtcommunity.domain.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 게시판별 일간 집계(DailyBoardRollup) 엔티티
+ * <p>
+ * 일간 집계 작업({@code DailyRollupService})이 하루 단위로 계산한 게시판별 게시글 수, 게시글 누적 조회수, 추천 수, 활동 작성자 수를 저장한다.
+ * 분석 화면이나 통계 조회는 게시글 테이블을 다시 훑지 않고 이 테이블을 읽는다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@IdClass(DailyBoardRollup.Key.class)
+@Table(name = "daily_board_rollups")
+public class DailyBoardRollup {
+
+    /**
+     * 집계한 날짜
+     */
+    @Id
+    @Column(name = "rollup_day") // DAY는 예약어인 DB가 있으므로 컬럼 이름을 바꾼다.
+    private LocalDate day;
+
+    /**
+     * 게시판 코드
+     */
+    @Id
+    @Column(length = 100)
+    private String boardCode;
+
+    /**
+     * 그날 작성된(삭제되지 않은) 게시글 수
+     */
+    private long posts;
+
+    /**
+     * 그날 작성된 게시글들의 누적 조회수 합계를 집계 시점에 찍어 둔 값
+     * <p>
+     *     그날 일어난 조회 수가 아니다. (조회는 날짜별로 남지 않고 게시글의 조회수에 합산된다.)
+     *     그날 이후의 조회도 포함되며, 날짜가 완료로 기록된 뒤(보통 다음 날의 첫 집계)에는 강제로 다시 집계하지 않는 한 바뀌지 않는다.
+     *     추천 수처럼 그날 일어난 활동과 비교하지 않는다.
+     * </p>
+     */
+    private long lifetimeViews;
+
+    /**
+     * 그날 눌린 추천 수
+     */
+    private long recommendations;
+
+    /**
+     * 그날 게시글을 작성한 회원 수
+     */
+    private long activeAuthors;
+
+    /**
+     * 복합 기본 키 (날짜, 게시판 코드)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private String boardCode;
+    }
+}
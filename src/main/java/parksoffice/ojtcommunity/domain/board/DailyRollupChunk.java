@@ -0,0 +1,43 @@
+package parksoffice.ojtcommunity.domain.board;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일간 집계 진행 상태(DailyRollupChunk) 엔티티
+ * <p>
+ * 집계를 마친 날짜(청크)를 기록한다. 집계 결과와 같은 트랜잭션에서 저장하므로,
+ * 작업이 중간에 멈추거나 서버가 재시작되어도 다시 실행하면 기록이 없는 날짜만 이어서 집계한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "daily_rollup_chunks")
+public class DailyRollupChunk {
+
+    /**
+     * 집계한 날짜
+     */
+    @Id
+    @Column(name = "rollup_day") // DAY는 예약어인 DB가 있으므로 컬럼 이름을 바꾼다.
+    private LocalDate day;
+
+    /**
+     * 집계한 게시글 수 (모든 게시판 합계)
+     */
+    private long posts;
+
+    /**
+     * 집계를 마친 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.SQLRestriction;
 import parksoffice.ojtcommunity.domain.common.BaseEntity;
 import parksoffice.ojtcommunity.domain.member.Member;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +24,14 @@ import java.util.List;
  *     작성자(author), 게시판(board), 조회수(viewCount), 추천수(recommendationCount)는 등록 후 외부에서 직접 수정되지 않도록 캡슐화한다.
  *     조회수와 추천수는 전용 도메인 메서드를 통해 변경한다.
  * </p>
+ * <p>
+ *     {@link #version} 필드로 낙관적 잠금을 적용한다. 같은 게시글을 동시에 수정하면 나중에 커밋하는 쪽이 실패하므로,
+ *     한쪽의 수정이 다른 쪽을 조용히 덮어쓰지 않는다.
+ * </p>
+ * <p>
+ *     삭제는 {@link #deletedAt}만 기록하는 소프트 삭제이며, {@code @SQLRestriction}에 의해 삭제된 게시글은 모든 조회에서 제외된다.
+ *     추천 정보와 게시글 행은 이후 PostPurger가 묶음 단위로 일괄 삭제한다.
+ * </p>
  *
  * @author CRISPYTYPER
  * @see BaseEntity
@@ -30,7 +41,19 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 엔티티는 반드시 no args 생성자를 가져야 한다. (외부에서 임의로 호출하지 못하도록 함)
 @AllArgsConstructor
 @SuperBuilder
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 게시판별 최대 수정일 조회(조건부 GET의 목록 버전 확인)를 인덱스만으로 처리하기 위한 인덱스
+        @Index(name = "idx_posts_board_updated_at", columnList = "board_id, updatedAt"),
+        // 게시판별 최신순 커서 페이지 조회(id < cursor ORDER BY id DESC)를 위한 인덱스
+        @Index(name = "idx_posts_board_id", columnList = "board_id, id"),
+        // 회원 프로필의 작성 글 목록(작성자별 최신순 커서 페이지 조회)을 위한 인덱스
+        @Index(name = "idx_posts_member_created_at", columnList = "member_id, createdAt"),
+        // 일간 집계 작업의 날짜 범위 조회를 위한 인덱스
+        @Index(name = "idx_posts_created_at", columnList = "createdAt"),
+        // 일괄 삭제 대상(소프트 삭제된 게시글) 조회를 위한 인덱스
+        @Index(name = "idx_posts_deleted_at", columnList = "deletedAt")
+})
+@SQLRestriction("deleted_at IS NULL") // 소프트 삭제된 게시글은 엔티티 조회와 JPQL 조회에서 제외된다.
 public class Post extends BaseEntity { // 게시글 엔티티
 
     /**
@@ -72,6 +95,26 @@ public class Post extends BaseEntity { // 게시글 엔티티
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
+    /**
+     * 낙관적 잠금 버전
+     * <p>
+     *     JPA가 수정할 때마다 1씩 증가시키며, UPDATE 문의 WHERE 조건에 포함된다.
+     *     (다른 트랜잭션이 먼저 수정했다면 갱신되는 행이 없으므로 충돌로 처리된다.)
+     *     버전은 제목/본문 수정에만 사용하며, 추천 추가로는 증가하지 않는다. ({@link #recommendations}) 직접 수정하지 않는다.
+     * </p>
+     */
+    @Version
+    private Long version;
+
+    /**
+     * 삭제 시각 (소프트 삭제)
+     * <p>
+     *     null이면 게시 중인 게시글이다. 값이 있으면 조회에서 제외되며, 일괄 삭제되기를 기다리는 상태이다.
+     *     PostRepository#softDeleteById로만 설정한다.
+     * </p>
+     */
+    private LocalDateTime deletedAt;
+
     /**
      * 게시글 조회수
      * <p>
@@ -83,17 +126,33 @@ public class Post extends BaseEntity { // 게시글 엔티티
     @Column(nullable = false)
     private int viewCount = 0;
 
+    /**
+     * 본문의 64비트 SimHash 지문
+     * <p>
+     *     등록 시와 본문 수정 시 계산하여 저장하며, 서버가 재시작되면 최근 게시글의 지문으로 근접 중복 색인을 다시 만든다.
+     *     본문이 짧아 비교하지 않은 게시글은 null이다.
+     * </p>
+     */
+    private Long simhash;
+
+    /**
+     * 등록(또는 본문 수정) 시 본문이 거의 같다고 판단된 기존 게시글 번호 (스팸 검토용, 해당 없으면 null)
+     */
+    private Long nearDuplicateOf;
+
     /**
      * 게시글 추천 정보 리스트
      * <p>
      * 이 컬렉션은 해당 게시글에 대한 추천 정보를 제공하며,
      * cascade 옵션과 orphanRemoval 옵션을 통해 게시글이 삭제될 때 연관된 추천 정보도 함께 삭제된다.
      * 각 회원은 한 게시글에 대해 최대 한 번 추천할 수 있도록 unique 제약 조건은 PostRecommendation에서 관리된다.
+     * 추천 추가는 게시글의 버전을 올리지 않는다. (동시에 진행 중인 작성자의 수정이 추천 때문에 충돌하지 않도록)
      * </p>
      */
     // cascade = CascadeType.ALL
     // Post 엔티티를 저장(persist), 수정(merge), 삭제(remove)할 때, 이와 연관된 모든 PostRecommendation 엔티티에도 동일한 작업을 자동으로 수행한다.
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private List<PostRecommendation> recommendations = new ArrayList<>();
 
@@ -106,6 +165,17 @@ public class Post extends BaseEntity { // 게시글 엔티티
         this.viewCount++;
     }
 
+    /**
+     * 본문 지문과 근접 중복 판단 결과를 기록한다. (등록 시와 본문 수정 시 호출)
+     *
+     * @param simhash         본문 지문 (본문이 짧아 비교하지 않았으면 null)
+     * @param nearDuplicateOf 본문이 거의 같은 기존 게시글 번호 (없으면 null)
+     */
+    public void markFingerprint(Long simhash, Long nearDuplicateOf) {
+        this.simhash = simhash;
+        this.nearDuplicateOf = nearDuplicateOf;
+    }
+
     /**
      * 새로운 추천(PostRecommendation)을 추가한다.
      * <p>
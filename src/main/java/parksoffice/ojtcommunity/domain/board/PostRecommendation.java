@@ -20,7 +20,10 @@ import parksoffice.ojtcommunity.domain.member.Member;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 엔티티는 반드시 no args 생성자를 가져야 한다. (외부에서 임의로 호출하지 못하도록 함)
 @AllArgsConstructor
 @SuperBuilder
-@Table(name = "post_recommendations", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "member_id"}))
+@Table(name = "post_recommendations",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "member_id"}),
+        // 일간 집계 작업의 날짜 범위 조회를 위한 인덱스
+        indexes = @Index(name = "idx_post_recommendations_created_at", columnList = "createdAt"))
 public class PostRecommendation extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
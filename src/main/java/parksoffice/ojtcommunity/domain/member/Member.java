@@ -3,12 +3,15 @@ package parksoffice.ojtcommunity.domain.member;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import parksoffice.ojtcommunity.domain.common.BaseEntity;
 
+import java.time.LocalDateTime;
+
 /**
  * 회원(Member) 엔티티
  *
@@ -44,6 +47,24 @@ public class Member extends BaseEntity {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * 낙관적 잠금 버전
+     * <p>회원 정보를 동시에 수정하면 나중에 커밋하는 쪽이 실패하도록, JPA가 수정할 때마다 증가시킨다.</p>
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
+    /**
+     * 탈퇴(비활성화) 시각
+     * <p>
+     *     값이 있으면 로그인할 수 없고, MemberRemovalService가 회원의 게시글과 추천 정보를 정리한 뒤 회원 행을 삭제한다.
+     *     MemberRepository#deactivateById로만 설정한다.
+     * </p>
+     */
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime deactivatedAt;
+
 
     // 이후 상황에 따라 이메일, 프로필 이미지, 권한(Role) 등 필드 추가 가능.
 }
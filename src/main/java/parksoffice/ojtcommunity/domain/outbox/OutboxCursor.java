@@ -0,0 +1,40 @@
+package parksoffice.ojtcommunity.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 아웃박스 커서(OutboxCursor) 엔티티
+ * <p>
+ * 소비자별로 마지막으로 처리한 아웃박스 순번(offset)을 저장한다. 서버가 재시작되어도 그 다음 순번부터 이어서 전달한다.
+ * 순번 발급 상태도 같은 테이블에 {@link #SEQUENCE} 이름으로 저장한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "outbox_cursors")
+public class OutboxCursor {
+
+    /**
+     * 마지막으로 발급한 순번을 저장하는 커서 이름 (소비자 이름으로 사용할 수 없다.)
+     */
+    public static final String SEQUENCE = "relay:sequence";
+
+    /**
+     * 소비자 이름
+     */
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    /**
+     * 마지막으로 처리한(발급한) 순번
+     */
+    @Column(nullable = false)
+    private long lastSequence;
+}
@@ -0,0 +1,48 @@
+package parksoffice.ojtcommunity.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import parksoffice.ojtcommunity.domain.common.BaseEntity;
+
+/**
+ * 아웃박스 이벤트(OutboxEvent) 엔티티
+ * <p>
+ * 게시글 변경 이벤트를 변경과 같은 트랜잭션에서 저장한다. 트랜잭션이 롤백되면 이벤트도 남지 않고, 커밋되면 반드시 남는다.
+ * 릴레이가 커밋된 행을 발견한 순서대로 {@code sequenceNo}를 매기고, 그 순서로 소비자에게 전달한 뒤 지운다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_sequence_no", columnList = "sequence_no"))
+public class OutboxEvent extends BaseEntity {
+
+    /**
+     * 변경된 게시글 식별자 (게시글별 전달 순서의 기준)
+     */
+    @Column(nullable = false)
+    private Long postId;
+
+    /**
+     * 이벤트 종류 (이벤트 클래스의 단순 이름, 예: PostRegisteredEvent)
+     */
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    /**
+     * 이벤트 본문 (JSON)
+     */
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    /**
+     * 전달 순번 (릴레이가 매기기 전까지는 null)
+     */
+    private Long sequenceNo;
+}
@@ -0,0 +1,47 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 페이지의 버전(변경 여부) 확인에 사용되는 DTO
+ * <p>
+ *     게시판의 수정일, 게시판에 속한 게시글들의 최대 수정일과 게시글 수를 담는다.
+ *     게시글이 삭제되면 최대 수정일은 바뀌지 않을 수 있으므로 게시글 수를 함께 비교한다.
+ *     목록에 작성자 이름이 표시되므로, 작성자들의 최대 수정일(이름 변경 시 갱신)도 함께 담는다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class BoardListVersionDto {
+
+    private LocalDateTime boardUpdatedAt;
+
+    /**
+     * 게시글 중 가장 최근 수정일 (게시글이 없으면 null)
+     */
+    private LocalDateTime lastPostUpdatedAt;
+
+    private long postCount;
+
+    /**
+     * 게시글 작성자 중 가장 최근 수정일 (게시글이 없으면 null)
+     */
+    private LocalDateTime lastAuthorUpdatedAt;
+
+    /**
+     * 목록 페이지의 최종 수정 시각 (게시판 수정일, 게시글 최대 수정일, 작성자 최대 수정일 중 가장 늦은 쪽)
+     */
+    public LocalDateTime getLastModified() {
+        LocalDateTime lastModified = boardUpdatedAt;
+        if (lastPostUpdatedAt != null && lastPostUpdatedAt.isAfter(lastModified)) {
+            lastModified = lastPostUpdatedAt;
+        }
+        if (lastAuthorUpdatedAt != null && lastAuthorUpdatedAt.isAfter(lastModified)) {
+            lastModified = lastAuthorUpdatedAt;
+        }
+        return lastModified;
+    }
+}
@@ -0,0 +1,26 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판별 통계 DTO
+ * <p>
+ *     메인 페이지에 표시하는 게시판별 게시글 수, 오늘 작성된 게시글 수, 마지막 활동 시각이며,
+ *     재조정(reconcile) 시 DB에서 게시판별로 집계한 결과를 담는 데에도 사용한다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class BoardStatsDto {
+
+    private String boardCode;
+
+    private long postCount;
+
+    private long todayCount;
+
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,20 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 목록 API에서 사용하는 게시판 요약 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSummaryDto {
+
+    private Long id;
+
+    private String code;
+
+    private String name;
+
+    private String description;
+}
@@ -0,0 +1,43 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일간 집계 작업이 하루(청크) 동안의 게시글/추천 정보를 게시판별로 집계한 결과 DTO
+ * <p>
+ *     게시글 집계와 추천 집계는 다른 테이블을 기준으로 하므로 각각의 생성자로 따로 조회한 뒤 게시판 코드로 합친다.
+ *     DB에서 GROUP BY로 집계하므로, 하루에 작성된 게시글 수와 관계없이 게시판 수만큼의 행만 읽는다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class DailyBoardAggregate {
+
+    private String boardCode;
+
+    private long posts;
+
+    /**
+     * 게시글의 누적 조회수 합계 (집계 시점의 값)
+     */
+    private long lifetimeViews;
+
+    private long activeAuthors;
+
+    private long recommendations;
+
+    /**
+     * 게시글 집계 결과 (게시판 코드, 게시글 수, 누적 조회수 합계, 작성자 수)
+     */
+    public DailyBoardAggregate(String boardCode, long posts, long lifetimeViews, long activeAuthors) {
+        this(boardCode, posts, lifetimeViews, activeAuthors, 0);
+    }
+
+    /**
+     * 추천 집계 결과 (게시판 코드, 추천 수)
+     */
+    public DailyBoardAggregate(String boardCode, long recommendations) {
+        this(boardCode, 0, 0, 0, recommendations);
+    }
+}
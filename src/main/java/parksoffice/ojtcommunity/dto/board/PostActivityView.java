@@ -0,0 +1,18 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 식별자, 소속 게시판 코드와 작성일 (쿼리 결과를 받는 인터페이스 기반 projection)
+ * <p>
+ *     삭제된 게시글은 엔티티 조회에서 제외되므로, 소프트 삭제한 트랜잭션에서 삭제 이벤트에 담을 값을 네이티브 쿼리로 읽는다.
+ * </p>
+ */
+public interface PostActivityView {
+
+    Long getId();
+
+    String getBoardCode();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,33 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 API에서 사용하는 게시글 DTO
+ * <p>게시글, 게시판, 작성자를 조인하여 필요한 컬럼만 한 번에 조회한다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailDto {
+
+    private Long id;
+
+    private String boardCode;
+
+    private String boardName;
+
+    private String title;
+
+    private String content;
+
+    private String authorUsername;
+
+    private int viewCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
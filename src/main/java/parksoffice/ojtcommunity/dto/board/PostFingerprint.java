@@ -0,0 +1,23 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근접 중복 색인을 다시 만들 때 사용하는 게시글 지문 DTO
+ * <p>
+ *     본문을 읽지 않고 저장된 지문만 조회한다. 작성일은 여러 샤드의 결과를 최신순으로 합치는 기준이다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class PostFingerprint {
+
+    private Long id;
+
+    private long simhash;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 API에서 사용하는 게시글 요약 DTO
+ * <p>본문(content)은 포함하지 않으며, 작성자는 이름만 조회한다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+
+    private Long id;
+
+    private String title;
+
+    private String authorUsername;
+
+    private int viewCount;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package parksoffice.ojtcommunity.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 페이지의 버전(변경 여부) 확인에 사용되는 DTO
+ * <p>
+ *     엔티티를 로딩하지 않고 게시글의 수정일, 소속 게시판 코드와 작성자 이름만 조회하여,
+ *     조건부 요청(If-None-Match / If-Modified-Since)의 검증자(ETag, Last-Modified)를 만드는 데 사용한다.
+ *     작성자 이름은 게시글 화면에 표시되므로, 작성자가 이름을 바꾸면 게시글이 수정되지 않았어도 검증자가 달라져야 한다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class PostVersionDto {
+
+    private String boardCode;
+
+    private LocalDateTime updatedAt;
+
+    private String authorUsername;
+}
@@ -20,4 +20,9 @@ public class UpdatePostDto {
 
     @NotBlank(message = "내용은 필수입니다.")
     private String content;
+
+    /**
+     * 수정 폼을 열 때의 게시글 버전 (낙관적 잠금 확인용, 없으면 확인하지 않음)
+     */
+    private Long version;
 }
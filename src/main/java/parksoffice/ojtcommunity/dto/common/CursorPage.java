@@ -0,0 +1,46 @@
+package parksoffice.ojtcommunity.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 커서 기반 페이지
+ * <p>
+ *     OFFSET 대신 마지막 항목의 키(커서)를 기준으로 다음 페이지를 조회한다.
+ *     앞 페이지를 모두 건너뛰는 비용이 없어 페이지 위치와 관계없이 조회 비용이 일정하고,
+ *     페이지를 넘기는 사이에 항목이 추가/삭제되어도 중복이나 누락이 생기지 않는다.
+ * </p>
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    /**
+     * 다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)
+     */
+    private Long nextCursor;
+
+    /**
+     * 요청한 크기보다 하나 더 조회한 결과로 페이지를 만든다.
+     * 초과 항목이 있으면 다음 페이지가 있는 것으로 보고, 요청한 크기만큼의 마지막 항목 키를 다음 커서로 사용한다.
+     *
+     * @param fetched 최대 size + 1개까지 조회한 항목
+     * @param size    요청한 페이지 크기
+     * @param keyOf   항목의 커서 키 추출 함수
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, ToLongFunction<T> keyOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, keyOf.applyAsLong(items.get(size - 1)));
+    }
+}
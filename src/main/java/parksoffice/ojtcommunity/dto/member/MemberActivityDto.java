@@ -0,0 +1,26 @@
+package parksoffice.ojtcommunity.dto.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 프로필의 활동(작성한 게시글) 목록에서 사용하는 DTO
+ * <p>
+ *     게시글 링크를 만들 수 있도록 게시판 코드를 함께 조회하며, 본문과 조회수는 포함하지 않는다.
+ *     (첫 페이지는 메모리에 보관하므로, 게시글 등록/수정/삭제로만 바뀌는 값만 담는다.)
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class MemberActivityDto {
+
+    private Long id;
+
+    private String boardCode;
+
+    private String title;
+
+    private LocalDateTime createdAt;
+}
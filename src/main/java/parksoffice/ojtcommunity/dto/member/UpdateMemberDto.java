@@ -22,4 +22,9 @@ public class UpdateMemberDto {
     @NotBlank(message = "비밀번호는 필수입니다.")
     @Size(min = 4, message = "비밀번호는 최소 4자리 이상이어야 합니다.")
     private String password;
+
+    /**
+     * 수정을 시작할 때의 회원 버전 (낙관적 잠금 확인용, 없으면 확인하지 않음)
+     */
+    private Long version;
 }
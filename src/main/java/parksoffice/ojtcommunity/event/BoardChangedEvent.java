@@ -0,0 +1,20 @@
+package parksoffice.ojtcommunity.event;
+
+/**
+ * 게시판이 새로 등록되었거나 삭제되었음을 알리는 이벤트
+ * <p>
+ *     등록 시에는 {@code oldName}이 null, 삭제 시에는 {@code newName}이 null이다.
+ *     (게시판 이름은 불변 필드이므로 이름 변경은 발생하지 않는다.)
+ * </p>
+ *
+ * @param boardId 게시판 식별자
+ * @param code    게시판 코드
+ * @param oldName 변경 전 게시판 이름 (신규 등록이면 null)
+ * @param newName 변경 후 게시판 이름 (삭제이면 null)
+ */
+public record BoardChangedEvent(Long boardId, String code, String oldName, String newName) {
+
+    public static BoardChangedEvent registered(Long boardId, String code, String name) {
+        return new BoardChangedEvent(boardId, code, null, name);
+    }
+}
@@ -0,0 +1,28 @@
+package parksoffice.ojtcommunity.event;
+
+/**
+ * 회원의 사용자 이름(username)이 추가/변경/삭제되었음을 알리는 이벤트
+ * <p>
+ *     회원 가입 시에는 {@code oldUsername}이 null, 회원 삭제 시에는 {@code newUsername}이 null이며,
+ *     이름 변경 시에는 두 값이 모두 채워진다.
+ *     자동완성 인덱스 등 회원 이름을 메모리에 보관하는 구조가 이 이벤트를 구독하여 갱신한다.
+ * </p>
+ *
+ * @param memberId    회원 식별자
+ * @param oldUsername 변경 전 사용자 이름 (신규 가입이면 null)
+ * @param newUsername 변경 후 사용자 이름 (삭제이면 null)
+ */
+public record MemberChangedEvent(Long memberId, String oldUsername, String newUsername) {
+
+    public static MemberChangedEvent registered(Long memberId, String username) {
+        return new MemberChangedEvent(memberId, null, username);
+    }
+
+    public static MemberChangedEvent renamed(Long memberId, String oldUsername, String newUsername) {
+        return new MemberChangedEvent(memberId, oldUsername, newUsername);
+    }
+
+    public static MemberChangedEvent deleted(Long memberId, String username) {
+        return new MemberChangedEvent(memberId, username, null);
+    }
+}
@@ -0,0 +1,28 @@
+package parksoffice.ojtcommunity.event;
+
+/**
+ * 아웃박스 이벤트 소비자
+ * <p>
+ *     빈으로 등록하면 OutboxRelay가 커밋된 게시글 변경을 순번 순서대로 전달한다.
+ *     <ul>
+ *         <li>전달은 최소 한 번(at-least-once)이다. 처리 후 오프셋을 저장하기 전에 서버가 멈추면 같은 메시지를 다시 받으므로, 처리는 멱등이어야 한다.</li>
+ *         <li>예외를 던지면 그 소비자의 오프셋은 직전 메시지에 멈추고, 다음 실행에서 실패한 메시지부터 다시 전달된다. (뒤의 메시지가 먼저 처리되지 않는다.)</li>
+ *         <li>{@link #name()}은 저장된 오프셋의 키이므로 바꾸면 처음부터(남아 있는 메시지부터) 다시 받는다.
+ *             서버마다 구분되지 않으므로, 메시지는 릴레이를 실행한 서버 하나의 소비자에게만 전달된다.</li>
+ *     </ul>
+ * </p>
+ */
+public interface OutboxConsumer {
+
+    /**
+     * @return 소비자 이름 (오프셋 저장 키)
+     */
+    String name();
+
+    /**
+     * 메시지 하나를 처리한다. (릴레이 스레드에서 호출)
+     *
+     * @param message 아웃박스 메시지
+     */
+    void accept(OutboxMessage message);
+}
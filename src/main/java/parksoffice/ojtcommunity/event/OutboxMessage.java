@@ -0,0 +1,15 @@
+package parksoffice.ojtcommunity.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스에서 소비자에게 전달되는 메시지
+ *
+ * @param sequence  아웃박스 순번 (같은 DB(샤드) 안에서 증가, 같은 게시글의 메시지는 항상 이 순서로 전달된다.)
+ * @param postId    변경된 게시글 식별자
+ * @param type      이벤트 종류 (이벤트 클래스의 단순 이름)
+ * @param event     이벤트
+ * @param createdAt 변경이 기록된 시각
+ */
+public record OutboxMessage(long sequence, Long postId, String type, PostEvent event, LocalDateTime createdAt) {
+}
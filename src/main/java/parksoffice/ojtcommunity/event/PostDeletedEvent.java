@@ -0,0 +1,17 @@
+package parksoffice.ojtcommunity.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글이 (소프트) 삭제되었음을 알리는 이벤트
+ * <p>
+ *     트랜잭션 커밋 이후 PostPurger가 이 이벤트를 받아, 남은 추천 정보와 게시글 행의 일괄 삭제를 시작한다.
+ *     게시판 코드와 작성일은 삭제 트랜잭션 안에서 읽어 담으므로, 커밋 이후 행이 지워져도 게시판 통계에 바로 반영할 수 있다.
+ * </p>
+ *
+ * @param postId    삭제된 게시글 식별자
+ * @param boardCode 게시판 코드
+ * @param createdAt 작성일
+ */
+public record PostDeletedEvent(Long postId, String boardCode, LocalDateTime createdAt) implements PostEvent {
+}
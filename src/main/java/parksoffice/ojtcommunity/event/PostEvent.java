@@ -0,0 +1,16 @@
+package parksoffice.ojtcommunity.event;
+
+/**
+ * 게시글 데이터가 바뀌었음을 알리는 이벤트 (등록, 수정, 삭제, 추천)
+ * <p>
+ *     발행한 트랜잭션 안에서 아웃박스 테이블에도 기록되어, 커밋된 변경만 {@link OutboxConsumer}에게 게시글별 순서대로 전달된다.
+ *     (OutboxWriter, OutboxRelay 참고)
+ * </p>
+ */
+public interface PostEvent {
+
+    /**
+     * @return 변경된 게시글 식별자
+     */
+    Long postId();
+}
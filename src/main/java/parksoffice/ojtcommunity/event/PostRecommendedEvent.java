@@ -0,0 +1,13 @@
+package parksoffice.ojtcommunity.event;
+
+/**
+ * 회원이 게시글을 추천했음을 알리는 이벤트
+ * <p>
+ *     추천자 비트맵 등 추천 정보를 메모리에 보관하는 구조가 트랜잭션 커밋 이후 이 이벤트를 받아 갱신한다.
+ * </p>
+ *
+ * @param postId   추천된 게시글 식별자
+ * @param memberId 추천한 회원 식별자
+ */
+public record PostRecommendedEvent(Long postId, Long memberId) implements PostEvent {
+}
@@ -0,0 +1,21 @@
+package parksoffice.ojtcommunity.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 새 게시글이 등록되었음을 알리는 이벤트
+ * <p>
+ *     실시간 피드 등 게시글 목록을 구독하는 구조가 트랜잭션 커밋 이후 이 이벤트를 받아 반영한다.
+ *     구독자에게 그대로 전달할 수 있도록 목록 표시에 필요한 값만 담는다.
+ * </p>
+ *
+ * @param postId         게시글 식별자
+ * @param boardCode      게시판 코드
+ * @param title          게시글 제목
+ * @param authorId       작성자 식별자
+ * @param authorUsername 작성자 이름
+ * @param createdAt      작성일
+ */
+public record PostRegisteredEvent(Long postId, String boardCode, String title, Long authorId, String authorUsername,
+                                  LocalDateTime createdAt) implements PostEvent {
+}
@@ -0,0 +1,11 @@
+package parksoffice.ojtcommunity.event;
+
+/**
+ * 게시글의 제목/본문이 수정되었음을 알리는 이벤트
+ *
+ * @param postId    수정된 게시글 식별자
+ * @param boardCode 게시글이 속한 게시판 코드
+ * @param title     수정된 제목
+ */
+public record PostUpdatedEvent(Long postId, String boardCode, String title) implements PostEvent {
+}
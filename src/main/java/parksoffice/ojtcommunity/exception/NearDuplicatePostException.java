@@ -0,0 +1,10 @@
+package parksoffice.ojtcommunity.exception;
+
+/**
+ * 최근 게시글과 본문이 거의 같은 게시글을 등록하려고 할 때 발생하는 예외이다. (근접 중복 차단 모드)
+ */
+public class NearDuplicatePostException extends RuntimeException {
+    public NearDuplicatePostException(String message) {
+        super(message);
+    }
+}
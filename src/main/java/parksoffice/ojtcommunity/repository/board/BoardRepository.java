@@ -1,7 +1,10 @@
 package parksoffice.ojtcommunity.repository.board;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.dto.board.BoardSummaryDto;
 
 import java.util.List;
 import java.util.Optional;
@@ -63,4 +66,23 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * @return 키워드를 포함하는 게시판 코드를 가진 Board 목록
      */
     List<Board> findByCodeContaining(String keyword);
+
+    /**
+     * 게시판 코드가 존재하는지 확인한다.
+     *
+     * @param code 게시판 코드
+     * @return 존재하면 true
+     */
+    boolean existsByCode(String code);
+
+    /**
+     * 커서(게시판 식별자)보다 뒤에 있는 게시판 요약 목록을 식별자 오름차순으로 반환한다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시판 식별자 (첫 페이지는 0)
+     * @param limit  최대 조회 개수
+     * @return 게시판 요약 목록
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.BoardSummaryDto(b.id, b.code, b.name, b.description) " +
+            "FROM Board b WHERE b.id > :cursor ORDER BY b.id")
+    List<BoardSummaryDto> findSummariesAfter(Long cursor, Limit limit);
 }
@@ -0,0 +1,16 @@
+package parksoffice.ojtcommunity.repository.board;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import parksoffice.ojtcommunity.domain.board.BoardStats;
+
+/**
+ * BoardStatsRepository 인터페이스
+ *
+ * <p>
+ *     게시판 통계 체크포인트를 저장하고, 서버 시작 시 읽어온다. (기본 샤드에만 저장한다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public interface BoardStatsRepository extends JpaRepository<BoardStats, String> {
+}
@@ -0,0 +1,40 @@
+package parksoffice.ojtcommunity.repository.board;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import parksoffice.ojtcommunity.domain.board.DailyBoardRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyBoardRollupRepository 인터페이스
+ *
+ * <p>
+ *     게시판별 일간 집계를 저장하고 조회한다. (기본 샤드에만 저장한다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public interface DailyBoardRollupRepository extends JpaRepository<DailyBoardRollup, DailyBoardRollup.Key> {
+
+    /**
+     * 기간 내의 일간 집계를 날짜, 게시판 코드 순으로 조회한다.
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 일간 집계 목록
+     */
+    List<DailyBoardRollup> findByDayBetweenOrderByDayAscBoardCodeAsc(LocalDate from, LocalDate to);
+
+    /**
+     * 날짜의 집계를 모두 지운다. (다시 집계하기 전에 게시글이 모두 삭제된 게시판의 행이 남지 않도록)
+     *
+     * @param day 날짜
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM DailyBoardRollup r WHERE r.day = :day")
+    int deleteByDay(LocalDate day);
+}
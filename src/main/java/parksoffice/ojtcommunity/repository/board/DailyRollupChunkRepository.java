@@ -0,0 +1,30 @@
+package parksoffice.ojtcommunity.repository.board;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import parksoffice.ojtcommunity.domain.board.DailyRollupChunk;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyRollupChunkRepository 인터페이스
+ *
+ * <p>
+ *     일간 집계를 마친 날짜를 기록하고 조회한다. (기본 샤드에만 저장한다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public interface DailyRollupChunkRepository extends JpaRepository<DailyRollupChunk, LocalDate> {
+
+    /**
+     * 기간 내에서 집계를 마친 날짜를 조회한다.
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 집계를 마친 날짜 목록
+     */
+    @Query("SELECT c.day FROM DailyRollupChunk c WHERE c.day BETWEEN :from AND :to")
+    List<LocalDate> findCompletedDays(LocalDate from, LocalDate to);
+}
@@ -1,7 +1,16 @@
 package parksoffice.ojtcommunity.repository.board;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import parksoffice.ojtcommunity.domain.board.PostRecommendation;
+import parksoffice.ojtcommunity.dto.board.DailyBoardAggregate;
+import parksoffice.ojtcommunity.repository.shard.CrossShard;
+import parksoffice.ojtcommunity.repository.shard.ShardKey;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * PostRecommendationRepository 인터페이스
@@ -12,6 +21,10 @@ import parksoffice.ojtcommunity.domain.board.PostRecommendation;
  *     어떤 유저가 어떤 게시글을 추천했는지에 대한 정보를 접근한다.(postId, memberId) 중복 없음.
  * </p>
  *
+ * <p>
+ *     샤딩을 사용하면 추천 정보는 게시글과 같은 샤드에 저장되므로, 게시글 번호나 추천 정보 식별자로 샤드를 정한다.
+ * </p>
+ *
  * @see PostRecommendation
  */
 public interface PostRecommendationRepository extends JpaRepository<PostRecommendation, Long> {
@@ -29,5 +42,77 @@ public interface PostRecommendationRepository extends JpaRepository<PostRecommen
      * @param memberId 확인할 회원의 식별자
      * @return 해당 게시글과 회원의 추천 기록이 존재하면 true, 없으면 false
      */
-    boolean existsByPostIdAndMemberId(Long postId, Long memberId);
+    boolean existsByPostIdAndMemberId(@ShardKey(ShardKey.Type.ID) Long postId, Long memberId);
+
+    /**
+     * 특정 게시글을 추천한 회원 ID 목록을 조회한다.
+     * <p>추천 엔티티나 회원 엔티티를 로딩하지 않고 member_id 컬럼만 읽어온다.</p>
+     *
+     * @param postId 게시글 식별자
+     * @return 해당 게시글을 추천한 회원 ID 목록
+     */
+    @Query("SELECT r.member.id FROM PostRecommendation r WHERE r.post.id = :postId")
+    List<Long> findMemberIdsByPostId(@ShardKey(ShardKey.Type.ID) Long postId);
+
+    /**
+     * 소프트 삭제된 게시글의 추천 정보 식별자를 조회한다. (일괄 삭제용)
+     *
+     * @param limit 최대 개수
+     * @return 추천 정보 식별자 목록
+     */
+    @CrossShard(limitParameter = 0)
+    @Query(value = "SELECT r.id FROM post_recommendations r JOIN posts p ON p.id = r.post_id " +
+            "WHERE p.deleted_at IS NOT NULL ORDER BY r.id LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableIds(int limit);
+
+    /**
+     * 추천 정보를 식별자 목록으로 일괄 삭제한다. (엔티티를 로딩하지 않는다.)
+     *
+     * @param ids 삭제할 추천 정보 식별자 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM post_recommendations WHERE id IN (:ids)", nativeQuery = true)
+    int purgeByIds(@ShardKey(ShardKey.Type.IDS) List<Long> ids);
+
+    /**
+     * 회원이 남긴 추천 정보의 식별자를 조회한다. (탈퇴 처리용)
+     *
+     * @param memberId 회원 식별자
+     * @param limit    최대 개수
+     * @return 추천 정보 식별자 목록
+     */
+    @CrossShard
+    @Query("SELECT r.id FROM PostRecommendation r WHERE r.member.id = :memberId ORDER BY r.id")
+    List<Long> findIdsByMemberId(Long memberId, Limit limit);
+
+    /**
+     * 기간 내에 눌린 추천 수를 게시판별로 집계한다. (삭제된 게시글의 추천은 제외)
+     *
+     * @param start 시작 일시 (포함)
+     * @param end   종료 일시 (제외)
+     * @return 게시판별 추천 수
+     */
+    @CrossShard
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.DailyBoardAggregate(b.code, COUNT(r)) " +
+            "FROM PostRecommendation r JOIN r.post p JOIN p.board b " +
+            "WHERE r.createdAt >= :start AND r.createdAt < :end GROUP BY b.code")
+    List<DailyBoardAggregate> aggregateDailyByBoard(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 추천 정보들이 속한 게시글 식별자를 중복 없이 조회한다. (추천자 비트맵 무효화용)
+     *
+     * @param ids 추천 정보 식별자 목록
+     * @return 게시글 식별자 목록
+     */
+    @Query(value = "SELECT DISTINCT post_id FROM post_recommendations WHERE id IN (:ids)", nativeQuery = true)
+    List<Long> findPostIdsByIds(@ShardKey(ShardKey.Type.IDS) List<Long> ids);
+
+    /**
+     * 회원이 남긴 추천 정보 수
+     *
+     * @param memberId 회원 식별자
+     * @return 추천 정보 수
+     */
+    long countByMemberId(Long memberId);
 }
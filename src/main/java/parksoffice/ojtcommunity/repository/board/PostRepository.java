@@ -1,11 +1,26 @@
 package parksoffice.ojtcommunity.repository.board;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.dto.board.BoardListVersionDto;
+import parksoffice.ojtcommunity.dto.board.BoardStatsDto;
+import parksoffice.ojtcommunity.dto.board.DailyBoardAggregate;
+import parksoffice.ojtcommunity.dto.board.PostFingerprint;
+import parksoffice.ojtcommunity.dto.board.PostActivityView;
+import parksoffice.ojtcommunity.dto.board.PostDetailDto;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.dto.board.PostVersionDto;
+import parksoffice.ojtcommunity.dto.member.MemberActivityDto;
+import parksoffice.ojtcommunity.repository.shard.CrossShard;
+import parksoffice.ojtcommunity.repository.shard.ShardKey;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * PostRepository 인터페이스
@@ -21,6 +36,11 @@ import java.util.List;
  *     - Long: Post 엔티티의 기본 키 타입<br>
  * </p>
  *
+ * <p>
+ *     샤딩을 사용하면 {@link ShardKey}가 붙은 매개변수(게시판 코드, 게시글 번호)로 샤드를 정하고,
+ *     샤드를 정할 수 없는 조회는 모든 샤드에 실행한 뒤 {@link CrossShard}의 순서로 합친다.
+ * </p>
+ *
  * @author CRISPYTYPER
  */
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -35,11 +55,120 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
      * 게시판 코드(board.code)가 정확하게 일치하는 게시글 목록을 반환한다.
+     * <p>목록 화면에서 작성자 이름을 표시하므로, 작성자를 함께 조회하여 게시글마다 회원을 조회하는 N+1 문제를 막는다.</p>
      *
      * @param code 게시판 코드 (예: "male", "female")
-     * @return 해당 게시판 코드에 속한 게시글 목록
+     * @return 해당 게시판 코드에 속한 게시글 목록 (작성자 포함)
+     */
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByBoard_Code(@ShardKey String code);
+
+    /**
+     * 게시글 상세 화면에 필요한 작성자와 게시판을 함께 조회한다.
+     *
+     * @param id 게시글 식별자
+     * @return 게시글 (작성자, 게시판 포함)
+     */
+    @EntityGraph(attributePaths = {"author", "board"})
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findDetailById(@ShardKey(ShardKey.Type.ID) Long id);
+
+    /**
+     * 추천을 추가할 게시글을 조회한다.
+     * <p>
+     *     추천 추가는 게시글 행을 수정하지 않으므로 잠금을 걸지 않고 버전도 올리지 않는다.
+     *     (추천 때문에 작성자의 수정이 충돌로 실패하지 않도록, 버전은 제목/본문 수정에만 사용한다.)
+     *     같은 회원의 중복 추천은 post_recommendations의 (post_id, member_id) unique 제약 조건이 막는다.
+     * </p>
+     *
+     * @param id 게시글 식별자
+     * @return 게시글
      */
-    List<Post> findByBoard_Code(String code);
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findForRecommendationById(@ShardKey(ShardKey.Type.ID) Long id);
+
+    /**
+     * 게시글을 소프트 삭제한다. (UPDATE 한 번, 추천 정보를 로딩하지 않는다.)
+     * <p>
+     *     버전도 증가시키므로, 삭제 전에 게시글을 읽은 수정/추천 트랜잭션은 커밋 시 충돌로 실패한다.
+     * </p>
+     *
+     * @param id        게시글 식별자
+     * @param deletedAt 삭제 시각
+     * @return 삭제 처리된 행 수 (게시글이 없거나 이미 삭제되었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :deletedAt, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.deletedAt IS NULL")
+    int softDeleteById(@ShardKey(ShardKey.Type.ID) Long id, LocalDateTime deletedAt);
+
+    /**
+     * 게시글들의 조회수를 같은 값만큼 늘린다. (조회 저널의 집계 반영용)
+     * <p>조회수는 편집 내용이 아니므로 버전과 수정일을 바꾸지 않는다. (수정 폼의 낙관적 잠금, 화면 캐시와 무관)</p>
+     *
+     * @param ids   게시글 식별자 목록
+     * @param delta 늘릴 조회수
+     * @return 반영된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :ids")
+    int addViewCount(@ShardKey(ShardKey.Type.IDS) List<Long> ids, int delta);
+
+    /**
+     * 회원이 작성한 (삭제되지 않은) 게시글의 식별자, 게시판 코드, 작성일을 조회한다. (탈퇴 처리용)
+     *
+     * @param memberId 작성자 회원 식별자
+     * @param limit    최대 개수
+     * @return 게시글 목록 (삭제 이벤트에 담을 값)
+     */
+    @CrossShard(orderBy = "id")
+    @Query("SELECT p.id AS id, b.code AS boardCode, p.createdAt AS createdAt FROM Post p JOIN p.board b " +
+            "WHERE p.author.id = :memberId ORDER BY p.id")
+    List<PostActivityView> findActivitiesByAuthorId(Long memberId, Limit limit);
+
+    /**
+     * 여러 게시글을 한 번에 소프트 삭제한다. (탈퇴 처리용)
+     *
+     * @param ids       게시글 식별자 목록
+     * @param deletedAt 삭제 시각
+     * @return 삭제 처리된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :deletedAt, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int softDeleteByIds(@ShardKey(ShardKey.Type.IDS) List<Long> ids, LocalDateTime deletedAt);
+
+    /**
+     * 회원을 작성자로 참조하는 게시글 수 (소프트 삭제되어 아직 지워지지 않은 게시글 포함)
+     *
+     * @param memberId 회원 식별자
+     * @return 게시글 수
+     */
+    @Query(value = "SELECT COUNT(*) FROM posts WHERE member_id = :memberId", nativeQuery = true)
+    long countAllByAuthorId(Long memberId);
+
+    /**
+     * 일괄 삭제할 수 있는 게시글(소프트 삭제되었고 남은 추천 정보가 없는 게시글)의 식별자를 조회한다.
+     * <p>삭제된 게시글은 엔티티 조회에서 제외되므로 네이티브 쿼리를 사용한다.</p>
+     *
+     * @param limit 최대 개수
+     * @return 게시글 식별자 목록
+     */
+    @CrossShard(limitParameter = 0)
+    @Query(value = "SELECT p.id FROM posts p WHERE p.deleted_at IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM post_recommendations r WHERE r.post_id = p.id) " +
+            "ORDER BY p.id LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableIds(int limit);
+
+    /**
+     * 소프트 삭제된 게시글 행을 일괄 삭제한다.
+     *
+     * @param ids 삭제할 게시글 식별자 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM posts WHERE id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeByIds(@ShardKey(ShardKey.Type.IDS) List<Long> ids);
 
     /**
      * 본문에 특정 키워드가 포함된 게시글 목록을 반환한다.
@@ -63,6 +192,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      *
      * @return 최신 게시글부터 정렬된 게시글 목록
      */
+    @CrossShard(orderBy = "createdAt", descending = true)
     List<Post> findAllByOrderByCreatedAtDesc();
 
     /**
@@ -70,6 +200,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      *
      * @return 오래된 게시글부터 정렬된 게시글 목록
      */
+    @CrossShard(orderBy = "createdAt")
     List<Post> findAllByOrderByCreatedAtAsc();
 
     /**
@@ -77,6 +208,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      *
      * @return 조회수가 많은 게시글부터 정렬된 게시글 목록
      */
+    @CrossShard(orderBy = "viewCount", descending = true)
     List<Post> findAllByOrderByViewCountDesc();
 
     /**
@@ -89,6 +221,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      *
      * @return 추천수가 많은 게시글부터 정렬된 게시글 목록
      */
+    @CrossShard(orderBy = "recommendationCount", descending = true)
     @Query("SELECT p FROM Post p LEFT JOIN p.recommendations r GROUP BY p ORDER BY COUNT(r) DESC")
     List<Post> findAllByOrderByRecommendationCountDesc();
 
@@ -98,15 +231,201 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param username 사용자(작성자) 이름
      * @return 해당 사용자가 작성한 게시글(최신 날짜부터 정렬) 목록
      */
+    @CrossShard(orderBy = "createdAt", descending = true)
     List<Post> findByAuthor_UsernameOrderByCreatedAtDesc(String username);
 
     /**
-     * 특정 기간 사이에 작성된 게시글 목록을 반환한다.
+     * 게시판별 게시글 수, 기준 시각 이후 작성된 게시글 수, 마지막 작성 시각을 집계한다. (게시판 통계 재조정용)
+     * <p>게시판의 게시글은 한 샤드에만 있으므로, 샤드별 결과를 이어 붙이면 게시판마다 한 행이 된다.</p>
+     *
+     * @param todayStart 오늘 0시
+     * @return 게시판별 통계 (게시글이 없는 게시판은 포함되지 않는다.)
+     */
+    @CrossShard
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.BoardStatsDto(b.code, COUNT(p), " +
+            "SUM(CASE WHEN p.createdAt >= :todayStart THEN 1L ELSE 0L END), MAX(p.createdAt)) " +
+            "FROM Post p JOIN p.board b GROUP BY b.code")
+    List<BoardStatsDto> aggregateStatsByBoard(LocalDateTime todayStart);
+
+    /**
+     * 게시글의 소속 게시판 코드와 작성일을 조회한다. (삭제된 게시글 포함, 게시판 통계 갱신용)
+     *
+     * @param id 게시글 식별자
+     * @return 게시판 코드와 작성일 (행이 없으면 빈 Optional)
+     */
+    @Query(value = "SELECT p.id AS id, b.code AS boardCode, p.created_at AS createdAt FROM posts p " +
+            "JOIN boards b ON b.id = p.board_id WHERE p.id = :id", nativeQuery = true)
+    Optional<PostActivityView> findActivityById(@ShardKey(ShardKey.Type.ID) Long id);
+
+    /**
+     * 회원이 작성한 게시글의 활동 목록 첫 페이지를 최신순으로 반환한다.
+     * <p>회원 식별자로 바로 조건을 걸어 (member_id, created_at) 인덱스를 사용하며, 회원 테이블은 조인하지 않는다.</p>
+     *
+     * @param memberId 작성자 식별자
+     * @param limit    최대 조회 개수
+     * @return 활동 목록
+     */
+    @CrossShard(orderBy = "createdAt", descending = true)
+    @Query("SELECT new parksoffice.ojtcommunity.dto.member.MemberActivityDto(p.id, b.code, p.title, p.createdAt) " +
+            "FROM Post p JOIN p.board b WHERE p.author.id = :memberId ORDER BY p.createdAt DESC, p.id DESC")
+    List<MemberActivityDto> findActivityByMemberId(Long memberId, Limit limit);
+
+    /**
+     * 회원이 작성한 게시글의 활동 목록을 (작성일, 식별자) 커서 이전부터 최신순으로 반환한다.
+     *
+     * @param memberId 작성자 식별자
+     * @param before   이전 페이지 마지막 게시글의 작성일
+     * @param beforeId 이전 페이지 마지막 게시글의 식별자 (작성일이 같은 게시글의 순서를 정한다.)
+     * @param limit    최대 조회 개수
+     * @return 활동 목록
+     */
+    @CrossShard(orderBy = "createdAt", descending = true)
+    @Query("SELECT new parksoffice.ojtcommunity.dto.member.MemberActivityDto(p.id, b.code, p.title, p.createdAt) " +
+            "FROM Post p JOIN p.board b WHERE p.author.id = :memberId " +
+            "AND (p.createdAt < :before OR (p.createdAt = :before AND p.id < :beforeId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<MemberActivityDto> findActivityByMemberIdBefore(Long memberId, LocalDateTime before, Long beforeId, Limit limit);
+
+    /**
+     * 기간 내에 작성된 게시글을 게시판별로 집계한다. (게시글 수, 지금까지의 누적 조회수 합계, 작성자 수)
+     * <p>
+     *     일간 집계 작업이 하루 단위로 호출하며, 게시글을 엔티티로 읽지 않고 DB에서 집계한 게시판별 한 행만 반환한다.
+     *     게시판은 한 샤드에만 있으므로 모든 샤드의 결과를 이어 붙이면 된다.
+     * </p>
      *
      * @param start 시작 일시 (포함)
-     * @param end   종료 일시 (포함)
-     * @return 지정한 기간 내에 작성된 게시글 목록
+     * @param end   종료 일시 (제외)
+     * @return 게시판별 집계 결과
+     */
+    @CrossShard
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.DailyBoardAggregate(b.code, COUNT(p), SUM(p.viewCount), " +
+            "COUNT(DISTINCT p.author.id)) " +
+            "FROM Post p JOIN p.board b WHERE p.createdAt >= :start AND p.createdAt < :end GROUP BY b.code")
+    List<DailyBoardAggregate> aggregateDailyByBoard(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 지문이 저장된 최근 게시글의 지문을 최신순으로 조회한다. (근접 중복 색인 재구성용)
+     *
+     * @param limit 최대 개수
+     * @return 게시글 지문 목록
      */
-    List<Post> findAllByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+    @CrossShard(orderBy = "createdAt", descending = true)
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostFingerprint(p.id, p.simhash, p.createdAt) " +
+            "FROM Post p WHERE p.simhash IS NOT NULL ORDER BY p.createdAt DESC")
+    List<PostFingerprint> findRecentFingerprints(Limit limit);
 
+    /**
+     * 게시글의 수정일, 소속 게시판 코드와 작성자 이름만 조회한다.
+     * <p>조건부 GET 처리 시, 게시글 엔티티를 로딩하지 않고 변경 여부를 판단하기 위해 사용한다.</p>
+     *
+     * @param id 게시글 식별자
+     * @return 게시글 버전 정보 (게시글이 없으면 빈 Optional)
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostVersionDto(b.code, p.updatedAt, a.username) " +
+            "FROM Post p JOIN p.board b JOIN p.author a WHERE p.id = :id")
+    Optional<PostVersionDto> findVersionById(@ShardKey(ShardKey.Type.ID) Long id);
+
+    /**
+     * 게시판의 수정일, 게시글 최대 수정일, 게시글 수와 작성자 최대 수정일을 한 번에 조회한다.
+     * <p>
+     *     조건부 GET 처리 시, 목록을 조회하지 않고 변경 여부를 판단하기 위해 사용한다.
+     *     목록에 작성자 이름이 표시되므로 작성자를 조인하여, 작성자가 이름을 바꾸면(회원 수정일 갱신) 버전이 달라지게 한다.
+     * </p>
+     *
+     * @param code 게시판 코드
+     * @return 게시판 목록 버전 정보 (게시판이 없으면 빈 Optional)
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.BoardListVersionDto(b.updatedAt, MAX(p.updatedAt), COUNT(p), MAX(a.updatedAt)) " +
+            "FROM Board b LEFT JOIN Post p ON p.board = b LEFT JOIN p.author a WHERE b.code = :code GROUP BY b.id, b.updatedAt")
+    Optional<BoardListVersionDto> findListVersionByBoardCode(@ShardKey String code);
+
+    /**
+     * 게시판의 게시글 중 커서(게시글 식별자)보다 앞선 게시글 요약 목록을 최신순(식별자 내림차순)으로 반환한다.
+     * <p>(board_id, id) 인덱스를 역순으로 읽어 필요한 개수만큼만 조회한다.</p>
+     *
+     * @param code   게시판 코드
+     * @param cursor 이전 페이지의 마지막 게시글 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param limit  최대 조회 개수
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostSummaryDto(p.id, p.title, a.username, p.viewCount, p.createdAt) " +
+            "FROM Post p JOIN p.author a JOIN p.board b WHERE b.code = :code AND p.id < :cursor ORDER BY p.id DESC")
+    List<PostSummaryDto> findSummariesByBoardCodeBefore(@ShardKey String code, Long cursor, Limit limit);
+
+    /**
+     * 제목에 키워드가 포함된 게시글 요약 목록을 커서 이전부터 최신순으로 반환한다. (모든 게시판, 대소문자 무시)
+     *
+     * @param keyword 소문자로 바꾸고 LIKE 특수 문자를 이스케이프한 키워드
+     * @param cursor  이전 페이지의 마지막 게시글 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param limit   최대 조회 개수
+     * @return 게시글 요약 목록
+     */
+    @CrossShard(orderBy = "id", descending = true)
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostSummaryDto(p.id, p.title, a.username, p.viewCount, p.createdAt) " +
+            "FROM Post p JOIN p.author a WHERE LOWER(p.title) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' " +
+            "AND p.id < :cursor ORDER BY p.id DESC")
+    List<PostSummaryDto> searchSummariesByTitle(String keyword, Long cursor, Limit limit);
+
+    /**
+     * 본문에 키워드가 포함된 게시글 요약 목록을 커서 이전부터 최신순으로 반환한다. (모든 게시판, 대소문자 무시)
+     *
+     * @param keyword 소문자로 바꾸고 LIKE 특수 문자를 이스케이프한 키워드
+     * @param cursor  이전 페이지의 마지막 게시글 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param limit   최대 조회 개수
+     * @return 게시글 요약 목록
+     */
+    @CrossShard(orderBy = "id", descending = true)
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostSummaryDto(p.id, p.title, a.username, p.viewCount, p.createdAt) " +
+            "FROM Post p JOIN p.author a WHERE LOWER(CAST(p.content AS String)) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' " +
+            "AND p.id < :cursor ORDER BY p.id DESC")
+    List<PostSummaryDto> searchSummariesByContent(String keyword, Long cursor, Limit limit);
+
+    /**
+     * 게시판에서 제목에 키워드가 포함된 게시글 요약 목록을 커서 이전부터 최신순으로 반환한다. (대소문자 무시)
+     *
+     * @param code    게시판 코드
+     * @param keyword 소문자로 바꾸고 LIKE 특수 문자를 이스케이프한 키워드
+     * @param cursor  이전 페이지의 마지막 게시글 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param limit   최대 조회 개수
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostSummaryDto(p.id, p.title, a.username, p.viewCount, p.createdAt) " +
+            "FROM Post p JOIN p.author a JOIN p.board b WHERE b.code = :code " +
+            "AND LOWER(p.title) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' AND p.id < :cursor ORDER BY p.id DESC")
+    List<PostSummaryDto> searchSummariesByBoardCodeAndTitle(@ShardKey String code, String keyword, Long cursor, Limit limit);
+
+    /**
+     * 게시판에서 본문에 키워드가 포함된 게시글 요약 목록을 커서 이전부터 최신순으로 반환한다. (대소문자 무시)
+     *
+     * @param code    게시판 코드
+     * @param keyword 소문자로 바꾸고 LIKE 특수 문자를 이스케이프한 키워드
+     * @param cursor  이전 페이지의 마지막 게시글 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param limit   최대 조회 개수
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostSummaryDto(p.id, p.title, a.username, p.viewCount, p.createdAt) " +
+            "FROM Post p JOIN p.author a JOIN p.board b WHERE b.code = :code " +
+            "AND LOWER(CAST(p.content AS String)) LIKE CONCAT('%', :keyword, '%') ESCAPE '!' AND p.id < :cursor ORDER BY p.id DESC")
+    List<PostSummaryDto> searchSummariesByBoardCodeAndContent(@ShardKey String code, String keyword, Long cursor, Limit limit);
+
+    /**
+     * 식별자 목록에 해당하는 (삭제되지 않은) 게시글 요약 목록을 반환한다. 순서는 보장하지 않는다. (검색 결과 캐시 적중 시 사용)
+     *
+     * @param ids 게시글 식별자 목록
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostSummaryDto(p.id, p.title, a.username, p.viewCount, p.createdAt) " +
+            "FROM Post p JOIN p.author a WHERE p.id IN :ids")
+    List<PostSummaryDto> findSummariesByIds(@ShardKey(ShardKey.Type.IDS) List<Long> ids);
+
+    /**
+     * 게시글 상세 API에 필요한 컬럼만 게시판, 작성자와 조인하여 조회한다.
+     *
+     * @param id 게시글 식별자
+     * @return 게시글 상세 DTO (게시글이 없으면 빈 Optional)
+     */
+    @Query("SELECT new parksoffice.ojtcommunity.dto.board.PostDetailDto(p.id, b.code, b.name, p.title, p.content, " +
+            "a.username, p.viewCount, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.board b JOIN p.author a WHERE p.id = :id")
+    Optional<PostDetailDto> findDetailDtoById(@ShardKey(ShardKey.Type.ID) Long id);
 }
@@ -1,8 +1,11 @@
 package parksoffice.ojtcommunity.repository.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import parksoffice.ojtcommunity.domain.member.Member;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     Optional<Member> findByUsername(String username);
 
+    /**
+     * 사용자 이름(username)이 정확히 일치하는 회원이 존재하는지 확인한다.
+     * <p>엔티티를 로딩하지 않고 존재 여부만 확인한다.</p>
+     *
+     * @param username 확인할 사용자 이름
+     * @return 해당 사용자 이름을 가진 회원이 존재하면 true
+     */
+    boolean existsByUsername(String username);
+
     /**
      * 사용자 이름(username)에 특정 키워드가 포함된 회원 목록을 반환한다.
      *
@@ -39,4 +51,72 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @return 키워드를 포함하는 회원 목록
      */
     List<Member> findByUsernameContaining(String keyword);
+
+    /**
+     * 전체 회원의 사용자 이름(username)만 조회한다.
+     * <p>엔티티 대신 문자열 컬럼만 읽어오므로, 메모리 인덱스를 구축할 때 사용한다.</p>
+     *
+     * @return 전체 사용자 이름 목록
+     */
+    @Query("SELECT m.username FROM Member m")
+    List<String> findAllUsernames();
+
+    /**
+     * 탈퇴하지 않은 회원의 사용자 이름(username)만 조회한다.
+     * <p>자동완성처럼 탈퇴 처리 중인 회원을 보여 주면 안 되는 인덱스를 구축할 때 사용한다.</p>
+     *
+     * @return 활성 회원의 사용자 이름 목록
+     */
+    @Query("SELECT m.username FROM Member m WHERE m.deactivatedAt IS NULL")
+    List<String> findActiveUsernames();
+
+    /**
+     * 탈퇴하지 않은 회원인지 확인한다. (탈퇴한 회원의 남은 세션으로 글을 쓰지 못하도록 쓰기 전에 확인)
+     *
+     * @param id 회원 식별자
+     * @return 회원이 있고 탈퇴하지 않았으면 true
+     */
+    @Query("SELECT COUNT(m) > 0 FROM Member m WHERE m.id = :id AND m.deactivatedAt IS NULL")
+    boolean existsActiveById(Long id);
+
+    /**
+     * 회원 ID로 사용자 이름(username)만 조회한다.
+     *
+     * @param id 회원 식별자
+     * @return 사용자 이름 (Optional)
+     */
+    @Query("SELECT m.username FROM Member m WHERE m.id = :id")
+    Optional<String> findUsernameById(Long id);
+
+    /**
+     * 회원을 탈퇴(비활성화) 상태로 표시한다. 버전도 함께 증가시킨다.
+     *
+     * @param id            회원 식별자
+     * @param deactivatedAt 탈퇴 시각
+     * @return 변경된 행 수 (회원이 없거나 이미 탈퇴 처리 중이면 0)
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.deactivatedAt = :deactivatedAt, m.version = m.version + 1 " +
+            "WHERE m.id = :id AND m.deactivatedAt IS NULL")
+    int deactivateById(Long id, LocalDateTime deactivatedAt);
+
+    /**
+     * 탈퇴 처리가 끝나지 않은(행이 남아 있는) 회원의 식별자를 조회한다.
+     *
+     * @return 회원 식별자 목록 (탈퇴 순)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.deactivatedAt IS NOT NULL ORDER BY m.deactivatedAt, m.id")
+    List<Long> findDeactivatedIds();
+
+    /**
+     * 탈퇴한 회원의 행을, 참조하는 게시글과 추천 정보가 더 이상 없을 때만 삭제한다.
+     *
+     * @param id 회원 식별자
+     * @return 삭제된 행 수 (아직 참조가 남아 있으면 0)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM members WHERE id = :id AND deactivated_at IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.member_id = members.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM post_recommendations r WHERE r.member_id = members.id)", nativeQuery = true)
+    int deleteIfUnreferenced(Long id);
 }
@@ -0,0 +1,17 @@
+package parksoffice.ojtcommunity.repository.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import parksoffice.ojtcommunity.domain.outbox.OutboxEvent;
+
+/**
+ * OutboxEventRepository 인터페이스
+ *
+ * <p>
+ *     게시글 변경 트랜잭션 안에서 아웃박스 이벤트를 저장할 때 사용한다.
+ *     순번 발급, 전달, 정리는 샤드별 커넥션 풀을 직접 사용하는 OutboxRelay가 SQL로 처리한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
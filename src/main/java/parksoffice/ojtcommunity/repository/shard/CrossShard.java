@@ -0,0 +1,37 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 모든 샤드에 실행하는 목록 조회의 결과를 합치는 순서를 지정한다.
+ *
+ * <p>
+ *     각 샤드는 쿼리의 ORDER BY로 이미 정렬된 결과를 돌려주므로, 합친 결과를 같은 기준으로 다시 정렬하면 전체 순서가 된다.
+ *     {@code Limit} 매개변수(또는 {@link #limitParameter()})가 있으면 정렬한 뒤 그 개수만큼만 남긴다.
+ *     이 애노테이션이 없는 목록 조회는 샤드 순서대로 이어 붙인다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CrossShard {
+
+    /**
+     * @return 정렬 기준 프로퍼티 이름 (비어 있으면 요소 자체의 자연 순서, 예: 식별자 목록)
+     */
+    String orderBy() default "";
+
+    /**
+     * @return 내림차순 여부
+     */
+    boolean descending() default false;
+
+    /**
+     * @return 최대 개수를 나타내는 int 매개변수의 위치 (-1이면 없음)
+     */
+    int limitParameter() default -1;
+}
@@ -0,0 +1,59 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+/**
+ * 현재 스레드가 접근할 샤드 번호
+ *
+ * <p>
+ *     {@link ShardRoutingDataSource}는 커넥션을 얻는 시점에 이 값을 읽어 샤드를 고른다.
+ *     값이 없으면 기본 샤드(0번, 회원과 게시판의 원본)를 사용한다.
+ *     {@link ShardRoutingInterceptor}가 게시글/추천 정보 리포지토리 호출 동안에만 설정하고 호출이 끝나면 되돌린다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return 현재 스레드에 설정된 샤드 번호 (설정되지 않았으면 null)
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 샤드를 설정한 상태로 작업을 실행하고, 끝나면 이전 값으로 되돌린다.
+     *
+     * @param shard 샤드 번호
+     * @param work  실행할 작업
+     * @return 작업 결과
+     */
+    public static <T, E extends Throwable> T callOn(int shard, ShardWork<T, E> work) throws E {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 샤드를 설정한 상태로 실행할 작업
+     *
+     * @param <T> 결과 타입
+     * @param <E> 작업이 던지는 예외 타입
+     */
+    @FunctionalInterface
+    public interface ShardWork<T, E extends Throwable> {
+        T call() throws E;
+    }
+}
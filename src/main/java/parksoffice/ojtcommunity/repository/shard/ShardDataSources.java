@@ -0,0 +1,55 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 샤드별 커넥션 풀 목록 (0번이 기본 샤드)
+ *
+ * <p>
+ *     애플리케이션의 DataSource 빈은 이 풀들을 감싼 {@link ShardRoutingDataSource} 하나뿐이다.
+ *     풀을 DataSource 빈으로 등록하지 않는 것은, SQL 측정 래퍼가 라우팅 DataSource와 풀에 이중으로 적용되지 않게 하기 위해서이다.
+ *     스키마 생성과 회원/게시판 복제처럼 특정 샤드에 직접 접근해야 하는 작업만 {@link #get(int)}을 사용한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<DataSource> dataSources;
+
+    public ShardDataSources(List<DataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    /**
+     * @return 샤드 수
+     */
+    public int count() {
+        return dataSources.size();
+    }
+
+    /**
+     * @param shard 샤드 번호
+     * @return 샤드의 커넥션 풀
+     */
+    public DataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+
+    /**
+     * @return 샤드 번호 순서의 커넥션 풀 목록
+     */
+    public List<DataSource> all() {
+        return dataSources;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
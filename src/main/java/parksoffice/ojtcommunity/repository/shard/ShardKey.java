@@ -0,0 +1,35 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리포지토리 메서드에서 샤드를 결정하는 매개변수를 표시한다.
+ *
+ * <p>
+ *     표시된 매개변수가 없는 조회 메서드는 모든 샤드에 실행한 뒤 결과를 합친다. ({@link CrossShard} 참고)
+ *     {@code findById}, {@code save} 등 상속받은 CRUD 메서드는 {@link ShardRoutingInterceptor}가 이름으로 구분한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    /**
+     * @return 매개변수 값의 종류
+     */
+    Type value() default Type.BOARD_CODE;
+
+    enum Type {
+        /** 게시판 코드 (샤드 맵에서 샤드를 찾는다.) */
+        BOARD_CODE,
+        /** 샤드에서 발급된 식별자 하나 (상위 비트가 샤드 번호) */
+        ID,
+        /** 샤드에서 발급된 식별자 목록 (샤드별로 나누어 각 샤드에 실행한다.) */
+        IDS
+    }
+}
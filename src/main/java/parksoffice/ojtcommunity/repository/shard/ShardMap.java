@@ -0,0 +1,106 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게시판 코드와 식별자로 게시글이 저장된 샤드를 찾는 샤드 맵
+ *
+ * <p>
+ *     게시글과 추천 정보는 게시판 코드 단위로 샤드에 나누어 저장한다. 설정에 배정된 게시판은 그 샤드를,
+ *     배정되지 않은 게시판은 코드의 해시로 정한 샤드를 사용한다.
+ *     (해시 배정은 샤드 수가 바뀌면 달라지므로, 샤드를 늘리기 전에 기존 게시판을 설정에 명시해야 한다.)
+ * </p>
+ *
+ * <p>
+ *     각 샤드의 시퀀스는 {@code 샤드 번호 << 40}부터 시작하므로, 샤드에서 발급된 식별자의 상위 비트가 곧 샤드 번호이다.
+ *     게시글 번호(또는 추천 정보 식별자)만으로도 게시판을 조회하지 않고 샤드를 찾을 수 있다.
+ *     0번 샤드는 회원과 게시판의 원본을 가지는 기본 샤드이다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class ShardMap {
+
+    /**
+     * 식별자에서 샤드 번호를 나타내는 비트 위치 (샤드마다 2^40개의 식별자를 사용한다.)
+     */
+    public static final int SHARD_ID_SHIFT = 40;
+
+    private final int shardCount;
+    private final Map<String, Integer> boardShards;
+
+    /**
+     * @param shardCount  샤드 수
+     * @param boardShards 게시판 코드별로 배정한 샤드 번호
+     */
+    public ShardMap(int shardCount, Map<String, Integer> boardShards) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive: " + shardCount);
+        }
+        boardShards.forEach((code, shard) -> {
+            if (shard < 0 || shard >= shardCount) {
+                throw new IllegalArgumentException("Board " + code + " is mapped to unknown shard " + shard);
+            }
+        });
+        this.shardCount = shardCount;
+        this.boardShards = Map.copyOf(boardShards);
+    }
+
+    /**
+     * @return 샤드 수
+     */
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @param boardCode 게시판 코드
+     * @return 게시판의 게시글이 저장된 샤드 번호
+     */
+    public int shardOf(String boardCode) {
+        Integer shard = boardShards.get(boardCode);
+        return shard != null ? shard : Math.floorMod(boardCode.hashCode(), shardCount);
+    }
+
+    /**
+     * @param id 샤드에서 발급된 식별자 (게시글, 추천 정보)
+     * @return 식별자를 발급한 샤드 번호 (어느 샤드의 범위에도 속하지 않는 식별자는 기본 샤드에서 "없음"으로 처리되도록 0)
+     */
+    public int shardOfId(long id) {
+        long shard = id >>> SHARD_ID_SHIFT;
+        return shard < shardCount ? (int) shard : 0;
+    }
+
+    /**
+     * @param shard 샤드 번호
+     * @return 샤드에서 발급하는 첫 식별자
+     */
+    public static long firstId(int shard) {
+        return (long) shard << SHARD_ID_SHIFT;
+    }
+
+    /**
+     * 목록을 식별자를 발급한 샤드(식별자의 상위 비트)별로 나눈다.
+     * <p>
+     *     여러 샤드에 쓰는 일괄 UPDATE/DELETE는 한 쓰기 트랜잭션에서 실행할 수 없으므로({@link ShardRoutingInterceptor}),
+     *     호출하는 쪽에서 이 묶음마다 트랜잭션을 나누어 실행한다. 샤드 맵 없이 식별자만으로 나누므로
+     *     샤딩을 사용하지 않으면 모두 한 묶음이 된다.
+     * </p>
+     *
+     * @param elements 나눌 목록
+     * @param idOf     원소의 식별자 (게시글, 추천 정보)
+     * @return 샤드 번호 순의 묶음 목록 (목록이 비어 있으면 빈 목록)
+     */
+    public static <T> List<List<T>> groupByShard(Collection<T> elements, ToLongFunction<T> idOf) {
+        Map<Long, List<T>> groups = new TreeMap<>();
+        for (T element : elements) {
+            groups.computeIfAbsent(idOf.applyAsLong(element) >>> SHARD_ID_SHIFT, shard -> new ArrayList<>()).add(element);
+        }
+        return new ArrayList<>(groups.values());
+    }
+}
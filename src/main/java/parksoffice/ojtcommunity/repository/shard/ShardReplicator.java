@@ -0,0 +1,114 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.event.BoardChangedEvent;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원과 게시판 행을 기본 샤드에서 나머지 샤드로 복제한다.
+ *
+ * <p>
+ *     게시글 샤드의 조회(작성자 이름, 게시판 코드 조인)와 외래 키 제약 조건을 위해 모든 샤드가 회원/게시판 사본을 가진다.
+ *     원본은 기본 샤드에만 쓰며, 커밋된 변경 이벤트마다 해당 행을 {@code MERGE}로 덮어쓴다.
+ *     서버 시작 시에는 전체 행을 한 번 복제하여, 이벤트를 놓친 변경(이전 실행 중 장애 등)을 맞춘다.
+ * </p>
+ *
+ * <p>
+ *     탈퇴 처리로 지워진 회원의 사본은 남아 있을 수 있으므로, 같은 사용자 이름(게시판 코드)을 가진 다른 식별자의 사본은
+ *     덮어쓰기 전에 지운다. (그 회원의 게시글과 추천 정보는 탈퇴 처리에서 모든 샤드에서 이미 지워진 상태이다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Slf4j
+public class ShardReplicator {
+
+    private static final List<Table> TABLES = List.of(new Table("boards", "code"), new Table("members", "username"));
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private final Counter replicatedRows;
+
+    public ShardReplicator(ShardDataSources dataSources, MeterRegistry meterRegistry) {
+        dataSources.all().forEach(dataSource -> shards.add(new JdbcTemplate(dataSource)));
+        this.replicatedRows = meterRegistry.counter("shard.replicated.rows");
+    }
+
+    /**
+     * 회원 가입/이름 변경/탈퇴가 커밋되면 회원 행을 복제한다.
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        replicateQuietly(TABLES.get(1), event.memberId());
+    }
+
+    /**
+     * 게시판 등록이 커밋되면 게시판 행을 복제한다.
+     *
+     * @param event 게시판 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        replicateQuietly(TABLES.get(0), event.boardId());
+    }
+
+    /**
+     * 기본 샤드의 모든 게시판과 회원 행을 나머지 샤드로 복제한다.
+     */
+    public void replicateAll() {
+        for (Table table : TABLES) {
+            List<Map<String, Object>> rows = shards.get(0).queryForList("SELECT * FROM " + table.name());
+            for (int shard = 1; shard < shards.size(); shard++) {
+                merge(shards.get(shard), table, rows);
+            }
+            log.info("Replicated {} {} row(s) to {} shard(s)", rows.size(), table.name(), shards.size() - 1);
+        }
+    }
+
+    private void replicateQuietly(Table table, Long id) {
+        try {
+            List<Map<String, Object>> rows = shards.get(0).queryForList("SELECT * FROM " + table.name() + " WHERE id = ?", id);
+            for (int shard = 1; shard < shards.size(); shard++) {
+                merge(shards.get(shard), table, rows);
+            }
+        } catch (DataAccessException ex) {
+            // 원본 트랜잭션은 이미 커밋되었으므로 실패를 되돌리지 않는다. 다음 서버 시작 시 전체 복제에서 맞춘다.
+            log.warn("Failed to replicate {} {}: {}", table.name(), id, ex.getMessage(), ex);
+        }
+    }
+
+    private void merge(JdbcTemplate shard, Table table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String placeholders = String.join(", ", columns.stream().map(column -> "?").toList());
+        List<Object[]> stale = new ArrayList<>();
+        List<Object[]> values = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            stale.add(new Object[]{row.get(table.naturalKey()), row.get("id")});
+            values.add(columns.stream().map(row::get).toArray());
+        }
+        shard.batchUpdate("DELETE FROM " + table.name() + " WHERE " + table.naturalKey() + " = ? AND id <> ?", stale);
+        shard.batchUpdate("MERGE INTO " + table.name() + " (" + String.join(", ", columns) + ") KEY (id) VALUES ("
+                + placeholders + ")", values);
+        replicatedRows.increment(rows.size());
+    }
+
+    /**
+     * @param name       테이블 이름
+     * @param naturalKey 식별자 외의 유일 키 컬럼
+     */
+    private record Table(String name, String naturalKey) {
+    }
+}
@@ -0,0 +1,80 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ShardContext}의 샤드 번호로 커넥션을 얻을 샤드 DataSource를 고르는 라우팅 DataSource
+ *
+ * <p>
+ *     샤드가 정해지기 전에 트랜잭션이 시작되어도 되도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용한다.
+ *     (실제 커넥션은 첫 SQL을 실행할 때 얻으므로, 그때의 샤드 번호가 트랜잭션 전체의 샤드가 된다.)
+ * </p>
+ *
+ * <p>
+ *     쓰기 트랜잭션 안에서 커넥션을 얻으면 그 샤드 번호를 트랜잭션에 기록한다.
+ *     {@link ShardRoutingInterceptor}는 이 값을 보고, 이미 다른 샤드에 쓰고 있는 트랜잭션에서의 접근을 막는다.
+ *     (읽기 전용 트랜잭션은 샤드 호출마다 커넥션을 새로 얻으므로 기록하지 않는다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Object TRANSACTION_SHARD_KEY = new Object();
+
+    /**
+     * @param shards 샤드 번호 순서의 샤드 DataSource 목록 (0번이 기본 샤드)
+     */
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer current = ShardContext.current();
+        int shard = current != null ? current : 0;
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !TransactionSynchronizationManager.hasResource(TRANSACTION_SHARD_KEY)) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(TRANSACTION_SHARD_KEY);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD_KEY);
+                }
+            });
+        }
+        return shard;
+    }
+
+    /**
+     * @return 현재 쓰기 트랜잭션이 커넥션을 얻은 샤드 번호 (쓰기 트랜잭션 밖이거나 아직 커넥션을 얻지 않았으면 null)
+     */
+    public static Integer transactionShard() {
+        return (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY);
+    }
+}
@@ -0,0 +1,344 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.board.PostRecommendation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 게시글/추천 정보 리포지토리 호출을 샤드로 보내는 인터셉터
+ *
+ * <p>
+ *     리포지토리 프록시의 가장 바깥(트랜잭션 인터셉터보다 앞)에서 실행되어, 인자로 샤드를 정한 뒤
+ *     {@link ShardContext}를 설정한 채로 호출을 진행한다.
+ *     <ul>
+ *         <li>{@link ShardKey} 매개변수 또는 CRUD 메서드의 식별자/엔티티로 샤드가 하나로 정해지면 그 샤드에만 실행한다.</li>
+ *         <li>식별자 목록은 샤드별로 나누어, 해당 샤드마다 그 샤드의 식별자만 넘겨 실행한다.</li>
+ *         <li>샤드를 정할 수 없는 조회(전체 목록, 검색 등)는 모든 샤드에 실행하고 결과를 합친다. (scatter-gather)</li>
+ *     </ul>
+ *     여러 샤드의 결과는 하나의 영속성 컨텍스트(OSIV)에 담기므로 샤드에 차례로 실행한다.
+ * </p>
+ *
+ * <p>
+ *     트랜잭션 처리:
+ *     <ul>
+ *         <li>쓰기 트랜잭션은 하나의 샤드에만 쓸 수 있다. 이미 다른 샤드의 커넥션을 얻은 트랜잭션에서 접근하면 예외가 발생한다.</li>
+ *         <li>쓰기 트랜잭션 안에서 여러 샤드에 쓰는 호출(@Modifying 쿼리, 저장/삭제)은 예외가 발생한다.
+ *             샤드마다 따로 커밋하면 호출한 트랜잭션이 롤백되어도 샤드의 변경은 남기 때문이다.
+ *             호출하는 쪽에서 {@link ShardMap#groupByShard}로 샤드별로 나누어 샤드마다 트랜잭션을 실행한다.</li>
+ *         <li>쓰기 트랜잭션 안에서 여러 샤드를 조회해야 하면 샤드마다 새 트랜잭션(REQUIRES_NEW)에서 조회한다.
+ *             (쓰지 않으므로 호출한 트랜잭션의 원자성과 무관하다.)</li>
+ *         <li>트랜잭션 밖이나 읽기 전용 트랜잭션에서는 샤드 호출 전후로 세션이 잡고 있는 커넥션을 반납하여,
+ *             호출마다 해당 샤드의 커넥션을 새로 얻는다. 그 외의 지연 로딩은 기본 샤드(회원, 게시판의 원본)에서 읽는다.</li>
+ *     </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private static final Set<String> ID_METHODS =
+            Set.of("findById", "existsById", "deleteById", "getReferenceById", "getById", "getOne");
+    private static final Set<String> ENTITY_METHODS = Set.of("save", "saveAndFlush", "delete");
+    private static final Set<String> ITERABLE_METHODS = Set.of("saveAll", "saveAllAndFlush", "deleteAll",
+            "deleteAllInBatch", "findAllById", "deleteAllById", "deleteAllByIdInBatch");
+    private static final Set<String> WRITE_METHODS = Set.of("save", "saveAndFlush", "delete", "deleteById",
+            "saveAll", "saveAllAndFlush", "deleteAll", "deleteAllInBatch", "deleteAllById", "deleteAllByIdInBatch");
+
+    private final ShardMap shardMap;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate newTransaction;
+    private final Counter[] routedCalls;
+    private final Counter[] scatteredCalls;
+
+    public ShardRoutingInterceptor(ShardMap shardMap,
+                                   EntityManagerFactory entityManagerFactory,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.shardMap = shardMap;
+        this.entityManagerFactory = entityManagerFactory;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.routedCalls = new Counter[shardMap.shardCount()];
+        this.scatteredCalls = new Counter[shardMap.shardCount()];
+        for (int shard = 0; shard < shardMap.shardCount(); shard++) {
+            routedCalls[shard] = meterRegistry.counter("shard.calls", "shard", String.valueOf(shard), "mode", "routed");
+            scatteredCalls[shard] = meterRegistry.counter("shard.calls", "shard", String.valueOf(shard), "mode", "scatter");
+        }
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        ProxyMethodInvocation proxyInvocation = (ProxyMethodInvocation) invocation;
+        Map<Integer, Object[]> targets = route(method, invocation.getArguments());
+        if (targets.size() == 1) {
+            Map.Entry<Integer, Object[]> target = targets.entrySet().iterator().next();
+            routedCalls[target.getKey()].increment();
+            return callShard(target.getKey(), proxyInvocation, target.getValue(), Function.identity());
+        }
+        return scatter(proxyInvocation, targets);
+    }
+
+    /**
+     * @return 실행할 샤드별 인자 (샤드 번호 순)
+     */
+    private Map<Integer, Object[]> route(Method method, Object[] args) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ShardKey key && args[i] != null) {
+                    return switch (key.value()) {
+                        case BOARD_CODE -> Map.of(shardMap.shardOf((String) args[i]), args);
+                        case ID -> Map.of(shardMap.shardOfId((Long) args[i]), args);
+                        case IDS -> partition(args, i);
+                    };
+                }
+            }
+        }
+
+        String name = method.getName();
+        if (args.length == 1 && args[0] != null) {
+            if (ID_METHODS.contains(name) && args[0] instanceof Long id) {
+                return Map.of(shardMap.shardOfId(id), args);
+            }
+            if (ENTITY_METHODS.contains(name) && !(args[0] instanceof Iterable<?>)) {
+                return Map.of(shardOf(args[0]), args);
+            }
+            if (ITERABLE_METHODS.contains(name) && args[0] instanceof Iterable<?>) {
+                return partition(args, 0);
+            }
+        }
+
+        Map<Integer, Object[]> all = new TreeMap<>();
+        for (int shard = 0; shard < shardMap.shardCount(); shard++) {
+            all.put(shard, args);
+        }
+        return all;
+    }
+
+    /**
+     * 식별자(또는 엔티티) 목록 인자를 샤드별로 나눈다. 목록이 비어 있으면 기본 샤드에 그대로 실행한다.
+     */
+    private Map<Integer, Object[]> partition(Object[] args, int index) {
+        Map<Integer, List<Object>> parts = new TreeMap<>();
+        for (Object element : (Iterable<?>) args[index]) {
+            parts.computeIfAbsent(shardOf(element), shard -> new ArrayList<>()).add(element);
+        }
+        if (parts.isEmpty()) {
+            return Map.of(0, args);
+        }
+        Map<Integer, Object[]> targets = new LinkedHashMap<>();
+        parts.forEach((shard, elements) -> {
+            Object[] shardArgs = args.clone();
+            shardArgs[index] = elements;
+            targets.put(shard, shardArgs);
+        });
+        return targets;
+    }
+
+    private int shardOf(Object value) {
+        if (value instanceof Long id) {
+            return shardMap.shardOfId(id);
+        }
+        if (value instanceof Post post) {
+            return post.getId() != null ? shardMap.shardOfId(post.getId()) : shardMap.shardOf(post.getBoard().getCode());
+        }
+        if (value instanceof PostRecommendation recommendation) {
+            return recommendation.getId() != null ? shardMap.shardOfId(recommendation.getId()) : shardOf(recommendation.getPost());
+        }
+        throw new IllegalArgumentException("Cannot determine shard of " + value.getClass().getName());
+    }
+
+    /**
+     * 모든 대상 샤드에 차례로 실행하고 결과를 합친다.
+     */
+    private Object scatter(ProxyMethodInvocation invocation, Map<Integer, Object[]> targets) throws Throwable {
+        Method method = invocation.getMethod();
+        CrossShard crossShard = method.getAnnotation(CrossShard.class);
+        Function<Object, Object> keyed = crossShard == null || crossShard.orderBy().isEmpty()
+                ? Function.identity() : result -> withSortKeys((List<?>) result, crossShard.orderBy());
+        boolean separateTransactions = isWriteTransaction();
+        if (separateTransactions && targets.size() > 1 && isWrite(method)) {
+            throw new IllegalStateException("Cannot write to shards " + targets.keySet() + " in one transaction ("
+                    + method.getName() + "); split the call by shard with ShardMap.groupByShard");
+        }
+
+        List<Object> results = new ArrayList<>();
+        for (Map.Entry<Integer, Object[]> target : targets.entrySet()) {
+            int shard = target.getKey();
+            scatteredCalls[shard].increment();
+            if (separateTransactions) {
+                results.add(inNewTransaction(() -> callShard(shard, invocation, target.getValue(), keyed)));
+            } else {
+                results.add(callShard(shard, invocation, target.getValue(), keyed));
+            }
+        }
+        return merge(method, invocation.getArguments(), crossShard, results);
+    }
+
+    private Object callShard(int shard, ProxyMethodInvocation invocation, Object[] args,
+                             Function<Object, Object> resultMapper) throws Throwable {
+        boolean writing = isWriteTransaction();
+        if (writing) {
+            Integer bound = ShardRoutingDataSource.transactionShard();
+            if (bound != null && bound != shard) {
+                throw new IllegalStateException("Transaction already writes to shard " + bound
+                        + " and cannot access shard " + shard + " (" + invocation.getMethod().getName() + ")");
+            }
+        } else {
+            releaseConnection();
+        }
+        try {
+            // 정렬 기준 값은 샤드 커넥션을 잡고 있는 동안 읽는다. (지연 로딩이 필요한 값도 같은 샤드에서 읽도록)
+            return ShardContext.callOn(shard, () -> resultMapper.apply(invocation.invocableClone(args).proceed()));
+        } finally {
+            if (!writing) {
+                releaseConnection();
+            }
+        }
+    }
+
+    private static boolean isWrite(Method method) {
+        return method.isAnnotationPresent(Modifying.class) || WRITE_METHODS.contains(method.getName());
+    }
+
+    private static boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * 현재 영속성 컨텍스트(OSIV 또는 읽기 전용 트랜잭션)가 잡고 있는 커넥션을 반납한다.
+     * 다음 SQL은 그 시점의 {@link ShardContext}로 커넥션을 다시 얻는다.
+     */
+    private void releaseConnection() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder == null) {
+            return;
+        }
+        LogicalConnectionImplementor connection = holder.getEntityManager().unwrap(SessionImplementor.class)
+                .getJdbcCoordinator().getLogicalConnection();
+        if (connection.isPhysicallyConnected()) {
+            connection.manualDisconnect();
+        }
+    }
+
+    private Object inNewTransaction(ShardContext.ShardWork<Object, Throwable> work) throws Throwable {
+        try {
+            return newTransaction.execute(status -> {
+                try {
+                    return work.call();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new ShardCallException(ex);
+                }
+            });
+        } catch (ShardCallException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static List<SortKeyed> withSortKeys(List<?> elements, String property) {
+        List<SortKeyed> keyed = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            keyed.add(new SortKeyed((Comparable<?>) new BeanWrapperImpl(element).getPropertyValue(property), element));
+        }
+        return keyed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object merge(Method method, Object[] args, CrossShard crossShard, List<Object> results) {
+        Class<?> type = method.getReturnType();
+        if (type == void.class) {
+            return null;
+        }
+        if (Collection.class.isAssignableFrom(type) || type == Iterable.class) {
+            List<Object> merged = new ArrayList<>();
+            results.forEach(result -> merged.addAll((Collection<?>) result));
+            if (crossShard != null) {
+                Comparator<Object> order = crossShard.orderBy().isEmpty()
+                        ? Comparator.nullsLast((a, b) -> ((Comparable) a).compareTo(b))
+                        : Comparator.comparing(element -> ((SortKeyed) element).key(),
+                                Comparator.nullsLast((a, b) -> ((Comparable) a).compareTo(b)));
+                merged.sort(crossShard.descending() ? order.reversed() : order);
+                if (!crossShard.orderBy().isEmpty()) {
+                    merged.replaceAll(element -> ((SortKeyed) element).element());
+                }
+            }
+            int limit = limitOf(args, crossShard);
+            return limit >= 0 && merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+        }
+        if (type == Optional.class) {
+            return results.stream().map(result -> (Optional<?>) result)
+                    .filter(Optional::isPresent).findFirst().orElse(Optional.empty());
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (type == long.class || type == Long.class) {
+            return results.stream().mapToLong(result -> ((Number) result).longValue()).sum();
+        }
+        if (type == int.class || type == Integer.class) {
+            return results.stream().mapToInt(result -> ((Number) result).intValue()).sum();
+        }
+        List<Object> present = results.stream().filter(result -> result != null).toList();
+        if (present.size() > 1) {
+            throw new IllegalStateException("Cannot merge results of " + method.getName() + " from several shards");
+        }
+        return present.isEmpty() ? null : present.get(0);
+    }
+
+    private static int limitOf(Object[] args, CrossShard crossShard) {
+        for (Object arg : args) {
+            if (arg instanceof Limit limit && limit.isLimited()) {
+                return limit.max();
+            }
+        }
+        if (crossShard != null && crossShard.limitParameter() >= 0) {
+            return (Integer) args[crossShard.limitParameter()];
+        }
+        return -1;
+    }
+
+    private record SortKeyed(Comparable<?> key, Object element) {
+    }
+
+    private static class ShardCallException extends RuntimeException {
+        ShardCallException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 기본 샤드 외의 샤드에 스키마를 만들고 시퀀스 시작 값을 샤드 범위로 옮긴다.
+ *
+ * <p>
+ *     Hibernate는 기본 DataSource(기본 샤드)에만 {@code ddl-auto}를 적용하므로, 세션 팩토리를 만들 때 매핑 정보를 받아 두었다가
+ *     나머지 샤드마다 같은 설정으로 스키마 도구를 다시 실행한다.
+ *     이후 각 샤드의 시퀀스를 {@link ShardMap#firstId(int)}부터 시작하게 하여, 발급된 식별자로 샤드를 알 수 있게 한다.
+ *     마지막으로 회원/게시판 행을 복제한다. (게시판 초기화 등 CommandLineRunner보다 먼저 실행된다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Slf4j
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+
+    private final ShardMap shardMap;
+    private final ShardDataSources dataSources;
+    private final ShardReplicator replicator;
+
+    private Metadata metadata;
+    private SessionFactoryImplementor sessionFactory;
+
+    public ShardSchemaInitializer(ShardMap shardMap, ShardDataSources dataSources, ShardReplicator replicator) {
+        this.shardMap = shardMap;
+        this.dataSources = dataSources;
+        this.replicator = replicator;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate metadata was not captured; check hibernate.integrator_provider");
+        }
+        for (int shard = 1; shard < shardMap.shardCount(); shard++) {
+            ShardContext.callOn(shard, () -> {
+                // 샤드의 테이블은 지우지 않고 남겨 둔다. (create-drop의 종료 시 삭제는 기본 샤드에만 적용)
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(),
+                        sessionFactory.getProperties(), action -> { });
+                return null;
+            });
+            restartSequences(shard);
+        }
+        replicator.replicateAll();
+    }
+
+    private void restartSequences(int shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSources.get(shard));
+        long firstId = ShardMap.firstId(shard);
+        List<String> sequences = jdbcTemplate.queryForList("SELECT sequence_name FROM information_schema.sequences " +
+                "WHERE sequence_schema = SCHEMA() AND base_value < ?", String.class, firstId);
+        for (String sequence : sequences) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + firstId);
+        }
+        if (!sequences.isEmpty()) {
+            log.info("Shard {}: sequences {} now start at {}", shard, sequences, firstId);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.event.BoardChangedEvent;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.support.PrefixTrie;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AutocompleteService 클래스
+ * <p>
+ * 회원 이름(username)과 게시판 이름에 대한 입력 중 자동완성(as-you-type) 기능을 제공한다.
+ * 매 키 입력마다 {@code findByUsernameContaining} 같은 LIKE 쿼리를 보내지 않도록,
+ * 애플리케이션 시작 시 전체 이름을 {@link PrefixTrie}에 적재하고 이후에는 메모리에서만 검색한다.
+ * </p>
+ *
+ * <p>
+ * 인덱스 갱신은 다음과 같이 이루어진다:
+ * <ul>
+ *   <li>애플리케이션 기동 완료({@link ApplicationReadyEvent}) 시 DB에서 전체 재구축</li>
+ *   <li>회원 가입/이름 변경/삭제, 게시판 등록 시 트랜잭션 커밋 이후 이벤트를 받아 증분 반영</li>
+ * </ul>
+ * 재구축은 서버가 요청을 받기 시작한 뒤에 실행되므로, 재구축 중에 반영한 변경은 따로 기록해 두었다가 교체 직전에 새 트라이에 다시 반영한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class AutocompleteService {
+
+    /**
+     * 한 번에 반환할 수 있는 최대 결과 개수
+     */
+    public static final int MAX_LIMIT = 50;
+
+    private final MemberRepository memberRepository;
+    private final BoardRepository boardRepository;
+
+    // 재구축 시 새 트라이를 만든 뒤 참조만 교체하여, 구축 중에도 검색이 빈 결과를 돌려주지 않도록 한다.
+    private volatile PrefixTrie usernames = new PrefixTrie();
+    private volatile PrefixTrie boardNames = new PrefixTrie();
+    private final Object rebuildLock = new Object();
+    // 재구축 중에 반영한 회원/게시판 변경 이벤트 (재구축 중이 아니면 null, this로 보호)
+    private List<Object> concurrentChanges;
+    private final Timer lookupTimer;
+
+    public AutocompleteService(MemberRepository memberRepository,
+                               BoardRepository boardRepository,
+                               MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.boardRepository = boardRepository;
+        this.lookupTimer = Timer.builder("autocomplete.lookup")
+                .description("자동완성 접두사 검색 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("autocomplete.usernames.size", this, AutocompleteService::usernameCount)
+                .description("자동완성 인덱스에 적재된 회원 이름 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB에서 전체 회원 이름과 게시판 이름을 읽어 인덱스를 재구축한다.
+     * <p>
+     *     엔티티 대신 이름 컬럼만 조회하여 적재 비용을 줄인다.
+     *     DB 조회와 참조 교체 사이에 반영된 변경은 기존 트라이에만 들어가므로, 따로 기록해 두었다가 교체 직전에 새 트라이에 다시 반영한다.
+     *     (조회 결과에 이미 포함된 변경을 다시 반영해도 결과는 같다.)
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (this) {
+                concurrentChanges = new ArrayList<>();
+            }
+            try {
+                PrefixTrie newUsernames = new PrefixTrie();
+                memberRepository.findActiveUsernames().forEach(newUsernames::add);
+
+                PrefixTrie newBoardNames = new PrefixTrie();
+                boardRepository.findAll().stream()
+                        .map(Board::getName)
+                        .forEach(newBoardNames::add);
+
+                synchronized (this) {
+                    for (Object change : concurrentChanges) {
+                        if (change instanceof MemberChangedEvent event) {
+                            apply(newUsernames, event.oldUsername(), event.newUsername());
+                        } else if (change instanceof BoardChangedEvent event) {
+                            apply(newBoardNames, event.oldName(), event.newName());
+                        }
+                    }
+                    usernames = newUsernames;
+                    boardNames = newBoardNames;
+                }
+            } finally {
+                synchronized (this) {
+                    concurrentChanges = null;
+                }
+            }
+
+                log.info("Autocomplete index built: {} usernames, {} boards, ~{} KiB in {} ms",
+                    usernames.size(), boardNames.size(), usernames.estimateMemoryBytes() / 1024,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 회원 이름을 사전순으로 최대 limit개 반환한다.
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit  최대 결과 개수 (1 ~ {@link #MAX_LIMIT} 범위로 보정)
+     * @return 회원 이름 목록 (DB 조회 없음)
+     */
+    public List<String> suggestUsernames(String prefix, int limit) {
+        return lookupTimer.record(() -> usernames.startsWith(prefix, clamp(limit)));
+    }
+
+    /**
+     * 접두사로 시작하는 게시판 이름을 사전순으로 최대 limit개 반환한다.
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit  최대 결과 개수 (1 ~ {@link #MAX_LIMIT} 범위로 보정)
+     * @return 게시판 이름 목록 (DB 조회 없음)
+     */
+    public List<String> suggestBoardNames(String prefix, int limit) {
+        return lookupTimer.record(() -> boardNames.startsWith(prefix, clamp(limit)));
+    }
+
+    /**
+     * 회원 인덱스의 추정 메모리 사용량(바이트)을 반환한다.
+     */
+    public long estimateUsernameIndexBytes() {
+        return usernames.estimateMemoryBytes();
+    }
+
+    /**
+     * 회원 인덱스에 적재된 이름 수를 반환한다.
+     */
+    public int usernameCount() {
+        return usernames.size();
+    }
+
+    /**
+     * 회원 변경 이벤트를 받아 인덱스를 증분 갱신한다. (트랜잭션 커밋 이후에만 반영)
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onMemberChanged(MemberChangedEvent event) {
+        apply(usernames, event.oldUsername(), event.newUsername());
+        if (concurrentChanges != null) {
+            concurrentChanges.add(event);
+        }
+    }
+
+    /**
+     * 게시판 변경 이벤트를 받아 인덱스를 증분 갱신한다. (트랜잭션 커밋 이후에만 반영)
+     *
+     * @param event 게시판 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        apply(boardNames, event.oldName(), event.newName());
+        if (concurrentChanges != null) {
+            concurrentChanges.add(event);
+        }
+    }
+
+    /**
+     * 이전 이름을 지우고 새 이름을 넣는다. (추가/삭제이면 한쪽이 null)
+     */
+    private static void apply(PrefixTrie trie, String oldName, String newName) {
+        if (oldName != null) {
+            trie.remove(oldName);
+        }
+        if (newName != null) {
+            trie.add(newName);
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -2,9 +2,14 @@ package parksoffice.ojtcommunity.service;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.dto.board.BoardSummaryDto;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.event.BoardChangedEvent;
 import parksoffice.ojtcommunity.exception.BoardNotFoundException;
 import parksoffice.ojtcommunity.repository.board.BoardRepository;
 
@@ -16,6 +21,23 @@ import java.util.List;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 신규 게시판 등록
+     * <p>
+     *     게시판을 저장하고, 자동완성 인덱스 등이 갱신될 수 있도록 {@link BoardChangedEvent}를 발행한다.
+     * </p>
+     *
+     * @param board 등록할 게시판 엔티티
+     * @return 저장된 게시판 엔티티
+     */
+    @Transactional
+    public Board registerBoard(Board board) {
+        Board savedBoard = boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.registered(savedBoard.getId(), savedBoard.getCode(), savedBoard.getName()));
+        return savedBoard;
+    }
 
     /**
      * 전체 게시판 목록을 조회하여 반환한다.
@@ -39,4 +61,26 @@ public class BoardService {
         return boardRepository.findByCode(boardCode)
                 .orElseThrow(() -> new BoardNotFoundException("Board not found with code: " + boardCode));
     }
+
+    /**
+     * 게시판 코드가 존재하는지 확인한다.
+     *
+     * @param boardCode 게시판 코드
+     * @return 존재하면 true
+     */
+    public boolean existsByCode(String boardCode) {
+        return boardRepository.existsByCode(boardCode);
+    }
+
+    /**
+     * 게시판 요약 목록을 커서 기반으로 조회한다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시판 식별자 (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 게시판 요약 페이지
+     */
+    public CursorPage<BoardSummaryDto> getBoardSummaries(Long cursor, int size) {
+        List<BoardSummaryDto> fetched = boardRepository.findSummariesAfter(cursor != null ? cursor : 0L, Limit.of(size + 1));
+        return CursorPage.of(fetched, size, BoardSummaryDto::getId);
+    }
 }
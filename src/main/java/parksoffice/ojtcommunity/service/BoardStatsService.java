@@ -0,0 +1,354 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.BoardStats;
+import parksoffice.ojtcommunity.dto.board.BoardStatsDto;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.repository.board.BoardStatsRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * BoardStatsService 클래스
+ * <p>
+ * 메인 페이지에 표시하는 게시판별 통계(게시글 수, 오늘 작성된 게시글 수, 마지막 활동 시각)를 메모리의 원자적 카운터로 유지한다.
+ * 요청마다 게시판별 COUNT/MAX 집계 쿼리를 실행하지 않고, 게시글 등록/삭제가 커밋될 때 카운터만 증감한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>등록: 이벤트에 게시판 코드와 작성일이 있으므로 커밋한 스레드에서 바로 반영한다. (쿼리 없음)</li>
+ *   <li>삭제: 삭제 트랜잭션에서 읽은 게시판 코드와 작성일이 이벤트에 있으므로, 등록과 같이 커밋한 스레드에서 바로 반영한다. (쿼리 없음)
+ *       재조정 중에 커밋된 삭제는 그 게시판의 변경 수를 올리므로, 집계 결과로 덮어쓰지 않고 다음 재조정으로 미룬다.</li>
+ *   <li>체크포인트: 바뀐 값이 있으면 주기적으로(checkpoint-interval-seconds) board_stats 테이블에 저장한다.
+ *       서버 시작 시에는 이 값을 읽어 집계 쿼리 없이 바로 제공한다.</li>
+ *   <li>재조정: 주기적으로(reconcile-interval-seconds), 그리고 서버 시작 직후 한 번 DB에서 게시판별로 집계하여 차이를 맞춘다.
+ *       이벤트 없이 바뀐 게시글(직접 고친 데이터, 반영에 실패한 이벤트)도 이때 반영된다.
+ *       집계하는 동안 이벤트가 반영된 게시판은 집계 결과가 오래된 것일 수 있으므로 다음 재조정으로 미룬다.</li>
+ * </ul>
+ * 마지막 활동 시각은 가장 최근에 작성된 게시글의 작성일이며, 그 게시글이 삭제되면 다음 재조정에서 맞춰진다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class BoardStatsService {
+
+    private final PostRepository postRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+
+    private final Map<String, Counters> boards = new ConcurrentHashMap<>();
+    // 마지막 체크포인트 이후 반영된 변경 수
+    private final AtomicLong dirty = new AtomicLong();
+
+    private final Counter applied;
+    private final Counter checkpoints;
+    private final Counter reconciled;
+    private final Counter deferred;
+    private final Counter drift;
+
+    public BoardStatsService(PostRepository postRepository,
+                             BoardStatsRepository boardStatsRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${ojt.board-stats.checkpoint-interval-seconds:60}") long checkpointIntervalSeconds,
+                             @Value("${ojt.board-stats.reconcile-interval-seconds:3600}") long reconcileIntervalSeconds,
+                             MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.boardStatsRepository = boardStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::checkpointQuietly,
+                checkpointIntervalSeconds, checkpointIntervalSeconds, TimeUnit.SECONDS);
+        this.executor.scheduleWithFixedDelay(this::reconcileQuietly,
+                reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+
+        this.applied = meterRegistry.counter("board.stats.applied");
+        this.checkpoints = meterRegistry.counter("board.stats.checkpoints");
+        this.reconciled = meterRegistry.counter("board.stats.reconciled");
+        this.deferred = meterRegistry.counter("board.stats.reconcile.deferred");
+        this.drift = meterRegistry.counter("board.stats.drift");
+    }
+
+    /**
+     * 서버 시작 시 체크포인트를 읽어 통계를 채우고, DB와의 재조정을 예약한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            for (BoardStats saved : boardStatsRepository.findAll()) {
+                counters(saved.getBoardCode()).restore(saved);
+            }
+            log.info("Board stats restored from checkpoint for {} board(s)", boards.size());
+        } catch (RuntimeException ex) {
+            log.warn("Board stats checkpoint could not be read: {}", ex.getMessage(), ex);
+        }
+        requestReconcile();
+    }
+
+    /**
+     * 게시판의 현재 통계를 반환한다. (DB 조회 없음)
+     *
+     * @param boardCode 게시판 코드
+     * @return 게시판 통계 (게시글이 없는 게시판은 0)
+     */
+    public BoardStatsDto getStats(String boardCode) {
+        Counters counters = boards.get(boardCode);
+        return counters != null ? counters.snapshot(boardCode, LocalDate.now())
+                : new BoardStatsDto(boardCode, 0, 0, null);
+    }
+
+    /**
+     * 모든 게시판의 현재 통계를 게시판 코드별로 반환한다. (DB 조회 없음)
+     *
+     * @return 게시판 코드별 통계 (게시글이 없었던 게시판은 포함되지 않을 수 있다.)
+     */
+    public Map<String, BoardStatsDto> getAllStats() {
+        LocalDate today = LocalDate.now();
+        Map<String, BoardStatsDto> stats = new HashMap<>();
+        boards.forEach((code, counters) -> stats.put(code, counters.snapshot(code, today)));
+        return stats;
+    }
+
+    /**
+     * 게시글 등록이 커밋되면 게시판 통계에 반영한다.
+     *
+     * @param event 게시글 등록 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostRegistered(PostRegisteredEvent event) {
+        LocalDateTime createdAt = event.createdAt() != null ? event.createdAt() : LocalDateTime.now();
+        counters(event.boardCode()).add(1, createdAt);
+        dirty.incrementAndGet();
+        applied.increment();
+    }
+
+    /**
+     * 게시글 삭제가 커밋되면 게시판 통계에 반영한다.
+     *
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (event.boardCode() == null || event.createdAt() == null) {
+            requestReconcile(); // 어느 게시판인지 알 수 없다.
+            return;
+        }
+        counters(event.boardCode()).add(-1, event.createdAt());
+        dirty.incrementAndGet();
+        applied.increment();
+    }
+
+    /**
+     * 바뀐 값이 있으면 현재 통계를 board_stats 테이블에 저장한다. (호출한 스레드에서 실행)
+     *
+     * @return 저장한 게시판 수 (바뀐 값이 없으면 0)
+     */
+    public synchronized int checkpoint() {
+        long changes = dirty.get();
+        if (changes == 0) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardStats> rows = new ArrayList<>(boards.size());
+        boards.forEach((code, counters) -> rows.add(counters.toCheckpoint(code, now)));
+        transactionTemplate.executeWithoutResult(status -> boardStatsRepository.saveAll(rows));
+        dirty.addAndGet(-changes);
+        checkpoints.increment();
+        return rows.size();
+    }
+
+    /**
+     * DB에서 게시판별 통계를 집계하여 메모리의 값과 맞추고, 체크포인트를 저장한다. (호출한 스레드에서 실행)
+     *
+     * @return 재조정 결과
+     */
+    public synchronized ReconcileResult reconcile() {
+        // 집계 전에 게시판별 변경 수를 기록해 두고, 집계하는 동안 바뀐 게시판은 이번에는 맞추지 않는다.
+        Map<String, Long> versions = new HashMap<>();
+        boards.forEach((code, counters) -> versions.put(code, counters.version.get()));
+        LocalDate today = LocalDate.now();
+        List<BoardStatsDto> actual = postRepository.aggregateStatsByBoard(today.atStartOfDay());
+
+        int corrected = 0;
+        int skipped = 0;
+        long totalDrift = 0;
+        Set<String> seen = new HashSet<>();
+        for (BoardStatsDto stats : actual) {
+            seen.add(stats.getBoardCode());
+            Counters counters = counters(stats.getBoardCode());
+            if (counters.version.get() != versions.getOrDefault(stats.getBoardCode(), 0L)) {
+                skipped++;
+                continue;
+            }
+            long difference = counters.reset(stats, today);
+            totalDrift += difference;
+            corrected += difference != 0 ? 1 : 0;
+        }
+        // 집계 결과에 없는 게시판은 남은 게시글이 없다.
+        for (Map.Entry<String, Counters> entry : boards.entrySet()) {
+            if (seen.contains(entry.getKey())) {
+                continue;
+            }
+            if (entry.getValue().version.get() != versions.getOrDefault(entry.getKey(), 0L)) {
+                skipped++;
+                continue;
+            }
+            long difference = entry.getValue().reset(new BoardStatsDto(entry.getKey(), 0, 0, null), today);
+            totalDrift += difference;
+            corrected += difference != 0 ? 1 : 0;
+        }
+
+        reconciled.increment();
+        deferred.increment(skipped);
+        drift.increment(totalDrift);
+        if (corrected > 0) {
+            log.info("Board stats reconciled: {} board(s) corrected (drift {}), {} deferred", corrected, totalDrift, skipped);
+        }
+        dirty.incrementAndGet();
+        checkpoint();
+        return new ReconcileResult(actual.size(), corrected, skipped, totalDrift);
+    }
+
+    private void requestReconcile() {
+        if (reconcileRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                reconcileRequested.set(false);
+                reconcileQuietly();
+            });
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            // 다음 주기에 다시 재조정한다.
+            log.warn("Board stats reconcile failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (RuntimeException ex) {
+            // 바뀐 값이 남아 있으므로 다음 주기에 다시 저장한다.
+            log.warn("Board stats checkpoint failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * 마지막 값을 저장하고 백그라운드 작업을 멈춘다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        checkpointQuietly();
+    }
+
+    private Counters counters(String boardCode) {
+        return boards.computeIfAbsent(boardCode, code -> new Counters());
+    }
+
+    /**
+     * 재조정 결과
+     *
+     * @param boards    DB에 게시글이 있는 게시판 수
+     * @param corrected 값이 달라 맞춘 게시판 수
+     * @param deferred  집계하는 동안 바뀌어 다음 재조정으로 미룬 게시판 수
+     * @param drift     맞춘 게시글 수 차이의 합 (절댓값)
+     */
+    public record ReconcileResult(int boards, int corrected, int deferred, long drift) {
+    }
+
+    /**
+     * 오늘 작성된 게시글 수 (날짜가 바뀌면 0부터 다시 센다.)
+     */
+    private record Today(LocalDate date, long count) {
+    }
+
+    /**
+     * 게시판 하나의 카운터
+     */
+    private static final class Counters {
+
+        private final AtomicLong posts = new AtomicLong();
+        private final AtomicReference<Today> today = new AtomicReference<>(new Today(LocalDate.MIN, 0));
+        private final AtomicReference<LocalDateTime> lastActivity = new AtomicReference<>();
+        // 반영한 이벤트 수 (재조정 중 변경 감지용)
+        private final AtomicLong version = new AtomicLong();
+
+        void add(int delta, LocalDateTime createdAt) {
+            posts.addAndGet(delta);
+            LocalDate date = createdAt.toLocalDate();
+            today.updateAndGet(current -> {
+                if (current.date().equals(date)) {
+                    return new Today(date, Math.max(0, current.count() + delta));
+                }
+                // 새 날짜의 첫 등록이면 다시 센다. 지난 날짜의 게시글은 오늘 수에 영향을 주지 않는다.
+                return date.isAfter(current.date()) && delta > 0 ? new Today(date, delta) : current;
+            });
+            if (delta > 0) {
+                lastActivity.accumulateAndGet(createdAt, (a, b) -> a == null || b.isAfter(a) ? b : a);
+            }
+            version.incrementAndGet();
+        }
+
+        long reset(BoardStatsDto actual, LocalDate date) {
+            long difference = Math.abs(posts.getAndSet(actual.getPostCount()) - actual.getPostCount());
+            today.set(new Today(date, actual.getTodayCount()));
+            lastActivity.set(actual.getLastActivityAt());
+            return difference;
+        }
+
+        void restore(BoardStats saved) {
+            posts.set(saved.getPostCount());
+            today.set(new Today(saved.getToday() != null ? saved.getToday() : LocalDate.MIN, saved.getTodayCount()));
+            lastActivity.set(saved.getLastActivityAt());
+        }
+
+        BoardStatsDto snapshot(String boardCode, LocalDate date) {
+            Today current = today.get();
+            return new BoardStatsDto(boardCode, posts.get(), current.date().equals(date) ? current.count() : 0,
+                    lastActivity.get());
+        }
+
+        BoardStats toCheckpoint(String boardCode, LocalDateTime now) {
+            Today current = today.get();
+            return new BoardStats(boardCode, posts.get(), current.date(), current.count(), lastActivity.get(), now);
+        }
+    }
+}
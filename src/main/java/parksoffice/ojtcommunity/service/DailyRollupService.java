@@ -0,0 +1,282 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.DailyBoardRollup;
+import parksoffice.ojtcommunity.domain.board.DailyRollupChunk;
+import parksoffice.ojtcommunity.dto.board.DailyBoardAggregate;
+import parksoffice.ojtcommunity.repository.board.DailyBoardRollupRepository;
+import parksoffice.ojtcommunity.repository.board.DailyRollupChunkRepository;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DailyRollupService 클래스
+ * <p>
+ * 게시글 이력을 날짜 단위 청크로 나누어 게시판별 일간 집계(게시글 수, 그 게시글들의 누적 조회수, 추천 수, 활동 작성자 수)를
+ * daily_board_rollups 테이블에 저장한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>청크는 하루이며, 게시글과 추천 정보를 DB에서 GROUP BY로 집계하므로 청크마다 게시판 수만큼의 행만 메모리에 올린다.
+ *       (작성자 수는 하루 안에서 중복을 제거해야 하므로 하루보다 작게 나누지 않는다.)</li>
+ *   <li>청크들은 전용 ForkJoinPool(parallelism)에서 나누어 병렬로 처리한다.
+ *       동시에 처리하는 청크 수가 병렬도로 제한되므로, 기간이 길어도 메모리 사용량은 늘지 않는다.</li>
+ *   <li>청크의 집계 결과와 완료 기록(daily_rollup_chunks)을 한 트랜잭션으로 저장하므로, 중간에 실패하거나 서버가 재시작되어도
+ *       다시 실행하면 완료 기록이 없는 날짜만 이어서 처리한다. 오늘은 아직 끝나지 않은 날이므로 완료로 기록하지 않는다.</li>
+ *   <li>실행이 끝나면 처리한 청크 수와 게시글 수, 초당 처리량을 로그와 메트릭으로 남긴다.</li>
+ * </ul>
+ * 주기적으로(interval-minutes) 최근 며칠(lookback-days)의 완료되지 않은 날짜를 집계한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class DailyRollupService {
+
+    private final PostRepository postRepository;
+    private final PostRecommendationRepository postRecommendationRepository;
+    private final DailyBoardRollupRepository dailyBoardRollupRepository;
+    private final DailyRollupChunkRepository dailyRollupChunkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int lookbackDays;
+    private final ScheduledExecutorService executor;
+
+    private final Counter processedChunks;
+    private final Counter skippedChunks;
+    private final Counter failedChunks;
+    private final Counter rolledUpPosts;
+    private final Timer chunkTimer;
+
+    public DailyRollupService(PostRepository postRepository,
+                              PostRecommendationRepository postRecommendationRepository,
+                              DailyBoardRollupRepository dailyBoardRollupRepository,
+                              DailyRollupChunkRepository dailyRollupChunkRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ojt.daily-rollup.parallelism:4}") int parallelism,
+                              @Value("${ojt.daily-rollup.lookback-days:7}") int lookbackDays,
+                              @Value("${ojt.daily-rollup.interval-minutes:60}") long intervalMinutes,
+                              MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.postRecommendationRepository = postRecommendationRepository;
+        this.dailyBoardRollupRepository = dailyBoardRollupRepository;
+        this.dailyRollupChunkRepository = dailyRollupChunkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = Math.max(1, parallelism);
+        this.lookbackDays = Math.max(1, lookbackDays);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "daily-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::rollupRecentQuietly, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+
+        this.processedChunks = meterRegistry.counter("rollup.chunks", "result", "processed");
+        this.skippedChunks = meterRegistry.counter("rollup.chunks", "result", "skipped");
+        this.failedChunks = meterRegistry.counter("rollup.chunks", "result", "failed");
+        this.rolledUpPosts = meterRegistry.counter("rollup.posts");
+        this.chunkTimer = Timer.builder("rollup.chunk.duration")
+                .description("하루(청크)의 게시판별 집계를 계산하고 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기간 내의 날짜를 청크로 나누어 병렬로 집계한다. (호출한 스레드는 작업이 끝날 때까지 기다린다.)
+     * <p>실패한 청크는 완료로 기록하지 않으므로 다음 실행에서 다시 처리한다.</p>
+     *
+     * @param from  시작 날짜 (포함)
+     * @param to    종료 날짜 (포함)
+     * @param force true이면 이미 완료된 날짜도 다시 집계한다.
+     * @return 실행 결과
+     */
+    public synchronized RollupResult rollup(LocalDate from, LocalDate to, boolean force) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to: " + from + " > " + to);
+        }
+        long startedAt = System.nanoTime();
+        Set<LocalDate> completed = force ? Set.of() : new HashSet<>(dailyRollupChunkRepository.findCompletedDays(from, to));
+        List<LocalDate> pending = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (!completed.contains(day)) {
+                pending.add(day);
+            }
+        }
+        skippedChunks.increment(completed.size());
+
+        Tally tally = new Tally();
+        if (!pending.isEmpty()) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new ChunkTask(pending, 0, pending.size(), tally));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        RollupResult result = new RollupResult(pending.size() + completed.size(), tally.processed.get(),
+                completed.size(), tally.failed.get(), tally.posts.get(), Duration.ofNanos(System.nanoTime() - startedAt));
+        if (!pending.isEmpty()) {
+            log.info("Daily rollup {}..{}: {} chunk(s) processed, {} skipped, {} failed, {} post(s) in {} ms "
+                            + "({} chunks/s, {} posts/s, parallelism {})",
+                    from, to, result.processed(), result.skipped(), result.failed(), result.posts(),
+                    result.elapsed().toMillis(), String.format("%.1f", result.chunksPerSecond()),
+                    String.format("%.1f", result.postsPerSecond()), parallelism);
+        }
+        return result;
+    }
+
+    /**
+     * 하루(청크)의 게시판별 집계를 계산하고, 그 날짜의 기존 집계를 바꾼다.
+     *
+     * @return 집계한 게시글 수
+     */
+    private long rollupChunk(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        Map<String, DailyBoardRollup> rows = new TreeMap<>();
+        for (DailyBoardAggregate posts : postRepository.aggregateDailyByBoard(start, end)) {
+            rows.put(posts.getBoardCode(), new DailyBoardRollup(day, posts.getBoardCode(),
+                    posts.getPosts(), posts.getLifetimeViews(), 0, posts.getActiveAuthors()));
+        }
+        for (DailyBoardAggregate recommendations : postRecommendationRepository.aggregateDailyByBoard(start, end)) {
+            rows.computeIfAbsent(recommendations.getBoardCode(), code -> new DailyBoardRollup(day, code, 0, 0, 0, 0))
+                    .setRecommendations(recommendations.getRecommendations());
+        }
+        long posts = rows.values().stream().mapToLong(DailyBoardRollup::getPosts).sum();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dailyBoardRollupRepository.deleteByDay(day);
+            dailyBoardRollupRepository.saveAll(rows.values());
+            if (day.isBefore(LocalDate.now())) {
+                dailyRollupChunkRepository.save(new DailyRollupChunk(day, posts, LocalDateTime.now()));
+            }
+        });
+        return posts;
+    }
+
+    private void rollupRecentQuietly() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            rollup(yesterday.minusDays(lookbackDays - 1), yesterday, false);
+        } catch (RuntimeException ex) {
+            // 완료되지 않은 날짜는 다음 주기에 다시 처리한다.
+            log.warn("Daily rollup failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * 실행 중인 작업을 멈춘다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 일간 집계 실행 결과
+     *
+     * @param chunks    기간 내의 청크(날짜) 수
+     * @param processed 집계한 청크 수
+     * @param skipped   이미 완료되어 건너뛴 청크 수
+     * @param failed    실패한 청크 수 (다음 실행에서 다시 처리)
+     * @param posts     집계한 게시글 수
+     * @param elapsed   걸린 시간
+     */
+    public record RollupResult(int chunks, int processed, int skipped, int failed, long posts, Duration elapsed) {
+
+        /**
+         * @return 초당 처리한 청크 수
+         */
+        public double chunksPerSecond() {
+            return perSecond(processed);
+        }
+
+        /**
+         * @return 초당 집계한 게시글 수
+         */
+        public double postsPerSecond() {
+            return perSecond(posts);
+        }
+
+        private double perSecond(long count) {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return count * 1_000_000_000.0 / nanos;
+        }
+    }
+
+    /**
+     * 청크 처리 결과를 모으는 카운터 (여러 작업 스레드가 함께 갱신한다.)
+     */
+    private static final class Tally {
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicLong posts = new AtomicLong();
+    }
+
+    /**
+     * 청크 목록을 반으로 나누어 처리하는 fork/join 작업 (청크가 하나 남으면 직접 처리한다.)
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final List<LocalDate> days;
+        private final int from;
+        private final int to;
+        private final Tally tally;
+
+        private ChunkTask(List<LocalDate> days, int from, int to, Tally tally) {
+            this.days = days;
+            this.from = from;
+            this.to = to;
+            this.tally = tally;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(days, from, middle, tally), new ChunkTask(days, middle, to, tally));
+                return;
+            }
+            LocalDate day = days.get(from);
+            try {
+                long posts = chunkTimer.recordCallable(() -> rollupChunk(day));
+                tally.processed.incrementAndGet();
+                tally.posts.addAndGet(posts);
+                processedChunks.increment();
+                rolledUpPosts.increment(posts);
+            } catch (Exception ex) {
+                // 다른 청크는 계속 처리하고, 이 날짜는 완료로 기록되지 않았으므로 다음 실행에서 다시 처리한다.
+                tally.failed.incrementAndGet();
+                failedChunks.increment();
+                log.warn("Daily rollup of {} failed: {}", day, ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.dto.board.BoardListVersionDto;
+import parksoffice.ojtcommunity.dto.board.PostVersionDto;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
+import parksoffice.ojtcommunity.event.OutboxConsumer;
+import parksoffice.ojtcommunity.event.OutboxMessage;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
+import parksoffice.ojtcommunity.support.SingleFlight;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HotLookupService 클래스
+ * <p>
+ * 게시글 상세/게시판 목록 화면이 요청마다 실행하는 조회를 {@link SingleFlight}로 감싸,
+ * 같은 게시글이나 게시판에 대한 동시 요청이 DB 조회 하나를 함께 기다리도록 한다. (인기 글에 요청이 몰리는 경우)
+ * </p>
+ *
+ * <p>
+ * 결과를 캐시하지 않으므로 조회가 끝난 뒤의 요청은 항상 최신 값을 읽는다.
+ * 기다리는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖(컨트롤러)에서 호출하며, 실제 조회는 PostService/BoardService가
+ * 각자의 읽기 전용 트랜잭션에서 수행한다. 반환된 엔티티는 여러 요청이 함께 사용하므로 화면 출력 용도로만 써야 한다.
+ * (게시글 상세는 작성자와 게시판을 함께 조회하므로 템플릿에서 지연 로딩이 일어나지 않는다.)
+ * </p>
+ *
+ * <p>
+ * 게시글 등록/수정/삭제와 회원 이름 변경이 커밋되면 해당 키의 진행 중인 조회를 떼어 내어({@link SingleFlight#invalidate}),
+ * 커밋 이후에 들어온 요청이 커밋 전에 시작된 조회의 결과를 받지 않도록 한다.
+ * 게시글 변경은 {@link OutboxConsumer}로도 한 번 더 받아, 커밋 직후 처리가 빠진 변경의 조회도 떼어 낸다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+public class HotLookupService implements OutboxConsumer {
+
+    private final PostService postService;
+    private final BoardService boardService;
+
+    private final SingleFlight<Long, Optional<PostVersionDto>> postVersions;
+    private final SingleFlight<Long, Post> postDetails;
+    private final SingleFlight<String, Optional<BoardListVersionDto>> boardListVersions;
+    private final SingleFlight<String, Board> boards;
+
+    public HotLookupService(PostService postService,
+                            BoardService boardService,
+                            @Value("${ojt.single-flight.max-wait-millis:500}") long maxWaitMillis,
+                            MeterRegistry meterRegistry) {
+        this.postService = postService;
+        this.boardService = boardService;
+        this.postVersions = register(meterRegistry, "post.version", new SingleFlight<>(maxWaitMillis, TimeUnit.MILLISECONDS));
+        this.postDetails = register(meterRegistry, "post.detail", new SingleFlight<>(maxWaitMillis, TimeUnit.MILLISECONDS));
+        this.boardListVersions = register(meterRegistry, "board.list.version", new SingleFlight<>(maxWaitMillis, TimeUnit.MILLISECONDS));
+        this.boards = register(meterRegistry, "board", new SingleFlight<>(maxWaitMillis, TimeUnit.MILLISECONDS));
+    }
+
+    private static <K, V> SingleFlight<K, V> register(MeterRegistry meterRegistry, String lookup, SingleFlight<K, V> flight) {
+        FunctionCounter.builder("single.flight.loads", flight, SingleFlight::loadCount)
+                .tag("lookup", lookup)
+                .description("실제로 실행된 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("single.flight.shared", flight, SingleFlight::sharedCount)
+                .tag("lookup", lookup)
+                .description("진행 중인 조회의 결과를 함께 받은 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("single.flight.timeouts", flight, SingleFlight::timeoutCount)
+                .tag("lookup", lookup)
+                .description("기다리다 시간이 초과되어 직접 조회한 호출 수")
+                .register(meterRegistry);
+        return flight;
+    }
+
+    /**
+     * 게시글 등록이 커밋되면 게시판 목록 버전 조회를 새로 시작하게 한다.
+     *
+     * @param event 게시글 등록 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostRegistered(PostRegisteredEvent event) {
+        boardListVersions.invalidate(event.boardCode());
+    }
+
+    /**
+     * 게시글 수정이 커밋되면 게시글과 게시판 목록 조회를 새로 시작하게 한다.
+     *
+     * @param event 게시글 수정 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        postVersions.invalidate(event.postId());
+        postDetails.invalidate(event.postId());
+        boardListVersions.invalidate(event.boardCode());
+    }
+
+    /**
+     * 게시글 삭제가 커밋되면 게시글과 게시판 목록 조회를 새로 시작하게 한다.
+     *
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        postVersions.invalidate(event.postId());
+        postDetails.invalidate(event.postId());
+        if (event.boardCode() != null) {
+            boardListVersions.invalidate(event.boardCode());
+        } else {
+            boardListVersions.invalidateAll();
+        }
+    }
+
+    /**
+     * 회원 이름이 바뀌면 게시글/목록 화면에 표시되는 작성자 이름이 달라지므로, 게시글과 목록 버전 조회를 모두 새로 시작하게 한다.
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.oldUsername() != null && event.newUsername() != null) {
+            postVersions.invalidateAll();
+            postDetails.invalidateAll();
+            boardListVersions.invalidateAll();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "hot-lookup";
+    }
+
+    /**
+     * 아웃박스로 전달된 게시글 변경으로 진행 중인 조회를 다시 떼어 낸다.
+     *
+     * @param message 아웃박스 메시지
+     */
+    @Override
+    public void accept(OutboxMessage message) {
+        switch (message.event()) {
+            case PostRegisteredEvent event -> onPostRegistered(event);
+            case PostUpdatedEvent event -> onPostUpdated(event);
+            case PostDeletedEvent event -> onPostDeleted(event);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 게시글 버전 정보를 조회한다. {@link PostService#getPostVersion(Long)} 참고
+     */
+    public Optional<PostVersionDto> getPostVersion(Long postId) {
+        return postVersions.load(postId, () -> postService.getPostVersion(postId));
+    }
+
+    /**
+     * 상세 화면용 게시글을 조회한다. {@link PostService#getPostDetail(Long)} 참고
+     */
+    public Post getPostDetail(Long postId) {
+        return postDetails.load(postId, () -> postService.getPostDetail(postId));
+    }
+
+    /**
+     * 게시판 목록 버전 정보를 조회한다. {@link PostService#getBoardListVersion(String)} 참고
+     */
+    public Optional<BoardListVersionDto> getBoardListVersion(String boardCode) {
+        return boardListVersions.load(boardCode, () -> postService.getBoardListVersion(boardCode));
+    }
+
+    /**
+     * 게시판을 조회한다. {@link BoardService#getBoardByCode(String)} 참고
+     */
+    public Board getBoardByCode(String boardCode) {
+        return boards.load(boardCode, () -> boardService.getBoardByCode(boardCode));
+    }
+}
@@ -0,0 +1,203 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.shard.ShardMap;
+import parksoffice.ojtcommunity.support.MappedJournal;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InteractionJournal 클래스
+ * <p>
+ * 게시글 조회 같은 빈번한 상호작용 이벤트를 요청마다 DB에 쓰지 않고, 메모리 매핑 저널({@link MappedJournal})에 기록한 뒤
+ * 백그라운드에서 모아 반영한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>기록: 요청 스레드는 저널의 매핑된 버퍼에 32바이트를 쓰기만 하므로, 락이나 객체 생성, DB 접근이 없다.</li>
+ *   <li>반영: 체크포인트 이후 이벤트를 묶음(batch-size)으로 읽어 게시글별로 합산하고,
+ *       늘릴 값이 같은 게시글끼리 {@code UPDATE ... WHERE id IN (...)} 한 번으로 조회수를 반영한 뒤 체크포인트를 저장한다.</li>
+ *   <li>재시작: 저널 파일은 프로세스가 죽어도 남으므로, 다시 시작하면 체크포인트 이후 이벤트부터 이어서 반영한다.
+ *       반영 커밋과 체크포인트 저장 사이에 죽은 경우에만 마지막 한 묶음이 다시 반영될 수 있다. (조회수는 근사값으로 취급)</li>
+ *   <li>샤딩: 한 묶음의 조회수는 샤드마다 따로 커밋한다. 일부 샤드만 커밋된 뒤 실패하면 체크포인트가 저장되지 않으므로,
+ *       다음 실행에서 그 묶음이 다시 반영되어 이미 커밋된 샤드의 조회수가 한 번 더 늘어날 수 있다.</li>
+ *   <li>정리: 반영이 끝난 세그먼트 파일은 반영 후 바로 지운다.</li>
+ * </ul>
+ * 추천은 회원당 한 번이라는 제약을 요청 시점에 확인해야 하므로 기존처럼 트랜잭션에서 바로 저장하고, 이 저널에는 기록하지 않는다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class InteractionJournal {
+
+    /**
+     * 저널에 기록하는 상호작용 종류 (저널 파일에 코드 값으로 저장되므로 코드를 바꾸지 않는다.)
+     */
+    public enum Type {
+        VIEW(1);
+
+        private final int code;
+
+        Type(int code) {
+            this.code = code;
+        }
+    }
+
+    private final MappedJournal journal;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+
+    private final Counter recorded;
+    private final Counter applied;
+    private final Counter compacted;
+
+    public InteractionJournal(PostRepository postRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ojt.interaction-journal.directory:${user.home}/ojtcommunity-journal}") String directory,
+                              @Value("${ojt.interaction-journal.segment-records:1048576}") int segmentRecords,
+                              @Value("${ojt.interaction-journal.batch-size:10000}") int batchSize,
+                              @Value("${ojt.interaction-journal.apply-interval-millis:1000}") long applyIntervalMillis,
+                              MeterRegistry meterRegistry) {
+        this.journal = new MappedJournal(Path.of(directory), segmentRecords);
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interaction-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 첫 실행이 이전 실행에서 반영하지 못한 이벤트를 이어서 반영한다.
+        this.executor.scheduleWithFixedDelay(this::applyQuietly, applyIntervalMillis, applyIntervalMillis, TimeUnit.MILLISECONDS);
+
+        this.recorded = meterRegistry.counter("interaction.journal.recorded");
+        this.applied = meterRegistry.counter("interaction.journal.applied");
+        this.compacted = meterRegistry.counter("interaction.journal.compacted.segments");
+        Gauge.builder("interaction.journal.lag", journal, j -> j.written() - j.checkpoint())
+                .description("기록되었지만 아직 DB에 반영되지 않은 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("interaction.journal.segments", journal, MappedJournal::segmentCount)
+                .register(meterRegistry);
+        log.info("Interaction journal opened at {} (checkpoint {}, written {})", directory, journal.checkpoint(), journal.written());
+    }
+
+    /**
+     * 게시글 조회를 기록한다. (요청 스레드에서 호출하며, DB에 접근하지 않는다.)
+     *
+     * @param postId   조회한 게시글 식별자
+     * @param memberId 조회한 회원 식별자 (비회원이면 null)
+     */
+    public void recordView(long postId, Long memberId) {
+        journal.append(postId, memberId != null ? memberId : 0L, Type.VIEW.code, System.currentTimeMillis());
+        recorded.increment();
+    }
+
+    /**
+     * 체크포인트 이후의 이벤트를 모두 DB에 반영하고, 반영이 끝난 세그먼트를 지운다. (호출한 스레드에서 실행)
+     *
+     * @return 반영 결과
+     */
+    public synchronized ApplyResult apply() {
+        long events = 0;
+        int statements = 0;
+        long from = journal.checkpoint();
+        while (true) {
+            Map<Long, Integer> views = new HashMap<>();
+            long[] count = new long[1];
+            long to = journal.read(from, batchSize, (sequence, postId, memberId, type, timestamp) -> {
+                if (type == Type.VIEW.code) {
+                    views.merge(postId, 1, Integer::sum);
+                }
+                count[0]++;
+            });
+            if (to == from) {
+                break;
+            }
+            statements += applyViews(views);
+            journal.checkpoint(to);
+            events += count[0];
+            if (to - from < batchSize) {
+                break;
+            }
+            from = to;
+        }
+        journal.sync();
+        int deletedSegments = journal.compact();
+
+        applied.increment(events);
+        compacted.increment(deletedSegments);
+        if (events > 0) {
+            log.debug("Applied {} interaction event(s) with {} statement(s)", events, statements);
+        }
+        return new ApplyResult(events, statements, deletedSegments);
+    }
+
+    /**
+     * 늘릴 조회수가 같은 게시글끼리 묶어 반영한다. 샤드마다 한 트랜잭션에서 반영한다.
+     * (여러 샤드에 쓰는 UPDATE는 한 트랜잭션에서 실행할 수 없다.)
+     *
+     * @return 실행한 UPDATE 문 수
+     */
+    private int applyViews(Map<Long, Integer> views) {
+        int statements = 0;
+        for (List<Map.Entry<Long, Integer>> shardViews : ShardMap.groupByShard(views.entrySet(), Map.Entry::getKey)) {
+            Map<Integer, List<Long>> byDelta = new TreeMap<>();
+            shardViews.forEach(view -> byDelta.computeIfAbsent(view.getValue(), key -> new ArrayList<>()).add(view.getKey()));
+            transactionTemplate.executeWithoutResult(status ->
+                    byDelta.forEach((delta, postIds) -> postRepository.addViewCount(postIds, delta)));
+            statements += byDelta.size();
+        }
+        return statements;
+    }
+
+    private void applyQuietly() {
+        try {
+            apply();
+        } catch (RuntimeException ex) {
+            // 체크포인트 이후 이벤트는 저널에 남아 있으므로 다음 실행에서 다시 반영한다.
+            log.warn("Interaction journal apply failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * 남은 이벤트를 반영하고 저널을 닫는다. (반영하지 못한 이벤트는 다음 시작 시 반영된다.)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        applyQuietly();
+        journal.close();
+    }
+
+    /**
+     * 반영 결과
+     *
+     * @param events     반영한 이벤트 수
+     * @param statements 실행한 UPDATE 문 수
+     * @param segments   지운 세그먼트 파일 수
+     */
+    public record ApplyResult(long events, int statements, int segments) {
+    }
+}
@@ -0,0 +1,167 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.dto.member.MemberActivityDto;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * MemberActivityService 클래스
+ * <p>
+ * 회원 프로필에 표시하는 활동(작성한 게시글) 목록을 최신순, (작성일, 식별자) 커서 기반으로 조회한다.
+ * 작성자 이름으로 회원 테이블을 조인하지 않고, 회원 식별자로 (member_id, created_at) 인덱스를 바로 사용하므로
+ * 작성한 게시글이 많은 회원도 페이지 조회 비용이 일정하다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>대부분의 조회는 첫 페이지이므로, 회원별 첫 페이지를 정해진 개수(cache-size)까지 메모리에 보관한다. (초과 시 LRU 제거)</li>
+ *   <li>회원이 게시글을 등록하면 그 회원의 첫 페이지를 지운다.</li>
+ *   <li>게시글 수정/삭제 이벤트는 작성자를 담고 있지 않으므로, 그 게시글을 담은 첫 페이지를 찾아 지운다. (보관 개수가 작다)</li>
+ *   <li>조회하는 동안 위 변경이 커밋되면 조회 결과가 오래된 것일 수 있으므로 보관하지 않는다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+public class MemberActivityService {
+
+    private final PostRepository postRepository;
+    private final int pageSize;
+    private final int cacheSize;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동하므로, 맨 앞이 가장 오래 사용되지 않은 항목이 된다.
+    private final LinkedHashMap<Long, CursorPage<MemberActivityDto>> firstPages = new LinkedHashMap<>(64, 0.75f, true);
+    // 커밋된 게시글 변경 이벤트 수. 첫 페이지 조회 도중 바뀌면 보관하지 않는다.
+    private long changeSequence;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public MemberActivityService(PostRepository postRepository,
+                                 @Value("${ojt.member-activity.page-size:20}") int pageSize,
+                                 @Value("${ojt.member-activity.cache-size:1000}") int cacheSize,
+                                 MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.pageSize = Math.max(1, pageSize);
+        this.cacheSize = Math.max(0, cacheSize);
+        this.hits = meterRegistry.counter("member.activity.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("member.activity.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("member.activity.cache.evictions");
+        Gauge.builder("member.activity.cache.entries", this, MemberActivityService::cachedPageCount)
+                .description("보관 중인 회원별 활동 목록 첫 페이지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 활동 목록 한 페이지를 조회한다.
+     * <p>다음 페이지는 반환한 페이지의 마지막 항목의 작성일과 {@link CursorPage#getNextCursor()}(식별자)로 조회한다.</p>
+     * <p>캐시에서 반환할 때 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하며, 조회는 쿼리 하나로 끝난다.</p>
+     *
+     * @param memberId 회원 식별자
+     * @param before   이전 페이지 마지막 게시글의 작성일 (첫 페이지는 null)
+     * @param beforeId 이전 페이지 마지막 게시글의 식별자 (첫 페이지는 null)
+     * @return 활동 목록 페이지
+     */
+    public CursorPage<MemberActivityDto> getActivity(Long memberId, LocalDateTime before, Long beforeId) {
+        if (before != null && beforeId != null) {
+            return CursorPage.of(postRepository.findActivityByMemberIdBefore(memberId, before, beforeId, Limit.of(pageSize + 1)),
+                    pageSize, MemberActivityDto::getId);
+        }
+
+        long sequence;
+        synchronized (this) {
+            CursorPage<MemberActivityDto> cached = firstPages.get(memberId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            sequence = changeSequence;
+        }
+        misses.increment();
+
+        CursorPage<MemberActivityDto> page = CursorPage.of(
+                postRepository.findActivityByMemberId(memberId, Limit.of(pageSize + 1)), pageSize, MemberActivityDto::getId);
+        page = new CursorPage<>(List.copyOf(page.getItems()), page.getNextCursor());
+        synchronized (this) {
+            if (sequence == changeSequence && cacheSize > 0) {
+                firstPages.put(memberId, page);
+                if (firstPages.size() > cacheSize) {
+                    firstPages.pollFirstEntry();
+                    evictions.increment();
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 게시글 등록이 커밋되면 작성자의 첫 페이지를 지운다.
+     *
+     * @param event 게시글 등록 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onPostRegistered(PostRegisteredEvent event) {
+        changeSequence++;
+        firstPages.remove(event.authorId());
+    }
+
+    /**
+     * 게시글 수정(제목 변경)이 커밋되면 그 게시글을 담은 첫 페이지를 지운다.
+     *
+     * @param event 게시글 수정 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        evictContaining(event.postId());
+    }
+
+    /**
+     * 게시글 삭제가 커밋되면 그 게시글을 담은 첫 페이지를 지운다.
+     *
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        evictContaining(event.postId());
+    }
+
+    /**
+     * 회원 탈퇴 처리 등으로 회원이 바뀌면 그 회원의 첫 페이지를 지운다. (탈퇴 처리는 게시글 삭제 이벤트를 발행하지 않는다.)
+     *
+     * @param event 회원 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMemberChanged(MemberChangedEvent event) {
+        changeSequence++;
+        firstPages.remove(event.memberId());
+    }
+
+    /**
+     * 현재 보관 중인 첫 페이지 수
+     */
+    public synchronized int cachedPageCount() {
+        return firstPages.size();
+    }
+
+    private synchronized void evictContaining(Long postId) {
+        changeSequence++;
+        firstPages.values().removeIf(page -> page.getItems().stream().anyMatch(item -> item.getId().equals(postId)));
+    }
+}
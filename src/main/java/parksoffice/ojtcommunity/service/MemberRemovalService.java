@@ -0,0 +1,303 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.dto.board.PostActivityView;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.repository.shard.ShardMap;
+import parksoffice.ojtcommunity.support.RingBuffer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * MemberRemovalService 클래스
+ * <p>
+ * 탈퇴(비활성화)한 회원의 게시글과 추천 정보를 백그라운드에서 정리한 뒤 회원 행을 삭제한다.
+ * 탈퇴 요청은 회원 행에 탈퇴 시각만 기록하고 바로 끝나며(MemberService#deleteMemberById), 나머지는 이 서비스가 처리한다.
+ * </p>
+ *
+ * <p>
+ * 회원 한 명의 정리 순서는 다음과 같다. 모든 단계는 묶음(chunk-size) 단위의 일괄 UPDATE/DELETE이며 묶음마다 커밋한다.
+ * 샤딩을 사용하면 묶음을 다시 샤드별로 나누어 샤드마다 커밋한다. (소프트 삭제와 그 삭제 이벤트는 같은 트랜잭션으로 커밋된다.)
+ * <ol>
+ *   <li>회원의 게시글을 소프트 삭제하고 게시글마다 {@link PostDeletedEvent}를 발행한다. (즉시 조회에서 제외되고,
+ *       커밋 이후 검색 캐시, 근접 중복 색인, 게시판 통계 등이 단건 삭제와 같이 정리된다.)</li>
+ *   <li>회원이 다른 게시글에 남긴 추천 정보를 삭제하고, 추천 수가 바뀐 게시글을 추천자 비트맵에서 무효화한다.</li>
+ *   <li>{@link PostPurger}로 소프트 삭제된 게시글과 그 추천 정보를 삭제한다.</li>
+ *   <li>회원을 참조하는 행이 더 이상 없으면 회원 행을 삭제한다. 남아 있으면(정리 중 새 글 등) 다음 실행에서 처음부터 반복한다.</li>
+ * </ol>
+ * 진행 상태는 DB(deactivated_at과 남은 행)로 판단하므로, 서버가 중간에 종료되어도 시작 시와 주기적인 실행에서 이어서 처리한다.
+ * 진행 상황은 {@link #progress()}와 /actuator/memberremovals, 메트릭(member.removal.*)으로 확인한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class MemberRemovalService {
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final PostRecommendationRepository postRecommendationRepository;
+    private final PostPurger postPurger;
+    private final RecommenderIndex recommenderIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+    private final RingBuffer<RemovalProgress> completed = new RingBuffer<>(64);
+
+    private final Counter removedPosts;
+    private final Counter removedRecommendations;
+    private final Counter removedMembers;
+
+    public MemberRemovalService(MemberRepository memberRepository,
+                                PostRepository postRepository,
+                                PostRecommendationRepository postRecommendationRepository,
+                                PostPurger postPurger,
+                                RecommenderIndex recommenderIndex,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${ojt.member-removal.chunk-size:500}") int chunkSize,
+                                @Value("${ojt.member-removal.interval-seconds:300}") long intervalSeconds,
+                                MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.postRepository = postRepository;
+        this.postRecommendationRepository = postRecommendationRepository;
+        this.postPurger = postPurger;
+        this.recommenderIndex = recommenderIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-removal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::runQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+
+        this.removedPosts = meterRegistry.counter("member.removal.posts");
+        this.removedRecommendations = meterRegistry.counter("member.removal.recommendations");
+        this.removedMembers = meterRegistry.counter("member.removal.completed");
+        Gauge.builder("member.removal.running", running, Map::size)
+                .description("정리 중인 탈퇴 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원 탈퇴가 커밋되면 정리 작업을 예약한다.
+     *
+     * @param event 회원 변경 이벤트 (삭제인 경우만 처리)
+     */
+    @TransactionalEventListener(condition = "#event.newUsername() == null")
+    public void onMemberDeleted(MemberChangedEvent event) {
+        requestRun();
+    }
+
+    /**
+     * 서버 시작 시, 이전 실행에서 끝내지 못한 탈퇴 처리를 이어서 진행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        requestRun();
+    }
+
+    private void requestRun() {
+        if (requested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                requested.set(false);
+                runQuietly();
+            });
+        }
+    }
+
+    /**
+     * 탈퇴한 모든 회원을 정리한다. (호출한 스레드에서 실행)
+     *
+     * @return 회원 행까지 삭제된 회원 수
+     */
+    public synchronized int removeDeactivatedMembers() {
+        int removed = 0;
+        for (Long memberId : memberRepository.findDeactivatedIds()) {
+            if (remove(memberId)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private boolean remove(Long memberId) {
+        Progress progress = running.computeIfAbsent(memberId, Progress::new);
+
+        // 1. 회원의 게시글 소프트 삭제
+        progress.phase = Phase.POSTS;
+        LocalDateTime now = LocalDateTime.now();
+        int count;
+        do {
+            count = 0;
+            List<PostActivityView> posts = postRepository.findActivitiesByAuthorId(memberId, Limit.of(chunkSize));
+            for (List<PostActivityView> shardPosts : ShardMap.groupByShard(posts, PostActivityView::getId)) {
+                List<Long> postIds = shardPosts.stream().map(PostActivityView::getId).toList();
+                int deleted = inTransaction(() -> {
+                    int softDeleted = postRepository.softDeleteByIds(postIds, now);
+                    // 단건 삭제와 같은 이벤트를 발행하여, 커밋 이후 각 리스너와 아웃박스 소비자가 정리하게 한다.
+                    shardPosts.forEach(post -> eventPublisher.publishEvent(
+                            new PostDeletedEvent(post.getId(), post.getBoardCode(), post.getCreatedAt())));
+                    return softDeleted;
+                });
+                postIds.forEach(recommenderIndex::evict);
+                count += deleted;
+            }
+            progress.posts += count;
+            removedPosts.increment(count);
+        } while (count > 0);
+
+        // 2. 회원이 남긴 추천 정보 삭제
+        progress.phase = Phase.RECOMMENDATIONS;
+        do {
+            count = 0;
+            List<Long> recommendationIds = postRecommendationRepository.findIdsByMemberId(memberId, Limit.of(chunkSize));
+            for (List<Long> ids : ShardMap.groupByShard(recommendationIds, Long::longValue)) {
+                List<Long> affectedPostIds = new ArrayList<>();
+                count += inTransaction(() -> {
+                    affectedPostIds.addAll(postRecommendationRepository.findPostIdsByIds(ids));
+                    return postRecommendationRepository.purgeByIds(ids);
+                });
+                // 커밋 이후 무효화하여, 다음 조회 시 DB에서 다시 적재되도록 한다.
+                affectedPostIds.forEach(recommenderIndex::evict);
+            }
+            progress.recommendations += count;
+            removedRecommendations.increment(count);
+        } while (count > 0);
+
+        // 3. 소프트 삭제된 게시글과 그 추천 정보 삭제
+        progress.phase = Phase.PURGE;
+        postPurger.purge();
+
+        // 4. 참조가 없으면 회원 행 삭제
+        progress.phase = Phase.MEMBER;
+        boolean deleted = inTransaction(() -> memberRepository.deleteIfUnreferenced(memberId)) > 0;
+        if (!deleted) {
+            log.info("Member {} still has references; removal will continue on the next run", memberId);
+            return false;
+        }
+        progress.phase = Phase.DONE;
+        running.remove(memberId);
+        completed.add(progress.snapshot(0, 0));
+        removedMembers.increment();
+        log.info("Removed member {} ({} post(s), {} recommendation(s))", memberId, progress.posts, progress.recommendations);
+        return true;
+    }
+
+    private int inTransaction(Supplier<Integer> work) {
+        Integer result = transactionTemplate.execute(status -> work.get());
+        return result != null ? result : 0;
+    }
+
+    private void runQuietly() {
+        try {
+            removeDeactivatedMembers();
+        } catch (RuntimeException ex) {
+            // 다음 실행에서 DB 상태를 기준으로 이어서 처리한다.
+            log.warn("Member removal failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * 탈퇴 처리 진행 상황을 반환한다.
+     * <p>진행 중이거나 대기 중인 회원은 남은 게시글/추천 정보 수를 DB에서 조회해 함께 보여 준다.</p>
+     *
+     * @return 진행 중(대기 포함) 목록과 최근 완료 목록
+     */
+    public ProgressReport progress() {
+        List<RemovalProgress> pending = new ArrayList<>();
+        for (Long memberId : memberRepository.findDeactivatedIds()) {
+            Progress progress = running.getOrDefault(memberId, new Progress(memberId));
+            pending.add(progress.snapshot(postRepository.countAllByAuthorId(memberId),
+                    postRecommendationRepository.countByMemberId(memberId)));
+        }
+        return new ProgressReport(Collections.unmodifiableList(pending), completed.snapshot());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 회원 한 명의 정리 단계
+     */
+    public enum Phase {
+        WAITING, POSTS, RECOMMENDATIONS, PURGE, MEMBER, DONE
+    }
+
+    /**
+     * 회원 한 명의 탈퇴 처리 진행 상황
+     *
+     * @param memberId                 회원 식별자
+     * @param phase                    현재 단계
+     * @param postsDeleted             이번 실행에서 소프트 삭제한 게시글 수
+     * @param recommendationsDeleted   이번 실행에서 삭제한 추천 정보 수
+     * @param remainingPosts           남은 게시글 수 (소프트 삭제되어 아직 지워지지 않은 게시글 포함)
+     * @param remainingRecommendations 남은 추천 정보 수
+     * @param startedAt                이번 실행의 시작 시각
+     */
+    public record RemovalProgress(Long memberId, Phase phase, long postsDeleted, long recommendationsDeleted,
+                                  long remainingPosts, long remainingRecommendations, LocalDateTime startedAt) {
+    }
+
+    /**
+     * 진행 상황 보고
+     *
+     * @param pending   진행 중이거나 대기 중인 탈퇴 처리
+     * @param completed 최근 완료된 탈퇴 처리 (최신순)
+     */
+    public record ProgressReport(List<RemovalProgress> pending, List<RemovalProgress> completed) {
+    }
+
+    private static final class Progress {
+        private final Long memberId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile Phase phase = Phase.WAITING;
+        private volatile long posts;
+        private volatile long recommendations;
+
+        private Progress(Long memberId) {
+            this.memberId = memberId;
+        }
+
+        private RemovalProgress snapshot(long remainingPosts, long remainingRecommendations) {
+            return new RemovalProgress(memberId, phase, posts, recommendations,
+                    remainingPosts, remainingRecommendations, startedAt);
+        }
+    }
+}
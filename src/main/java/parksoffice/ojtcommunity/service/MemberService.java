@@ -1,15 +1,19 @@
 package parksoffice.ojtcommunity.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import parksoffice.ojtcommunity.domain.member.Member;
 import parksoffice.ojtcommunity.dto.member.UpdateMemberDto;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
 import parksoffice.ojtcommunity.exception.DuplicateMemberException;
 import parksoffice.ojtcommunity.exception.MemberNotFoundException;
 import parksoffice.ojtcommunity.exception.PasswordNotCorrectException;
 import parksoffice.ojtcommunity.repository.member.MemberRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +30,7 @@ import java.util.Optional;
  *   <li>회원 ID, 회원 이름에 따른 단건 조회 (존재하지 않을 경우 예외 발생)</li>
  *   <li>회원 이름 검색: 키워드에 포함된 회원 목록 반환 (검색 결과가 없을 경우 빈 리스트 반환)</li>
  *   <li>회원 정보 업데이트: 업데이트용 DTO를 통해 필요한 필드만 갱신</li>
- *   <li>회원 삭제: 삭제 전에 회원 존재 여부 확인</li>
+ *   <li>회원 삭제: 탈퇴 표시 후 정리는 백그라운드에서 처리 (MemberRemovalService)</li>
  * </ul>
  * </p>
  *
@@ -38,6 +42,8 @@ import java.util.Optional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsernameFilter usernameFilter;
 
     /**
      * 신규 회원 등록
@@ -49,7 +55,11 @@ public class MemberService {
     public Member registerMember(Member member) {
         validateDuplicateMember(member); // 중복 회원 검증
 
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        // 커밋 전에 필터에 먼저 반영한다. (롤백되더라도 오탐이 하나 늘 뿐, 미탐은 생기지 않는다.)
+        usernameFilter.put(savedMember.getUsername());
+        eventPublisher.publishEvent(MemberChangedEvent.registered(savedMember.getId(), savedMember.getUsername()));
+        return savedMember;
     }
 
     /**
@@ -92,38 +102,79 @@ public class MemberService {
         return memberRepository.findByUsernameContaining(keyword);
     }
 
+    /**
+     * 사용자 이름 사용 가능 여부 확인 (읽기 전용)
+     * <p>
+     * 블룸 필터가 "확실히 없음"이라고 답하면 DB 조회 없이 바로 사용 가능으로 판단하고,
+     * "있을 수도 있음"인 경우에만 DB에서 존재 여부를 확인한다.
+     * 회원가입 폼의 입력 중 확인(keystroke)처럼 호출 빈도가 높은 경로에서 사용한다.
+     * </p>
+     *
+     * @param username 확인할 사용자 이름
+     * @return 사용 가능하면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean isUsernameAvailable(String username) {
+        if (!usernameFilter.mightExist(username)) {
+            return true; // 확실히 사용 중이 아님
+        }
+        return !memberRepository.existsByUsername(username);
+    }
+
     /**
      * 회원 정보 업데이트.
      * 회원이 존재하지 않으면 MemberNotFoundException을 발생시킨다.
+     * <p>
+     *     DTO에 버전이 있으면 현재 버전과 비교하여, 그 사이 다른 수정이 있었다면 충돌로 처리한다.
+     *     동시에 커밋되는 수정은 엔티티의 {@code @Version}이 잡아낸다.
+     * </p>
      *
      * @param id              업데이트할 회원의 식별자
-     * @param updateMemberDto 회원 정보 업데이트용 DTO (username, password)
+     * @param updateMemberDto 회원 정보 업데이트용 DTO (username, password, version)
      * @return 업데이트된 회원 엔티티
      * @throws MemberNotFoundException 해당 회원이 없을 경우
+     * @throws ObjectOptimisticLockingFailureException 다른 요청이 먼저 수정한 경우
      */
     public Member updateMember(Long id, UpdateMemberDto updateMemberDto) {
         Member existingMember = memberRepository.findById(id)
                 .orElseThrow(() -> new MemberNotFoundException("Member not found with id: " + id));
+        if (updateMemberDto.getVersion() != null && !updateMemberDto.getVersion().equals(existingMember.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Member.class, id);
+        }
+
+        String oldUsername = existingMember.getUsername();
 
         // 필요한 필드 업데이트 (여기서는 username과 password만 갱신)
         existingMember.setUsername(updateMemberDto.getUsername());
         existingMember.setPassword(updateMemberDto.getPassword());
 
-        return memberRepository.save(existingMember);
+        Member savedMember = memberRepository.save(existingMember);
+        if (oldUsername != null && !oldUsername.equals(savedMember.getUsername())) {
+            usernameFilter.put(savedMember.getUsername());
+            eventPublisher.publishEvent(MemberChangedEvent.renamed(id, oldUsername, savedMember.getUsername()));
+        }
+        return savedMember;
     }
 
     /**
-     * 회원 삭제
-     * 삭제 전 회원 존재 여부를 확인하여, 없으면 MemberNotFoundException을 발생시킨다.
+     * 회원 삭제(탈퇴)
+     * 회원이 없거나 이미 탈퇴 처리 중이면 MemberNotFoundException을 발생시킨다.
+     * <p>
+     *     회원 행에 탈퇴 시각만 기록하고 바로 반환한다. (UPDATE 한 번)
+     *     게시글과 추천 정보 정리 및 회원 행 삭제는 커밋 이후 MemberRemovalService가 백그라운드에서 처리한다.
+     * </p>
      *
      * @param id 삭제할 회원의 식별자
      * @throws MemberNotFoundException 해당 회원이 없을 경우
      */
     public void deleteMemberById(Long id) {
-        if (!memberRepository.existsById(id)) {
-            throw new MemberNotFoundException("Member not found with id: " + id);
+        // 이벤트 발행을 위해 이름을 먼저 조회해 둔다.
+        String username = memberRepository.findUsernameById(id)
+                .orElseThrow(() -> new MemberNotFoundException("Member not found with id: " + id));
+        if (memberRepository.deactivateById(id, LocalDateTime.now()) == 0) {
+            throw new MemberNotFoundException("Member not found with id: " + id); // 이미 탈퇴 처리 중
         }
-        memberRepository.deleteById(id);
+        eventPublisher.publishEvent(MemberChangedEvent.deleted(id, username));
     }
 
     /**
@@ -132,12 +183,17 @@ public class MemberService {
      * <p>
      * 주어진 회원 객체의 username으로 회원을 검색하여,
      * 해당 username을 가진 회원이 존재하면 DuplicateMemberException을 발생시킨다.
+     * 블룸 필터가 "확실히 없음"이라고 답하면 DB 조회를 생략한다.
+     * (동시 가입 등 필터를 통과한 중복은 members.username의 unique 제약 조건에서 최종적으로 걸러진다.)
      * </p>
      *
      * @param member 중복 검증을 수행할 회원 엔티티
      * @throws DuplicateMemberException 이미 해당 username을 가진 회원이 존재할 경우
      */
     private void validateDuplicateMember(Member member) {
+        if (!usernameFilter.mightExist(member.getUsername())) {
+            return;
+        }
         Optional<Member> foundMember = memberRepository.findByUsername(member.getUsername());
         if (foundMember.isPresent()) {
             throw new DuplicateMemberException("이미 해당 회원명이 존재합니다: " + member.getUsername());
@@ -154,12 +210,13 @@ public class MemberService {
      * @param username 로그인할 사용자 이름
      * @param password 로그인할 사용자 비밀번호
      * @return 로그인된 회원 엔티티
-     * @throws MemberNotFoundException 사용자 이름이 존재하지 않을 경우
+     * @throws MemberNotFoundException 사용자 이름이 존재하지 않거나 탈퇴한 회원일 경우
      * @throws PasswordNotCorrectException 비밀번호가 일치하지 않을 경우
      */
     @Transactional(readOnly = true)
     public Member login(String username, String password) {
         Member member = memberRepository.findByUsername(username)
+                .filter(found -> found.getDeactivatedAt() == null)
                 .orElseThrow(() -> new MemberNotFoundException("Member not found with username: " + username));
         if (!member.getPassword().equals(password)) {
             throw new PasswordNotCorrectException("Password not correct");
@@ -0,0 +1,291 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import parksoffice.ojtcommunity.dto.board.PostFingerprint;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
+import parksoffice.ojtcommunity.exception.NearDuplicatePostException;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.support.SimHash;
+import parksoffice.ojtcommunity.support.SimHashIndex;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NearDuplicateDetector 클래스
+ * <p>
+ * 게시글 등록과 본문 수정 시 본문의 64비트 SimHash 지문을 계산하고, 최근 게시글(window-size개)의 지문과 해밍 거리를 비교하여
+ * 본문이 거의 같은 게시글(여러 게시판에 조금씩 바꿔 올리는 스팸)을 찾아낸다.
+ * 본문(@Lob)을 DB에서 읽어 비교하지 않고, 메모리의 {@link SimHashIndex}(LSH 밴드 색인)에서만 조회한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>거리가 max-distance 이하인 게시글이 있으면, action이 flag이면 그 게시글 번호를 기록하고(Post#nearDuplicateOf),
+ *       reject이면 {@link NearDuplicatePostException}으로 등록을 거부한다.</li>
+ *   <li>정규화한 본문이 min-length보다 짧으면 비교하지 않는다. (짧은 글은 우연히 겹치기 쉽다.)</li>
+ *   <li>검사를 통과한 지문은 트랜잭션 안에서 바로 색인에 예약(음수 임시 번호)하므로, 동시에 진행 중인 같은 본문의 등록은
+ *       커밋 전이라도 중복으로 판단된다. 커밋되면 예약을 게시글 번호로 확정하고, 롤백되면 예약을 지운다.</li>
+ *   <li>본문을 수정하면 수정한 게시글 자신을 제외하고 다시 검사하며, 커밋되면 색인의 지문을 바꾼다.
+ *       삭제가 커밋되면 색인에서 지운다.</li>
+ *   <li>서버 시작 시 저장된 지문(Post#simhash)으로 최근 게시글의 색인을 다시 만든다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class NearDuplicateDetector {
+
+    /**
+     * 근접 중복 게시글을 발견했을 때의 처리
+     */
+    public enum Action {
+        /**
+         * 등록하고 기존 게시글 번호를 기록한다.
+         */
+        FLAG,
+        /**
+         * 등록을 거부한다.
+         */
+        REJECT
+    }
+
+    private final PostRepository postRepository;
+    private final Action action;
+    private final int minLength;
+    private final SimHashIndex index;
+
+    // 등록/수정 트랜잭션이 커밋되기를 기다리는 검사 결과 (게시글 번호 → 검사 결과)
+    private final Map<Long, Inspection> pending = new ConcurrentHashMap<>();
+    // 본문이 짧아져 커밋되면 색인에서 지울 게시글 번호
+    private final Set<Long> pendingRemovals = ConcurrentHashMap.newKeySet();
+    // 예약 번호 (게시글 번호와 겹치지 않도록 음수로 사용)
+    private final AtomicLong reservations = new AtomicLong();
+
+    private final Counter unique;
+    private final Counter flagged;
+    private final Counter rejected;
+    private final Counter skipped;
+    private final Timer lookupTimer;
+
+    public NearDuplicateDetector(PostRepository postRepository,
+                                 @Value("${ojt.near-duplicate.action:flag}") String action,
+                                 @Value("${ojt.near-duplicate.max-distance:8}") int maxDistance,
+                                 @Value("${ojt.near-duplicate.window-size:10000}") int windowSize,
+                                 @Value("${ojt.near-duplicate.min-length:30}") int minLength,
+                                 MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.action = Action.valueOf(action.trim().toUpperCase());
+        this.minLength = Math.max(0, minLength);
+        this.index = new SimHashIndex(Math.max(1, windowSize), maxDistance);
+
+        this.unique = meterRegistry.counter("post.duplicate.checks", "result", "unique");
+        this.flagged = meterRegistry.counter("post.duplicate.checks", "result", "flagged");
+        this.rejected = meterRegistry.counter("post.duplicate.checks", "result", "rejected");
+        this.skipped = meterRegistry.counter("post.duplicate.checks", "result", "skipped");
+        this.lookupTimer = Timer.builder("post.duplicate.lookup")
+                .description("근접 중복 색인 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("post.duplicate.window", index, SimHashIndex::size)
+                .description("근접 중복 색인에 보관 중인 게시글 지문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 시작 시 최근 게시글의 저장된 지문으로 색인을 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<PostFingerprint> recent = postRepository.findRecentFingerprints(Limit.of(index.capacity()));
+        // 오래된 게시글부터 넣어, 색인이 가득 차면 오래된 것부터 밀려나도록 한다.
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            index.add(recent.get(i).getId(), recent.get(i).getSimhash());
+        }
+        log.info("Near-duplicate index rebuilt with {} post fingerprint(s)", recent.size());
+    }
+
+    /**
+     * 등록할 본문의 지문을 계산하고 최근 게시글과 비교한다.
+     *
+     * @param content 본문
+     * @return 검사 결과 (본문이 짧아 비교하지 않았으면 null)
+     * @throws NearDuplicatePostException 차단 모드에서 본문이 거의 같은 최근 게시글이 있을 때
+     */
+    public Inspection inspect(String content) {
+        return inspect(content, null);
+    }
+
+    /**
+     * 본문의 지문을 계산하고 최근 게시글과 비교한다.
+     * <p>
+     *     트랜잭션 안에서 호출하면 비교와 같은 잠금 안에서 지문을 색인에 예약하고, 트랜잭션이 끝나면 예약을 지운다.
+     *     (커밋된 예약은 그 전에 게시글 번호로 확정된다.)
+     * </p>
+     *
+     * @param content 본문
+     * @param postId  수정 중인 게시글 번호 (자기 자신과는 비교하지 않는다, 등록이면 null)
+     * @return 검사 결과 (본문이 짧아 비교하지 않았으면 null)
+     * @throws NearDuplicatePostException 차단 모드에서 본문이 거의 같은 최근 게시글이 있을 때
+     */
+    public Inspection inspect(String content, Long postId) {
+        String normalized = SimHash.normalize(content != null ? content : "");
+        if (normalized.length() < minLength) {
+            skipped.increment();
+            return null;
+        }
+        long fingerprint = SimHash.fingerprint(normalized);
+        boolean reservable = TransactionSynchronizationManager.isSynchronizationActive();
+        SimHashIndex.Match match;
+        long reservation = 0;
+        // 비교와 예약 사이에 같은 본문의 다른 검사가 끼어들지 않도록 색인을 잠근다.
+        synchronized (index) {
+            match = lookupTimer.record(() -> index.findNearest(fingerprint, postId));
+            if (reservable && (match == null || action == Action.FLAG)) {
+                reservation = -reservations.incrementAndGet();
+                index.add(reservation, fingerprint);
+            }
+        }
+        if (reservation != 0) {
+            releaseAfterCompletion(reservation);
+        }
+        if (match == null) {
+            unique.increment();
+            return new Inspection(fingerprint, null, reservation);
+        }
+        if (action == Action.REJECT) {
+            rejected.increment();
+            log.warn("Rejected near-duplicate of post {} (distance {})", match.id(), match.distance());
+            throw new NearDuplicatePostException("최근에 등록된 게시글과 내용이 거의 같아 등록할 수 없습니다.");
+        }
+        flagged.increment();
+        log.warn("Flagged near-duplicate of post {} (distance {})", match.id(), match.distance());
+        return new Inspection(fingerprint, match.id(), reservation);
+    }
+
+    /**
+     * 저장한 게시글의 검사 결과를 등록/수정이 커밋되면 색인에 반영하도록 예약한다.
+     *
+     * @param postId     게시글 번호
+     * @param inspection 검사 결과 (본문이 짧아 비교하지 않았으면 null, 수정이면 커밋 시 기존 지문만 지운다)
+     */
+    public void indexOnCommit(Long postId, Inspection inspection) {
+        if (inspection != null) {
+            pending.put(postId, inspection);
+        } else {
+            pendingRemovals.add(postId);
+        }
+    }
+
+    /**
+     * 게시글 등록이 커밋되면 예약된 지문을 게시글 번호로 확정한다.
+     *
+     * @param event 게시글 등록 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostRegistered(PostRegisteredEvent event) {
+        applyPending(event.postId());
+    }
+
+    /**
+     * 게시글 수정이 커밋되면 색인의 지문을 수정한 본문의 지문으로 바꾼다.
+     *
+     * @param event 게시글 수정 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        applyPending(event.postId());
+    }
+
+    /**
+     * 게시글 등록이 롤백되면 대기 중인 검사 결과를 버린다. (색인의 예약은 트랜잭션이 끝날 때 지워진다.)
+     *
+     * @param event 게시글 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onPostRegistrationRolledBack(PostRegisteredEvent event) {
+        discardPending(event.postId());
+    }
+
+    /**
+     * 게시글 수정이 롤백되면 대기 중인 검사 결과를 버린다. (색인에는 수정 전 지문이 그대로 남는다.)
+     *
+     * @param event 게시글 수정 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onPostUpdateRolledBack(PostUpdatedEvent event) {
+        discardPending(event.postId());
+    }
+
+    /**
+     * 게시글 삭제가 커밋되면 색인에서 지운다.
+     *
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        index.remove(event.postId());
+    }
+
+    private void applyPending(Long postId) {
+        Inspection inspection = pending.remove(postId);
+        if (inspection != null) {
+            synchronized (index) {
+                // 수정이면 수정 전 지문을 지우고, 예약을 게시글 번호로 확정한다. (예약이 이미 밀려났으면 새로 넣는다.)
+                index.remove(postId);
+                if (!index.rename(inspection.reservation(), postId)) {
+                    index.add(postId, inspection.fingerprint());
+                }
+            }
+        } else if (pendingRemovals.remove(postId)) {
+            index.remove(postId);
+        }
+    }
+
+    private void discardPending(Long postId) {
+        pending.remove(postId);
+        pendingRemovals.remove(postId);
+    }
+
+    /**
+     * 트랜잭션이 끝나면 예약을 지운다. 커밋된 예약은 그 전에 게시글 번호로 확정되었으므로,
+     * 롤백되었거나 저장하지 못한 예약만 남아 있다.
+     */
+    private void releaseAfterCompletion(long reservation) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                index.remove(reservation);
+            }
+        });
+    }
+
+    /**
+     * 본문 검사 결과
+     *
+     * @param fingerprint     본문 지문
+     * @param nearDuplicateOf 본문이 거의 같은 최근 게시글 번호 (없으면 null)
+     * @param reservation     색인에 예약한 임시 번호 (트랜잭션 밖에서 검사하여 예약하지 않았으면 0)
+     */
+    public record Inspection(long fingerprint, Long nearDuplicateOf, long reservation) {
+    }
+}
@@ -0,0 +1,112 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * OptimisticRetry 클래스
+ * <p>
+ * 낙관적 잠금 충돌이 나면 작업을 새 트랜잭션에서 처음부터 다시 실행한다. (최대 시도 횟수 제한)
+ * </p>
+ *
+ * <p>
+ * 다시 실행해도 결과가 같은 <b>교환 가능한(commutative) 변경</b>에만 사용한다.
+ * 예를 들어 추천 추가는 다른 회원의 추천과 순서가 바뀌어도 결과가 같으므로, 최신 상태를 다시 읽어 적용하면 된다.
+ * 반대로 게시글 제목/본문 수정처럼 사용자가 보고 있던 내용을 기준으로 하는 변경은 재시도하면 다른 사람의 수정을
+ * 덮어쓰게 되므로, 재시도하지 않고 충돌을 사용자에게 알린다.
+ * </p>
+ *
+ * <p>
+ * 충돌한 시도는 롤백되므로 이벤트(@TransactionalEventListener)도 발행되지 않는다.
+ * 재시도 사이에는 시도마다 두 배로 늘어나는 상한(최대 {@code max-backoff-millis}) 안에서 임의의 시간만큼 쉬어,
+ * 같은 행을 노리는 작업들이 다시 동시에 부딪히지 않게 한다. (full jitter)
+ * 호출하는 쪽에 이미 트랜잭션이 있으면 재시도가 의미 없으므로 사용할 수 없다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Slf4j
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+                           @Value("${ojt.optimistic-retry.max-attempts:10}") int maxAttempts,
+                           @Value("${ojt.optimistic-retry.backoff-millis:5}") long backoffMillis,
+                           @Value("${ojt.optimistic-retry.max-backoff-millis:200}") long maxBackoffMillis,
+                           MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 작업을 트랜잭션 안에서 실행하고, 낙관적 잠금 충돌이 나면 다시 실행한다.
+     *
+     * @param operation 작업 이름 (메트릭 태그와 로그에 사용)
+     * @param work      실행할 작업. 시도마다 엔티티를 새로 조회해야 한다.
+     * @return 작업 결과
+     * @throws OptimisticLockingFailureException 최대 시도 횟수까지 모두 충돌한 경우
+     */
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("OptimisticRetry must not be called inside a transaction: " + operation);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.retry.exhausted", "operation", operation).increment();
+                    log.warn("Optimistic lock conflict on {} not resolved after {} attempt(s)", operation, attempt);
+                    throw ex;
+                }
+                meterRegistry.counter("optimistic.retry.retries", "operation", operation).increment();
+                log.debug("Optimistic lock conflict on {} (attempt {}), retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업을 실행한다. {@link #execute(String, Supplier)} 참고
+     *
+     * @param operation 작업 이름
+     * @param work      실행할 작업
+     */
+    public void run(String operation, Runnable work) {
+        execute(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            long bound = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt, 16));
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", ex);
+        }
+    }
+}
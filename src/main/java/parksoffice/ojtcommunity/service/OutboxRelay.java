@@ -0,0 +1,336 @@
+package parksoffice.ojtcommunity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.outbox.OutboxCursor;
+import parksoffice.ojtcommunity.event.OutboxConsumer;
+import parksoffice.ojtcommunity.event.OutboxMessage;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostEvent;
+import parksoffice.ojtcommunity.event.PostRecommendedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
+import parksoffice.ojtcommunity.repository.shard.ShardDataSources;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * OutboxRelay 클래스
+ * <p>
+ * 아웃박스 테이블({@code outbox_events})을 묶음(batch-size) 단위로 읽어 {@link OutboxConsumer} 빈들에게 전달한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>순번 발급: 아직 순번이 없는 커밋된 행에 식별자 순서로 순번을 매긴다. 식별자는 커밋 전에 발급되므로
+ *       식별자만으로 읽으면 늦게 커밋된 작은 식별자를 건너뛸 수 있지만, 순번은 커밋된 행에만 매기므로 빈틈이 생기지 않는다.</li>
+ *   <li>전달: 소비자마다 저장된 오프셋 이후의 메시지를 순번 순서로 전달하고, 묶음을 마치면 오프셋을 저장한다.
+ *       같은 게시글의 변경은 같은 DB(샤드)에 순서대로 기록되므로 게시글별 순서가 지켜진다.</li>
+ *   <li>실패: 소비자가 예외를 던지면 그 소비자만 직전 메시지에서 멈추고, 다음 실행에서 실패한 메시지부터 다시 전달한다.</li>
+ *   <li>정리: 모든 소비자가 처리한 메시지는 지운다. (소비자가 없으면 순번을 매긴 메시지를 바로 지운다.)</li>
+ * </ul>
+ * 게시글 변경이 커밋되면 linger-millis 만큼 기다렸다가 실행하여, 그 사이에 커밋된 변경을 한 번에 전달한다.
+ * 서버가 재시작되거나 실행이 실패해도 주기적인 실행(poll-interval-millis)이 남은 메시지를 이어서 전달한다.
+ * 샤딩을 사용하면 샤드마다 아웃박스와 오프셋을 따로 두고 차례로 처리한다.
+ * </p>
+ *
+ * <p>
+ * 소비자 오프셋은 공유 테이블({@code outbox_cursors})에 소비자 이름으로만 저장하므로, 메시지는 그것을 먼저 전달한 서버의
+ * 소비자만 받는다. 현재 소비자는 모두 서버 메모리의 캐시/색인을 무효화하므로, 릴레이는 서버 하나에서 실행하는 것을 전제로 한다.
+ * (조회 이벤트 저널도 디렉터리 잠금으로 서버 하나만 연다.) 여러 서버로 늘리려면 서버마다 오프셋을 따로 두어야 한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private static final Map<String, Class<? extends PostEvent>> EVENT_TYPES = Stream.of(
+                    PostRegisteredEvent.class, PostUpdatedEvent.class, PostDeletedEvent.class, PostRecommendedEvent.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final List<Source> sources = new ArrayList<>();
+    private final ObjectProvider<OutboxConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter stamped;
+    private final Counter skipped;
+    private final Timer deliveryLatency;
+
+    public OutboxRelay(ObjectProvider<ShardDataSources> shardDataSources,
+                       DataSource dataSource,
+                       ObjectProvider<OutboxConsumer> consumers,
+                       ObjectMapper objectMapper,
+                       @Value("${ojt.outbox.batch-size:200}") int batchSize,
+                       @Value("${ojt.outbox.linger-millis:10}") long lingerMillis,
+                       @Value("${ojt.outbox.poll-interval-millis:1000}") long pollIntervalMillis,
+                       MeterRegistry meterRegistry) {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        for (DataSource source : shards != null ? shards.all() : List.of(dataSource)) {
+            sources.add(new Source(sources.size(), new JdbcTemplate(source),
+                    new TransactionTemplate(new DataSourceTransactionManager(source))));
+        }
+        this.consumers = consumers;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = Math.max(0, lingerMillis);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::relayQuietly, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+
+        this.meterRegistry = meterRegistry;
+        this.stamped = meterRegistry.counter("outbox.stamped");
+        this.skipped = meterRegistry.counter("outbox.skipped");
+        this.deliveryLatency = Timer.builder("outbox.delivery.latency")
+                .description("게시글 변경 기록부터 소비자가 처리하기까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 변경이 커밋되면 linger-millis 뒤에 전달을 예약한다.
+     * <p>이미 예약된 실행이 있으면 그 실행이 함께 처리하므로, 연속된 변경도 한 번의 실행(묶음)으로 합쳐진다.</p>
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostEvent(PostEvent event) {
+        if (requested.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                requested.set(false);
+                relayQuietly();
+            }, lingerMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 쌓인 아웃박스 메시지를 모두 전달한다. (호출한 스레드에서 실행)
+     *
+     * @return 전달 결과
+     */
+    public synchronized RelayResult relay() {
+        List<OutboxConsumer> active = consumers.orderedStream().toList();
+        long stampedCount = 0;
+        long deliveredCount = 0;
+        int failedCount = 0;
+        for (Source source : sources) {
+            // 이번 실행에서 실패한 소비자는 목록에서 빠지고, 나머지 소비자는 계속 진행한다.
+            List<OutboxConsumer> pending = new ArrayList<>(active);
+            boolean more;
+            do {
+                int stampedRows = stamp(source);
+                Batch batch = deliver(source, pending);
+                stampedCount += stampedRows;
+                deliveredCount += batch.delivered();
+                failedCount += batch.failed();
+                more = stampedRows == batchSize || (batch.rows() == batchSize && !pending.isEmpty());
+            } while (more);
+            cleanup(source, active);
+        }
+        stamped.increment(stampedCount);
+        return new RelayResult(stampedCount, deliveredCount, failedCount);
+    }
+
+    /**
+     * 순번이 없는 커밋된 행에 식별자 순서로 순번을 매긴다.
+     * <p>발급 커서 행을 잠가, 여러 서버의 릴레이가 같은 순번을 매기지 않게 한다.</p>
+     */
+    private int stamp(Source source) {
+        Integer count = source.transactionTemplate().execute(status -> {
+            JdbcTemplate jdbcTemplate = source.jdbcTemplate();
+            List<Long> last = jdbcTemplate.queryForList("SELECT last_sequence FROM outbox_cursors WHERE name = ? FOR UPDATE",
+                    Long.class, OutboxCursor.SEQUENCE);
+            if (last.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO outbox_cursors (name, last_sequence) VALUES (?, 0)", OutboxCursor.SEQUENCE);
+            }
+            long sequence = last.isEmpty() ? 0 : last.get(0);
+
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE sequence_no IS NULL ORDER BY id LIMIT ?",
+                    Long.class, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            List<Object[]> updates = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                updates.add(new Object[]{++sequence, id});
+            }
+            jdbcTemplate.batchUpdate("UPDATE outbox_events SET sequence_no = ? WHERE id = ?", updates);
+            jdbcTemplate.update("UPDATE outbox_cursors SET last_sequence = ? WHERE name = ?", sequence, OutboxCursor.SEQUENCE);
+            return ids.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 가장 뒤처진 소비자의 오프셋 이후 메시지를 한 묶음 읽어, 소비자마다 자신의 오프셋 이후 메시지를 전달한다.
+     * 실패한 소비자는 {@code pending}에서 뺀다.
+     */
+    private Batch deliver(Source source, List<OutboxConsumer> pending) {
+        if (pending.isEmpty()) {
+            return new Batch(0, 0, 0);
+        }
+        Map<String, Long> offsets = offsets(source);
+        long from = pending.stream().mapToLong(consumer -> offsets.getOrDefault(consumer.name(), 0L)).min().orElse(0);
+        List<OutboxMessage> messages = source.jdbcTemplate().query(
+                "SELECT sequence_no, post_id, event_type, payload, created_at FROM outbox_events " +
+                        "WHERE sequence_no > ? ORDER BY sequence_no LIMIT ?",
+                (rs, rowNum) -> toMessage(rs.getLong("sequence_no"), rs.getLong("post_id"), rs.getString("event_type"),
+                        rs.getString("payload"), rs.getTimestamp("created_at")),
+                from, batchSize);
+
+        long delivered = 0;
+        int failed = 0;
+        for (Iterator<OutboxConsumer> iterator = pending.iterator(); iterator.hasNext(); ) {
+            OutboxConsumer consumer = iterator.next();
+            long offset = offsets.getOrDefault(consumer.name(), 0L);
+            long processed = offset;
+            for (OutboxMessage message : messages) {
+                if (message.sequence() <= offset) {
+                    continue;
+                }
+                if (message.event() != null) {
+                    try {
+                        consumer.accept(message);
+                    } catch (RuntimeException ex) {
+                        // 뒤의 메시지를 먼저 처리하지 않도록 이 소비자는 여기서 멈추고, 다음 실행에서 이 메시지부터 다시 전달한다.
+                        meterRegistry.counter("outbox.failures", "consumer", consumer.name()).increment();
+                        log.warn("Outbox consumer {} failed at sequence {} (source {}): {}",
+                                consumer.name(), message.sequence(), source.index(), ex.getMessage(), ex);
+                        failed++;
+                        iterator.remove();
+                        break;
+                    }
+                    meterRegistry.counter("outbox.dispatched", "consumer", consumer.name()).increment();
+                    deliveryLatency.record(Duration.between(message.createdAt(), LocalDateTime.now()));
+                    delivered++;
+                }
+                processed = message.sequence();
+            }
+            if (processed != offset) {
+                source.jdbcTemplate().update("MERGE INTO outbox_cursors (name, last_sequence) KEY (name) VALUES (?, ?)",
+                        consumer.name(), processed);
+            }
+        }
+        return new Batch(messages.size(), delivered, failed);
+    }
+
+    /**
+     * 모든 소비자가 처리한 메시지를 지운다.
+     */
+    private void cleanup(Source source, List<OutboxConsumer> active) {
+        if (active.isEmpty()) {
+            source.jdbcTemplate().update("DELETE FROM outbox_events WHERE sequence_no IS NOT NULL");
+            return;
+        }
+        Map<String, Long> offsets = offsets(source);
+        long processed = active.stream().mapToLong(consumer -> offsets.getOrDefault(consumer.name(), 0L)).min().orElse(0);
+        source.jdbcTemplate().update("DELETE FROM outbox_events WHERE sequence_no <= ?", processed);
+    }
+
+    private Map<String, Long> offsets(Source source) {
+        Map<String, Long> offsets = new HashMap<>();
+        source.jdbcTemplate().query("SELECT name, last_sequence FROM outbox_cursors WHERE name <> ?",
+                rs -> {
+                    offsets.put(rs.getString("name"), rs.getLong("last_sequence"));
+                }, OutboxCursor.SEQUENCE);
+        return offsets;
+    }
+
+    /**
+     * 행을 메시지로 바꾼다. 알 수 없는 종류이거나 읽을 수 없는 본문이면 이벤트가 없는 메시지를 돌려주어 건너뛰게 한다.
+     * (한 메시지 때문에 뒤의 모든 메시지가 멈추지 않도록)
+     */
+    private OutboxMessage toMessage(long sequence, Long postId, String type, String payload, Timestamp createdAt) {
+        PostEvent event = null;
+        Class<? extends PostEvent> eventClass = EVENT_TYPES.get(type);
+        if (eventClass == null) {
+            log.warn("Skipping outbox message {} of unknown type {}", sequence, type);
+        } else {
+            try {
+                event = objectMapper.readValue(payload, eventClass);
+            } catch (JsonProcessingException ex) {
+                log.error("Skipping unreadable outbox message {} ({}): {}", sequence, type, ex.getMessage(), ex);
+            }
+        }
+        if (event == null) {
+            skipped.increment();
+        }
+        return new OutboxMessage(sequence, postId, type, event, createdAt.toLocalDateTime());
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (RuntimeException ex) {
+            // 오프셋 이후의 메시지는 남아 있으므로 다음 실행에서 이어서 전달한다.
+            log.warn("Outbox relay failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 전달 결과
+     *
+     * @param stamped   순번을 매긴 메시지 수
+     * @param delivered 소비자에게 전달한 횟수 (메시지 수 x 소비자 수)
+     * @param failures  실패로 멈춘 소비자 수
+     */
+    public record RelayResult(long stamped, long delivered, int failures) {
+    }
+
+    /**
+     * @param index               데이터베이스(샤드) 번호
+     * @param jdbcTemplate        그 데이터베이스의 JdbcTemplate
+     * @param transactionTemplate 그 데이터베이스의 트랜잭션
+     */
+    private record Source(int index, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+    }
+
+    /**
+     * @param rows      읽은 메시지 수
+     * @param delivered 전달한 횟수
+     * @param failed    실패로 멈춘 소비자 수
+     */
+    private record Batch(int rows, long delivered, int failed) {
+    }
+}
@@ -0,0 +1,45 @@
+package parksoffice.ojtcommunity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.domain.outbox.OutboxEvent;
+import parksoffice.ojtcommunity.event.PostEvent;
+import parksoffice.ojtcommunity.repository.outbox.OutboxEventRepository;
+
+/**
+ * 게시글 변경 이벤트를 같은 트랜잭션의 아웃박스 테이블에 기록한다.
+ *
+ * <p>
+ *     커밋 직전(BEFORE_COMMIT)에 저장하므로 변경과 이벤트는 함께 커밋되거나 함께 롤백된다.
+ *     직렬화에 실패하면 예외가 트랜잭션 밖으로 전파되어 변경도 롤백된다. (이벤트 없이 커밋되는 변경이 없도록)
+ *     샤딩을 사용하면 트랜잭션이 이미 사용 중인 게시글 샤드의 커넥션에 저장된다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPostEvent(PostEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize " + event, ex);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .postId(event.postId())
+                .eventType(event.getClass().getSimpleName())
+                .payload(payload)
+                .build());
+    }
+}
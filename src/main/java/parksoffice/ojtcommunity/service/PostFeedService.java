@@ -0,0 +1,316 @@
+package parksoffice.ojtcommunity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PostFeedService 클래스
+ * <p>
+ * 게시판별 새 게시글을 Server-Sent Events로 구독자에게 실시간 전달한다.
+ * 새 글을 보려고 목록 페이지를 반복해서 새로고침하는 대신, 목록 페이지가 피드를 구독하고 새 글 알림만 받는다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>게시글 등록 트랜잭션이 커밋되면 {@link PostRegisteredEvent}를 받아, 게시글 요약을 한 번만 JSON으로 직렬화해 모든 구독자에게 보낸다.</li>
+ *   <li>구독자마다 크기가 제한된 버퍼를 둔다. 느린 구독자의 버퍼가 가득 차면 밀린 메시지를 모두 버리고
+ *       하나의 resync 메시지로 합친다. (클라이언트는 목록을 다시 조회한다.) 다른 구독자는 영향을 받지 않는다.</li>
+ *   <li>전송은 소수의 전송 스레드가 담당하며, 구독자당 동시에 하나의 전송 작업만 예약된다.
+ *       대기 중인 구독자는 비동기 요청으로 유지되어 스레드를 점유하지 않고, 주기적인 heartbeat 외에는 CPU를 사용하지 않는다.</li>
+ * </ul>
+ * 구독자 수, 전달 지연(커밋 → 전송), 버린 메시지 수를 메트릭으로 남긴다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class PostFeedService {
+
+    // 구독자 버퍼에 넣는 특수 메시지 (식별자 비교로 구분한다)
+    private static final Message HEARTBEAT = new Message(null, null, null, 0);
+    private static final Message RESYNC = new Message(null, "resync", "{}", 0);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Timer deliveryLag;
+    private final Counter droppedMessages;
+    private final Counter resyncs;
+
+    public PostFeedService(ObjectMapper objectMapper,
+                           @Value("${ojt.post-feed.buffer-size:32}") int bufferSize,
+                           @Value("${ojt.post-feed.sender-threads:2}") int senderThreads,
+                           @Value("${ojt.post-feed.heartbeat-seconds:30}") long heartbeatSeconds,
+                           @Value("${ojt.post-feed.timeout-minutes:30}") long timeoutMinutes,
+                           MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.sender = Executors.newFixedThreadPool(senderThreads, daemon("post-feed-sender"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("post-feed-heartbeat"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        this.deliveryLag = Timer.builder("post.feed.lag")
+                .description("게시글 등록 커밋부터 구독자에게 전송되기까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedMessages = meterRegistry.counter("post.feed.dropped");
+        this.resyncs = meterRegistry.counter("post.feed.resyncs");
+        Gauge.builder("post.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 피드 구독자(연결) 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시판 피드를 SSE로 구독한다.
+     *
+     * @param boardCode 구독할 게시판 코드
+     * @return 컨트롤러가 반환할 SseEmitter
+     */
+    public SseEmitter subscribe(String boardCode) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = subscribe(boardCode, new EmitterSink(emitter));
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /**
+     * 전송 대상(sink)을 게시판 피드 구독자로 등록한다.
+     *
+     * @param boardCode 구독할 게시판 코드
+     * @param sink      메시지를 실제로 내보낼 대상
+     * @return 등록된 구독자
+     */
+    Subscriber subscribe(String boardCode, Sink sink) {
+        Subscriber subscriber = new Subscriber(boardCode, sink);
+        subscribers.computeIfAbsent(boardCode, code -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        return subscriber;
+    }
+
+    void unsubscribe(Subscriber subscriber) {
+        Set<Subscriber> board = subscribers.get(subscriber.boardCode);
+        if (board != null && board.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 게시글 등록이 커밋되면 해당 게시판의 구독자에게 게시글 요약을 보낸다.
+     *
+     * @param event 게시글 등록 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostRegistered(PostRegisteredEvent event) {
+        Set<Subscriber> board = subscribers.get(event.boardCode());
+        if (board == null || board.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(new PostSummaryDto(event.postId(), event.title(),
+                    event.authorUsername(), 0, event.createdAt()));
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize post feed message for post {}: {}", event.postId(), ex.getMessage());
+            return;
+        }
+        Message message = new Message(String.valueOf(event.postId()), "post", json, System.nanoTime());
+        for (Subscriber subscriber : board) {
+            subscriber.offer(message);
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> board : subscribers.values()) {
+            for (Subscriber subscriber : board) {
+                subscriber.offerHeartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.values().forEach(board -> board.forEach(subscriber -> subscriber.sink.close()));
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 구독자에게 보낼 메시지. 같은 객체를 모든 구독자가 공유한다.
+     *
+     * @param id          SSE 이벤트 id (게시글 식별자)
+     * @param name        SSE 이벤트 이름 (post, resync)
+     * @param data        JSON 데이터
+     * @param createdNanos 메시지 생성 시각 (전달 지연 측정용)
+     */
+    record Message(String id, String name, String data, long createdNanos) {
+    }
+
+    /**
+     * 메시지를 실제로 내보내는 대상 (운영에서는 SseEmitter)
+     */
+    interface Sink {
+        void send(Message message) throws IOException;
+
+        void close();
+    }
+
+    private static final class EmitterSink implements Sink {
+        private final SseEmitter emitter;
+
+        private EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(Message message) throws IOException {
+            if (message == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.name()).data(message.data(), MediaType.APPLICATION_JSON);
+            if (message.id() != null) {
+                event.id(message.id());
+            }
+            emitter.send(event);
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 구독자 하나. 크기가 제한된 버퍼와, 버퍼를 비우는 전송 작업의 예약 여부를 가진다.
+     */
+    final class Subscriber {
+        private final String boardCode;
+        private final Sink sink;
+        private final ArrayDeque<Message> buffer = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(String boardCode, Sink sink) {
+            this.boardCode = boardCode;
+            this.sink = sink;
+        }
+
+        void offer(Message message) {
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) {
+                    // 밀린 메시지를 모두 버리고 resync 하나로 합친다. 클라이언트는 resync를 받으면 목록을 다시 조회한다.
+                    droppedMessages.increment(buffer.size() + 1);
+                    resyncs.increment();
+                    buffer.clear();
+                    buffer.add(RESYNC);
+                } else if (buffer.peekLast() == RESYNC) {
+                    // 이미 resync가 대기 중이면 이후 메시지도 resync에 포함된다.
+                    droppedMessages.increment();
+                } else {
+                    buffer.add(message);
+                }
+            }
+            schedule();
+        }
+
+        void offerHeartbeat() {
+            synchronized (buffer) {
+                if (!buffer.isEmpty()) {
+                    return;
+                }
+                buffer.add(HEARTBEAT);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Message message;
+                    synchronized (buffer) {
+                        message = buffer.poll();
+                        if (message == null) {
+                            scheduled.set(false);
+                            return;
+                        }
+                    }
+                    sink.send(message);
+                    if (message.createdNanos() != 0) {
+                        deliveryLag.record(System.nanoTime() - message.createdNanos(), TimeUnit.NANOSECONDS);
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                // 연결이 끊긴 구독자는 정리한다. (클라이언트 EventSource는 자동으로 다시 연결한다.)
+                log.debug("Post feed subscriber on {} disconnected: {}", boardCode, ex.getMessage());
+                unsubscribe(this);
+                sink.close();
+            }
+        }
+
+        /**
+         * 전송 대기 중인 메시지 수
+         */
+        int pending() {
+            synchronized (buffer) {
+                return buffer.size();
+            }
+        }
+    }
+}
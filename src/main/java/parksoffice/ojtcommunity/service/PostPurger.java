@@ -0,0 +1,169 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.shard.ShardMap;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PostPurger 클래스
+ * <p>
+ * 소프트 삭제된 게시글의 추천 정보와 게시글 행을 백그라운드에서 일괄 삭제한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>엔티티를 로딩하지 않고, 식별자를 묶음(chunk-size)으로 조회한 뒤 {@code DELETE ... WHERE id IN (...)} 한 번으로 지운다.</li>
+ *   <li>묶음마다 별도 트랜잭션으로 커밋하므로, 추천이 아주 많은 게시글도 긴 트랜잭션이나 큰 잠금 없이 나누어 지워진다.
+ *       샤딩을 사용하면 묶음을 다시 샤드별로 나누어 샤드마다 커밋한다.</li>
+ *   <li>추천 정보를 먼저 모두 지우고, 남은 추천 정보가 없는 게시글 행만 지운다. (외래 키 순서)</li>
+ * </ul>
+ * 게시글 삭제가 커밋되면 바로 실행되며, 중간에 서버가 종료되어도 주기적인 실행(interval-seconds)이 남은 작업을 이어서 처리한다.
+ * 삭제 대상은 항상 DB의 deleted_at으로 판단하므로 별도의 진행 상태를 저장하지 않는다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Service
+@Slf4j
+public class PostPurger {
+
+    private final PostRepository postRepository;
+    private final PostRecommendationRepository postRecommendationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    private final Counter purgedPosts;
+    private final Counter purgedRecommendations;
+    private final Counter chunks;
+
+    public PostPurger(PostRepository postRepository,
+                      PostRecommendationRepository postRecommendationRepository,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${ojt.post-purge.chunk-size:500}") int chunkSize,
+                      @Value("${ojt.post-purge.interval-seconds:300}") long intervalSeconds,
+                      MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.postRecommendationRepository = postRecommendationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::purgeQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+
+        this.purgedPosts = meterRegistry.counter("post.purge.posts");
+        this.purgedRecommendations = meterRegistry.counter("post.purge.recommendations");
+        this.chunks = meterRegistry.counter("post.purge.chunks");
+    }
+
+    /**
+     * 게시글 삭제가 커밋되면 일괄 삭제를 예약한다.
+     * <p>이미 예약된 실행이 있으면 그 실행이 함께 처리하므로, 연속 삭제에도 실행은 하나로 합쳐진다.</p>
+     *
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (requested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                requested.set(false);
+                purgeQuietly();
+            });
+        }
+    }
+
+    /**
+     * 소프트 삭제된 게시글의 추천 정보와 게시글 행을 모두 지운다. (호출한 스레드에서 실행)
+     *
+     * @return 삭제 결과
+     */
+    public synchronized PurgeResult purge() {
+        long recommendations = 0;
+        long posts = 0;
+        int chunkCount = 0;
+
+        int deleted;
+        do {
+            deleted = deleteChunk(postRecommendationRepository::findPurgeableIds, postRecommendationRepository::purgeByIds);
+            recommendations += deleted;
+            chunkCount += deleted > 0 ? 1 : 0;
+        } while (deleted == chunkSize);
+
+        do {
+            deleted = deleteChunk(postRepository::findPurgeableIds, postRepository::purgeByIds);
+            posts += deleted;
+            chunkCount += deleted > 0 ? 1 : 0;
+        } while (deleted == chunkSize);
+
+        purgedRecommendations.increment(recommendations);
+        purgedPosts.increment(posts);
+        chunks.increment(chunkCount);
+        if (posts > 0 || recommendations > 0) {
+            log.info("Purged {} deleted post(s) and {} recommendation(s) in {} chunk(s)", posts, recommendations, chunkCount);
+        }
+        return new PurgeResult(posts, recommendations, chunkCount);
+    }
+
+    private int deleteChunk(IdFinder finder, IdDeleter deleter) {
+        int deleted = 0;
+        for (List<Long> ids : ShardMap.groupByShard(finder.find(chunkSize), Long::longValue)) {
+            Integer count = transactionTemplate.execute(status -> deleter.delete(ids));
+            deleted += count != null ? count : 0;
+        }
+        return deleted;
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            // 다음 실행에서 남은 작업을 이어서 처리한다.
+            log.warn("Post purge failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 일괄 삭제 결과
+     *
+     * @param posts           삭제된 게시글 수
+     * @param recommendations 삭제된 추천 정보 수
+     * @param chunks          실행한 묶음(트랜잭션) 수
+     */
+    public record PurgeResult(long posts, long recommendations, int chunks) {
+    }
+
+    @FunctionalInterface
+    private interface IdFinder {
+        List<Long> find(int limit);
+    }
+
+    @FunctionalInterface
+    private interface IdDeleter {
+        int delete(List<Long> ids);
+    }
+}
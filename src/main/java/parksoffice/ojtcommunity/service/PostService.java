@@ -1,19 +1,45 @@
 package parksoffice.ojtcommunity.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import parksoffice.ojtcommunity.domain.board.Post;
 import parksoffice.ojtcommunity.domain.board.PostRecommendation;
 import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.BoardListVersionDto;
+import parksoffice.ojtcommunity.dto.board.PostActivityView;
+import parksoffice.ojtcommunity.dto.board.PostDetailDto;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.dto.board.PostVersionDto;
 import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRecommendedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
 import parksoffice.ojtcommunity.exception.AlreadyRecommendedException;
+import parksoffice.ojtcommunity.exception.BoardNotFoundException;
+import parksoffice.ojtcommunity.exception.MemberNotFoundException;
+import parksoffice.ojtcommunity.exception.NearDuplicatePostException;
 import parksoffice.ojtcommunity.exception.PostNotFoundException;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
 import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
 import parksoffice.ojtcommunity.repository.board.PostRepository;
 import parksoffice.ojtcommunity.repository.member.MemberRepository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @Transactional // 기본적으로 쓰기 작업에 대해 트랜잭션을 적용한다.
@@ -21,20 +47,47 @@ import java.util.List;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final BoardRepository boardRepository;
     private final PostRecommendationRepository postRecommendationRepository;
     private final MemberRepository memberRepository;
+    private final RecommenderIndex recommenderIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticRetry optimisticRetry;
+    private final SearchResultCache searchResultCache;
+    private final NearDuplicateDetector nearDuplicateDetector;
 
     /**
      * 신규 게시글 등록
      * <p>
      *     전달받은 게시글 엔티티를 저장소에 저장하고, 저장된 게시글 엔티티를 반환한다.
+     *     커밋되면 실시간 피드로 전달되도록 {@link PostRegisteredEvent}를 발행한다.
+     * </p>
+     * <p>
+     *     저장하기 전에 {@link NearDuplicateDetector}로 본문 지문을 계산하여 최근 게시글과 비교하고,
+     *     지문과 근접 중복 판단 결과를 게시글에 함께 저장한다.
      * </p>
      *
      * @param post 등록할 게시글 엔티티
      * @return 저장된 게시글 엔티티
+     * @throws MemberNotFoundException 작성자가 없거나 탈퇴한 회원일 경우 (탈퇴 전의 세션으로 요청한 경우)
+     * @throws NearDuplicatePostException 차단 모드에서 본문이 거의 같은 최근 게시글이 있을 때
      */
     public Post registerPost(Post post) {
-        return postRepository.save(post);
+        NearDuplicateDetector.Inspection inspection = nearDuplicateDetector.inspect(post.getContent());
+        if (inspection != null) {
+            post.markFingerprint(inspection.fingerprint(), inspection.nearDuplicateOf());
+        }
+        Post savedPost = postRepository.save(post);
+        // 저장으로 트랜잭션이 게시글 샤드에 묶인 뒤 확인한다. (회원 사본은 모든 샤드에 있으며, 탈퇴한 회원이면 저장도 롤백된다.)
+        requireActiveMember(post.getAuthor().getId());
+        if (inspection != null) {
+            nearDuplicateDetector.indexOnCommit(savedPost.getId(), inspection);
+        }
+        // 커밋 이후 실시간 피드 구독자에게 전달되도록 이벤트를 발행한다.
+        eventPublisher.publishEvent(new PostRegisteredEvent(savedPost.getId(), savedPost.getBoard().getCode(),
+                savedPost.getTitle(), savedPost.getAuthor().getId(), savedPost.getAuthor().getUsername(),
+                savedPost.getCreatedAt()));
+        return savedPost;
     }
 
     /**
@@ -53,6 +106,82 @@ public class PostService {
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
     }
 
+    /**
+     * 상세 화면용으로 게시글을 작성자, 게시판과 함께 한 번에 조회한다.
+     *
+     * @param id 조회할 게시글의 식별자(id)
+     * @return 조회된 게시글 엔티티 (작성자, 게시판 포함)
+     * @throws PostNotFoundException 게시글이 없을 경우
+     */
+    @Transactional(readOnly = true)
+    public Post getPostDetail(Long id) {
+        return postRepository.findDetailById(id)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+    }
+
+    /**
+     * 게시판의 게시글 요약 목록을 최신순, 커서 기반으로 조회한다.
+     * <p>
+     *     게시판 존재 여부는 결과가 비어 있을 때만 확인하므로, 게시글이 있는 게시판은 쿼리 한 번으로 끝난다.
+     * </p>
+     *
+     * @param boardCode 게시판 코드
+     * @param cursor    이전 페이지의 마지막 게시글 식별자 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return 게시글 요약 페이지
+     * @throws BoardNotFoundException 게시판이 없을 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> getPostSummaries(String boardCode, Long cursor, int size) {
+        List<PostSummaryDto> fetched = postRepository.findSummariesByBoardCodeBefore(
+                boardCode, cursor != null ? cursor : Long.MAX_VALUE, Limit.of(size + 1));
+        if (fetched.isEmpty() && !boardRepository.existsByCode(boardCode)) {
+            throw new BoardNotFoundException("Board not found with code: " + boardCode);
+        }
+        return CursorPage.of(fetched, size, PostSummaryDto::getId);
+    }
+
+    /**
+     * 게시글 상세 정보를 엔티티 대신 DTO로 조회한다.
+     *
+     * @param id 게시글 식별자
+     * @return 게시글 상세 DTO
+     * @throws PostNotFoundException 게시글이 없을 경우
+     */
+    @Transactional(readOnly = true)
+    public PostDetailDto getPostDetailDto(Long id) {
+        return postRepository.findDetailDtoById(id)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+    }
+
+    /**
+     * 게시글의 버전 정보(소속 게시판 코드, 수정일)를 조회한다.
+     * <p>
+     *     게시글 엔티티를 로딩하지 않는 가벼운 조회로, 조건부 GET 처리에 사용한다.
+     * </p>
+     *
+     * @param id 게시글 식별자
+     * @return 게시글 버전 정보 (게시글이 없으면 빈 Optional)
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostVersionDto> getPostVersion(Long id) {
+        return postRepository.findVersionById(id);
+    }
+
+    /**
+     * 게시판 목록 페이지의 버전 정보(게시판 수정일, 게시글 최대 수정일, 게시글 수)를 조회한다.
+     * <p>
+     *     게시글 목록을 조회하지 않는 집계 쿼리 한 번으로 처리하며, 조건부 GET 처리에 사용한다.
+     * </p>
+     *
+     * @param boardCode 게시판 코드
+     * @return 목록 버전 정보 (게시판이 없으면 빈 Optional)
+     */
+    @Transactional(readOnly = true)
+    public Optional<BoardListVersionDto> getBoardListVersion(String boardCode) {
+        return postRepository.findListVersionByBoardCode(boardCode);
+    }
+
     /**
      * 게시판 코드(board.code)를 기준으로 게시글 목록을 조회한다.
      *
@@ -92,6 +221,78 @@ public class PostService {
         return postRepository.findByContentContaining(keyword);
     }
 
+    /**
+     * 제목 또는 본문에 키워드가 포함된 게시글 요약 목록을 최신순, 커서 기반으로 조회한다. (대소문자 무시)
+     * <p>
+     *     결과 페이지의 게시글 식별자는 {@link SearchResultCache}에 보관하므로, 같은 검색(정규화한 검색어 기준)이 반복되면
+     *     LIKE 검색 대신 식별자로 요약 정보만 조회한다. 게시판의 게시글이 등록/수정되면 그 게시판의 검색 결과만 다시 조회한다.
+     * </p>
+     *
+     * @param field     검색 필드
+     * @param keyword   검색어
+     * @param boardCode 게시판 코드 (모든 게시판이면 null)
+     * @param cursor    이전 페이지의 마지막 게시글 식별자 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return 게시글 요약 페이지 (검색어가 비어 있으면 빈 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> searchPostSummaries(SearchResultCache.Field field, String keyword,
+                                                          String boardCode, Long cursor, int size) {
+        String query = SearchResultCache.normalize(keyword);
+        if (query.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        SearchResultCache.Key key = new SearchResultCache.Key(field, query, boardCode, before, size);
+
+        // 캐시에 없어서 검색한 경우에는 조회한 요약 정보를 그대로 사용한다.
+        List<PostSummaryDto> loaded = new ArrayList<>();
+        SearchResultCache.Page page = searchResultCache.get(key, () -> {
+            CursorPage<PostSummaryDto> result = CursorPage.of(
+                    searchSummaries(field, escapeLike(query), boardCode, before, Limit.of(size + 1)), size, PostSummaryDto::getId);
+            loaded.addAll(result.getItems());
+            return new SearchResultCache.Page(
+                    result.getItems().stream().mapToLong(PostSummaryDto::getId).toArray(), result.getNextCursor());
+        });
+        if (!loaded.isEmpty() || page.ids().length == 0) {
+            return new CursorPage<>(loaded, page.nextCursor());
+        }
+
+        // 캐시 적중: 식별자로 요약 정보를 조회하여 검색 결과 순서대로 정렬한다. (그 사이 삭제된 게시글은 빠진다.)
+        Map<Long, PostSummaryDto> byId = new HashMap<>();
+        for (PostSummaryDto summary : postRepository.findSummariesByIds(
+                Arrays.stream(page.ids()).boxed().toList())) {
+            byId.put(summary.getId(), summary);
+        }
+        List<PostSummaryDto> items = new ArrayList<>(page.ids().length);
+        for (long id : page.ids()) {
+            PostSummaryDto summary = byId.get(id);
+            if (summary != null) {
+                items.add(summary);
+            }
+        }
+        return new CursorPage<>(items, page.nextCursor());
+    }
+
+    private List<PostSummaryDto> searchSummaries(SearchResultCache.Field field, String keyword,
+                                                 String boardCode, long before, Limit limit) {
+        if (boardCode == null) {
+            return field == SearchResultCache.Field.TITLE
+                    ? postRepository.searchSummariesByTitle(keyword, before, limit)
+                    : postRepository.searchSummariesByContent(keyword, before, limit);
+        }
+        return field == SearchResultCache.Field.TITLE
+                ? postRepository.searchSummariesByBoardCodeAndTitle(boardCode, keyword, before, limit)
+                : postRepository.searchSummariesByBoardCodeAndContent(boardCode, keyword, before, limit);
+    }
+
+    /**
+     * LIKE 패턴의 특수 문자(%, _)와 이스케이프 문자(!)를 이스케이프한다.
+     */
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * 모든 게시글을 최신 순으로 조회
      * <p>
@@ -109,57 +310,115 @@ public class PostService {
      * 게시글 정보를 업데이트한다.
      * 주어진 게시글 ID로 기존 게시글을 조회한 후, 제목과 본문을 업데이트한다.
      * 만약 해당 게시글이 존재하지 않으면 PostNotFoundException을 발생시킨다.
+     * <p>
+     *     DTO에 수정 폼을 열 때의 버전이 있으면 현재 버전과 비교하여, 그 사이 다른 수정이 있었다면 충돌로 처리한다.
+     *     버전 확인 이후 커밋 전까지 끼어든 수정은 엔티티의 {@code @Version}이 잡아낸다. (커밋 시 같은 예외가 발생한다.)
+     *     사용자가 보던 내용을 기준으로 한 변경이므로 재시도하지 않는다.
+     *     수정 내용은 {@link PostUpdatedEvent}로 같은 트랜잭션의 아웃박스에 기록된다.
+     * </p>
+     * <p>
+     *     본문이 바뀌면 {@link NearDuplicateDetector}로 게시글 자신을 제외하고 다시 검사하여 지문을 갱신하고,
+     *     커밋되면 근접 중복 색인의 지문도 바꾼다.
+     * </p>
      *
      * @param id 업데이트할 게시글의 식별자
-     * @param updatePostDto 업데이트할 게시글 dto (제목과 본문)
+     * @param updatePostDto 업데이트할 게시글 dto (제목과 본문, 수정 폼을 열 때의 버전)
      * @return 업데이트된 게시글 엔티티
      * @throws PostNotFoundException 게시글이 존재하지 않을 경우
+     * @throws ObjectOptimisticLockingFailureException 다른 사용자가 먼저 수정한 경우
+     * @throws NearDuplicatePostException 차단 모드에서 수정한 본문이 거의 같은 최근 게시글이 있을 때
      */
     public Post updatePost(Long id, UpdatePostDto updatePostDto) {
         Post existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+        if (updatePostDto.getVersion() != null && !updatePostDto.getVersion().equals(existingPost.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Post.class, id);
+        }
+
+        // 본문이 바뀌었으면 근접 중복을 다시 검사한다. (제목만 바꾼 수정은 검사하지 않는다.)
+        boolean contentChanged = !Objects.equals(existingPost.getContent(), updatePostDto.getContent());
+        NearDuplicateDetector.Inspection inspection = null;
+        if (contentChanged) {
+            inspection = nearDuplicateDetector.inspect(updatePostDto.getContent(), id);
+            existingPost.markFingerprint(inspection != null ? inspection.fingerprint() : null,
+                    inspection != null ? inspection.nearDuplicateOf() : null);
+        }
 
         // 업데이트 대상 필드만 수정 (작성자, 조회수, 추천수 등은 변경하지 않음)
         existingPost.setTitle(updatePostDto.getTitle());
         existingPost.setContent(updatePostDto.getContent());
 
-        return postRepository.save(existingPost);
+        Post savedPost = postRepository.save(existingPost);
+        if (contentChanged) {
+            nearDuplicateDetector.indexOnCommit(savedPost.getId(), inspection);
+        }
+        eventPublisher.publishEvent(new PostUpdatedEvent(savedPost.getId(), savedPost.getBoard().getCode(),
+                savedPost.getTitle()));
+        return savedPost;
     }
 
     /**
      * 게시글을 삭제한다
-     * 삭제 전 게시글 존재 여부를 확인하여, 없으면 PostNotFoundException을 발생시킨다.
+     * <p>
+     *     게시글에 삭제 시각만 기록하는 UPDATE 한 번과 게시판/작성일 조회 한 번으로 처리하며, 삭제된 게시글은 즉시 모든 조회에서 제외된다.
+     *     추천 수와 관계없이 요청 시간이 일정하다. 추천 정보와 게시글 행은 커밋 이후 {@link PostPurger}가 묶음 단위로 지운다.
+     *     게시글이 없거나 이미 삭제되었으면 PostNotFoundException을 발생시킨다.
+     * </p>
      *
      * @param postId 삭제할 게시글의 식별자
      * @throws PostNotFoundException 게시글이 존재하지 않을 경우
      */
     public void deletePostById(Long postId) {
-        if (!postRepository.existsById(postId)) {
+        if (postRepository.softDeleteById(postId, LocalDateTime.now()) == 0) {
             throw new PostNotFoundException("Post not found with id: " + postId);
         }
-        postRepository.deleteById(postId);
+        // 커밋 이후에는 PostPurger가 행을 지울 수 있으므로, 게시판 통계에 필요한 값은 이 트랜잭션에서 읽어 둔다.
+        PostActivityView activity = postRepository.findActivityById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+        recommenderIndex.evict(postId);
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, activity.getBoardCode(), activity.getCreatedAt()));
     }
 
     /**
      * 게시글에 대한 추천을 처리한다
      * 각 회원은 한 게시글에 대해 한 번만 추천할 수 있다.
+     * <p>
+     *     추천 추가는 게시글의 버전을 올리지 않으므로, 다른 회원의 추천이나 작성자의 수정과 충돌하지 않는다.
+     *     같은 회원이 동시에 두 번 추천하면 (post_id, member_id) unique 제약 조건 위반으로 커밋이 실패하며,
+     *     이는 {@link AlreadyRecommendedException}으로 바꿔 알린다.
+     *     트랜잭션은 {@link OptimisticRetry}가 시작하며, 드물게 낙관적 잠금 충돌이 나면 새 트랜잭션에서 다시 실행한다.
+     * </p>
      *
      * @param postId 추천할 게시글의 식별자
      * @param memberId 추천하는 회원의 식별자
      * @throws AlreadyRecommendedException 이미 추천한 회원인 경우
      * @throws PostNotFoundException 게시글이 존재하지 않을 경우
+     * @throws MemberNotFoundException 회원이 없거나 탈퇴한 회원일 경우
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션은 시도마다 OptimisticRetry가 시작한다.
     public void recommendPost(Long postId, Long memberId) {
-        // 게시글 조회 (없으면 예외 발생)
-        Post post = postRepository.findById(postId)
+        try {
+            optimisticRetry.run("post.recommend", () -> addRecommendation(postId, memberId));
+        } catch (DataIntegrityViolationException ex) {
+            // unique 제약 조건 위반은 커밋 시점에 나므로 트랜잭션 밖에서 바꾼다.
+            throw new AlreadyRecommendedException("이미 추천한 게시글입니다.");
+        }
+    }
+
+    private void addRecommendation(Long postId, Long memberId) {
+        // 게시글 조회 (없으면 예외 발생). 게시글 행은 수정하지 않는다.
+        Post post = postRepository.findForRecommendationById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
 
-        // 같은 회원이 이미 추천했는지 확인
-        if (postRecommendationRepository.existsByPostIdAndMemberId(postId, memberId)) {
+        // 같은 회원이 이미 추천했는지 확인 (추천자 비트맵으로 확인하며, 최종적으로는 (post_id, member_id) unique 제약 조건이 보장한다)
+        if (recommenderIndex.hasRecommended(postId, memberId)) {
             throw new AlreadyRecommendedException("이미 추천한 게시글입니다.");
         }
 
-        // memberRepository.getReferenceById()를 사용하여, DB 조회 없이 Member의 참조 객체(프록시)를 획득한다.
+        // 탈퇴한 회원의 남은 세션으로는 추천할 수 없다.
+        requireActiveMember(memberId);
+
+        // memberRepository.getReferenceById()를 사용하여, 회원 엔티티를 읽지 않고 Member의 참조 객체(프록시)를 획득한다.
         Member memberRef = memberRepository.getReferenceById(memberId);
 
         // 새로운 추천 객체를 생성한다.
@@ -173,6 +432,45 @@ public class PostService {
 
         // 게시글을 저장한다. cascade 옵션에 의해 Post의 자식에 해당하는 추천 정보도 함께 저장된다.
         postRepository.save(post);
+
+        // 커밋 이후 추천자 비트맵에 반영되도록 이벤트를 발행한다.
+        eventPublisher.publishEvent(new PostRecommendedEvent(postId, memberId));
+    }
+
+    /**
+     * 회원이 있고 탈퇴하지 않았는지 확인한다.
+     * <p>세션에는 로그인할 때의 회원 정보가 남아 있으므로, 탈퇴한 회원의 세션으로 쓰는 요청을 여기서 거부한다.</p>
+     */
+    private void requireActiveMember(Long memberId) {
+        if (memberId == null || !memberRepository.existsActiveById(memberId)) {
+            throw new MemberNotFoundException("Member not found or deactivated with id: " + memberId);
+        }
+    }
+
+    /**
+     * 게시글의 추천 수를 조회한다.
+     * <p>
+     *     추천 컬렉션을 로딩하지 않고, 메모리의 추천자 비트맵에서 바로 계산한다.
+     * </p>
+     *
+     * @param postId 게시글 식별자
+     * @return 추천 수
+     */
+    @Transactional(readOnly = true)
+    public long getRecommendationCount(Long postId) {
+        return recommenderIndex.countFor(postId);
+    }
+
+    /**
+     * 회원이 해당 게시글을 이미 추천했는지 확인한다.
+     *
+     * @param postId   게시글 식별자
+     * @param memberId 회원 식별자
+     * @return 이미 추천했으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean hasRecommended(Long postId, Long memberId) {
+        return recommenderIndex.hasRecommended(postId, memberId);
     }
 
 
@@ -0,0 +1,198 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.event.OutboxConsumer;
+import parksoffice.ojtcommunity.event.OutboxMessage;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRecommendedEvent;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.support.RoaringBitmap;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RecommenderIndex 클래스
+ * <p>
+ * 게시글별로 추천한 회원 ID를 {@link RoaringBitmap}으로 메모리에 보관한다.
+ * "회원 X가 게시글 Y를 추천했는가"와 "게시글 Y의 추천 수"를 쿼리 없이 답하기 위해 사용한다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>게시글의 비트맵은 처음 조회될 때 post_recommendations에서 member_id만 읽어 지연 적재(lazy warm-up)한다.</li>
+ *   <li>추천이 커밋되면 {@link PostRecommendedEvent}를 받아 적재된 비트맵에 반영한다.</li>
+ *   <li>전체 추정 메모리가 상한을 넘으면 가장 오래 사용되지 않은(LRU) 게시글부터 제거한다.</li>
+ *   <li>{@link OutboxConsumer}로 커밋된 추천과 삭제를 한 번 더 받아 반영한다. (커밋 직후 처리가 빠진 변경 보완,
+ *       같은 회원을 다시 더하거나 없는 비트맵을 지워도 결과가 같다.)</li>
+ * </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+public class RecommenderIndex implements OutboxConsumer {
+
+    private final PostRecommendationRepository postRecommendationRepository;
+    private final long maxBytes;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동하므로, 맨 앞이 가장 오래 사용되지 않은 항목이 된다.
+    private final LinkedHashMap<Long, RoaringBitmap> bitmaps = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    // 커밋된 추천 이벤트 수. 적재 도중 추천이 커밋되면 적재 결과가 오래된 것일 수 있으므로 캐시하지 않는다.
+    private long recommendSequence;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public RecommenderIndex(PostRecommendationRepository postRecommendationRepository,
+                            @Value("${ojt.recommender-index.max-bytes:33554432}") long maxBytes,
+                            MeterRegistry meterRegistry) {
+        this.postRecommendationRepository = postRecommendationRepository;
+        this.maxBytes = maxBytes;
+        this.hits = meterRegistry.counter("recommender.index.requests", "result", "hit");
+        this.misses = meterRegistry.counter("recommender.index.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("recommender.index.evictions");
+        Gauge.builder("recommender.index.bytes", this, RecommenderIndex::estimatedBytes)
+                .description("추천자 비트맵의 추정 메모리 사용량")
+                .register(meterRegistry);
+        Gauge.builder("recommender.index.posts", this, RecommenderIndex::cachedPosts)
+                .description("메모리에 적재된 게시글 비트맵 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원이 게시글을 이미 추천했는지 확인한다.
+     *
+     * @param postId   게시글 식별자
+     * @param memberId 회원 식별자
+     * @return 추천했으면 true
+     */
+    public boolean hasRecommended(Long postId, Long memberId) {
+        return bitmapFor(postId).contains(memberId);
+    }
+
+    /**
+     * 게시글의 추천 수를 반환한다.
+     *
+     * @param postId 게시글 식별자
+     * @return 추천 수
+     */
+    public long countFor(Long postId) {
+        return bitmapFor(postId).cardinality();
+    }
+
+    /**
+     * 게시글의 비트맵을 메모리에서 제거한다. (게시글 삭제 시 호출)
+     *
+     * @param postId 게시글 식별자
+     */
+    public synchronized void evict(Long postId) {
+        RoaringBitmap removed = bitmaps.remove(postId);
+        if (removed != null) {
+            totalBytes -= removed.estimateBytes();
+        }
+    }
+
+    /**
+     * 커밋된 추천을 적재된 비트맵에 반영한다.
+     * <p>
+     *     아직 적재되지 않은 게시글이면 아무 일도 하지 않는다. (다음 조회 시 DB에서 최신 상태로 적재된다.)
+     * </p>
+     *
+     * @param event 추천 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onPostRecommended(PostRecommendedEvent event) {
+        recommendSequence++;
+        RoaringBitmap bitmap = bitmaps.get(event.postId());
+        if (bitmap != null) {
+            long before = bitmap.estimateBytes();
+            bitmap.add(event.memberId());
+            totalBytes += bitmap.estimateBytes() - before;
+            evictIfNeeded();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "recommender-index";
+    }
+
+    /**
+     * 아웃박스로 전달된 추천은 적재된 비트맵에 반영하고, 삭제된 게시글의 비트맵은 제거한다.
+     *
+     * @param message 아웃박스 메시지
+     */
+    @Override
+    public void accept(OutboxMessage message) {
+        switch (message.event()) {
+            case PostRecommendedEvent event -> onPostRecommended(event);
+            case PostDeletedEvent event -> evict(event.postId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 현재 적재된 비트맵의 추정 메모리 사용량(바이트)
+     */
+    public synchronized long estimatedBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 현재 적재된 게시글 비트맵 수
+     */
+    public synchronized int cachedPosts() {
+        return bitmaps.size();
+    }
+
+    private RoaringBitmap bitmapFor(Long postId) {
+        long sequence;
+        synchronized (this) {
+            RoaringBitmap cached = bitmaps.get(postId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            sequence = recommendSequence;
+        }
+        misses.increment();
+        // DB 조회는 락 밖에서 수행하여, 다른 게시글의 조회가 블로킹되지 않도록 한다.
+        RoaringBitmap loaded = new RoaringBitmap();
+        postRecommendationRepository.findMemberIdsByPostId(postId).forEach(loaded::add);
+
+        synchronized (this) {
+            RoaringBitmap existing = bitmaps.get(postId);
+            if (existing != null) {
+                return existing; // 다른 스레드가 먼저 적재한 경우
+            }
+            if (sequence != recommendSequence) {
+                return loaded; // 적재 도중 커밋된 추천이 누락되었을 수 있으므로 이번 결과는 캐시하지 않는다.
+            }
+            bitmaps.put(postId, loaded);
+            totalBytes += loaded.estimateBytes();
+            evictIfNeeded();
+            return loaded;
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, RoaringBitmap>> it = bitmaps.entrySet().iterator();
+        // 방금 적재/갱신한 항목(맨 뒤)은 남겨둔다.
+        while (totalBytes > maxBytes && bitmaps.size() > 1 && it.hasNext()) {
+            RoaringBitmap eldest = it.next().getValue();
+            totalBytes -= eldest.estimateBytes();
+            it.remove();
+            evictions.increment();
+        }
+    }
+}
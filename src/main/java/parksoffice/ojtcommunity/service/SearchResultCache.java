@@ -0,0 +1,313 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import parksoffice.ojtcommunity.event.OutboxConsumer;
+import parksoffice.ojtcommunity.event.OutboxMessage;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
+
+import java.text.Normalizer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SearchResultCache 클래스
+ * <p>
+ * 게시글 키워드 검색 결과를 (검색 필드, 정규화한 검색어, 게시판, 커서, 페이지 크기) 단위로 메모리에 보관한다.
+ * 게시글 내용은 보관하지 않고 결과 페이지의 게시글 식별자와 다음 커서만 보관하므로, 적중 시에는 식별자로 요약 정보만 다시 조회한다.
+ * (전체 테이블을 훑는 LIKE 검색 대신 기본 키 조회)
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>무효화: 게시판마다 세대(generation) 번호를 두고, 게시글 등록/수정이 커밋되면 그 게시판의 세대만 올린다.
+ *       항목은 만들 때의 세대를 함께 저장하고, 조회 시 세대가 다르면 버린다. (다른 게시판의 검색 결과는 그대로 사용)
+ *       모든 게시판 검색은 전체 세대(어느 게시판이든 쓰기가 있으면 증가)를 사용한다.</li>
+ *   <li>삭제: 게시글 삭제는 게시판을 조회하지 않는 UPDATE 한 번이므로, 그 게시글을 담은 항목만 지운다. (삭제는 드물다)</li>
+ *   <li>크기: 전체 추정 메모리가 상한을 넘으면 가장 오래 사용되지 않은(LRU) 항목부터 제거한다.</li>
+ *   <li>아웃박스: 커밋 직후의 이벤트로 바로 무효화하고, {@link OutboxConsumer}로 같은 변경을 한 번 더 받는다.
+ *       커밋 직후 처리가 빠진 변경(리스너 예외)은 릴레이가 전달할 때 무효화된다.
+ *       이미 세대를 올린 등록/수정은 다시 올리지 않아, 그 사이에 캐시한 결과를 버리지 않는다.
+ *       세대를 올린 표시는 일정 시간이 지나면 버려, 전달되지 않는 메시지(읽을 수 없는 메시지 등) 때문에 쌓이지 않게 한다.
+ *       오프셋은 소비자 이름으로만 저장되므로 서버 하나에서 실행하는 것을 전제로 한다. (여러 서버에서는 메시지를 전달한 서버의 캐시만 무효화된다.)</li>
+ * </ul>
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+public class SearchResultCache implements OutboxConsumer {
+
+    /**
+     * 검색 대상 필드
+     */
+    public enum Field {
+        TITLE, CONTENT
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param field     검색 필드
+     * @param query     {@link #normalize(String)}로 정규화한 검색어
+     * @param boardCode 게시판 코드 (모든 게시판이면 null)
+     * @param cursor    커서 (첫 페이지는 Long.MAX_VALUE)
+     * @param size      페이지 크기
+     */
+    public record Key(Field field, String query, String boardCode, long cursor, int size) {
+    }
+
+    /**
+     * 캐시에 보관하는 결과 페이지
+     *
+     * @param ids        페이지의 게시글 식별자 (최신순)
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record Page(long[] ids, Long nextCursor) {
+
+        boolean contains(long postId) {
+            for (long id : ids) {
+                if (id == postId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Entry(Page page, long generation, long bytes) {
+    }
+
+    /**
+     * @param count    아직 아웃박스로 전달되지 않은 쓰기 수
+     * @param markedAt 마지막으로 표시한 시각 (System.nanoTime)
+     */
+    private record Applied(int count, long markedAt) {
+    }
+
+    // 항목 하나의 고정 비용 (맵 엔트리, 키/값 객체 헤더, 배열 헤더 등의 추정치)
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    // 세대를 올린 표시를 보관하는 시간 (릴레이는 보통 poll-interval 안에 전달한다.)
+    private static final long APPLIED_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // 표시 수가 이보다 많아지면 보관 시간이 지난 표시를 정리한다.
+    private static final int APPLIED_PRUNE_THRESHOLD = 4096;
+
+    private final long maxBytes;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동하므로, 맨 앞이 가장 오래 사용되지 않은 항목이 된다.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    // 커밋된 삭제 수. 조회 도중 삭제가 커밋되면 결과에 삭제된 게시글이 있을 수 있으므로 캐시하지 않는다.
+    private long deleteSequence;
+
+    private final Map<String, AtomicLong> boardGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong allBoardsGeneration = new AtomicLong();
+    // 커밋 직후 세대를 올렸고 아직 아웃박스로 전달되지 않은 쓰기 (게시글 번호 → 수와 표시 시각)
+    private final Map<Long, Applied> appliedWrites = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Counter evictions;
+
+    public SearchResultCache(@Value("${ojt.search-cache.max-bytes:8388608}") long maxBytes,
+                             MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        this.hits = meterRegistry.counter("search.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("search.cache.requests", "result", "miss");
+        this.stale = meterRegistry.counter("search.cache.stale");
+        this.evictions = meterRegistry.counter("search.cache.evictions");
+        Gauge.builder("search.cache.bytes", this, SearchResultCache::estimatedBytes)
+                .description("검색 결과 캐시의 추정 메모리 사용량")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.entries", this, SearchResultCache::size)
+                .description("보관 중인 검색 결과 페이지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어를 정규화한다. (유니코드 NFC, 앞뒤 공백 제거, 연속 공백을 하나로, 소문자)
+     * <p>검색은 대소문자를 무시하므로, 정규화 결과가 같은 검색어는 결과도 같다.</p>
+     *
+     * @param query 입력한 검색어
+     * @return 정규화한 검색어 (null이면 빈 문자열)
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Normalizer.normalize(query, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시된 결과 페이지를 반환하고, 없거나 오래되었으면 {@code loader}로 조회하여 보관한다.
+     *
+     * @param key    캐시 키
+     * @param loader 결과 페이지를 조회하는 함수 (캐시 락 밖에서 실행)
+     * @return 결과 페이지
+     */
+    public Page get(Key key, Supplier<Page> loader) {
+        // 조회 전에 세대를 읽어 둔다. 조회 도중 쓰기가 커밋되면 세대가 올라가므로, 저장한 항목은 다음 조회에서 버려진다.
+        long generation = generationOf(key.boardCode());
+        long deletes;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                if (cached.generation() == generation) {
+                    hits.increment();
+                    return cached.page();
+                }
+                remove(key);
+                stale.increment();
+            }
+            deletes = deleteSequence;
+        }
+        misses.increment();
+
+        Page page = loader.get();
+        synchronized (this) {
+            if (deletes == deleteSequence) {
+                long bytes = ENTRY_OVERHEAD_BYTES + 2L * key.query().length() + 8L * page.ids().length;
+                Entry previous = entries.put(key, new Entry(page, generation, bytes));
+                totalBytes += bytes - (previous != null ? previous.bytes() : 0);
+                evictIfNeeded();
+            }
+        }
+        return page;
+    }
+
+    @TransactionalEventListener
+    public void onPostRegistered(PostRegisteredEvent event) {
+        markApplied(event.postId());
+        bump(event.boardCode());
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        markApplied(event.postId());
+        bump(event.boardCode());
+    }
+
+    /**
+     * 삭제된 게시글을 담은 항목을 지운다.
+     *
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        deleteSequence++;
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getValue().page().contains(event.postId())) {
+                totalBytes -= entry.getValue().bytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "search-result-cache";
+    }
+
+    /**
+     * 아웃박스로 전달된 게시글 변경으로 다시 무효화한다.
+     *
+     * @param message 아웃박스 메시지
+     */
+    @Override
+    public void accept(OutboxMessage message) {
+        switch (message.event()) {
+            case PostRegisteredEvent event -> bumpUnlessApplied(event.postId(), event.boardCode());
+            case PostUpdatedEvent event -> bumpUnlessApplied(event.postId(), event.boardCode());
+            case PostDeletedEvent event -> onPostDeleted(event);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 현재 보관 중인 항목의 추정 메모리 사용량(바이트)
+     */
+    public synchronized long estimatedBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 현재 보관 중인 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void bump(String boardCode) {
+        if (boardCode != null) {
+            boardGenerations.computeIfAbsent(boardCode, code -> new AtomicLong()).incrementAndGet();
+        }
+        allBoardsGeneration.incrementAndGet();
+    }
+
+    private void markApplied(Long postId) {
+        long now = System.nanoTime();
+        appliedWrites.merge(postId, new Applied(1, now), (previous, added) -> new Applied(previous.count() + 1, now));
+        if (appliedWrites.size() > APPLIED_PRUNE_THRESHOLD) {
+            appliedWrites.values().removeIf(applied -> now - applied.markedAt() > APPLIED_TTL_NANOS);
+        }
+    }
+
+    /**
+     * 커밋 직후에 이미 세대를 올린 쓰기면 표시만 지우고, 아니면 세대를 올린다.
+     * (같은 쓰기로 두 번 올리면 그 사이에 캐시한 결과까지 버려진다.) 보관 시간이 지난 표시는 없는 것으로 본다.
+     */
+    private void bumpUnlessApplied(Long postId, String boardCode) {
+        boolean[] applied = new boolean[1];
+        long now = System.nanoTime();
+        appliedWrites.computeIfPresent(postId, (id, marked) -> {
+            if (now - marked.markedAt() > APPLIED_TTL_NANOS) {
+                return null;
+            }
+            applied[0] = true;
+            return marked.count() > 1 ? new Applied(marked.count() - 1, marked.markedAt()) : null;
+        });
+        if (!applied[0]) {
+            bump(boardCode);
+        }
+    }
+
+    private long generationOf(String boardCode) {
+        if (boardCode == null) {
+            return allBoardsGeneration.get();
+        }
+        AtomicLong generation = boardGenerations.get(boardCode);
+        return generation != null ? generation.get() : 0;
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.bytes();
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().bytes();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+}
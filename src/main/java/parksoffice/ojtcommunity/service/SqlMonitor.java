@@ -0,0 +1,178 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import parksoffice.ojtcommunity.support.RingBuffer;
+import parksoffice.ojtcommunity.support.sql.ExecutedQuery;
+import parksoffice.ojtcommunity.support.sql.QueryListener;
+import parksoffice.ojtcommunity.support.sql.SqlStatistics;
+import parksoffice.ojtcommunity.support.sql.StatementType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SqlMonitor 클래스
+ * <p>
+ * {@link parksoffice.ojtcommunity.support.sql.SqlInterceptor}가 측정한 SQL 실행 결과를 받아
+ * 느린 쿼리를 기록하고, 요청 단위 SQL 통계를 메트릭으로 남긴다.
+ * </p>
+ *
+ * <p>
+ * <ul>
+ *   <li>임계값을 넘은 쿼리만 최근 느린 쿼리 링 버퍼에 보관하고, 그중 표본 비율만큼만 로그로 남긴다.</li>
+ *   <li>로그 출력은 전용 스레드에서 비동기로 수행한다. 대기열이 가득 차면 로그를 버리고 버린 수를 센다.</li>
+ *   <li>요청이 끝나면 요청당 쿼리 수/시간/행 수를 메트릭에 기록하고, 쿼리 수가 많은 요청은 경고 로그를 남긴다. (N+1 의심)</li>
+ * </ul>
+ * 임계값 미만의 쿼리에는 카운터 갱신 외의 비용이 들지 않는다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Slf4j
+public class SqlMonitor implements QueryListener {
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int requestWarnStatements;
+    private final RingBuffer<SlowQuery> slowQueries;
+
+    private final ThreadPoolExecutor logExecutor;
+    private final Counter slowCounter;
+    private final Counter droppedLogs;
+    private final Timer requestTime;
+    private final DistributionSummary requestStatements;
+    private final DistributionSummary requestRows;
+
+    public SqlMonitor(@Value("${ojt.sql-monitor.slow-threshold-ms:100}") long slowThresholdMs,
+                      @Value("${ojt.sql-monitor.sample-rate:1.0}") double sampleRate,
+                      @Value("${ojt.sql-monitor.ring-buffer-size:256}") int ringBufferSize,
+                      @Value("${ojt.sql-monitor.request-warn-statements:50}") int requestWarnStatements,
+                      MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.sampleRate = sampleRate;
+        this.requestWarnStatements = requestWarnStatements;
+        this.slowQueries = new RingBuffer<>(ringBufferSize);
+
+        this.droppedLogs = meterRegistry.counter("sql.log.dropped");
+        this.logExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1024),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sql-monitor-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedLogs.increment());
+        this.slowCounter = meterRegistry.counter("sql.slow.queries");
+        this.requestTime = Timer.builder("sql.request.time")
+                .description("요청 하나에서 실행된 SQL의 총 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.requestStatements = DistributionSummary.builder("sql.request.statements")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.requestRows = DistributionSummary.builder("sql.request.rows")
+                .description("요청 하나에서 읽거나 변경한 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * SQL 문 하나의 실행 결과를 받는다. 임계값을 넘은 경우에만 기록한다.
+     *
+     * @param query 실행된 SQL 문
+     */
+    @Override
+    public void afterQuery(ExecutedQuery query) {
+        if (query.elapsedNanos() < slowThresholdNanos) {
+            return;
+        }
+        SqlStatistics statistics = SqlStatistics.current();
+        SlowQuery slow = new SlowQuery(Instant.now(),
+                statistics != null ? statistics.getRequestId() : null,
+                query.type(), query.elapsedMillis(), query.rows(), query.sql());
+        slowQueries.add(slow);
+        slowCounter.increment();
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            logExecutor.execute(() -> log.warn("Slow query [{}] {} ms, {} row(s): {}",
+                    slow.requestId(), String.format("%.1f", slow.elapsedMs()), slow.rows(), slow.sql()));
+        }
+    }
+
+    /**
+     * 요청 하나의 SQL 통계를 메트릭에 기록한다.
+     *
+     * @param statistics 요청 동안 수집한 통계
+     * @param method     HTTP 메서드
+     * @param uri        요청 URI
+     */
+    public void requestCompleted(SqlStatistics statistics, String method, String uri) {
+        if (statistics.getStatements() == 0) {
+            return;
+        }
+        requestTime.record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        requestStatements.record(statistics.getStatements());
+        requestRows.record(statistics.getRows());
+        if (statistics.getStatements() > requestWarnStatements) {
+            logExecutor.execute(() -> log.warn("[{}] {} {} issued {} SQL statements (select={}, insert={}, update={}, delete={}) in {} ms",
+                    statistics.getRequestId(), method, uri, statistics.getStatements(),
+                    statistics.getStatements(StatementType.SELECT), statistics.getStatements(StatementType.INSERT),
+                    statistics.getStatements(StatementType.UPDATE), statistics.getStatements(StatementType.DELETE),
+                    statistics.getElapsedNanos() / 1_000_000));
+        } else if (log.isDebugEnabled()) {
+            log.debug("[{}] {} {}: {} SQL statement(s), {} row(s), {} µs", statistics.getRequestId(), method, uri,
+                    statistics.getStatements(), statistics.getRows(), statistics.getElapsedNanos() / 1_000);
+        }
+    }
+
+    /**
+     * 최근 느린 쿼리를 최신순으로 반환한다.
+     */
+    public List<SlowQuery> recentSlowQueries() {
+        return slowQueries.snapshot();
+    }
+
+    /**
+     * 기동 이후 기록된 느린 쿼리 수 (링 버퍼에서 밀려난 항목 포함)
+     */
+    public long slowQueryCount() {
+        return slowQueries.totalAdded();
+    }
+
+    public long getSlowThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logExecutor.shutdown();
+    }
+
+    /**
+     * 느린 쿼리 한 건의 기록
+     *
+     * @param at        기록 시각
+     * @param requestId 쿼리를 실행한 요청 식별자 (요청 밖에서 실행되었으면 null)
+     * @param type      SQL 문의 종류
+     * @param elapsedMs 실행 소요 시간(ms)
+     * @param rows      읽거나 변경한 행 수
+     * @param sql       SQL 문 (바인딩 값은 포함하지 않는다)
+     */
+    public record SlowQuery(Instant at, String requestId, StatementType type, double elapsedMs, long rows, String sql) {
+    }
+}
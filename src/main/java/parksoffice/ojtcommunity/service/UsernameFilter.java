@@ -0,0 +1,105 @@
+package parksoffice.ojtcommunity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.support.ScalableBloomFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UsernameFilter 클래스
+ * <p>
+ * 이미 사용 중인 사용자 이름(username)을 담은 블룸 필터를 관리한다.
+ * 회원가입 중복 검사와 사용자 이름 사용 가능 여부 확인 시,
+ * 필터가 "확실히 없음"이라고 답하면 DB를 조회하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 필터는 애플리케이션 기동 완료 시 DB의 전체 사용자 이름으로 재구축되며,
+ * 이후 회원 가입/이름 변경 시 {@link MemberService}가 {@link #put(String)}으로 즉시 반영한다.
+ * 필터는 어디까지나 빠른 경로(fast path)일 뿐이며, 최종 판단은 members.username의 unique 제약 조건이 담당한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+@Component
+@Slf4j
+public class UsernameFilter {
+
+    private final MemberRepository memberRepository;
+    private final int initialCapacity;
+    private final double falsePositiveRate;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile ScalableBloomFilter filter;
+    // 재구축 중에 추가된 사용자 이름 (재구축 중이 아니면 null, this로 보호)
+    private List<String> concurrentPuts;
+
+    public UsernameFilter(MemberRepository memberRepository,
+                          @Value("${ojt.username-filter.initial-capacity:10000}") int initialCapacity,
+                          @Value("${ojt.username-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+    }
+
+    /**
+     * DB의 전체 사용자 이름으로 필터를 재구축한다.
+     * <p>
+     *     이름 변경으로 더 이상 사용되지 않는 이름(블룸 필터는 삭제를 지원하지 않음)도 이 시점에 정리된다.
+     *     새 필터를 모두 채운 뒤 참조를 교체하므로, 재구축 중에도 기존 필터로 조회가 가능하다.
+     *     재구축 중에 추가된 이름은 DB 조회 결과에 없을 수 있으므로 따로 기록해 두었다가, 교체 직전에 새 필터에 다시 넣는다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            ScalableBloomFilter rebuilt = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+            synchronized (this) {
+                concurrentPuts = new ArrayList<>();
+            }
+            try {
+                memberRepository.findAllUsernames().forEach(rebuilt::put);
+                synchronized (this) {
+                    concurrentPuts.forEach(rebuilt::put);
+                    filter = rebuilt;
+                }
+            } finally {
+                synchronized (this) {
+                    concurrentPuts = null;
+                }
+            }
+            log.info("Username bloom filter built: ~{} usernames, {} stage(s), {} KiB",
+                    rebuilt.approximateCount(), rebuilt.stageCount(), rebuilt.bitmapBytes() / 1024);
+        }
+    }
+
+    /**
+     * 사용자 이름을 필터에 추가한다.
+     *
+     * @param username 추가할 사용자 이름
+     */
+    public synchronized void put(String username) {
+        filter.put(username);
+        if (concurrentPuts != null) {
+            concurrentPuts.add(username);
+        }
+    }
+
+    /**
+     * 사용자 이름이 이미 사용 중일 가능성이 있는지 확인한다.
+     *
+     * @param username 확인할 사용자 이름
+     * @return 확실히 사용 중이 아니면 false, 사용 중일 가능성이 있으면 true (DB 확인 필요)
+     */
+    public boolean mightExist(String username) {
+        return filter.mightContain(username);
+    }
+}
@@ -0,0 +1,105 @@
+package parksoffice.ojtcommunity.support;
+
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지를 필요할 때마다 하나씩 조회하며 항목을 돌려주는 한 번만 순회할 수 있는 목록
+ *
+ * <p>
+ *     전체 목록을 미리 메모리에 올리지 않고, 순회가 현재 페이지 끝에 닿았을 때 다음 페이지를 조회한다.
+ *     템플릿의 {@code th:each}에 넘기면 화면은 페이지 단위로 조회하면서 바로 출력하므로,
+ *     메모리에는 한 페이지만 남고 첫 행은 마지막 행을 조회하기 전에 나간다.
+ * </p>
+ *
+ * <p>
+ *     페이지를 조회하기 직전마다 {@code beforeChunk}를 실행한다. 화면에서는 여기서 응답 버퍼를 flush하여,
+ *     지금까지 만든 출력(레이아웃 헤더와 앞 페이지의 행)을 DB를 기다리는 동안 먼저 보낸다.
+ * </p>
+ *
+ * @param <T> 항목 타입
+ * @author CRISPYTYPER
+ */
+public class ChunkedCursor<T> implements Iterable<T> {
+
+    private final Function<Long, CursorPage<T>> loader;
+    private final Runnable beforeChunk;
+
+    private CursorPage<T> firstPage;
+    private boolean iterated;
+    private int chunkCount;
+
+    /**
+     * @param loader      커서로 다음 페이지를 조회하는 함수 (첫 페이지의 커서는 null)
+     * @param beforeChunk 페이지를 조회하기 직전에 실행할 작업
+     */
+    public ChunkedCursor(Function<Long, CursorPage<T>> loader, Runnable beforeChunk) {
+        this.loader = loader;
+        this.beforeChunk = beforeChunk;
+    }
+
+    /**
+     * 항목이 하나도 없는지 확인한다. 첫 페이지를 조회하며, 조회한 페이지는 순회할 때 그대로 사용한다.
+     *
+     * @return 항목이 없으면 true
+     */
+    public boolean isEmpty() {
+        return first().getItems().isEmpty();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("ChunkedCursor can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<>() {
+
+            private CursorPage<T> page = first();
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while (index >= page.getItems().size()) {
+                    if (page.getNextCursor() == null) {
+                        return false;
+                    }
+                    page = load(page.getNextCursor());
+                    index = 0;
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.getItems().get(index++);
+            }
+        };
+    }
+
+    private CursorPage<T> first() {
+        if (firstPage == null) {
+            firstPage = load(null);
+        }
+        return firstPage;
+    }
+
+    private CursorPage<T> load(Long cursor) {
+        beforeChunk.run();
+        chunkCount++;
+        return loader.apply(cursor);
+    }
+
+    /**
+     * @return 지금까지 조회한 페이지 수
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+}
@@ -0,0 +1,363 @@
+package parksoffice.ojtcommunity.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 매핑 파일에 고정 크기 레코드를 이어 쓰는 추가 전용(append-only) 저널
+ *
+ * <p>
+ *     레코드는 (키, 보조 키, 종류, 시각) 32바이트이며, 순번(sequence)으로 위치가 정해진다.
+ *     순번 {@code n}은 {@code n / recordsPerSegment}번 세그먼트 파일의 {@code n % recordsPerSegment}번째 칸에 저장된다.
+ *     <ul>
+ *         <li>쓰기: 원자적 카운터로 순번을 받고 매핑된 버퍼에 직접 쓰므로, 여러 스레드가 락과 객체 생성 없이 동시에 쓴다.
+ *             종류 값을 마지막에 release로 써서, 종류가 0이 아니면 레코드 전체가 쓰인 것으로 본다.
+ *             새 세그먼트로 넘어갈 때만 파일을 만들고 매핑한다.</li>
+ *         <li>내구성: 매핑된 페이지는 운영체제가 파일에 쓰므로 프로세스가 죽어도 남는다. 전원 장애까지 대비하려면 {@link #sync()}를 주기적으로 호출한다.</li>
+ *         <li>읽기: 소비자 하나가 체크포인트 이후 레코드를 순서대로 읽고, 처리한 위치를 {@link #checkpoint(long)}로 저장한다.
+ *             다시 열면 체크포인트부터 읽는다.</li>
+ *         <li>정리: {@link #compact()}는 체크포인트 이전 레코드만 담은 세그먼트 파일을 지운다.</li>
+ *         <li>잠금: 열 때 디렉터리의 잠금 파일에 배타적 잠금을 걸어, 다른 프로세스(또는 같은 프로세스의 다른 저널)가
+ *             같은 디렉터리를 쓰고 있으면 바로 실패한다. 잠금은 닫거나 프로세스가 끝나면 풀린다.</li>
+ *     </ul>
+ * </p>
+ *
+ * <p>
+ *     순번만 받고 쓰지 못한 빈 칸이 남을 수 있다. (쓰는 도중 프로세스가 죽거나, 세그먼트를 매핑하지 못해 추가가 실패한 경우)
+ *     다시 열 때 마지막으로 쓰인 칸의 다음을 끝으로 정하고, 그 이전의 빈 칸은 읽을 때 건너뛴다.
+ *     실행 중에는 추가가 실패한 칸과, 쓰기 창(최근 4개 세그먼트)보다 오래된 세그먼트의 빈 칸을 건너뛴다.
+ *     쓰기 창 안의 빈 칸은 다른 스레드가 아직 쓰는 중일 수 있으므로 그 앞에서 멈춘다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class MappedJournal implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 32;
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String LOCK_FILE = "lock";
+    private static final int WINDOW = 4;
+    private static final int KEY = 0;
+    private static final int SECONDARY_KEY = 8;
+    private static final int TIMESTAMP = 16;
+    private static final int TYPE = 24;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final AtomicLong next;
+    private final long recoveredTail;
+    private final AtomicReferenceArray<Segment> writeWindow = new AtomicReferenceArray<>(WINDOW);
+    private final MappedByteBuffer checkpointBuffer;
+    private final FileChannel checkpointChannel;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    // 순번을 받은 뒤 추가가 실패한 칸 (읽을 때 건너뛴다.)
+    private final Set<Long> abandoned = ConcurrentHashMap.newKeySet();
+    private Segment readSegment;
+
+    /**
+     * 레코드를 하나씩 받는 콜백
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void accept(long sequence, long key, long secondaryKey, int type, long timestamp);
+    }
+
+    /**
+     * 저널 디렉터리를 연다. (없으면 만든다.)
+     *
+     * @param directory         세그먼트 파일과 체크포인트 파일을 둘 디렉터리
+     * @param recordsPerSegment 세그먼트 파일 하나에 담을 레코드 수
+     * @throws IllegalStateException 다른 저널이 이미 디렉터리를 열고 있을 때
+     */
+    public MappedJournal(Path directory, int recordsPerSegment) {
+        if (recordsPerSegment <= 0 || recordsPerSegment > Integer.MAX_VALUE / RECORD_BYTES) {
+            throw new IllegalArgumentException("recordsPerSegment out of range: " + recordsPerSegment);
+        }
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open journal " + directory, ex);
+        }
+        try {
+            this.lock = lock(lockChannel, directory);
+            this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.checkpointBuffer = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        } catch (IOException ex) {
+            closeQuietly(lockChannel); // 채널을 닫으면 잠금도 풀린다.
+            throw new UncheckedIOException("Failed to open journal " + directory, ex);
+        } catch (RuntimeException ex) {
+            closeQuietly(lockChannel);
+            throw ex;
+        }
+        this.recoveredTail = Math.max(recoverTail(), checkpoint());
+        this.next = new AtomicLong(recoveredTail);
+    }
+
+    /**
+     * 레코드를 추가한다. (여러 스레드에서 동시에 호출할 수 있다.)
+     *
+     * @param key          키 (예: 게시글 식별자)
+     * @param secondaryKey 보조 키 (예: 회원 식별자, 없으면 0)
+     * @param type         레코드 종류 (0은 빈 칸 표시용이므로 1 이상)
+     * @param timestamp    시각 (epoch millis)
+     * @return 레코드의 순번
+     */
+    public long append(long key, long secondaryKey, int type, long timestamp) {
+        if (type <= 0) {
+            throw new IllegalArgumentException("type must be positive: " + type);
+        }
+        long sequence = next.getAndIncrement();
+        MappedByteBuffer buffer;
+        try {
+            buffer = writeSegment(sequence / recordsPerSegment).buffer;
+        } catch (RuntimeException ex) {
+            abandoned.add(sequence); // 이 칸은 쓰이지 않으므로 읽는 쪽이 기다리지 않게 한다.
+            throw ex;
+        }
+        int offset = (int) (sequence % recordsPerSegment) * RECORD_BYTES;
+        LONGS.set(buffer, offset + KEY, key);
+        LONGS.set(buffer, offset + SECONDARY_KEY, secondaryKey);
+        LONGS.set(buffer, offset + TIMESTAMP, timestamp);
+        INTS.setRelease(buffer, offset + TYPE, type);
+        return sequence;
+    }
+
+    /**
+     * {@code from}부터 최대 {@code max}개의 레코드를 순서대로 읽는다. (소비자 스레드 하나에서만 호출한다.)
+     * <p>쓰기 창 안에서 아직 쓰는 중인 레코드를 만나면 그 앞에서 멈춘다. 실패한 추가의 빈 칸은 건너뛴다.</p>
+     *
+     * @param from    읽기 시작할 순번
+     * @param max     읽을 최대 칸 수
+     * @param handler 레코드 콜백
+     * @return 다음에 읽을 순번 (읽은 레코드가 없으면 {@code from})
+     */
+    public long read(long from, int max, RecordHandler handler) {
+        long head = next.get();
+        long end = Math.min(head, from + max);
+        // 이 순번보다 앞의 빈 칸은 쓰기 창에서 밀려난 세그먼트에 있으므로, 쓰다가 실패한 칸으로 본다.
+        long horizon = Math.max(recoveredTail, (head / recordsPerSegment - (WINDOW - 1)) * recordsPerSegment);
+        long sequence = from;
+        while (sequence < end) {
+            long index = sequence / recordsPerSegment;
+            if (readSegment == null || readSegment.index != index) {
+                readSegment = map(index);
+            }
+            MappedByteBuffer buffer = readSegment.buffer;
+            int offset = (int) (sequence % recordsPerSegment) * RECORD_BYTES;
+            int type = (int) INTS.getAcquire(buffer, offset + TYPE);
+            if (type == 0) {
+                if (sequence >= horizon && !abandoned.contains(sequence)) {
+                    break; // 다른 스레드가 아직 쓰는 중
+                }
+                sequence++; // 이전 실행에서 쓰지 못했거나 추가가 실패한 칸
+                continue;
+            }
+            handler.accept(sequence, (long) LONGS.get(buffer, offset + KEY), (long) LONGS.get(buffer, offset + SECONDARY_KEY),
+                    type, (long) LONGS.get(buffer, offset + TIMESTAMP));
+            sequence++;
+        }
+        return sequence;
+    }
+
+    /**
+     * @return 저장된 체크포인트 (다음에 처리할 순번)
+     */
+    public long checkpoint() {
+        return (long) LONGS.getAcquire(checkpointBuffer, 0);
+    }
+
+    /**
+     * 처리한 위치를 저장한다. 다시 열면 이 순번부터 읽는다.
+     *
+     * @param sequence 다음에 처리할 순번
+     */
+    public void checkpoint(long sequence) {
+        LONGS.setRelease(checkpointBuffer, 0, sequence);
+        checkpointBuffer.force();
+        abandoned.removeIf(abandonedSequence -> abandonedSequence < sequence);
+    }
+
+    /**
+     * 쓰기 중인 세그먼트를 디스크에 강제로 쓴다. (운영체제/전원 장애 대비)
+     */
+    public void sync() {
+        for (int i = 0; i < WINDOW; i++) {
+            Segment segment = writeWindow.get(i);
+            if (segment != null) {
+                segment.buffer.force();
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 이전 레코드만 담은 세그먼트 파일을 지운다.
+     *
+     * @return 지운 세그먼트 수
+     */
+    public int compact() {
+        long firstLive = checkpoint() / recordsPerSegment;
+        int deleted = 0;
+        for (long index : segmentIndexes()) {
+            if (index >= firstLive) {
+                break;
+            }
+            int slot = (int) (index % WINDOW);
+            Segment segment = writeWindow.get(slot);
+            if (segment != null && segment.index == index) {
+                writeWindow.compareAndSet(slot, segment, null);
+            }
+            if (readSegment != null && readSegment.index == index) {
+                readSegment = null;
+            }
+            try {
+                // 매핑은 GC가 버퍼를 회수할 때 해제된다. (리눅스에서는 매핑된 파일도 바로 지울 수 있다.)
+                Files.deleteIfExists(segmentPath(index));
+                deleted++;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to delete journal segment " + index, ex);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * @return 다음에 쓸 순번 (지금까지 받은 순번 수)
+     */
+    public long written() {
+        return next.get();
+    }
+
+    /**
+     * @return 디스크에 있는 세그먼트 파일 수
+     */
+    public int segmentCount() {
+        return segmentIndexes().size();
+    }
+
+    @Override
+    public void close() {
+        sync();
+        checkpointBuffer.force();
+        try {
+            checkpointChannel.close();
+            lock.release();
+            lockChannel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static FileLock lock(FileChannel channel, Path directory) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            lock = null; // 같은 프로세스에서 이미 연 디렉터리
+        }
+        if (lock == null) {
+            throw new IllegalStateException("Journal directory " + directory + " is already in use by another journal");
+        }
+        return lock;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 열기 실패를 보고하는 중이므로 무시한다.
+        }
+    }
+
+    private Segment writeSegment(long index) {
+        Segment segment = writeWindow.get((int) (index % WINDOW));
+        if (segment != null && segment.index == index) {
+            return segment;
+        }
+        return roll(index);
+    }
+
+    private synchronized Segment roll(long index) {
+        int slot = (int) (index % WINDOW);
+        Segment segment = writeWindow.get(slot);
+        if (segment == null || segment.index != index) {
+            segment = map(index);
+            writeWindow.set(slot, segment);
+        }
+        return segment;
+    }
+
+    private Segment map(long index) {
+        try (FileChannel channel = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 파일 크기를 세그먼트 크기로 늘려 매핑한다. (채널을 닫아도 매핑은 유지된다.)
+            return new Segment(index, channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_BYTES));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to map journal segment " + index, ex);
+        }
+    }
+
+    /**
+     * 마지막 세그먼트에서 마지막으로 쓰인 칸을 찾아, 그 다음 순번을 돌려준다.
+     */
+    private long recoverTail() {
+        List<Long> indexes = segmentIndexes();
+        if (indexes.isEmpty()) {
+            return 0;
+        }
+        long index = indexes.get(indexes.size() - 1);
+        MappedByteBuffer buffer = map(index).buffer;
+        for (int slot = recordsPerSegment - 1; slot >= 0; slot--) {
+            if ((int) INTS.getAcquire(buffer, slot * RECORD_BYTES + TYPE) != 0) {
+                return index * recordsPerSegment + slot + 1;
+            }
+        }
+        return index * recordsPerSegment;
+    }
+
+    private List<Long> segmentIndexes() {
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> indexes.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to list journal " + directory, ex);
+        }
+        indexes.sort(null);
+        return indexes;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+    }
+
+    private record Segment(long index, MappedByteBuffer buffer) {
+    }
+}
@@ -0,0 +1,438 @@
+package parksoffice.ojtcommunity.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 접두사(prefix) 검색용 압축 트라이(Radix Trie)
+ *
+ * <p>
+ *     공통 접두사를 하나의 간선(label)으로 압축하여 저장하므로, 비슷한 문자열이 많을수록 메모리를 적게 사용한다.
+ *     자식 노드는 간선의 첫 글자 기준으로 정렬된 배열에 보관되어, 자식 탐색은 이진 탐색으로 수행되고
+ *     깊이 우선 순회 결과가 곧 사전순 정렬이 된다.
+ * </p>
+ *
+ * <p>
+ *     읽기(검색)가 압도적으로 많고 쓰기(추가/삭제)는 드문 사용 패턴을 가정하여
+ *     {@link ReentrantReadWriteLock}으로 동시성을 제어한다. 검색끼리는 서로 블로킹하지 않는다.
+ *     문자열 비교는 대소문자를 구분한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class PrefixTrie {
+
+    private static final Object[] NO_CHILDREN = new Object[0];
+    private static final char[] EMPTY_LABEL = new char[0];
+
+    private final Node root = new Node(EMPTY_LABEL, false);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    /**
+     * 문자열을 추가한다. 이미 존재하는 문자열이면 아무 일도 하지 않는다.
+     *
+     * @param key 추가할 문자열 (빈 문자열은 무시)
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(String key) {
+        if (key == null || key.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (true) {
+                if (i == key.length()) {
+                    if (node.terminal) {
+                        return false;
+                    }
+                    node.terminal = true;
+                    size++;
+                    return true;
+                }
+                int idx = node.indexOf(key.charAt(i));
+                if (idx < 0) {
+                    // 새 문자열의 나머지는 자식이 없는 종단 노드이므로 간선 문자 배열만 둔다.
+                    node.insertChild(-idx - 1, key.substring(i).toCharArray());
+                    size++;
+                    return true;
+                }
+                Object child = node.children[idx];
+                char[] label = labelOf(child);
+                int common = commonPrefixLength(label, key, i);
+                if (common < label.length) {
+                    // 간선 중간에서 갈라지는 경우: 공통 부분을 중간 노드로 분리한다.
+                    Node mid = new Node(Arrays.copyOfRange(label, 0, common), false);
+                    mid.children = new Object[]{withLabel(child, Arrays.copyOfRange(label, common, label.length))};
+                    node.children[idx] = mid;
+                    node = mid;
+                    i += common;
+                    continue;
+                }
+                if (child instanceof char[]) {
+                    if (i + common == key.length()) {
+                        return false;
+                    }
+                    // 종단 노드 아래로 더 내려가야 하므로 노드 객체로 바꾼다.
+                    Node expanded = new Node(label, true);
+                    node.children[idx] = expanded;
+                    child = expanded;
+                }
+                node = (Node) child;
+                i += common;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열을 제거한다. 제거 후 불필요해진 노드는 정리하고, 자식이 하나뿐인 중간 노드는 다시 압축한다.
+     *
+     * @param key 제거할 문자열
+     * @return 실제로 제거되었으면 true
+     */
+    public boolean remove(String key) {
+        if (key == null || key.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Node grandparent = null;
+            int grandparentIdx = -1;
+            Node parent = null;
+            int parentIdx = -1;
+            Object node = root;
+            int i = 0;
+            while (i < key.length()) {
+                if (!(node instanceof Node current)) {
+                    return false;
+                }
+                int idx = current.indexOf(key.charAt(i));
+                if (idx < 0) {
+                    return false;
+                }
+                Object child = current.children[idx];
+                char[] label = labelOf(child);
+                if (!matches(label, key, i)) {
+                    return false;
+                }
+                grandparent = parent;
+                grandparentIdx = parentIdx;
+                parent = current;
+                parentIdx = idx;
+                node = child;
+                i += label.length;
+            }
+
+            if (node instanceof char[]) {
+                parent.removeChild(parentIdx);
+                size--;
+                // 부모가 종단 노드가 아니고 자식이 하나만 남았다면 부모와 자식을 합친다.
+                if (parent != root && !parent.terminal && parent.children.length == 1) {
+                    parent.mergeWithOnlyChild();
+                }
+                // 부모가 자식 없는 종단 노드가 되었다면 간선 문자 배열로 바꾼다.
+                if (parent != root && parent.terminal && parent.children.length == 0) {
+                    grandparent.children[grandparentIdx] = parent.label;
+                }
+                return true;
+            }
+            Node target = (Node) node;
+            if (!target.terminal) {
+                return false;
+            }
+            target.terminal = false;
+            size--;
+            if (target.children.length == 1) {
+                target.mergeWithOnlyChild();
+                if (target.terminal && target.children.length == 0) {
+                    parent.children[parentIdx] = target.label;
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열이 존재하는지 확인한다.
+     *
+     * @param key 확인할 문자열
+     * @return 존재하면 true
+     */
+    public boolean contains(String key) {
+        if (key == null || key.isEmpty()) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            Object node = root;
+            int i = 0;
+            while (i < key.length()) {
+                if (!(node instanceof Node current)) {
+                    return false;
+                }
+                int idx = current.indexOf(key.charAt(i));
+                if (idx < 0) {
+                    return false;
+                }
+                Object child = current.children[idx];
+                char[] label = labelOf(child);
+                if (!matches(label, key, i)) {
+                    return false;
+                }
+                node = child;
+                i += label.length;
+            }
+            return node instanceof char[] || ((Node) node).terminal;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 접두사로 시작하는 문자열을 사전순으로 최대 {@code limit}개 반환한다.
+     * <p>결과가 limit개 채워지는 즉시 순회를 중단하므로, 비용은 접두사 길이와 limit에만 비례한다.</p>
+     *
+     * @param prefix 검색할 접두사 (빈 문자열이면 전체에서 사전순 상위 limit개)
+     * @param limit  최대 결과 개수
+     * @return 접두사로 시작하는 문자열 목록
+     */
+    public List<String> startsWith(String prefix, int limit) {
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        if (prefix == null || limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            Object node = root;
+            StringBuilder path = new StringBuilder(prefix.length() + 16);
+            int i = 0;
+            while (i < prefix.length()) {
+                if (!(node instanceof Node current)) {
+                    return result;
+                }
+                int idx = current.indexOf(prefix.charAt(i));
+                if (idx < 0) {
+                    return result;
+                }
+                Object child = current.children[idx];
+                char[] label = labelOf(child);
+                int remaining = prefix.length() - i;
+                if (commonPrefixLength(label, prefix, i) < Math.min(remaining, label.length)) {
+                    // 남은 접두사와 간선이 어긋나면 결과가 없다.
+                    // (남은 접두사가 간선 안에서 끝나면, 그 간선의 하위 전체가 결과 후보가 된다.)
+                    return result;
+                }
+                path.append(label);
+                node = child;
+                i += label.length;
+            }
+            collect(node, path, result, limit);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 문자열 개수를 반환한다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 문자열을 제거한다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children = NO_CHILDREN;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 트라이가 점유하는 힙 메모리의 추정치(바이트)를 계산한다.
+     * <p>
+     *     64비트 JVM, 압축 OOP(CompressedOops)를 가정한 근사치로,
+     *     노드 객체, 자식 배열, 간선 문자 배열(char[])의 크기를 합산한다.
+     *     모든 노드를 순회하므로 운영 중 빈번하게 호출하지 않는다.
+     * </p>
+     *
+     * @return 추정 메모리 사용량 (바이트)
+     */
+    public long estimateMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            return estimate(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long estimate(Object node) {
+        if (node instanceof char[] label) {
+            // 자식 없는 종단 노드: 간선 문자 배열만 있다.
+            return align(16 + 2L * label.length);
+        }
+        Node current = (Node) node;
+        // Node: 헤더 12 + label 4 + children 4 + terminal 1 → 24 (8바이트 정렬)
+        long bytes = 24;
+        if (current.label.length > 0) {
+            bytes += align(16 + 2L * current.label.length);
+        }
+        if (current.children.length > 0) {
+            bytes += align(16 + 4L * current.children.length);
+            for (Object child : current.children) {
+                bytes += estimate(child);
+            }
+        }
+        return bytes;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static void collect(Object node, StringBuilder path, List<String> result, int limit) {
+        if (node instanceof char[]) {
+            result.add(path.toString());
+            return;
+        }
+        Node current = (Node) node;
+        if (current.terminal) {
+            result.add(path.toString());
+            if (result.size() >= limit) {
+                return;
+            }
+        }
+        for (Object child : current.children) {
+            int length = path.length();
+            path.append(labelOf(child));
+            collect(child, path, result, limit);
+            path.setLength(length);
+            if (result.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 자식(노드 또는 자식 없는 종단 노드의 간선 문자 배열)의 간선 문자
+     */
+    private static char[] labelOf(Object child) {
+        return child instanceof char[] label ? label : ((Node) child).label;
+    }
+
+    /**
+     * 자식의 간선 문자를 바꾼다. 간선 문자 배열 자식은 새 배열 자체가 자식이 된다.
+     */
+    private static Object withLabel(Object child, char[] label) {
+        if (child instanceof Node node) {
+            node.label = label;
+            return node;
+        }
+        return label;
+    }
+
+    private static int commonPrefixLength(char[] label, String key, int offset) {
+        int max = Math.min(label.length, key.length() - offset);
+        int n = 0;
+        while (n < max && label[n] == key.charAt(offset + n)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static boolean matches(char[] label, String key, int offset) {
+        return key.length() - offset >= label.length && commonPrefixLength(label, key, offset) == label.length;
+    }
+
+    /**
+     * 트라이 노드. 부모로부터 이 노드까지의 간선 문자(label)와 종단 여부를 가진다.
+     * <p>노드 수가 많으므로 간선은 String 대신 char[]로 보관하여 객체 하나만큼의 오버헤드를 줄인다.</p>
+     * <p>
+     *     저장된 문자열의 대부분은 자식이 없는 종단 노드(잎)이므로, 잎은 Node 객체를 만들지 않고
+     *     간선 문자 배열(char[])을 그대로 자식 배열에 둔다. (잎마다 노드 객체 24바이트를 아낀다.)
+     * </p>
+     */
+    private static final class Node {
+        private char[] label;
+        private Object[] children = NO_CHILDREN;
+        private boolean terminal;
+
+        private Node(char[] label, boolean terminal) {
+            this.label = label;
+            this.terminal = terminal;
+        }
+
+        /**
+         * 간선 첫 글자가 {@code c}인 자식의 인덱스를 이진 탐색으로 찾는다.
+         * 없으면 (-(삽입 위치) - 1)을 반환한다.
+         */
+        private int indexOf(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = labelOf(children[mid])[0];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int position, Object child) {
+            Object[] next = new Object[children.length + 1];
+            System.arraycopy(children, 0, next, 0, position);
+            next[position] = child;
+            System.arraycopy(children, position, next, position + 1, children.length - position);
+            children = next;
+        }
+
+        private void removeChild(int position) {
+            if (children.length == 1) {
+                children = NO_CHILDREN;
+                return;
+            }
+            Object[] next = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, position + 1, next, position, children.length - position - 1);
+            children = next;
+        }
+
+        private void mergeWithOnlyChild() {
+            Object only = children[0];
+            char[] onlyLabel = labelOf(only);
+            char[] merged = Arrays.copyOf(label, label.length + onlyLabel.length);
+            System.arraycopy(onlyLabel, 0, merged, label.length, onlyLabel.length);
+            label = merged;
+            if (only instanceof Node node) {
+                terminal = node.terminal;
+                children = node.children;
+            } else {
+                terminal = true;
+                children = NO_CHILDREN;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package parksoffice.ojtcommunity.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 N개의 항목만 보관하는 고정 크기 링 버퍼
+ *
+ * <p>
+ *     추가는 락 없이 원자적 카운터로 슬롯을 배정받아 덮어쓰므로, 여러 스레드가 동시에 추가해도 블로킹하지 않는다.
+ *     용량을 넘으면 가장 오래된 항목부터 덮어쓴다.
+ *     {@link #snapshot()}은 읽는 도중 덮어쓰인 슬롯이 섞일 수 있는 근사 스냅샷이며, 모니터링 용도로만 사용한다.
+ * </p>
+ *
+ * @param <T> 보관할 항목 타입
+ * @author CRISPYTYPER
+ */
+public class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong written = new AtomicLong();
+
+    /**
+     * @param capacity 보관할 최대 항목 수
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 항목을 추가한다. 버퍼가 가득 차 있으면 가장 오래된 항목을 덮어쓴다.
+     *
+     * @param item 추가할 항목
+     */
+    public void add(T item) {
+        long sequence = written.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), item);
+    }
+
+    /**
+     * 보관 중인 항목을 최신순으로 반환한다.
+     */
+    public List<T> snapshot() {
+        long end = written.get();
+        long start = Math.max(0, end - slots.length());
+        List<T> result = new ArrayList<>((int) (end - start));
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            T item = slots.get((int) (sequence % slots.length()));
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지금까지 추가된 전체 항목 수 (덮어쓰인 항목 포함)
+     */
+    public long totalAdded() {
+        return written.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,179 @@
+package parksoffice.ojtcommunity.support;
+
+import java.util.Arrays;
+
+/**
+ * Roaring 방식의 압축 비트맵
+ *
+ * <p>
+ *     long 값을 상위 비트(key = value >>> 16)와 하위 16비트로 나누어,
+ *     같은 상위 비트를 가진 값들을 하나의 컨테이너(container)에 모아 저장한다.
+ *     컨테이너는 원소 수에 따라 두 가지 표현 중 더 작은 쪽을 사용한다.
+ * </p>
+ * <ul>
+ *   <li>배열 컨테이너: 정렬된 short[] (원소 4096개 이하, 원소당 2바이트)</li>
+ *   <li>비트맵 컨테이너: long[1024] 고정 크기 비트맵 (원소 4096개 초과, 8KiB)</li>
+ * </ul>
+ *
+ * <p>
+ *     {@link #contains(long)}는 컨테이너 이진 탐색 + 컨테이너 내부 조회로 수행되고,
+ *     {@link #cardinality()}는 추가 시 유지되는 카운터를 반환하므로 O(1)이다.
+ *     모든 공개 메서드는 인스턴스 단위로 동기화된다. (경합이 거의 없는 사용 패턴을 가정한다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class RoaringBitmap {
+
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private long cardinality;
+
+    /**
+     * 값을 추가한다.
+     *
+     * @param value 추가할 값 (음수 불가)
+     * @return 새로 추가되었으면 true, 이미 존재하면 false
+     */
+    public synchronized boolean add(long value) {
+        long key = value >>> 16;
+        char low = (char) value;
+        int idx = Arrays.binarySearch(keys, key);
+        if (idx < 0) {
+            idx = -idx - 1;
+            keys = insert(keys, idx, key);
+            Container[] next = new Container[containers.length + 1];
+            System.arraycopy(containers, 0, next, 0, idx);
+            next[idx] = new ArrayContainer();
+            System.arraycopy(containers, idx, next, idx + 1, containers.length - idx);
+            containers = next;
+        }
+        Container container = containers[idx];
+        if (!container.add(low)) {
+            return false;
+        }
+        if (container instanceof ArrayContainer array && array.size > ARRAY_MAX_SIZE) {
+            containers[idx] = array.toBitmap();
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * 값이 존재하는지 확인한다.
+     *
+     * @param value 확인할 값
+     * @return 존재하면 true
+     */
+    public synchronized boolean contains(long value) {
+        int idx = Arrays.binarySearch(keys, value >>> 16);
+        return idx >= 0 && containers[idx].contains((char) value);
+    }
+
+    /**
+     * 저장된 값의 개수를 반환한다. (O(1))
+     */
+    public synchronized long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 비트맵이 점유하는 힙 메모리의 추정치(바이트)를 반환한다.
+     */
+    public synchronized long estimateBytes() {
+        long bytes = 32 + 16 + 8L * keys.length + 16 + 4L * containers.length;
+        for (Container container : containers) {
+            bytes += container.estimateBytes();
+        }
+        return bytes;
+    }
+
+    private static long[] insert(long[] array, int idx, long value) {
+        long[] next = new long[array.length + 1];
+        System.arraycopy(array, 0, next, 0, idx);
+        next[idx] = value;
+        System.arraycopy(array, idx, next, idx + 1, array.length - idx);
+        return next;
+    }
+
+    private interface Container {
+        boolean add(char value);
+
+        boolean contains(char value);
+
+        long estimateBytes();
+    }
+
+    /**
+     * 하위 16비트 값을 정렬된 char 배열로 보관하는 컨테이너 (unsigned 비교를 위해 char 사용)
+     */
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean add(char value) {
+            int idx = Arrays.binarySearch(values, 0, size, value);
+            if (idx >= 0) {
+                return false;
+            }
+            idx = -idx - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE + 1));
+            }
+            System.arraycopy(values, idx, values, idx + 1, size - idx);
+            values[idx] = value;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public long estimateBytes() {
+            return 24 + 16 + 2L * values.length;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 2^16 비트를 long[1024]로 보관하는 컨테이너
+     */
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[BITMAP_WORDS];
+
+        @Override
+        public boolean add(char value) {
+            int word = value >>> 6;
+            long mask = 1L << value;
+            if ((words[word] & mask) != 0) {
+                return false;
+            }
+            words[word] |= mask;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public long estimateBytes() {
+            return 16 + 16 + 8L * BITMAP_WORDS;
+        }
+    }
+}
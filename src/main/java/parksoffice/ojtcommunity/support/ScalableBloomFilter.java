@@ -0,0 +1,211 @@
+package parksoffice.ojtcommunity.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 확장 가능한 블룸 필터(Scalable Bloom Filter)
+ *
+ * <p>
+ *     "확실히 없음(definitely not)" 또는 "있을 수도 있음(maybe)"만을 답하는 확률적 집합이다.
+ *     {@link #mightContain(String)}이 false를 반환하면 해당 문자열은 한 번도 추가된 적이 없음이 보장되며,
+ *     true를 반환하면 실제로 존재하는지는 원본 저장소(DB)에서 다시 확인해야 한다.
+ * </p>
+ *
+ * <p>
+ *     저장 개수가 현재 단계(stage)의 용량을 넘으면 용량을 2배로 늘린 새 단계를 추가한다.
+ *     단계마다 목표 오탐률을 절반씩 줄여, 전체 오탐률이 처음 지정한 값의 2배를 넘지 않도록 한다.
+ *     (Almeida et al., "Scalable Bloom Filters")
+ * </p>
+ *
+ * <p>
+ *     비트 배열은 {@link AtomicLongArray}로 관리되어 추가와 조회가 락 없이 동시에 수행될 수 있다.
+ *     원소 삭제는 지원하지 않는다. (삭제된 원소는 오탐으로 남으며, 주기적인 재구축으로 정리한다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final double falsePositiveRate;
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param initialCapacity   첫 단계에서 목표 오탐률을 유지할 수 있는 원소 수
+     * @param falsePositiveRate 첫 단계의 목표 오탐률 (0 초과 1 미만)
+     */
+    public ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive: " + initialCapacity);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages.add(new Stage(initialCapacity, falsePositiveRate));
+    }
+
+    /**
+     * 문자열을 필터에 추가한다.
+     *
+     * @param value 추가할 문자열
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        // 이미 존재(할 수도 있는) 원소는 다시 추가하지 않아, 단계가 불필요하게 늘어나지 않도록 한다.
+        if (mightContain(hash)) {
+            return;
+        }
+        currentStage().put(hash);
+    }
+
+    /**
+     * 문자열이 필터에 존재할 가능성이 있는지 확인한다.
+     *
+     * @param value 확인할 문자열
+     * @return 한 번도 추가된 적이 없으면 false, 추가되었을 가능성이 있으면 true
+     */
+    public boolean mightContain(String value) {
+        return mightContain(hash(value));
+    }
+
+    private boolean mightContain(long hash) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필터에 추가된 원소 수(근사치)를 반환한다.
+     */
+    public long approximateCount() {
+        long count = 0;
+        for (Stage stage : stages) {
+            count += stage.count.sum();
+        }
+        return count;
+    }
+
+    /**
+     * 현재 단계 수를 반환한다.
+     */
+    public int stageCount() {
+        return stages.size();
+    }
+
+    /**
+     * 모든 단계의 비트 배열 크기 합(바이트)을 반환한다.
+     */
+    public long bitmapBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += stage.bits.length() * 8L;
+        }
+        return bytes;
+    }
+
+    private Stage currentStage() {
+        Stage last = stages.get(stages.size() - 1);
+        if (last.count.sum() < last.capacity) {
+            return last;
+        }
+        synchronized (stages) {
+            last = stages.get(stages.size() - 1);
+            if (last.count.sum() >= last.capacity) {
+                int index = stages.size();
+                long capacity = last.capacity * GROWTH_FACTOR;
+                double rate = falsePositiveRate * Math.pow(TIGHTENING_RATIO, index);
+                last = new Stage(capacity, rate);
+                stages.add(last);
+            }
+            return last;
+        }
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 후 murmur3 finalizer로 비트를 섞는다.
+     */
+    private static long hash(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 고정 크기의 단일 블룸 필터 단계
+     */
+    private static final class Stage {
+        private final long capacity;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final LongAdder count = new LongAdder();
+
+        private Stage(long capacity, double rate) {
+            this.capacity = capacity;
+            // m = -n ln p / (ln 2)^2, k = m/n ln 2
+            long m = (long) Math.ceil(-capacity * Math.log(rate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bitCount = words * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray(words);
+        }
+
+        private void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            boolean changed = false;
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+                changed |= setBit(index);
+            }
+            if (changed) {
+                count.increment();
+            }
+        }
+
+        private boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean setBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            while (true) {
+                long current = bits.get(word);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package parksoffice.ojtcommunity.support;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 64비트 SimHash 지문
+ *
+ * <p>
+ *     본문을 정규화한 뒤 글자 3-gram(shingle)마다 64비트 해시를 구하고, 비트별로 1이면 +1, 0이면 -1을 더해
+ *     합이 양수인 비트를 1로 둔 지문을 만든다. 비슷한 본문은 대부분의 shingle을 공유하므로 지문의 해밍 거리가 작다.
+ * </p>
+ *
+ * <p>
+ *     정규화는 NFKC(전각 문자 등 호환 문자를 통일), 소문자 변환 후 글자와 숫자만 남긴다.
+ *     공백이나 문장 부호를 끼워 넣어 바꾼 본문도 같은 지문이 되도록 하기 위함이다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public final class SimHash {
+
+    /**
+     * shingle 길이 (글자 수)
+     */
+    public static final int SHINGLE_LENGTH = 3;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    /**
+     * 지문 계산에 사용하는 형태로 본문을 정규화한다.
+     *
+     * @param text 본문
+     * @return 글자와 숫자만 남긴 소문자 문자열
+     */
+    public static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 정규화된 본문의 지문을 계산한다.
+     *
+     * @param normalized {@link #normalize(String)}로 정규화한 본문
+     * @return 64비트 지문 (shingle이 없을 만큼 짧으면 본문 전체를 하나의 shingle로 사용)
+     */
+    public static long fingerprint(String normalized) {
+        if (normalized.length() <= SHINGLE_LENGTH) {
+            return hash(normalized, 0, normalized.length());
+        }
+        int[] weights = new int[64];
+        for (int start = 0; start + SHINGLE_LENGTH <= normalized.length(); start++) {
+            long hash = hash(normalized, start, start + SHINGLE_LENGTH);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return 두 지문의 해밍 거리 (서로 다른 비트 수)
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * FNV-1a로 해시한 뒤, 비트가 고르게 섞이도록 SplitMix64의 마무리 단계를 적용한다.
+     */
+    private static long hash(String text, int from, int to) {
+        long hash = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            char ch = text.charAt(i);
+            hash = (hash ^ (ch & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (ch >>> 8)) * FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,213 @@
+package parksoffice.ojtcommunity.support;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 최근 N개의 SimHash 지문에서 해밍 거리가 가까운 지문을 찾는 LSH 밴드 색인
+ *
+ * <p>
+ *     64비트 지문을 (최대 거리 + 1)개의 밴드로 나누고, 밴드마다 "밴드 값 → 슬롯 목록" 해시 맵을 둔다.
+ *     두 지문의 거리가 최대 거리 이하이면 비둘기집 원리에 의해 적어도 한 밴드는 값이 같으므로,
+ *     조회할 지문과 밴드 값이 같은 슬롯만 후보로 꺼내 실제 거리를 확인하면 빠짐없이 찾는다. (거짓 음성 없음)
+ *     후보 수는 전체 항목 수가 아니라 밴드 값이 겹치는 항목 수에 비례하므로, 조회는 항목 수와 관계없이 마이크로초 단위로 끝난다.
+ * </p>
+ *
+ * <p>
+ *     항목은 고정 크기 링(capacity)에 보관하며, 가득 차면 가장 오래된 항목을 밴드 맵에서 지우고 덮어쓴다.
+ *     따라서 메모리는 capacity에 비례하여 제한된다. (항목당 지문/식별자 16바이트와 밴드마다 맵 항목 하나)
+ *     모든 메서드는 동기화되어 있다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class SimHashIndex {
+
+    private final int maxDistance;
+    private final int[] bandShifts;
+    private final long[] bandMasks;
+    private final long[] fingerprints;
+    private final long[] ids;
+    private final boolean[] occupied;
+    // 밴드마다 밴드 값 → 슬롯 목록 ([0]은 개수)
+    private final Map<Long, int[]>[] buckets;
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private long written;
+
+    /**
+     * 근접 지문 조회 결과
+     *
+     * @param id       가장 가까운 항목의 식별자
+     * @param distance 해밍 거리
+     */
+    public record Match(long id, int distance) {
+    }
+
+    /**
+     * @param capacity    보관할 최대 항목 수 (초과 시 가장 오래된 항목부터 제거)
+     * @param maxDistance 근접으로 판단하는 최대 해밍 거리 (0 ~ 63)
+     */
+    @SuppressWarnings("unchecked")
+    public SimHashIndex(int capacity, int maxDistance) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (maxDistance < 0 || maxDistance >= 64) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and 63: " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+        int bands = maxDistance + 1;
+        this.bandShifts = new int[bands];
+        this.bandMasks = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            int from = band * 64 / bands;
+            int width = (band + 1) * 64 / bands - from;
+            bandShifts[band] = from;
+            bandMasks[band] = width == 64 ? -1L : (1L << width) - 1;
+        }
+        this.fingerprints = new long[capacity];
+        this.ids = new long[capacity];
+        this.occupied = new boolean[capacity];
+        this.buckets = new Map[bands];
+        for (int band = 0; band < bands; band++) {
+            buckets[band] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 지문과 해밍 거리가 최대 거리 이하인 항목 중 가장 가까운 항목을 찾는다.
+     *
+     * @param fingerprint 조회할 지문
+     * @return 가장 가까운 항목 (없으면 null)
+     */
+    public Match findNearest(long fingerprint) {
+        return findNearest(fingerprint, null);
+    }
+
+    /**
+     * 지정한 항목을 제외하고, 지문과 해밍 거리가 최대 거리 이하인 항목 중 가장 가까운 항목을 찾는다.
+     *
+     * @param fingerprint 조회할 지문
+     * @param excludedId  제외할 항목 식별자 (수정 중인 게시글 자신, 없으면 null)
+     * @return 가장 가까운 항목 (없으면 null)
+     */
+    public synchronized Match findNearest(long fingerprint, Long excludedId) {
+        Match best = null;
+        for (int band = 0; band < buckets.length; band++) {
+            int[] slots = buckets[band].get(bandValue(fingerprint, band));
+            if (slots == null) {
+                continue;
+            }
+            for (int i = 1; i <= slots[0]; i++) {
+                if (excludedId != null && ids[slots[i]] == excludedId) {
+                    continue;
+                }
+                int distance = SimHash.distance(fingerprint, fingerprints[slots[i]]);
+                if (distance <= maxDistance && (best == null || distance < best.distance())) {
+                    best = new Match(ids[slots[i]], distance);
+                    if (distance == 0) {
+                        return best;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 항목을 추가한다. 가득 차 있으면 가장 오래된 항목을 제거한다.
+     *
+     * @param id          항목 식별자 (게시글 번호)
+     * @param fingerprint 지문
+     */
+    public synchronized void add(long id, long fingerprint) {
+        int slot = (int) (written++ % fingerprints.length);
+        if (occupied[slot]) {
+            unlink(slot);
+        }
+        fingerprints[slot] = fingerprint;
+        ids[slot] = id;
+        occupied[slot] = true;
+        slotsById.put(id, slot);
+        for (int band = 0; band < buckets.length; band++) {
+            buckets[band].merge(bandValue(fingerprint, band), new int[]{1, slot}, SimHashIndex::append);
+        }
+    }
+
+    /**
+     * 항목을 제거한다. (삭제된 게시글)
+     *
+     * @param id 항목 식별자
+     * @return 제거했으면 true
+     */
+    public synchronized boolean remove(long id) {
+        Integer slot = slotsById.get(id);
+        if (slot == null) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    /**
+     * 항목의 식별자를 바꾼다. 링에서의 위치(오래된 순서)는 그대로 둔다. (예약해 둔 지문을 게시글 번호로 확정)
+     *
+     * @param id    현재 식별자
+     * @param newId 바꿀 식별자
+     * @return 바꿨으면 true (항목이 없거나 이미 밀려났으면 false)
+     */
+    public synchronized boolean rename(long id, long newId) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        ids[slot] = newId;
+        slotsById.put(newId, slot);
+        return true;
+    }
+
+    /**
+     * @return 보관 중인 항목 수
+     */
+    public synchronized int size() {
+        return slotsById.size();
+    }
+
+    public int capacity() {
+        return fingerprints.length;
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < buckets.length; band++) {
+            long key = bandValue(fingerprints[slot], band);
+            int[] slots = buckets[band].get(key);
+            for (int i = 1; i <= slots[0]; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[slots[0]];
+                    slots[0]--;
+                    break;
+                }
+            }
+            if (slots[0] == 0) {
+                buckets[band].remove(key);
+            }
+        }
+        slotsById.remove(ids[slot], slot);
+        occupied[slot] = false;
+    }
+
+    private long bandValue(long fingerprint, int band) {
+        return (fingerprint >>> bandShifts[band]) & bandMasks[band];
+    }
+
+    private static int[] append(int[] slots, int[] added) {
+        int size = slots[0] + 1;
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        slots[size] = added[1];
+        slots[0] = size;
+        return slots;
+    }
+}
@@ -0,0 +1,140 @@
+package parksoffice.ojtcommunity.support;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 single-flight 로더
+ *
+ * <p>
+ *     어떤 키의 조회가 진행 중일 때 같은 키로 들어온 호출은 새로 조회하지 않고, 진행 중인 조회의 결과(또는 예외)를 함께 받는다.
+ *     조회가 끝나면 키를 바로 지우므로 결과를 캐시하지 않는다. 즉, 동시에 겹친 호출끼리만 합쳐지고 이후 호출은 다시 조회한다.
+ * </p>
+ *
+ * <p>
+ *     기다리는 시간은 {@code maxWait}로 제한한다. 진행 중인 조회가 그보다 오래 걸리면 기다리던 호출은 직접 조회한다.
+ *     (느린 조회 하나 때문에 모든 요청이 함께 멈추지 않도록 한다.)
+ *     결과는 여러 스레드가 함께 사용하므로, 호출하는 쪽에서 수정하지 않는 읽기 전용 값이어야 한다.
+ * </p>
+ *
+ * <p>
+ *     키의 값이 바뀌면 {@link #invalidate(Object)}를 호출한다. 그 전에 시작된 조회는 바뀌기 전 값을 읽었을 수 있으므로,
+ *     진행 중인 조회를 키에서 떼어 내어 이후 호출이 거기에 합류하지 않고 새로 조회하게 한다.
+ *     (이미 기다리던 호출은 변경 전에 들어왔으므로 그 결과를 그대로 받는다.)
+ * </p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ * @author CRISPYTYPER
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param maxWait 진행 중인 조회를 기다리는 최대 시간
+     * @param unit    시간 단위
+     */
+    public SingleFlight(long maxWait, TimeUnit unit) {
+        this.maxWaitNanos = unit.toNanos(maxWait);
+    }
+
+    /**
+     * 키에 대해 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회한다.
+     *
+     * @param key    조회 키
+     * @param loader 실제 조회 (진행 중인 조회가 없을 때, 또는 기다리다 시간이 초과했을 때만 실행)
+     * @return 조회 결과
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, loader);
+        }
+
+        try {
+            V value = existing.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            shared.increment();
+            return value;
+        } catch (ExecutionException ex) {
+            shared.increment();
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            loads.increment();
+            return loader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight load: " + key, ex);
+        }
+    }
+
+    /**
+     * 키의 값이 바뀌었음을 알린다. 진행 중인 조회가 있으면, 이후 호출은 그 조회에 합류하지 않고 새로 조회한다.
+     *
+     * @param key 값이 바뀐 키
+     */
+    public void invalidate(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * 모든 키의 값이 바뀌었을 수 있음을 알린다. {@link #invalidate(Object)} 참고
+     */
+    public void invalidateAll() {
+        inFlight.clear();
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> loader) {
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return 실제로 실행된 조회 수 (시간 초과로 직접 조회한 경우 포함)
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * @return 진행 중인 조회의 결과를 함께 받은 호출 수
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    /**
+     * @return 기다리다 시간이 초과되어 직접 조회한 호출 수
+     */
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+}
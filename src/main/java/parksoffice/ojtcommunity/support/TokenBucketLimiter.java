@@ -0,0 +1,197 @@
+package parksoffice.ojtcommunity.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(회원, IP 등)별 토큰 버킷 요청 제한기
+ *
+ * <p>
+ *     버킷 하나를 "버킷이 다시 가득 차는 시각"(theoretical arrival time) 하나로 표현한다. (GCRA)
+ *     요청마다 이 시각을 토큰 하나의 충전 간격만큼 뒤로 미루며, 미룬 시각이 현재보다 한 주기(period) 이상 앞서면 거절한다.
+ *     따라서 상태가 {@link AtomicLong} 하나이고 갱신은 CAS 한 번이므로, 같은 키에 동시에 요청이 와도 락 없이 처리된다.
+ * </p>
+ *
+ * <p>
+ *     메모리는 다음과 같이 제한한다.
+ *     <ul>
+ *         <li>가득 찬 뒤 {@code idle} 시간 이상 요청이 없었던 키는 주기적으로 지운다. (다시 오면 가득 찬 버킷으로 새로 만든다.)</li>
+ *         <li>키 수가 {@code maxKeys}에 도달하면 먼저 만료된 키를 지우고(최대 1초에 한 번), 그래도 가득 차 있으면 새 키는 범위(scope)별
+ *             공용 버킷 하나를 함께 쓴다. (키를 바꿔 가며 보내는 요청도 결국 이 버킷에서 제한된다.)</li>
+ *         <li>클라이언트가 임의로 정하는 키(로그인 요청의 사용자 이름)는 {@link #tryAcquireIfTracked}로 제한한다.
+ *             가득 찬 동안에는 새 키를 만들지도, 공용 버킷을 쓰지도 않는다. (한 클라이언트가 키를 채워 모든 요청을 공용 버킷으로 몰지 못하게)</li>
+ *     </ul>
+ *     지우는 도중 같은 키에 요청이 오면 토큰 하나가 반영되지 않을 수 있지만, 지우는 대상은 이미 가득 찬 버킷뿐이므로 영향이 없다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public class TokenBucketLimiter {
+
+    private static final long FULL_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final long idleNanos;
+    private final LongSupplier clock;
+    private final AtomicLong lastSweep;
+
+    /**
+     * @param maxKeys 추적할 최대 키 수
+     * @param idle    가득 찬 버킷을 지우기까지의 유휴 시간
+     * @param unit    유휴 시간 단위
+     */
+    public TokenBucketLimiter(int maxKeys, long idle, TimeUnit unit) {
+        this(maxKeys, idle, unit, System::nanoTime);
+    }
+
+    /**
+     * @param clock 나노초 단위 단조 시계 (테스트용)
+     */
+    public TokenBucketLimiter(int maxKeys, long idle, TimeUnit unit, LongSupplier clock) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys must be positive: " + maxKeys);
+        }
+        this.maxKeys = maxKeys;
+        this.idleNanos = unit.toNanos(idle);
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 사용한다.
+     *
+     * @param scope 제한 범위 (예: "board-new:ip"). 같은 키라도 범위가 다르면 다른 버킷을 쓴다.
+     * @param key   범위 안의 키 (예: IP 주소, 회원 식별자)
+     * @param rate  범위에 적용할 제한
+     * @return 허용되면 0, 거절되면 다음 토큰이 생길 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(String scope, String key, Rate rate) {
+        long now = clock.getAsLong();
+        maybeSweep(now, idleNanos);
+        return acquire(bucket(scope + ':' + key, scope + ":*", now), rate, now);
+    }
+
+    /**
+     * 토큰 하나를 사용한다. 단, 키 수가 가득 차 있고 아직 추적하지 않는 키이면 버킷을 만들지 않고 허용한다.
+     * <p>
+     *     클라이언트가 임의로 정하는 키에 사용하며, 이 경우 호출하는 쪽이 다른 범위(IP 등)의 제한을 먼저 적용해야 한다.
+     * </p>
+     *
+     * @param scope 제한 범위
+     * @param key   범위 안의 키
+     * @param rate  범위에 적용할 제한
+     * @return 허용되면 0, 거절되면 다음 토큰이 생길 때까지 남은 시간(나노초)
+     */
+    public long tryAcquireIfTracked(String scope, String key, Rate rate) {
+        long now = clock.getAsLong();
+        maybeSweep(now, idleNanos);
+        AtomicLong bucket = bucket(scope + ':' + key, null, now);
+        return bucket != null ? acquire(bucket, rate, now) : 0;
+    }
+
+    private long acquire(AtomicLong bucket, Rate rate, long now) {
+        long interval = rate.intervalNanos();
+        long burst = interval * rate.capacity();
+        while (true) {
+            long full = bucket.get();
+            long next = Math.max(full, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param overflowKey 가득 찼을 때 함께 쓸 공용 버킷의 키 (null이면 버킷을 만들지 않고 null을 반환한다)
+     */
+    private AtomicLong bucket(String key, String overflowKey, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            // 가득 찬 동안 새 키마다 전체를 훑지 않도록, 정리는 최소 간격을 두고 한 번만 한다.
+            maybeSweep(now, FULL_SWEEP_INTERVAL_NANOS);
+            if (buckets.size() >= maxKeys) {
+                if (overflowKey == null) {
+                    return null;
+                }
+                key = overflowKey;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now)); // 가득 찬 버킷
+    }
+
+    private void maybeSweep(long now, long minInterval) {
+        long last = lastSweep.get();
+        if (now - last >= minInterval && lastSweep.compareAndSet(last, now)) {
+            sweep(now);
+        }
+    }
+
+    /**
+     * 가득 찬 뒤 유휴 시간이 지난 버킷을 지운다.
+     *
+     * @return 남은 키 수
+     */
+    public int sweep() {
+        sweep(clock.getAsLong());
+        return buckets.size();
+    }
+
+    private void sweep(long now) {
+        buckets.values().removeIf(bucket -> now - bucket.get() >= idleNanos);
+    }
+
+    /**
+     * @return 현재 추적 중인 키 수
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 요청 제한
+     *
+     * @param capacity    연속으로 허용하는 최대 요청 수 (버킷 크기)
+     * @param periodNanos 빈 버킷이 다시 가득 차는 데 걸리는 시간
+     */
+    public record Rate(int capacity, long periodNanos) {
+
+        public Rate {
+            if (capacity <= 0 || periodNanos <= 0) {
+                throw new IllegalArgumentException("capacity and period must be positive");
+            }
+        }
+
+        /**
+         * "요청 수/초" 형식의 문자열을 읽는다. 예: "10/60" = 60초에 10번 (연속 최대 10번)
+         *
+         * @param spec 제한 문자열
+         * @return 요청 제한
+         */
+        public static Rate parse(String spec) {
+            int slash = spec.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("Rate must be <requests>/<seconds>: " + spec);
+            }
+            return new Rate(Integer.parseInt(spec.substring(0, slash).trim()),
+                    TimeUnit.SECONDS.toNanos(Long.parseLong(spec.substring(slash + 1).trim())));
+        }
+
+        /**
+         * @return 토큰 하나가 충전되는 간격(나노초)
+         */
+        public long intervalNanos() {
+            return Math.max(1, periodNanos / capacity);
+        }
+    }
+}
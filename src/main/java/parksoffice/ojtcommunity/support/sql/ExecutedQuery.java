@@ -0,0 +1,18 @@
+package parksoffice.ojtcommunity.support.sql;
+
+/**
+ * 실행이 끝난 SQL 문 하나의 측정 결과
+ *
+ * @param sql          실행된 SQL (PreparedStatement면 바인딩 전 문자열)
+ * @param type         SQL 문의 종류
+ * @param elapsedNanos 실행(execute*) 소요 시간. 결과 행을 읽는 시간은 포함하지 않는다.
+ * @param rows         조회 문은 읽어간 행 수, 변경 문은 영향받은 행 수
+ * @param batchSize    배치 실행이면 배치에 담긴 문의 수, 아니면 1
+ * @author CRISPYTYPER
+ */
+public record ExecutedQuery(String sql, StatementType type, long elapsedNanos, long rows, int batchSize) {
+
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+}
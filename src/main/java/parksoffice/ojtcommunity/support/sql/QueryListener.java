@@ -0,0 +1,14 @@
+package parksoffice.ojtcommunity.support.sql;
+
+/**
+ * {@link SqlInterceptor}가 SQL 문 실행을 마칠 때마다 호출하는 리스너
+ *
+ * <p>JDBC 호출 스레드에서 동기적으로 호출되므로, 구현체는 가볍게 유지하고 무거운 작업(로그 출력 등)은 다른 스레드로 넘겨야 한다.</p>
+ *
+ * @author CRISPYTYPER
+ */
+@FunctionalInterface
+public interface QueryListener {
+
+    void afterQuery(ExecutedQuery query);
+}
@@ -0,0 +1,271 @@
+package parksoffice.ojtcommunity.support.sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * JDBC 호출을 가로채 SQL 문마다 실행 시간과 행 수를 측정하는 DataSource 래퍼
+ *
+ * <p>
+ *     DataSource → Connection → Statement → ResultSet 순으로 JDK 동적 프록시를 씌운다.
+ *     SQL 문 하나가 끝날 때마다 현재 스레드의 {@link SqlStatistics}에 집계하고 {@link QueryListener}를 호출한다.
+ *     SQL 문자열을 만들거나 로그를 출력하지 않으므로, Hibernate의 show_sql/바인딩 로그보다 비용이 훨씬 적다.
+ * </p>
+ *
+ * <p>
+ *     조회 문은 결과 행 수를 알기 위해 ResultSet이 닫힐 때(또는 Statement가 닫힐 때) 보고한다.
+ *     이때 소요 시간은 executeQuery 호출 시간만 포함하며, 결과를 읽는 시간은 포함하지 않는다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public final class SqlInterceptor {
+
+    private SqlInterceptor() {
+    }
+
+    /**
+     * DataSource를 감싸 SQL 측정을 시작한다.
+     *
+     * @param target   실제 DataSource
+     * @param listener SQL 문 실행이 끝날 때마다 호출할 리스너
+     * @return 측정 기능이 추가된 DataSource
+     */
+    public static DataSource wrap(DataSource target, QueryListener listener) {
+        return proxy(DataSource.class, new DataSourceHandler(target, listener));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlInterceptor.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * unwrap/isWrapperFor는 실제 객체에 위임하여, 커넥션 풀 등이 내부 구현체를 꺼낼 수 있게 한다.
+     */
+    private abstract static class DelegatingHandler implements InvocationHandler {
+        final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> getClass().getSimpleName() + "[" + target + "]";
+                case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : call(target, method, args);
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy) || (boolean) call(target, method, args);
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    private static final class DataSourceHandler extends DelegatingHandler {
+        private final QueryListener listener;
+
+        DataSourceHandler(DataSource target, QueryListener listener) {
+            super(target);
+            this.listener = listener;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, new ConnectionHandler(connection, listener));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+        private final QueryListener listener;
+
+        ConnectionHandler(Connection target, QueryListener listener) {
+            super(target);
+            this.listener = listener;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall은 첫 인자가 SQL이고, createStatement는 실행 시점에 SQL을 받는다.
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql, listener));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+        private final String preparedSql;
+        private final QueryListener listener;
+        private int batchSize;
+        private String batchSql;
+        private PendingQuery pending;
+
+        StatementHandler(Statement target, String preparedSql, QueryListener listener) {
+            super(target);
+            this.preparedSql = preparedSql;
+            this.listener = listener;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                batchSize++;
+                if (batchSql == null && args != null && args.length == 1) {
+                    batchSql = (String) args[0];
+                }
+                return call(target, method, args);
+            }
+            if (name.equals("clearBatch")) {
+                batchSize = 0;
+                batchSql = null;
+                return call(target, method, args);
+            }
+            if (name.equals("close")) {
+                flushPending();
+                return call(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return call(target, method, args);
+            }
+
+            flushPending();
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? s : batchSql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = call(target, method, args);
+            } catch (Throwable ex) {
+                report(sql, System.nanoTime() - start, 0, 1);
+                throw ex;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (result instanceof ResultSet resultSet) {
+                pending = new PendingQuery(sql, elapsed);
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, this, pending));
+            }
+            if (result instanceof int[] counts) {
+                report(sql, elapsed, sum(counts), Math.max(1, batchSize));
+                batchSize = 0;
+                batchSql = null;
+            } else if (result instanceof long[] counts) {
+                report(sql, elapsed, sum(counts), Math.max(1, batchSize));
+                batchSize = 0;
+                batchSql = null;
+            } else if (result instanceof Number count) {
+                report(sql, elapsed, Math.max(0, count.longValue()), 1);
+            } else {
+                report(sql, elapsed, 0, 1);
+            }
+            return result;
+        }
+
+        private void flushPending() {
+            if (pending != null) {
+                complete(pending);
+            }
+        }
+
+        void complete(PendingQuery query) {
+            if (!query.reported) {
+                query.reported = true;
+                report(query.sql, query.elapsedNanos, query.rows, 1);
+            }
+            if (pending == query) {
+                pending = null;
+            }
+        }
+
+        private void report(String sql, long elapsedNanos, long rows, int batch) {
+            ExecutedQuery query = new ExecutedQuery(sql, StatementType.of(sql), elapsedNanos, rows, batch);
+            SqlStatistics statistics = SqlStatistics.current();
+            if (statistics != null) {
+                statistics.record(query);
+            }
+            listener.afterQuery(query);
+        }
+
+        private static long sum(int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+
+        private static long sum(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 결과 행을 모두 읽을 때까지 보고를 미뤄 둔 조회 문
+     */
+    private static final class PendingQuery {
+        private final String sql;
+        private final long elapsedNanos;
+        private long rows;
+        private boolean reported;
+
+        PendingQuery(String sql, long elapsedNanos) {
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+        private final StatementHandler statement;
+        private final PendingQuery query;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement, PendingQuery query) {
+            super(target);
+            this.statement = statement;
+            this.query = query;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if ((boolean) result) {
+                        query.rows++;
+                    }
+                }
+                case "close" -> statement.complete(query);
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package parksoffice.ojtcommunity.support.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 하나의 작업 단위(주로 HTTP 요청)에서 실행된 SQL의 누적 통계
+ *
+ * <p>
+ *     {@link #begin(String)}으로 현재 스레드에 통계를 연결하면, 그 스레드에서 {@link SqlInterceptor}를 거친
+ *     모든 SQL 문이 {@link #end()}까지 집계된다. 한 스레드 안에서만 갱신되므로 동기화하지 않는다.
+ * </p>
+ *
+ * <p>
+ *     수집은 중첩될 수 있다. 수집 중에 다시 {@link #begin(String)}을 호출하면 안쪽 통계가 현재 통계가 되고,
+ *     안쪽에서 집계된 SQL은 바깥쪽 통계에도 함께 집계된다. {@link #end()}는 안쪽 수집을 끝내고 바깥쪽을 다시 현재 통계로 만든다.
+ *     (예: 테스트가 MockMvc 요청 전체의 쿼리 수를 세는 동안, 요청 필터도 요청 단위로 따로 센다.)
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private final SqlStatistics parent;
+    private final List<ExecutedQuery> captured;
+    private final int[] countsByType = new int[StatementType.values().length];
+    private int statements;
+    private long elapsedNanos;
+    private long rows;
+
+    private SqlStatistics(String requestId, SqlStatistics parent, boolean capture) {
+        this.requestId = requestId;
+        this.parent = parent;
+        this.captured = capture ? new ArrayList<>() : null;
+    }
+
+    /**
+     * 현재 스레드에서 새 통계 수집을 시작한다.
+     *
+     * @param requestId 통계에 붙일 요청 식별자
+     * @return 수집을 시작한 통계 객체
+     */
+    public static SqlStatistics begin(String requestId) {
+        return push(new SqlStatistics(requestId, CURRENT.get(), false));
+    }
+
+    /**
+     * 실행된 SQL 문 자체도 보관하는 통계 수집을 시작한다.
+     * <p>SQL 문을 모두 보관하므로 진단이나 테스트 용도로만 사용한다.</p>
+     *
+     * @param requestId 통계에 붙일 식별자
+     * @return 수집을 시작한 통계 객체
+     */
+    public static SqlStatistics beginCapturing(String requestId) {
+        return push(new SqlStatistics(requestId, CURRENT.get(), true));
+    }
+
+    private static SqlStatistics push(SqlStatistics statistics) {
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드에서 수집 중인 통계를 반환한다.
+     *
+     * @return 수집 중인 통계, 없으면 null
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에서 가장 안쪽의 통계 수집을 끝낸다. 바깥쪽 수집이 있으면 그 통계가 다시 현재 통계가 된다.
+     *
+     * @return 수집이 끝난 통계, 없으면 null
+     */
+    public static SqlStatistics end() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null && statistics.parent != null) {
+            CURRENT.set(statistics.parent);
+        } else {
+            CURRENT.remove();
+        }
+        return statistics;
+    }
+
+    void record(ExecutedQuery query) {
+        for (SqlStatistics statistics = this; statistics != null; statistics = statistics.parent) {
+            statistics.add(query);
+        }
+    }
+
+    private void add(ExecutedQuery query) {
+        if (captured != null) {
+            captured.add(query);
+        }
+        countsByType[query.type().ordinal()] += query.batchSize();
+        statements += query.batchSize();
+        elapsedNanos += query.elapsedNanos();
+        rows += query.rows();
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * 실행된 SQL 문 수 (배치는 담긴 문의 수만큼 센다)
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getStatements(StatementType type) {
+        return countsByType[type.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 보관된 SQL 문을 실행 순서대로 반환한다. ({@link #beginCapturing(String)}으로 시작한 경우에만 보관된다.)
+     */
+    public List<ExecutedQuery> getCapturedQueries() {
+        return captured != null ? Collections.unmodifiableList(captured) : List.of();
+    }
+}
@@ -0,0 +1,48 @@
+package parksoffice.ojtcommunity.support.sql;
+
+import java.util.Locale;
+
+/**
+ * SQL 문의 종류
+ *
+ * @author CRISPYTYPER
+ */
+public enum StatementType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+    /**
+     * SQL 문의 첫 키워드로 종류를 판별한다. (WITH 로 시작하는 문은 SELECT로 본다.)
+     * <p>
+     *     시퀀스 값 조회(select next value for ...)는 식별자 할당 시점에 따라 실행 여부가 달라지므로
+     *     데이터 조회와 섞이지 않도록 {@link #OTHER}로 분류한다.
+     * </p>
+     *
+     * @param sql SQL 문 (null 가능)
+     * @return 판별된 종류, 알 수 없으면 {@link #OTHER}
+     */
+    public static StatementType of(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return switch (sql.substring(start, end).toUpperCase(Locale.ROOT)) {
+            case "SELECT", "WITH" -> isSequenceCall(sql, end) ? OTHER : SELECT;
+            case "INSERT", "MERGE" -> INSERT;
+            case "UPDATE" -> UPDATE;
+            case "DELETE" -> DELETE;
+            default -> OTHER;
+        };
+    }
+
+    private static boolean isSequenceCall(String sql, int offset) {
+        String rest = sql.substring(offset).stripLeading().toLowerCase(Locale.ROOT);
+        return rest.startsWith("next value for") || rest.startsWith("nextval(");
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * 게시글 목록 실시간 알림
+ * 목록 페이지에서 게시판 피드(SSE)를 구독하고, 새 글이 등록되면 새로고침 안내를 표시한다.
+ * (목록을 주기적으로 다시 조회하지 않는다.)
+ */
+(function () {
+    var script = document.currentScript;
+    var notice = document.getElementById('live-feed-notice');
+    if (!script || !notice || !window.EventSource) {
+        return;
+    }
+    var count = 0;
+    var source = new EventSource(script.dataset.feedUrl);
+
+    function show(text) {
+        notice.querySelector('.live-feed-text').textContent = text;
+        notice.classList.remove('d-none');
+    }
+
+    source.addEventListener('post', function () {
+        count++;
+        show('새 글 ' + count + '개가 등록되었습니다.');
+    });
+    source.addEventListener('resync', function () {
+        show('새 글이 등록되었습니다.');
+    });
+})();
@@ -0,0 +1,172 @@
+package parksoffice.ojtcommunity.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.service.MemberService;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 글 작성/로그인 요청 횟수 제한을 검증한다. (메모리 H2 사용)
+ * <p>테스트마다 다른 IP를 사용하여, 한 테스트에서 쓴 토큰이 다른 테스트에 영향을 주지 않게 한다.</p>
+ */
+@SpringBootTest(properties = {
+        "ojt.rate-limit.enabled=true",
+        "ojt.rate-limit.members-login.member=3/60",
+        "ojt.rate-limit.members-login.ip=5/60",
+        "ojt.rate-limit.board-new.member=2/60",
+        "ojt.rate-limit.board-new.ip=100/60"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    public void cleanup() {
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    /**
+     * 한 계정에 대한 로그인 시도는 사용자 이름 기준으로 제한되고, 거절된 요청은 SQL을 실행하지 않는다.
+     */
+    @Test
+    public void testLogin_LimitedPerUsernameWithoutDbAccess() throws Exception {
+        // given: 틀린 비밀번호로 허용량(3번)을 모두 사용
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.1"))
+                            .param("username", "victim").param("password", "wrong" + i))
+                    .andExpect(status().isOk());
+        }
+        double rejectedBefore = rejected("members-login", "member");
+
+        // when & then
+        QueryCounter.capture(() ->
+                mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.1"))
+                                .param("username", "victim").param("password", "wrong"))
+                        .andExpect(status().isTooManyRequests())
+                        .andExpect(header().exists("Retry-After")))
+                .assertTotal(0);
+        assertEquals(rejectedBefore + 1, rejected("members-login", "member"));
+
+        // then: 다른 계정은 같은 IP에서도 아직 시도할 수 있다.
+        mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.1"))
+                        .param("username", "other").param("password", "wrong"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 한 IP에서 여러 계정을 돌아가며 시도해도 IP 기준으로 제한된다.
+     */
+    @Test
+    public void testLogin_LimitedPerIp() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.2"))
+                            .param("username", "user" + i).param("password", "wrong"))
+                    .andExpect(status().isOk());
+        }
+
+        // when & then
+        mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.2"))
+                        .param("username", "user5").param("password", "wrong"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.3"))
+                        .param("username", "user5").param("password", "wrong"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * IP 기준으로 거절된 로그인 요청은 입력한 사용자 이름의 허용량을 쓰지 않는다.
+     */
+    @Test
+    public void testLogin_IpRejectedRequestsDoNotChargeUsername() throws Exception {
+        // given: 한 IP가 허용량(5번)을 모두 사용
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.5"))
+                            .param("username", "spray" + i).param("password", "wrong"))
+                    .andExpect(status().isOk());
+        }
+
+        // when: 같은 IP에서 한 계정을 계속 시도하면 IP 기준으로 거절된다.
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.5"))
+                            .param("username", "target").param("password", "wrong"))
+                    .andExpect(status().isTooManyRequests());
+        }
+
+        // then: 해당 계정의 허용량(3번)은 그대로 남아 있다.
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/members/login").with(remoteAddr("10.0.0.6"))
+                            .param("username", "target").param("password", "wrong"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    /**
+     * 글 작성은 로그인한 회원 기준으로 제한된다.
+     */
+    @Test
+    public void testCreatePost_LimitedPerMember() throws Exception {
+        // given: 로그인한 세션
+        Member member = memberService.registerMember(Member.builder().username("writer").password("password").build());
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("loggedInMember", member);
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/board/new").session(session).with(remoteAddr("10.0.0.4"))
+                            .param("id", "male").param("title", "제목").param("content", "내용"))
+                    .andExpect(status().is3xxRedirection());
+        }
+
+        // when & then
+        mockMvc.perform(post("/board/new").session(session).with(remoteAddr("10.0.0.4"))
+                        .param("id", "male").param("title", "제목").param("content", "내용"))
+                .andExpect(status().isTooManyRequests());
+
+        // then: 거절된 요청은 저장되지 않고, 같은 IP라도 다른 회원은 작성할 수 있다.
+        assertEquals(2, postRepository.count());
+        MockHttpSession otherSession = new MockHttpSession();
+        otherSession.setAttribute("loggedInMember",
+                memberService.registerMember(Member.builder().username("writer2").password("password").build()));
+        mockMvc.perform(post("/board/new").session(otherSession).with(remoteAddr("10.0.0.4"))
+                        .param("id", "male").param("title", "제목").param("content", "내용"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private double rejected(String endpoint, String scope) {
+        return meterRegistry.counter("ratelimit.rejected", "endpoint", endpoint, "scope", scope).count();
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package parksoffice.ojtcommunity.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 정적 자원의 지문 URL, 캐시 정책, 사전 압축본 제공을 검증한다.
+ * (사전 압축본과 manifest는 Gradle processResources 후처리로 생성된다.)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class StaticResourceConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * 빌드 결과물의 common.css 내용으로 기대하는 지문 URL을 계산한다.
+     */
+    private String fingerprintedCssUrl() throws IOException {
+        try (InputStream in = new ClassPathResource("static/css/common.css").getInputStream()) {
+            return "/css/common-" + DigestUtils.md5DigestAsHex(in) + ".css";
+        }
+    }
+
+    @Test
+    public void testTemplate_RewritesAssetLinkToFingerprintedUrl() throws Exception {
+        // when: 공통 head 조각을 포함하는 화면을 요청한다.
+        // then: 템플릿의 /css/common.css 링크가 내용 해시가 붙은 URL로 바뀌어 있다.
+        mockMvc.perform(get("/board/lists").param("id", "male"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("href=\"" + fingerprintedCssUrl() + "\"")));
+    }
+
+    @Test
+    public void testFingerprintedUrl_IsCachedAsImmutable() throws Exception {
+        // when & then: 지문 URL은 1년 동안 재검증 없이 캐시된다.
+        mockMvc.perform(get(fingerprintedCssUrl()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    public void testPlainUrl_IsRevalidated() throws Exception {
+        // when & then: 지문이 없는 URL은 매번 재검증된다.
+        mockMvc.perform(get("/css/common.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")));
+    }
+
+    @Test
+    public void testAcceptEncoding_SelectsPrecompressedVariant() throws Exception {
+        String url = fingerprintedCssUrl();
+
+        // when & then: br을 받는 클라이언트에는 .br 사전 압축본을 내려준다.
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+
+        // gzip만 받는 클라이언트에는 .gz 사전 압축본을 내려준다.
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+
+        // 압축을 받지 않는 클라이언트에는 원본을 내려준다.
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+}
@@ -0,0 +1,181 @@
+package parksoffice.ojtcommunity.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.service.MemberService;
+import parksoffice.ojtcommunity.service.PostService;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JSON 읽기 API의 응답 형식, 커서 페이지 이동, 쿼리 수를 검증한다. (메모리 H2 사용)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BoardApiControllerTest {
+
+    private static final int POST_COUNT = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostRecommendationRepository postRecommendationRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Member author = memberService.registerMember(Member.builder()
+                    .username("api-writer" + i)
+                    .password("password")
+                    .build());
+            posts.add(postService.registerPost(Post.builder()
+                    .title("제목" + i)
+                    .content("본문 \"" + i + "\"\n둘째 줄")
+                    .author(author)
+                    .board(board)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        postRecommendationRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    public void testListBoards() throws Exception {
+        // when
+        JsonNode body = getJson("/api/boards");
+
+        // then : DataInitializer가 만든 두 게시판, 마지막 페이지이므로 nextCursor는 null
+        assertEquals(2, body.get("items").size());
+        assertEquals("male", body.get("items").get(0).get("code").asText());
+        assertTrue(body.get("nextCursor").isNull());
+    }
+
+    @Test
+    public void testListPosts_CursorPagination() throws Exception {
+        // when : 크기 3으로 끝까지 페이지를 넘긴다.
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode body = getJson("/api/boards/male/posts?size=3" + (cursor != null ? "&cursor=" + cursor : ""));
+            body.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            cursor = body.get("nextCursor").isNull() ? null : body.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        // then : 최신순으로 중복 없이 모든 게시글을 한 번씩 받는다.
+        assertEquals(3, pages);
+        List<Long> expected = posts.stream().map(Post::getId).sorted((a, b) -> Long.compare(b, a)).toList();
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    public void testListPosts_SingleQueryWithoutContent() throws Exception {
+        // when
+        QueryCounter.Result result = QueryCounter.capture(() -> getJson("/api/boards/male/posts"));
+        JsonNode first = getJson("/api/boards/male/posts").get("items").get(0);
+
+        // then : 게시판/작성자를 조인한 SELECT 한 번, 본문은 목록에 포함하지 않는다.
+        result.assertSelects(1).assertTotal(1);
+        assertEquals("api-writer6", first.get("author").asText());
+        assertNull(first.get("content"));
+    }
+
+    @Test
+    public void testListPosts_UnknownBoard() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/boards/unknown/posts"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testViewPost() throws Exception {
+        // given
+        Post post = posts.get(0);
+        postService.getRecommendationCount(post.getId()); // 추천자 비트맵 적재
+
+        // when
+        JsonNode[] body = new JsonNode[1];
+        QueryCounter.Result result = QueryCounter.capture(() -> body[0] = getJson("/api/posts/" + post.getId()));
+
+        // then : 게시글/게시판/작성자 조인 SELECT 한 번, 특수문자가 포함된 본문도 그대로 반환된다.
+        result.assertSelects(1).assertTotal(1);
+        assertEquals("본문 \"0\"\n둘째 줄", body[0].get("content").asText());
+        assertEquals("male", body[0].get("board").get("code").asText());
+        assertEquals(0, body[0].get("recommendationCount").asLong());
+    }
+
+    @Test
+    public void testViewPost_NotFound() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/posts/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testPayloadSmallerThanHtmlPages() throws Exception {
+        // given
+        Post post = posts.get(0);
+
+        // when
+        int htmlList = mockMvc.perform(get("/board/lists").param("id", "male")).andReturn().getResponse().getContentAsByteArray().length;
+        int jsonList = mockMvc.perform(get("/api/boards/male/posts")).andReturn().getResponse().getContentAsByteArray().length;
+        int htmlView = mockMvc.perform(get("/board/view").param("id", "male").param("no", String.valueOf(post.getId())))
+                .andReturn().getResponse().getContentAsByteArray().length;
+        int jsonView = mockMvc.perform(get("/api/posts/" + post.getId())).andReturn().getResponse().getContentAsByteArray().length;
+
+        // then
+        assertTrue(jsonList * 2 < htmlList, "list: json=" + jsonList + ", html=" + htmlList);
+        assertTrue(jsonView * 2 < htmlView, "view: json=" + jsonView + ", html=" + htmlView);
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
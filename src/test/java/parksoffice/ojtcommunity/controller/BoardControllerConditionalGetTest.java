@@ -0,0 +1,79 @@
+package parksoffice.ojtcommunity.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.member.UpdateMemberDto;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.service.MemberService;
+import parksoffice.ojtcommunity.service.PostService;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시판 목록 화면의 조건부 GET(ETag)이 화면에 표시되는 값의 변경을 반영하는지 검증한다. (메모리 H2 사용)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BoardControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private Member author;
+
+    @BeforeEach
+    public void setup() {
+        author = memberService.registerMember(Member.builder()
+                .username("etag-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        postService.registerPost(Post.builder()
+                .title("이름이 표시되는 글")
+                .content("내용")
+                .author(author)
+                .board(boardRepository.findByCode("male").orElseThrow())
+                .build());
+    }
+
+    @Test
+    public void testListBoardPosts_AuthorRenameChangesEtag() throws Exception {
+        // given: 클라이언트가 목록과 ETag를 받아 두었다.
+        String etag = mockMvc.perform(get("/board/lists").param("id", "male"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/board/lists").param("id", "male").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // when: 작성자가 이름을 바꾼다. (게시글은 수정되지 않는다.)
+        String newUsername = "renamed-" + UUID.randomUUID().toString().substring(0, 8);
+        UpdateMemberDto updateMemberDto = new UpdateMemberDto();
+        updateMemberDto.setUsername(newUsername);
+        updateMemberDto.setPassword("password");
+        memberService.updateMember(author.getId(), updateMemberDto);
+
+        // then: 같은 ETag로 요청해도 새 이름이 표시된 목록을 받는다.
+        mockMvc.perform(get("/board/lists").param("id", "male").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(newUsername)));
+    }
+}
@@ -0,0 +1,81 @@
+package parksoffice.ojtcommunity.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import parksoffice.ojtcommunity.support.sql.QueryCountFixture;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+import parksoffice.ojtcommunity.support.sql.StatementType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시판 화면 요청 하나가 실행하는 SQL 문 수를 검증한다. (템플릿 렌더링 중의 지연 로딩 포함)
+ * <p>게시글마다 다른 작성자를 두어, 작성자 지연 로딩(N+1)이 생기면 쿼리 수가 게시글 수만큼 늘어나도록 한다. ({@link QueryCountFixture})</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BoardControllerQueryCountTest extends QueryCountFixture {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        // 추천자 비트맵을 미리 적재하여, 적재 여부에 따라 쿼리 수가 달라지지 않도록 한다.
+        postService.getRecommendationCount(firstPost.getId());
+    }
+
+    @Test
+    public void testListBoardPosts_QueryCount() throws Exception {
+        // when
+        QueryCounter.Result result = QueryCounter.capture(() ->
+                mockMvc.perform(get("/board/lists").param("id", "male"))
+                        .andExpect(status().isOk()));
+
+        // then : 목록 버전 확인, 게시판 조회, 게시글+작성자 조회 (게시글 수와 무관)
+        result.assertSelects(3).assertTotal(3);
+    }
+
+    @Test
+    public void testViewBoardPost_QueryCount() throws Exception {
+        // when
+        QueryCounter.Result result = QueryCounter.capture(() ->
+                mockMvc.perform(get("/board/view")
+                                .param("id", "male")
+                                .param("no", String.valueOf(firstPost.getId())))
+                        .andExpect(status().isOk()));
+
+        // then : 게시글 버전 확인, 게시글+작성자+게시판 조회 (추천 수는 메모리 비트맵에서 조회)
+        result.assertSelects(2).assertTotal(2);
+    }
+
+    @Test
+    public void testRecommendPost_QueryCount() throws Exception {
+        // given : 다른 회원으로 로그인한 세션
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("loggedInMember", authors.get(1));
+
+        // when
+        QueryCounter.Result result = QueryCounter.capture(() ->
+                mockMvc.perform(post("/board/recommend")
+                                .session(session)
+                                .param("id", "male")
+                                .param("no", String.valueOf(firstPost.getId())))
+                        .andExpect(status().is3xxRedirection()));
+
+        // then : 게시글 조회와 탈퇴 여부 확인 한 번씩, 추천/아웃박스 INSERT 한 번씩, 게시글 UPDATE 없음 (시퀀스 조회는 할당 시점에 따라 테이블별 0~1회)
+        result.assertSelects(2)
+                .assertInserts(2)
+                .assertUpdates(0)
+                .assertCountAtMost(StatementType.OTHER, 2);
+    }
+}
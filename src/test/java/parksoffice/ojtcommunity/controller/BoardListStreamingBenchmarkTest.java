@@ -0,0 +1,167 @@
+package parksoffice.ojtcommunity.controller;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.service.MemberService;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시판 목록 화면의 스트리밍 렌더링 벤치마크 (메모리 H2, 실제 Tomcat 사용)
+ * <p>
+ *     게시글 100 / 1,000 / 10,000개에서 목록 화면을 요청하여 첫 바이트까지의 시간(TTFB), 전체 응답 시간,
+ *     요청을 처리한 서버 스레드가 할당한 바이트 수를 잰다. 할당량은 가장 바깥 필터에서 스레드별 할당 카운터의 차이로 구한다.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class BoardListStreamingBenchmarkTest {
+
+    private static final int[] ROW_COUNTS = {100, 1_000, 10_000};
+    private static final int WARMUP = 3;
+    private static final int RUNS = 5;
+    private static final long FIRST_ID = 1_000_000L; // 시퀀스로 발급되는 식별자와 겹치지 않도록 한다.
+
+    private static final AtomicLong lastAllocatedBytes = new AtomicLong();
+
+    @TestConfiguration
+    static class AllocationConfig {
+
+        @Bean
+        public FilterRegistrationBean<Filter> allocationFilter() {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    lastAllocatedBytes.set(threads.getCurrentThreadAllocatedBytes() - before);
+                }
+            });
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private MemberService memberService;
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM posts WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM members WHERE username = 'bench'");
+    }
+
+    @Test
+    public void testListBoardPosts_StreamsRows() throws Exception {
+        // given
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        Member author = memberService.registerMember(Member.builder().username("bench").password("password").build());
+
+        List<Measurement> results = new ArrayList<>();
+        int inserted = 0;
+        for (int rows : ROW_COUNTS) {
+            insertPosts(board.getId(), author.getId(), inserted, rows);
+            inserted = rows;
+
+            // when
+            for (int i = 0; i < WARMUP; i++) {
+                request();
+            }
+            Measurement[] samples = new Measurement[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                samples[i] = request();
+            }
+            Measurement median = median(rows, samples);
+            results.add(median);
+
+            // then: 모든 행이 출력된다.
+            assertTrue(median.body().contains("게시글 " + (rows - 1) + "<"), "last row missing for " + rows + " rows");
+        }
+
+        System.out.println("board list streaming benchmark (median of " + RUNS + " runs)");
+        System.out.printf("%8s %10s %10s %12s %14s%n", "rows", "ttfb(ms)", "total(ms)", "bytes", "allocated(KiB)");
+        for (Measurement m : results) {
+            System.out.printf("%8d %10.2f %10.2f %12d %14d%n",
+                    m.rows(), m.ttfbNanos() / 1e6, m.totalNanos() / 1e6, m.body().length(), m.allocatedBytes() / 1024);
+        }
+
+        // then: 첫 바이트는 게시글을 조회하기 전에 나가므로 게시글 수에 비례하지 않는다.
+        //       (목록 전체를 조회한 뒤 렌더링하면 10,000개에서 TTFB가 전체 응답 시간의 25% 이상이다.)
+        Measurement large = results.get(results.size() - 1);
+        assertTrue(large.ttfbNanos() < large.totalNanos() / 5,
+                () -> "ttfb=" + large.ttfbNanos() + "ns, total=" + large.totalNanos() + "ns");
+    }
+
+    private void insertPosts(Long boardId, Long memberId, int from, int to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            rows.add(new Object[]{FIRST_ID + i, "게시글 " + i, "내용 " + i, memberId, boardId, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, member_id, board_id, view_count, version, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)", rows);
+    }
+
+    private Measurement request() throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(
+                "http://localhost:" + port + "/board/lists?id=male").toURL().openConnection();
+        long begin = System.nanoTime();
+        try (InputStream in = connection.getInputStream()) {
+            int first = in.read();
+            long ttfb = System.nanoTime() - begin;
+            assertNotEquals(-1, first);
+            byte[] rest = in.readAllBytes();
+            long total = System.nanoTime() - begin;
+            assertEquals(200, connection.getResponseCode());
+
+            byte[] body = new byte[rest.length + 1];
+            body[0] = (byte) first;
+            System.arraycopy(rest, 0, body, 1, rest.length);
+            return new Measurement(0, ttfb, total, lastAllocatedBytes.get(), new String(body, "UTF-8"));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static Measurement median(int rows, Measurement[] samples) {
+        long[] ttfb = Arrays.stream(samples).mapToLong(Measurement::ttfbNanos).sorted().toArray();
+        long[] total = Arrays.stream(samples).mapToLong(Measurement::totalNanos).sorted().toArray();
+        long[] allocated = Arrays.stream(samples).mapToLong(Measurement::allocatedBytes).sorted().toArray();
+        int mid = samples.length / 2;
+        return new Measurement(rows, ttfb[mid], total[mid], allocated[mid], samples[samples.length - 1].body());
+    }
+
+    private record Measurement(int rows, long ttfbNanos, long totalNanos, long allocatedBytes, String body) {
+    }
+}
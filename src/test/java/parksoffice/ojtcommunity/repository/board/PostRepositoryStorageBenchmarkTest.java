@@ -0,0 +1,161 @@
+package parksoffice.ojtcommunity.repository.board;
+
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import parksoffice.ojtcommunity.OjtCommunityApplication;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 저장소 모드별 PostRepository 주요 쿼리의 지연 시간 벤치마크
+ * <p>
+ *     같은 데이터(게시글 5,000개)에 대해 다음 세 가지 모드로 애플리케이션 컨텍스트를 띄우고, 쿼리별 지연 시간 분포를 비교한다.
+ *     <ul>
+ *         <li>tcp: 별도 H2 서버(같은 JVM에서 띄운 TCP 서버)에 접속 (기존 배포 방식)</li>
+ *         <li>embedded (default): 내장 파일 모드, H2 기본 설정</li>
+ *         <li>embedded (tuned): embedded 프로필 (캐시, 쓰기 지연, 페이지 분할 크기 조정)</li>
+ *     </ul>
+ * </p>
+ */
+public class PostRepositoryStorageBenchmarkTest {
+
+    private static final int POSTS = 5_000;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 2_000;
+    private static final int BLOCK = 100; // 모드를 바꾸기 전에 연속으로 호출하는 횟수
+    private static final long FIRST_ID = 1_000_000L; // 시퀀스로 발급되는 식별자와 겹치지 않도록 한다.
+
+    @TempDir
+    private Path dataDir;
+
+    @Test
+    public void testQueryLatency_EmbeddedVsTcp() throws Exception {
+        Server tcpServer = Server.createTcpServer("-tcpPort", "0", "-baseDir", dataDir.resolve("tcp").toString(),
+                "-ifNotExists").start();
+        Map<String, ConfigurableApplicationContext> contexts = new LinkedHashMap<>();
+        try {
+            contexts.put("tcp", start("test",
+                    "--spring.datasource.url=jdbc:h2:tcp://localhost:" + tcpServer.getPort() + "/ojtcommunity"));
+            contexts.put("embedded (default)", start("test",
+                    "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("default/ojtcommunity") + ";DB_CLOSE_ON_EXIT=FALSE"));
+            contexts.put("embedded (tuned)", start("test,embedded",
+                    "--ojt.storage.h2-file=" + dataDir.resolve("tuned/ojtcommunity")));
+
+            // when: 실행 순서(JIT 워밍업)에 따른 차이가 없도록 모드를 번갈아 가며 같은 수만큼 호출한다.
+            Map<String, Map<String, Runnable>> queriesByMode = new LinkedHashMap<>();
+            contexts.forEach((mode, context) -> queriesByMode.put(mode, queries(context)));
+            Map<String, Map<String, long[]>> results = new LinkedHashMap<>();
+            contexts.keySet().forEach(mode -> results.put(mode, new LinkedHashMap<>()));
+            for (String query : queriesByMode.get("tcp").keySet()) {
+                Map<String, long[]> samples = new LinkedHashMap<>();
+                contexts.keySet().forEach(mode -> samples.put(mode, new long[ITERATIONS]));
+                for (int round = 0; round < (WARMUP + ITERATIONS) / BLOCK; round++) {
+                    for (String mode : contexts.keySet()) {
+                        Runnable call = queriesByMode.get(mode).get(query);
+                        for (int i = 0; i < BLOCK; i++) {
+                            long begin = System.nanoTime();
+                            call.run();
+                            int index = round * BLOCK + i - WARMUP;
+                            if (index >= 0) {
+                                samples.get(mode)[index] = System.nanoTime() - begin;
+                            }
+                        }
+                    }
+                }
+                samples.forEach((mode, timings) -> {
+                    Arrays.sort(timings);
+                    results.get(mode).put(query, timings);
+                });
+            }
+
+            System.out.println("PostRepository latency by storage mode (" + POSTS + " posts, " + ITERATIONS + " calls, p50/p99 in µs)");
+            System.out.printf("%-22s", "query");
+            results.keySet().forEach(mode -> System.out.printf("%22s", mode));
+            System.out.println();
+            for (String query : results.get("tcp").keySet()) {
+                System.out.printf("%-22s", query);
+                for (Map<String, long[]> byQuery : results.values()) {
+                    long[] sorted = byQuery.get(query);
+                    System.out.printf("%22s", String.format("%.1f / %.1f", percentile(sorted, 50) / 1e3, percentile(sorted, 99) / 1e3));
+                }
+                System.out.println();
+            }
+
+            // then: 내장 모드는 쿼리마다의 TCP 왕복이 없으므로 읽기 쿼리 중앙값의 합이 더 낮다.
+            List<String> reads = List.of("listVersion", "summariesFirstPage", "detailDto", "version");
+            long tcp = reads.stream().mapToLong(query -> percentile(results.get("tcp").get(query), 50)).sum();
+            long embedded = reads.stream().mapToLong(query -> percentile(results.get("embedded (tuned)").get(query), 50)).sum();
+            assertTrue(embedded < tcp, () -> "embedded=" + embedded + "ns, tcp=" + tcp + "ns");
+        } finally {
+            contexts.values().forEach(ConfigurableApplicationContext::close);
+            tcpServer.stop();
+        }
+    }
+
+    /**
+     * 웹 서버 없이 컨텍스트를 띄우고 게시글을 채운다.
+     * (test 프로필의 메모리 DB 설정보다 우선하도록 데이터소스 설정은 명령행 인자로 넘긴다.)
+     */
+    private static ConfigurableApplicationContext start(String profiles, String datasourceArg) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OjtCommunityApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=" + profiles, datasourceArg);
+        BoardRepository boardRepository = context.getBean(BoardRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        Member author = memberRepository.save(Member.builder().username("bench").password("password").build());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            rows.add(new Object[]{FIRST_ID + i, "게시글 " + i, "내용 " + i, author.getId(), board.getId(), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, member_id, board_id, view_count, version, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)", rows);
+        return context;
+    }
+
+    /**
+     * 측정할 PostRepository 호출 (게시판 목록/상세 화면과 글 작성이 사용하는 쿼리)
+     */
+    private static Map<String, Runnable> queries(ConfigurableApplicationContext context) {
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        Board board = context.getBean(BoardRepository.class).findByCode("male").orElseThrow();
+        Member author = context.getBean(MemberRepository.class).findByUsername("bench").orElseThrow();
+        Random random = new Random(42);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("listVersion", () -> postRepository.findListVersionByBoardCode("male").orElseThrow());
+        queries.put("summariesFirstPage", () -> postRepository.findSummariesByBoardCodeBefore("male", Long.MAX_VALUE, Limit.of(20)));
+        queries.put("detailDto", () -> postRepository.findDetailDtoById(FIRST_ID + random.nextInt(POSTS)).orElseThrow());
+        queries.put("version", () -> postRepository.findVersionById(FIRST_ID + random.nextInt(POSTS)).orElseThrow());
+        queries.put("save", () -> postRepository.save(Post.builder()
+                .title("새 글").content("내용").author(author).board(board).build()));
+        return queries;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
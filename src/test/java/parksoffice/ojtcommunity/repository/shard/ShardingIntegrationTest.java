@@ -0,0 +1,258 @@
+package parksoffice.ojtcommunity.repository.shard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.service.MemberRemovalService;
+import parksoffice.ojtcommunity.service.MemberService;
+import parksoffice.ojtcommunity.service.PostPurger;
+import parksoffice.ojtcommunity.service.PostService;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시판 코드 기준 샤딩을 검증한다. (메모리 H2 세 개: 0번 기본 샤드, male은 1번, female은 2번 샤드)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ojtcommunity-shard0;DB_CLOSE_DELAY=-1",
+        "ojt.sharding.enabled=true",
+        "ojt.sharding.shards[0].url=jdbc:h2:mem:ojtcommunity-shard1;DB_CLOSE_DELAY=-1",
+        "ojt.sharding.shards[1].url=jdbc:h2:mem:ojtcommunity-shard2;DB_CLOSE_DELAY=-1",
+        "ojt.sharding.boards.male=1",
+        "ojt.sharding.boards.female=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ShardingIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRemovalService memberRemovalService;
+    @Autowired
+    private PostPurger postPurger;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private ShardDataSources shardDataSources;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member author;
+    private Board male;
+    private Board female;
+
+    @BeforeEach
+    public void setup() {
+        author = memberService.registerMember(Member.builder()
+                .username("shard-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        male = boardRepository.findByCode("male").orElseThrow();
+        female = boardRepository.findByCode("female").orElseThrow();
+    }
+
+    @Test
+    public void testRegisterPost_StoredOnBoardShard() {
+        // when
+        Post malePost = register(male, "남자 게시판 글");
+        Post femalePost = register(female, "여자 게시판 글");
+
+        // then: 게시판의 샤드에만 저장되고, 식별자의 상위 비트가 샤드 번호이다.
+        assertEquals(1, malePost.getId() >>> ShardMap.SHARD_ID_SHIFT);
+        assertEquals(2, femalePost.getId() >>> ShardMap.SHARD_ID_SHIFT);
+        assertEquals(1, countPosts(1, malePost.getId()));
+        assertEquals(0, countPosts(0, malePost.getId()) + countPosts(2, malePost.getId()));
+        assertEquals(1, countPosts(2, femalePost.getId()));
+
+        // then: 식별자와 게시판 코드로 라우팅된 조회
+        assertEquals("남자 게시판 글", postService.getPostDetailDto(malePost.getId()).getTitle());
+        assertEquals("female", postService.getPostVersion(femalePost.getId()).orElseThrow().getBoardCode());
+        List<PostSummaryDto> summaries = postService.getPostSummaries("male", null, 100).getItems();
+        assertTrue(summaries.stream().anyMatch(summary -> summary.getId().equals(malePost.getId())));
+        assertTrue(summaries.stream().noneMatch(summary -> summary.getId().equals(femalePost.getId())));
+    }
+
+    @Test
+    public void testRegisterMember_ReplicatedToAllShards() {
+        // then: 회원과 게시판 사본이 모든 샤드에 있다.
+        for (int shard = 0; shard < shardDataSources.count(); shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSources.get(shard));
+            assertEquals(author.getUsername(), jdbcTemplate.queryForObject(
+                    "SELECT username FROM members WHERE id = ?", String.class, author.getId()));
+            assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boards", Integer.class));
+        }
+    }
+
+    @Test
+    public void testRecommendPost_StoredWithPost() {
+        // given
+        Post post = register(female, "추천 받을 글");
+        Member recommender = memberService.registerMember(Member.builder()
+                .username("rec-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+
+        // when
+        postService.recommendPost(post.getId(), recommender.getId());
+
+        // then: 추천 정보는 게시글과 같은 샤드에 저장된다.
+        JdbcTemplate shard2 = new JdbcTemplate(shardDataSources.get(2));
+        assertEquals(1, shard2.queryForObject(
+                "SELECT COUNT(*) FROM post_recommendations WHERE post_id = ?", Integer.class, post.getId()));
+        assertEquals(1, postService.getRecommendationCount(post.getId()));
+        assertTrue(postService.hasRecommended(post.getId(), recommender.getId()));
+    }
+
+    @Test
+    public void testGetAllPosts_MergesShardsInCreatedAtOrder() {
+        // given: 두 샤드에 번갈아 작성
+        String keyword = UUID.randomUUID().toString().substring(0, 8);
+        List<Post> written = List.of(
+                register(male, keyword + " 1"),
+                register(female, keyword + " 2"),
+                register(male, keyword + " 3"),
+                register(female, keyword + " 4"));
+
+        // when
+        List<Long> all = postService.getAllPosts().stream()
+                .filter(post -> post.getTitle().startsWith(keyword))
+                .map(Post::getId)
+                .toList();
+        List<Post> searched = postService.searchPostsByTitle(keyword);
+
+        // then: 모든 샤드의 게시글이 최신순으로 합쳐진다.
+        assertEquals(List.of(written.get(3).getId(), written.get(2).getId(), written.get(1).getId(), written.get(0).getId()), all);
+        assertEquals(4, searched.size());
+    }
+
+    @Test
+    public void testScatterInReadOnlyTransaction_LazyLoadsAuthor() {
+        // given
+        register(male, "작성자 지연 로딩 1");
+        register(female, "작성자 지연 로딩 2");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when: 여러 샤드의 게시글을 읽은 뒤 같은 트랜잭션에서 작성자를 지연 로딩
+        List<String> usernames = readOnly.execute(status -> postRepository.findAllByOrderByCreatedAtDesc().stream()
+                .filter(post -> post.getTitle().startsWith("작성자 지연 로딩"))
+                .map(post -> post.getAuthor().getUsername())
+                .toList());
+
+        // then
+        assertEquals(List.of(author.getUsername(), author.getUsername()), usernames);
+    }
+
+    @Test
+    public void testWriteTransaction_CannotSpanShards() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when & then: 한 쓰기 트랜잭션에서 두 샤드에 쓰면 예외가 발생하고 모두 롤백된다.
+        String title = "샤드 넘는 트랜잭션 " + UUID.randomUUID();
+        assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+            postRepository.save(Post.builder().title(title).content("내용").author(author).board(male).build());
+            postRepository.save(Post.builder().title(title).content("내용").author(author).board(female).build());
+        }));
+        assertTrue(postService.searchPostsByTitle(title).isEmpty());
+    }
+
+    @Test
+    public void testWriteTransaction_RejectsMultiShardWrite() {
+        // given
+        Post malePost = register(male, "여러 샤드 일괄 수정 1");
+        Post femalePost = register(female, "여러 샤드 일괄 수정 2");
+        List<Long> ids = List.of(malePost.getId(), femalePost.getId());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when & then: 한 쓰기 트랜잭션에서 여러 샤드에 쓰는 일괄 UPDATE는 어느 샤드에도 반영되지 않고 예외가 발생한다.
+        assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status ->
+                postRepository.addViewCount(ids, 1)));
+        assertEquals(0, viewCount(1, malePost.getId()));
+        assertEquals(0, viewCount(2, femalePost.getId()));
+
+        // 샤드별로 나누면 샤드마다 한 트랜잭션에서 반영된다.
+        for (List<Long> shardIds : ShardMap.groupByShard(ids, Long::longValue)) {
+            transaction.executeWithoutResult(status -> postRepository.addViewCount(shardIds, 1));
+        }
+        assertEquals(1, viewCount(1, malePost.getId()));
+        assertEquals(1, viewCount(2, femalePost.getId()));
+    }
+
+    @Test
+    public void testMemberRemoval_PurgesPostsOnAllShards() {
+        // given
+        Post malePost = register(male, "탈퇴 회원 글 1");
+        Post femalePost = register(female, "탈퇴 회원 글 2");
+
+        // when
+        memberService.deleteMemberById(author.getId());
+        memberRemovalService.removeDeactivatedMembers();
+        postPurger.purge();
+
+        // then: 두 샤드의 게시글 행이 지워지고 회원 원본도 지워진다.
+        assertEquals(0, countPosts(1, malePost.getId()));
+        assertEquals(0, countPosts(2, femalePost.getId()));
+        assertEquals(0, new JdbcTemplate(shardDataSources.get(0)).queryForObject(
+                "SELECT COUNT(*) FROM members WHERE id = ?", Integer.class, author.getId()));
+    }
+
+    @Test
+    public void testBoardPages_RenderWithOpenSessionInView() throws Exception {
+        // given
+        Post post = register(female, "화면 확인 글");
+
+        // when & then: 목록과 상세 화면이 게시글 샤드와 기본 샤드(작성자)를 함께 사용해 렌더링된다.
+        mockMvc.perform(get("/board/lists").param("id", "female"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("화면 확인 글")));
+        mockMvc.perform(get("/board/view").param("id", "female").param("no", String.valueOf(post.getId())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(author.getUsername())));
+    }
+
+    private Post register(Board board, String title) {
+        return postService.registerPost(Post.builder()
+                .title(title)
+                .content("내용")
+                .author(author)
+                .board(board)
+                .build());
+    }
+
+    private int viewCount(int shard, Long id) {
+        return new JdbcTemplate(shardDataSources.get(shard)).queryForObject(
+                "SELECT view_count FROM posts WHERE id = ?", Integer.class, id);
+    }
+
+    private int countPosts(int shard, Long id) {
+        return new JdbcTemplate(shardDataSources.get(shard)).queryForObject(
+                "SELECT COUNT(*) FROM posts WHERE id = ?", Integer.class, id);
+    }
+}
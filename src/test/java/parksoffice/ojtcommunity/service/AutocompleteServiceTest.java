@@ -0,0 +1,57 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.event.BoardChangedEvent;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AutocompleteServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository; // 회원 저장소 목 객체
+    @Mock
+    private BoardRepository boardRepository; // 게시판 저장소 목 객체
+
+    /**
+     * 재구축 중(DB 조회 이후)에 반영된 회원/게시판 변경도 새 인덱스에 남는지 확인한다.
+     */
+    @Test
+    public void testRebuild_KeepsChangesAppliedDuringRebuild() {
+        // given: 회원 이름을 조회한 직후 다른 요청의 회원가입, 이름 변경, 게시판 등록이 커밋된다.
+        AutocompleteService autocompleteService =
+                new AutocompleteService(memberRepository, boardRepository, new SimpleMeterRegistry());
+        when(memberRepository.findActiveUsernames()).thenAnswer(invocation -> {
+            autocompleteService.onMemberChanged(MemberChangedEvent.registered(2L, "lateUser"));
+            autocompleteService.onMemberChanged(MemberChangedEvent.renamed(1L, "oldUser", "newUser"));
+            autocompleteService.onBoardChanged(BoardChangedEvent.registered(3L, "late", "lateBoard"));
+            return List.of("existingUser", "oldUser");
+        });
+        when(boardRepository.findAll()).thenReturn(List.of(Board.builder().name("자유게시판").code("free").build()));
+
+        // when
+        autocompleteService.rebuild();
+
+        // then
+        assertEquals(List.of("existingUser"), autocompleteService.suggestUsernames("exist", 10));
+        assertEquals(List.of("lateUser"), autocompleteService.suggestUsernames("late", 10));
+        assertEquals(List.of("newUser"), autocompleteService.suggestUsernames("newU", 10));
+        assertTrue(autocompleteService.suggestUsernames("oldU", 10).isEmpty());
+        assertEquals(List.of("lateBoard"), autocompleteService.suggestBoardNames("late", 10));
+
+        // 재구축이 끝난 뒤의 변경은 새 인덱스에 바로 반영된다.
+        autocompleteService.onMemberChanged(MemberChangedEvent.registered(4L, "afterUser"));
+        assertEquals(List.of("afterUser"), autocompleteService.suggestUsernames("after", 10));
+    }
+}
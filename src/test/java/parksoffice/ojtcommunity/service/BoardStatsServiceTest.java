@@ -0,0 +1,173 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.BoardStatsDto;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.BoardStatsRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+import parksoffice.ojtcommunity.support.sql.StatementType;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시판별 통계의 증감 반영, 메인 페이지 렌더링, 재조정과 체크포인트 복원을 검증한다.
+ * <p>테스트 도중 주기 작업이 끼어들지 않도록 주기를 길게 둔다.</p>
+ */
+@SpringBootTest(properties = {
+        "ojt.board-stats.checkpoint-interval-seconds=3600",
+        "ojt.board-stats.reconcile-interval-seconds=3600"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BoardStatsServiceTest {
+
+    @Autowired
+    private BoardStatsService boardStatsService;
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostPurger postPurger;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member author;
+    private Board male;
+
+    @BeforeEach
+    public void setup() {
+        author = memberService.registerMember(Member.builder()
+                .username("stats-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        male = boardRepository.findByCode("male").orElseThrow();
+        // 서버 시작 직후의 재조정이 끝난 상태에서 시작한다.
+        boardStatsService.reconcile();
+    }
+
+    @Test
+    public void testRegisterAndDelete_UpdateCountsByDelta() throws Exception {
+        // given
+        BoardStatsDto before = boardStatsService.getStats("male");
+
+        // when: 2개 등록
+        Post first = register("통계 글 1");
+        register("통계 글 2");
+
+        // then
+        BoardStatsDto registered = boardStatsService.getStats("male");
+        assertEquals(before.getPostCount() + 2, registered.getPostCount());
+        assertEquals(before.getTodayCount() + 2, registered.getTodayCount());
+        assertNotNull(registered.getLastActivityAt());
+
+        // when: 1개 삭제 후 바로 일괄 삭제까지 끝남
+        double reconciles = meterRegistry.counter("board.stats.reconciled").count();
+        postService.deletePostById(first.getId());
+        postPurger.purge();
+
+        // then: 커밋한 스레드에서 바로 반영하고, 재조정하지 않는다.
+        assertEquals(before.getPostCount() + 1, boardStatsService.getStats("male").getPostCount());
+        assertEquals(before.getTodayCount() + 1, boardStatsService.getStats("male").getTodayCount());
+        Thread.sleep(200);
+        assertEquals(reconciles, meterRegistry.counter("board.stats.reconciled").count());
+    }
+
+    @Test
+    public void testHome_RendersStatsWithoutQueryingPosts() throws Exception {
+        // given
+        register("메인 페이지 통계 글");
+        long postCount = boardStatsService.getStats("male").getPostCount();
+
+        // when
+        QueryCounter.Result result = QueryCounter.capture(() -> mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("게시글 <span>" + postCount + "</span>개"))));
+
+        // then: 게시판 목록 조회 외에 게시글 테이블을 조회하지 않는다.
+        result.assertCountAtMost(StatementType.SELECT, 1);
+        assertTrue(result.queries().stream().noneMatch(query -> query.sql().toLowerCase().contains("posts")),
+                () -> "게시글 테이블을 조회함: " + result.queries());
+    }
+
+    @Test
+    public void testReconcile_CorrectsChangesWithoutEvents() {
+        // given: 이벤트 없이 일괄 삭제 (DB를 직접 고친 경우)
+        Post post = register("재조정할 글");
+        long counted = boardStatsService.getStats("male").getPostCount();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                postRepository.softDeleteByIds(List.of(post.getId()), LocalDateTime.now()));
+        assertEquals(counted, boardStatsService.getStats("male").getPostCount());
+
+        // when
+        BoardStatsService.ReconcileResult result = boardStatsService.reconcile();
+
+        // then
+        assertEquals(counted - 1, boardStatsService.getStats("male").getPostCount());
+        assertTrue(result.corrected() >= 1);
+        assertTrue(result.drift() >= 1);
+    }
+
+    @Test
+    public void testCheckpoint_RestoredOnStartWithoutAggregating() throws Exception {
+        // given
+        register("체크포인트 글");
+        BoardStatsDto expected = boardStatsService.getStats("male");
+        boardStatsService.checkpoint();
+
+        // when: 새 인스턴스가 체크포인트를 읽는다.
+        BoardStatsService restarted = new BoardStatsService(postRepository, boardStatsRepository, transactionManager,
+                3600, 3600, new SimpleMeterRegistry());
+        try {
+            QueryCounter.Result result = QueryCounter.capture(restarted::start);
+
+            // then: 체크포인트만 읽고, 집계는 백그라운드에서 실행한다.
+            result.assertSelects(1);
+            BoardStatsDto restored = restarted.getStats("male");
+            assertEquals(expected.getPostCount(), restored.getPostCount());
+            assertEquals(expected.getTodayCount(), restored.getTodayCount());
+            // DB에는 마이크로초까지 저장된다.
+            assertEquals(expected.getLastActivityAt().truncatedTo(ChronoUnit.MILLIS),
+                    restored.getLastActivityAt().truncatedTo(ChronoUnit.MILLIS));
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    private Post register(String title) {
+        return postService.registerPost(Post.builder().title(title).content("내용").author(author).board(male).build());
+    }
+}
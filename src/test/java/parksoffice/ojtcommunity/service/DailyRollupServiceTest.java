@@ -0,0 +1,158 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.DailyBoardRollup;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.DailyBoardRollupRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시판별 일간 집계 작업의 집계 결과, 완료된 청크 건너뛰기와 다시 집계를 검증한다.
+ * <p>
+ *     게시글의 작성일은 저장 시점으로 정해지므로, 다른 테스트의 게시글과 겹치지 않는 과거 날짜로 옮겨서 집계한다.
+ *     병렬 처리를 확인하기 위해 병렬도를 3으로 두고, 주기 실행은 테스트 도중 끼어들지 않도록 길게 둔다.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "ojt.daily-rollup.parallelism=3",
+        "ojt.daily-rollup.interval-minutes=1440"
+})
+@ActiveProfiles("test")
+public class DailyRollupServiceTest {
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+    @Autowired
+    private DailyBoardRollupRepository dailyBoardRollupRepository;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member alice;
+    private Member bob;
+    private Board male;
+    private Board female;
+    private LocalDate day;
+
+    @BeforeEach
+    public void setup() {
+        alice = register("rollup-a-");
+        bob = register("rollup-b-");
+        male = boardRepository.findByCode("male").orElseThrow();
+        female = boardRepository.findByCode("female").orElseThrow();
+        // 테스트마다 서로 다른 과거 날짜를 사용한다.
+        day = LocalDate.of(2001, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(0, 20 * 365));
+    }
+
+    @Test
+    public void testRollup_AggregatesPerBoardPerDay() {
+        // given: 남자 게시판에 두 회원이 3개, 여자 게시판에 1개 작성하고, 1개를 추천
+        Post first = write(male, alice, 10);
+        write(male, alice, 5);
+        write(male, bob, 0);
+        write(female, bob, 7);
+        postService.recommendPost(first.getId(), bob.getId());
+        moveRecommendationsTo(first.getId(), day);
+
+        // when
+        DailyRollupService.RollupResult result = dailyRollupService.rollup(day, day, false);
+
+        // then
+        assertEquals(1, result.processed());
+        assertEquals(4, result.posts());
+        Map<String, DailyBoardRollup> rollups = rollups(day);
+        DailyBoardRollup maleRollup = rollups.get("male");
+        assertEquals(3, maleRollup.getPosts());
+        assertEquals(15, maleRollup.getLifetimeViews());
+        assertEquals(1, maleRollup.getRecommendations());
+        assertEquals(2, maleRollup.getActiveAuthors());
+        DailyBoardRollup femaleRollup = rollups.get("female");
+        assertEquals(1, femaleRollup.getPosts());
+        assertEquals(7, femaleRollup.getLifetimeViews());
+        assertEquals(0, femaleRollup.getRecommendations());
+        assertEquals(1, femaleRollup.getActiveAuthors());
+    }
+
+    @Test
+    public void testRollup_SkipsCompletedChunksUntilForced() {
+        // given: 10일 중 첫날과 마지막 날에 게시글 작성
+        LocalDate last = day.plusDays(9);
+        write(male, alice, 0);
+        day = last;
+        write(male, alice, 0);
+        LocalDate first = last.minusDays(9);
+
+        // when: 처음 실행하면 모든 날짜를 병렬로 집계한다.
+        DailyRollupService.RollupResult initial = dailyRollupService.rollup(first, last, false);
+
+        // then
+        assertEquals(10, initial.chunks());
+        assertEquals(10, initial.processed());
+        assertEquals(0, initial.failed());
+        assertEquals(2, initial.posts());
+
+        // when: 다시 실행하면 완료된 날짜를 건너뛴다.
+        write(male, bob, 0);
+        DailyRollupService.RollupResult resumed = dailyRollupService.rollup(first, last, false);
+
+        // then
+        assertEquals(0, resumed.processed());
+        assertEquals(10, resumed.skipped());
+        assertEquals(1, rollups(last).get("male").getPosts());
+
+        // when: 강제로 다시 집계하면 늦게 반영된 게시글도 포함된다.
+        DailyRollupService.RollupResult forced = dailyRollupService.rollup(last, last, true);
+
+        // then
+        assertEquals(1, forced.processed());
+        assertEquals(2, rollups(last).get("male").getPosts());
+        assertEquals(2, rollups(last).get("male").getActiveAuthors());
+    }
+
+    private Member register(String prefix) {
+        return memberService.registerMember(Member.builder()
+                .username(prefix + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+    }
+
+    /**
+     * 게시글을 작성하고 작성일과 조회수를 바꾼다.
+     */
+    private Post write(Board board, Member author, int views) {
+        Post post = postService.registerPost(Post.builder().title("집계 글").content("내용").author(author).board(board).build());
+        jdbcTemplate.update("UPDATE posts SET created_at = ?, view_count = ? WHERE id = ?",
+                day.atTime(12, 0), views, post.getId());
+        return post;
+    }
+
+    private void moveRecommendationsTo(Long postId, LocalDate target) {
+        jdbcTemplate.update("UPDATE post_recommendations SET created_at = ? WHERE post_id = ?", target.atTime(13, 0), postId);
+    }
+
+    private Map<String, DailyBoardRollup> rollups(LocalDate target) {
+        List<DailyBoardRollup> rows = dailyBoardRollupRepository.findByDayBetweenOrderByDayAscBoardCodeAsc(target, target);
+        return rows.stream().collect(Collectors.toMap(DailyBoardRollup::getBoardCode, row -> row));
+    }
+}
@@ -0,0 +1,129 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 게시글에 요청이 몰릴 때 single-flight 조회가 DB 쿼리 수를 줄이는지 확인하는 부하 테스트 (메모리 H2 사용)
+ * <p>
+ *     여러 스레드가 동시에 게시글 상세 화면의 조회(버전 확인 + 상세 조회)를 반복하고, 스레드별로 실행된 SQL 문 수를 합산한다.
+ *     같은 부하를 PostService로 직접 보낸 경우와 비교한다.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class HotLookupServiceLoadTest {
+
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 50;
+
+    @Autowired
+    private HotLookupService hotLookupService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Post post;
+
+    @BeforeEach
+    public void setup() {
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        Member author = memberService.registerMember(Member.builder().username("viral").password("password").build());
+        post = postService.registerPost(Post.builder()
+                .title("인기 글").content("내용").author(author).board(board).build());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    public void testConcurrentViews_CoalescedLoadsIssueFewerQueries() throws Exception {
+        // given: 상세 화면 한 번에 해당하는 조회 (버전 확인 + 게시글/작성자/게시판 조회)
+        Long postId = post.getId();
+        Function<Long, String> direct = id -> {
+            postService.getPostVersion(id).orElseThrow();
+            return postService.getPostDetail(id).getTitle();
+        };
+        Function<Long, String> coalesced = id -> {
+            hotLookupService.getPostVersion(id).orElseThrow();
+            return hotLookupService.getPostDetail(id).getTitle();
+        };
+
+        // when
+        long directQueries = runLoad(direct, postId);
+        long coalescedQueries = runLoad(coalesced, postId);
+
+        // then: 직접 조회는 요청마다 2개씩 실행되고, 합친 조회는 그보다 적게 실행된다.
+        long requests = (long) THREADS * ROUNDS;
+        System.out.printf("single-flight load test: %d concurrent views, direct=%d queries, coalesced=%d queries (%.1f%% fewer)%n",
+                requests, directQueries, coalescedQueries, 100.0 * (directQueries - coalescedQueries) / directQueries);
+        assertEquals(requests * 2, directQueries);
+        assertTrue(coalescedQueries < directQueries,
+                () -> "coalesced=" + coalescedQueries + ", direct=" + directQueries);
+    }
+
+    /**
+     * 모든 스레드를 동시에 출발시켜 조회를 반복하고, 스레드별로 실행된 SQL 문 수를 합산한다.
+     */
+    private static long runLoad(Function<Long, String> view, Long postId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return QueryCounter.capture(() -> {
+                        for (int i = 0; i < ROUNDS; i++) {
+                            assertEquals("인기 글", view.apply(postId));
+                        }
+                    }).total();
+                }));
+            }
+            assertTrue(ready.await(10, TimeUnit.SECONDS));
+            start.countDown();
+
+            long total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get(60, TimeUnit.SECONDS);
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
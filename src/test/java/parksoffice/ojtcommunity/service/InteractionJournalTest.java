@@ -0,0 +1,130 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.support.MappedJournal;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 이벤트 저널의 기록, 합산 반영, 재시작 후 이어서 반영을 검증한다.
+ * <p>백그라운드 반영이 끼어들지 않도록 주기를 길게 두고 {@link InteractionJournal#apply()}를 직접 호출한다.</p>
+ */
+@SpringBootTest(properties = "ojt.interaction-journal.apply-interval-millis=3600000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class InteractionJournalTest {
+
+    @Autowired
+    private InteractionJournal interactionJournal;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    Path directory;
+
+    private Post first;
+    private Post second;
+
+    @BeforeEach
+    public void setup() {
+        interactionJournal.apply();
+        Member author = memberService.registerMember(Member.builder()
+                .username("journal-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        first = postService.registerPost(Post.builder().title("조회 글 1").content("내용").author(author).board(board).build());
+        second = postService.registerPost(Post.builder().title("조회 글 2").content("내용").author(author).board(board).build());
+    }
+
+    @Test
+    public void testApply_AggregatesViewsIntoFewUpdates() throws Exception {
+        // given: 첫 글 3회, 두 번째 글 3회 조회 (조회 기록은 SQL을 실행하지 않는다.)
+        QueryCounter.capture(() -> {
+            for (int i = 0; i < 3; i++) {
+                interactionJournal.recordView(first.getId(), null);
+                interactionJournal.recordView(second.getId(), 1L);
+            }
+        }).assertTotal(0);
+
+        // when
+        InteractionJournal.ApplyResult result = interactionJournal.apply();
+
+        // then: 늘릴 값이 같은 두 게시글은 UPDATE 한 번으로 반영되고, 버전은 바뀌지 않는다.
+        assertEquals(6, result.events());
+        assertEquals(1, result.statements());
+        Post reloaded = postRepository.findById(first.getId()).orElseThrow();
+        assertEquals(3, reloaded.getViewCount());
+        assertEquals(first.getVersion(), reloaded.getVersion());
+        assertEquals(3, postRepository.findById(second.getId()).orElseThrow().getViewCount());
+
+        // then: 이미 반영한 이벤트는 다시 반영하지 않는다.
+        assertEquals(0, interactionJournal.apply().events());
+    }
+
+    @Test
+    public void testViewPage_RecordsView() throws Exception {
+        // when
+        mockMvc.perform(get("/board/view").param("id", "male").param("no", String.valueOf(first.getId())))
+                .andExpect(status().isOk());
+        interactionJournal.apply();
+
+        // then
+        assertEquals(1, postRepository.findById(first.getId()).orElseThrow().getViewCount());
+    }
+
+    @Test
+    public void testRestart_ReplaysFromCheckpoint() {
+        // given: 반영 전에 멈춘 저널 (shutdown 없이 버림)
+        InteractionJournal crashed = newJournal();
+        crashed.recordView(first.getId(), null);
+        crashed.recordView(first.getId(), null);
+        // 프로세스가 끝나면 디렉터리 잠금이 풀린다.
+        ((MappedJournal) ReflectionTestUtils.getField(crashed, "journal")).close();
+
+        // when: 같은 디렉터리로 다시 시작
+        InteractionJournal restarted = newJournal();
+        InteractionJournal.ApplyResult result = restarted.apply();
+        restarted.shutdown();
+
+        // then
+        assertEquals(2, result.events());
+        assertEquals(2, postRepository.findById(first.getId()).orElseThrow().getViewCount());
+    }
+
+    private InteractionJournal newJournal() {
+        return new InteractionJournal(postRepository, transactionManager, directory.toString(),
+                1024, 10_000, 3_600_000, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,136 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.dto.member.MemberActivityDto;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 활동 목록의 커서 페이지 조회와 첫 페이지 캐시의 무효화를 검증한다.
+ * <p>페이지를 넘기는 경우를 확인하기 위해 페이지 크기를 2로 둔다.</p>
+ */
+@SpringBootTest(properties = "ojt.member-activity.page-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class MemberActivityServiceTest {
+
+    @Autowired
+    private MemberActivityService memberActivityService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member author;
+    private Board male;
+    private Board female;
+
+    @BeforeEach
+    public void setup() {
+        author = memberService.registerMember(Member.builder()
+                .username("activity-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        male = boardRepository.findByCode("male").orElseThrow();
+        female = boardRepository.findByCode("female").orElseThrow();
+    }
+
+    @Test
+    public void testGetActivity_PagesAcrossBoardsNewestFirst() {
+        // given: 두 게시판에 걸쳐 3개 작성
+        Post first = register(male, "첫 글");
+        Post second = register(female, "두 번째 글");
+        Post third = register(male, "세 번째 글");
+
+        // when
+        CursorPage<MemberActivityDto> page1 = memberActivityService.getActivity(author.getId(), null, null);
+        MemberActivityDto last = page1.getItems().get(page1.getItems().size() - 1);
+        CursorPage<MemberActivityDto> page2 = memberActivityService.getActivity(author.getId(), last.getCreatedAt(), page1.getNextCursor());
+
+        // then
+        assertEquals(List.of(third.getId(), second.getId()), ids(page1));
+        assertEquals("female", page1.getItems().get(1).getBoardCode());
+        assertEquals(List.of(first.getId()), ids(page2));
+        assertNull(page2.getNextCursor());
+    }
+
+    @Test
+    public void testGetActivity_FirstPageServedFromCacheUntilChanged() throws Exception {
+        // given
+        Post post = register(male, "캐시할 글");
+        memberActivityService.getActivity(author.getId(), null, null);
+
+        // when & then: 두 번째 조회는 쿼리를 실행하지 않는다.
+        QueryCounter.capture(() -> memberActivityService.getActivity(author.getId(), null, null)).assertTotal(0);
+
+        // when & then: 제목을 수정하면 다시 조회한다.
+        UpdatePostDto update = new UpdatePostDto();
+        update.setTitle("수정한 제목");
+        update.setContent("내용");
+        postService.updatePost(post.getId(), update);
+        assertEquals("수정한 제목", memberActivityService.getActivity(author.getId(), null, null).getItems().get(0).getTitle());
+
+        // when & then: 새 글을 등록하면 다시 조회한다.
+        Post newer = register(female, "새 글");
+        assertEquals(newer.getId(), memberActivityService.getActivity(author.getId(), null, null).getItems().get(0).getId());
+
+        // when & then: 삭제하면 다시 조회한다.
+        postService.deletePostById(newer.getId());
+        assertEquals(List.of(post.getId()), ids(memberActivityService.getActivity(author.getId(), null, null)));
+    }
+
+    @Test
+    public void testViewMember_RendersActivityWithNextPageLink() throws Exception {
+        // given
+        register(male, "프로필 글 A");
+        register(male, "프로필 글 B");
+        register(male, "프로필 글 C");
+
+        // when & then: 첫 페이지에는 최신 2개와 다음 페이지 링크가 있다.
+        String html = mockMvc.perform(get("/members/view/" + author.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("프로필 글 C")))
+                .andExpect(content().string(containsString("beforeId=")))
+                .andReturn().getResponse().getContentAsString();
+        String next = html.substring(html.indexOf("/members/view/" + author.getId() + "?before="));
+        next = next.substring(0, next.indexOf('"')).replace("&amp;", "&");
+
+        // when & then: 링크를 따라가면 마지막 글이 나온다.
+        mockMvc.perform(get(URI.create(next)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("프로필 글 A")));
+    }
+
+    private Post register(Board board, String title) {
+        return postService.registerPost(Post.builder().title(title).content("내용").author(author).board(board).build());
+    }
+
+    private static List<Long> ids(CursorPage<MemberActivityDto> page) {
+        return page.getItems().stream().map(MemberActivityDto::getId).toList();
+    }
+}
@@ -0,0 +1,184 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.exception.MemberNotFoundException;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 탈퇴 회원의 게시글/추천 정보 정리와 회원 행 삭제를 검증한다. (메모리 H2 사용)
+ * <p>묶음 크기를 작게 두어, 정리가 여러 트랜잭션에 나뉘어 진행되는지 확인한다.</p>
+ */
+@SpringBootTest(properties = {"ojt.member-removal.chunk-size=5", "ojt.post-purge.chunk-size=5"})
+@ActiveProfiles("test")
+public class MemberRemovalServiceTest {
+
+    private static final int LEAVER_POSTS = 12;
+    private static final int OTHER_POSTS = 8;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberRemovalService memberRemovalService;
+    @Autowired
+    private PostPurger postPurger;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostRecommendationRepository postRecommendationRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private BoardStatsService boardStatsService;
+
+    private Member leaver;
+    private final List<Member> stayers = new ArrayList<>();
+    private final List<Post> otherPosts = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        leaver = memberService.registerMember(Member.builder().username("leaver").password("password").build());
+        for (int i = 0; i < 3; i++) {
+            stayers.add(memberService.registerMember(Member.builder()
+                    .username("stayer" + i).password("password").build()));
+        }
+
+        // 탈퇴할 회원의 글과, 그 글에 다른 회원들이 남긴 추천
+        for (int i = 0; i < LEAVER_POSTS; i++) {
+            Post post = postService.registerPost(Post.builder()
+                    .title("탈퇴 회원 글 " + i).content("내용").author(leaver).board(board).build());
+            for (Member stayer : stayers) {
+                postService.recommendPost(post.getId(), stayer.getId());
+            }
+        }
+        // 다른 회원의 글과, 그 글에 탈퇴할 회원과 다른 회원이 남긴 추천
+        for (int i = 0; i < OTHER_POSTS; i++) {
+            Post post = postService.registerPost(Post.builder()
+                    .title("남는 글 " + i).content("내용").author(stayers.get(0)).board(board).build());
+            postService.recommendPost(post.getId(), leaver.getId());
+            postService.recommendPost(post.getId(), stayers.get(1).getId());
+            otherPosts.add(post);
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        memberRemovalService.removeDeactivatedMembers();
+        postPurger.purge();
+        postRecommendationRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    /**
+     * 탈퇴 요청은 UPDATE 한 번으로 끝나고, 이후 로그인할 수 없다.
+     * 백그라운드 정리가 끝나면 회원의 글/추천과 회원 행이 모두 지워지고 다른 회원의 데이터는 남는다.
+     */
+    @Test
+    public void testDeleteMember_DeactivatesThenRemovesEverything() throws Exception {
+        // given
+        assertEquals(2, postService.getRecommendationCount(otherPosts.get(0).getId()));
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        Post unrecommended = postService.registerPost(Post.builder()
+                .title("탈퇴 회원이 추천하지 않은 글").content("내용").author(stayers.get(2)).board(board).build());
+        long boardPosts = boardStatsService.getStats("male").getPostCount();
+
+        // when
+        QueryCounter.capture(() -> memberService.deleteMemberById(leaver.getId()))
+                .assertUpdates(1);
+
+        // then: 탈퇴 즉시 로그인과 재탈퇴가 거부된다.
+        assertThrows(MemberNotFoundException.class, () -> memberService.login("leaver", "password"));
+        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMemberById(leaver.getId()));
+
+        // then: 탈퇴 전에 로그인한 세션으로도 글을 쓰거나 추천할 수 없다.
+        assertThrows(MemberNotFoundException.class, () -> postService.registerPost(Post.builder()
+                .title("탈퇴 후 글").content("내용").author(leaver).board(board).build()));
+        assertThrows(MemberNotFoundException.class, () ->
+                postService.recommendPost(unrecommended.getId(), leaver.getId()));
+
+        // then: 백그라운드 실행이 먼저 끝냈을 수도 있으므로, 남은 작업을 마저 실행한 뒤 DB 상태로 확인한다.
+        memberRemovalService.removeDeactivatedMembers();
+        assertEquals(0, countRows("SELECT COUNT(*) FROM members WHERE id = ?", leaver.getId()));
+        assertEquals(0, countRows("SELECT COUNT(*) FROM posts WHERE member_id = ?", leaver.getId()));
+        assertEquals(0, countRows("SELECT COUNT(*) FROM post_recommendations WHERE member_id = ?", leaver.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_recommendations r LEFT JOIN posts p ON p.id = r.post_id WHERE p.id IS NULL",
+                Long.class));
+
+        // then: 다른 회원의 글과 추천은 남고, 추천 수는 탈퇴 회원의 추천만큼 줄어든다.
+        assertEquals(OTHER_POSTS, countRows("SELECT COUNT(*) FROM posts WHERE member_id = ?", stayers.get(0).getId()));
+        assertEquals(OTHER_POSTS, countRows("SELECT COUNT(*) FROM post_recommendations WHERE member_id = ?",
+                stayers.get(1).getId()));
+        assertEquals(1, postService.getRecommendationCount(otherPosts.get(0).getId()));
+        assertTrue(memberService.login("stayer0", "password") != null);
+
+        // then: 게시글마다 삭제 이벤트가 발행되어, 재조정 없이 게시판 통계에 반영된다.
+        assertEquals(boardPosts - LEAVER_POSTS, boardStatsService.getStats("male").getPostCount());
+    }
+
+    /**
+     * 탈퇴 표시만 남고 정리가 되지 않은 회원(예: 정리 중 서버 종료)은 다음 실행에서 이어서 처리된다.
+     */
+    @Test
+    public void testRemoveDeactivatedMembers_ResumesUnfinishedRemoval() {
+        // given: 이벤트 없이 탈퇴 표시만 된 상태
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberRepository.deactivateById(leaver.getId(), LocalDateTime.now()));
+
+        MemberRemovalService.ProgressReport before = memberRemovalService.progress();
+        assertEquals(1, before.pending().size());
+        assertEquals(leaver.getId(), before.pending().get(0).memberId());
+        assertEquals(LEAVER_POSTS, before.pending().get(0).remainingPosts());
+        assertEquals(OTHER_POSTS, before.pending().get(0).remainingRecommendations());
+
+        // when
+        int removed = memberRemovalService.removeDeactivatedMembers();
+
+        // then
+        assertEquals(1, removed);
+        assertEquals(0, countRows("SELECT COUNT(*) FROM members WHERE id = ?", leaver.getId()));
+        MemberRemovalService.ProgressReport after = memberRemovalService.progress();
+        assertTrue(after.pending().isEmpty());
+        MemberRemovalService.RemovalProgress done = after.completed().stream()
+                .filter(progress -> progress.memberId().equals(leaver.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(MemberRemovalService.Phase.DONE, done.phase());
+        assertEquals(LEAVER_POSTS, done.postsDeleted());
+        assertEquals(OTHER_POSTS, done.recommendationsDeleted());
+    }
+
+    private long countRows(String sql, Long id) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, id);
+        return count != null ? count : 0;
+    }
+}
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import parksoffice.ojtcommunity.domain.member.Member;
 import parksoffice.ojtcommunity.dto.member.UpdateMemberDto;
+import parksoffice.ojtcommunity.event.MemberChangedEvent;
 import parksoffice.ojtcommunity.exception.DuplicateMemberException;
 import parksoffice.ojtcommunity.exception.MemberNotFoundException;
 import parksoffice.ojtcommunity.repository.member.MemberRepository;
@@ -24,6 +26,12 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository; // MemberRepository를 목(mock) 객체로 생성한다.
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // 회원 변경 이벤트 발행을 검증하기 위한 목 객체
+
+    @Mock
+    private UsernameFilter usernameFilter; // 사용자 이름 블룸 필터 목 객체
+
     @InjectMocks
     private MemberService memberService; // MemberRepository 목 객체를 주입받아 MemberService의 인스턴스를 생성한다.
 
@@ -36,6 +44,8 @@ class MemberServiceTest {
                 .password("testPass")
                 .build();
 
+        // 블룸 필터가 "있을 수도 있음"이라고 답하여 DB 조회로 넘어가는 상황을 시뮬레이션한다.
+        when(usernameFilter.mightExist("testUser")).thenReturn(true);
         // 중복 회원이 없음을 시뮬레이션하기 위해, findByUsername("testUser") 호출 시 Optional.empty()를 반환하도록 설정한다.
         when(memberRepository.findByUsername("testUser")).thenReturn(Optional.empty());
         // save 호출 시, 전달된 회원 객체를 받아 '저장 후' id가 부여되었다고 가정한 새 Member 객체를 반환하도록 설정한다.
@@ -80,6 +90,8 @@ class MemberServiceTest {
                 .password("otherPass")
                 .build();
 
+        // 이미 사용 중인 이름이므로 블룸 필터는 "있을 수도 있음"이라고 답한다.
+        when(usernameFilter.mightExist("duplicateUser")).thenReturn(true);
         // findByUsername("duplicateUser") 호출 시 existingMember를 Optional로 감싸서 반환하도록 설정한다.
         when(memberRepository.findByUsername("duplicateUser")).thenReturn(Optional.of(existingMember));
 
@@ -95,6 +107,48 @@ class MemberServiceTest {
         verify(memberRepository, never()).save(any(Member.class));
     }
 
+    @Test
+    void testRegisterMember_FilterSaysDefinitelyFree() {
+        // given
+        // 블룸 필터가 "확실히 없음"이라고 답하는 신규 회원
+        Member newMember = Member.builder()
+                .username("freshUser")
+                .password("pass123")
+                .build();
+        when(usernameFilter.mightExist("freshUser")).thenReturn(false);
+        when(memberRepository.save(newMember)).thenReturn(newMember);
+
+        // when
+        memberService.registerMember(newMember);
+
+        // then
+        // DB 중복 조회 없이 저장되고, 저장된 이름이 필터에 추가되었는지 검증한다.
+        verify(memberRepository, never()).findByUsername(anyString());
+        verify(memberRepository, times(1)).save(newMember);
+        verify(usernameFilter, times(1)).put("freshUser");
+    }
+
+    @Test
+    void testIsUsernameAvailable_DefinitelyFree() {
+        // given: 블룸 필터가 "확실히 없음"이라고 답한다.
+        when(usernameFilter.mightExist("newName")).thenReturn(false);
+
+        // when & then: DB를 조회하지 않고 사용 가능으로 판단한다.
+        assertTrue(memberService.isUsernameAvailable("newName"));
+        verify(memberRepository, never()).existsByUsername(anyString());
+    }
+
+    @Test
+    void testIsUsernameAvailable_PossibleMatchFallsBackToDb() {
+        // given: 블룸 필터가 "있을 수도 있음"이라고 답하고, 실제 DB에도 존재한다.
+        when(usernameFilter.mightExist("takenName")).thenReturn(true);
+        when(memberRepository.existsByUsername("takenName")).thenReturn(true);
+
+        // when & then: DB 확인 결과에 따라 사용 불가로 판단한다.
+        assertFalse(memberService.isUsernameAvailable("takenName"));
+        verify(memberRepository, times(1)).existsByUsername("takenName");
+    }
+
     @Test
     void testGetMemberById_Success() {
         // given
@@ -238,6 +292,29 @@ class MemberServiceTest {
         verify(memberRepository, times(1)).save(existingMember);
     }
 
+    @Test
+    void testUpdateMember_PublishesRenameEvent() {
+        // given
+        // 이름이 "oldUser"인 기존 회원을 "newUser"로 변경하는 상황을 가정한다.
+        Member existingMember = Member.builder()
+                .username("oldUser")
+                .password("oldPass")
+                .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(existingMember));
+        when(memberRepository.save(existingMember)).thenReturn(existingMember);
+
+        UpdateMemberDto updateMemberDto = new UpdateMemberDto();
+        updateMemberDto.setUsername("newUser");
+        updateMemberDto.setPassword("newPass");
+
+        // when
+        memberService.updateMember(1L, updateMemberDto);
+
+        // then
+        // 자동완성 인덱스 등이 갱신될 수 있도록 이름 변경 이벤트가 발행되었는지 검증한다.
+        verify(eventPublisher, times(1)).publishEvent(MemberChangedEvent.renamed(1L, "oldUser", "newUser"));
+    }
+
     @Test
     void testUpdateMember_NotFound() {
         // given
@@ -262,34 +339,46 @@ class MemberServiceTest {
     void testDeleteMemberById_Success() {
         // given
         // ID가 1L인 회원이 존재하는 상황을 가정하고,
-        // existsById(1L) 호출 시 true를 반환하도록 설정한다.
-        when(memberRepository.existsById(1L)).thenReturn(true);
+        // 이름 조회와 탈퇴 표시(UPDATE)가 성공하도록 설정한다.
+        when(memberRepository.findUsernameById(1L)).thenReturn(Optional.of("testUser"));
+        when(memberRepository.deactivateById(eq(1L), any())).thenReturn(1);
 
         // when
-        // memberService.deleteMemberById(1L)를 호출하여 해당 회원을 삭제한다.
+        // memberService.deleteMemberById(1L)를 호출하여 해당 회원을 탈퇴 처리한다.
         memberService.deleteMemberById(1L);
 
         // then
-        // memberRepository.existsById(1L)가 정확히 한 번 호출되었는지 검증한다.
-        verify(memberRepository, times(1)).existsById(1L);
-        // memberRepository.deleteById(1L)가 정확히 한 번 호출되었는지 검증한다.
-        verify(memberRepository, times(1)).deleteById(1L);
+        // 회원 행은 바로 지우지 않고 탈퇴 표시만 하며, 정리는 이벤트를 받은 백그라운드 작업이 처리한다.
+        verify(memberRepository, times(1)).deactivateById(eq(1L), any());
+        verify(memberRepository, never()).deleteById(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(MemberChangedEvent.deleted(1L, "testUser"));
     }
 
     @Test
     void testDeleteMemberById_NotFound() {
         // given
         // ID가 1L인 회원이 존재하지 않는 상황을 가정하고,
-        // existsById(1L) 호출 시 false를 반환하도록 설정한다.
-        when(memberRepository.existsById(1L)).thenReturn(false);
+        // findUsernameById(1L) 호출 시 Optional.empty()를 반환하도록 설정한다.
+        when(memberRepository.findUsernameById(1L)).thenReturn(Optional.empty());
 
         // then
         // memberService.deleteMemberById(1L)를 호출하면 MemberNotFoundException 예외가 발생해야 한다.
         assertThrows(MemberNotFoundException.class, () -> memberService.deleteMemberById(1L));
 
-        // memberRepository.existsById(1L)가 정확히 한 번 호출되었는지 검증한다.
-        verify(memberRepository, times(1)).existsById(1L);
-        // memberRepository.deleteById(anyLong())가 호출되지 않았음을 검증한다.
-        verify(memberRepository, never()).deleteById(anyLong());
+        // 탈퇴 표시와 이벤트 발행이 일어나지 않았음을 검증한다.
+        verify(memberRepository, never()).deactivateById(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testDeleteMemberById_AlreadyDeactivated() {
+        // given
+        // 이미 탈퇴 처리 중인 회원이라 탈퇴 표시(UPDATE)가 0건인 상황
+        when(memberRepository.findUsernameById(1L)).thenReturn(Optional.of("testUser"));
+        when(memberRepository.deactivateById(eq(1L), any())).thenReturn(0);
+
+        // then
+        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMemberById(1L));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
\ No newline at end of file
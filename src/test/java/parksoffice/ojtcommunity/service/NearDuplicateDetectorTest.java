@@ -0,0 +1,202 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
+import parksoffice.ojtcommunity.exception.NearDuplicatePostException;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 게시글 등록/수정 시 근접 중복 본문의 차단, 진행 중인 등록의 예약, 삭제 후 재등록, 재시작 후 색인 재구성을 검증한다.
+ * <p>다른 테스트의 게시글과 겹치지 않도록 테스트마다 다른 시드로 임의의 본문을 만든다. (시드를 고정하여 결과가 매번 같다.)</p>
+ */
+@SpringBootTest(properties = "ojt.near-duplicate.action=reject")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class NearDuplicateDetectorTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member spammer;
+    private Board male;
+    private Board female;
+    private String content;
+    private Random random;
+
+    @BeforeEach
+    public void setup(TestInfo testInfo) {
+        spammer = memberService.registerMember(Member.builder()
+                .username("spam-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        male = boardRepository.findByCode("male").orElseThrow();
+        female = boardRepository.findByCode("female").orElseThrow();
+        random = new Random(testInfo.getDisplayName().hashCode());
+        content = randomText(200);
+    }
+
+    @Test
+    public void testRegisterPost_RejectsNearDuplicateAcrossBoards() {
+        // given
+        Post original = register(male, content);
+
+        // when & then: 다른 게시판에 공백과 한 글자만 바꿔 올려도 거부된다.
+        String altered = content.substring(0, 100) + " " + content.substring(101) + "!";
+        assertThrows(NearDuplicatePostException.class, () -> register(female, altered));
+
+        // then
+        assertNotNull(postRepository.findById(original.getId()).orElseThrow().getSimhash());
+        assertNull(postRepository.findById(original.getId()).orElseThrow().getNearDuplicateOf());
+        // 다른 본문은 등록된다.
+        assertNotNull(register(female, randomText(200)).getId());
+    }
+
+    @Test
+    public void testRegisterPost_ReservesFingerprintUntilCommit() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            register(male, content);
+
+            // when & then: 첫 등록이 커밋되기 전에 다른 요청이 같은 본문을 올려도 거부된다.
+            CompletionException ex = assertThrows(CompletionException.class,
+                    () -> CompletableFuture.runAsync(() -> register(female, content)).join());
+            assertInstanceOf(NearDuplicatePostException.class, ex.getCause());
+
+            status.setRollbackOnly();
+        });
+
+        // then: 첫 등록이 롤백되면 예약이 풀려 같은 본문을 다시 등록할 수 있다.
+        assertNotNull(register(male, content).getId());
+    }
+
+    @Test
+    public void testUpdatePost_ReinspectsEditedContent() {
+        // given
+        Post original = register(male, content);
+        Post other = register(female, randomText(200));
+        String otherContent = other.getContent();
+        String edited = randomText(200);
+
+        // when & then: 다른 게시글의 본문을 거의 그대로 옮겨 수정하면 거부된다.
+        assertThrows(NearDuplicatePostException.class, () -> update(other, content + "!"));
+
+        // when: 자기 자신과는 비교하지 않으므로 제목만 바꾸거나 한 글자만 고쳐도 수정된다.
+        update(original, content + "요");
+        Post updated = update(other, edited);
+
+        // then: 수정한 본문의 지문이 저장되고 색인에 반영된다.
+        assertNotNull(updated.getSimhash());
+        assertNotEquals(postRepository.findById(original.getId()).orElseThrow().getSimhash(), updated.getSimhash());
+        assertThrows(NearDuplicatePostException.class, () -> register(male, edited));
+        // 수정 전 본문의 지문은 색인에서 지워진다.
+        assertNotNull(register(male, otherContent).getId());
+    }
+
+    @Test
+    public void testCreatePost_RejectedRendersFormWithInput() throws Exception {
+        // given
+        register(male, content);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("loggedInMember", spammer);
+
+        // when & then: 리다이렉트하지 않고 입력한 내용과 경고 메시지로 작성 폼을 다시 보여준다.
+        mockMvc.perform(post("/board/new")
+                        .session(session)
+                        .param("id", "female")
+                        .param("title", "다시 올린 홍보")
+                        .param("content", content))
+                .andExpect(status().isOk())
+                .andExpect(view().name("board/createPost"))
+                .andExpect(model().attributeExists("warningMessage"))
+                .andExpect(content().string(containsString("다시 올린 홍보")));
+    }
+
+    @Test
+    public void testDeletePost_AllowsSameContentAgain() {
+        // given
+        Post original = register(male, content);
+
+        // when
+        postService.deletePostById(original.getId());
+
+        // then
+        assertNotNull(register(male, content).getId());
+    }
+
+    @Test
+    public void testRebuild_RestoresRecentFingerprints() {
+        // given
+        Post original = register(male, content);
+
+        // when: 재시작한 것처럼 새 인스턴스가 저장된 지문으로 색인을 만든다.
+        NearDuplicateDetector restarted = new NearDuplicateDetector(postRepository, "flag", 8, 10000, 30,
+                new SimpleMeterRegistry());
+        restarted.rebuild();
+
+        // then
+        NearDuplicateDetector.Inspection inspection = restarted.inspect(content + "요");
+        assertEquals(original.getId(), inspection.nearDuplicateOf());
+    }
+
+    private Post register(Board board, String body) {
+        return postService.registerPost(Post.builder().title("홍보").content(body).author(spammer).board(board).build());
+    }
+
+    private Post update(Post post, String body) {
+        UpdatePostDto updatePostDto = new UpdatePostDto();
+        updatePostDto.setTitle("수정한 홍보");
+        updatePostDto.setContent(body);
+        return postService.updatePost(post.getId(), updatePostDto);
+    }
+
+    /**
+     * 임의의 한글 음절과 띄어쓰기로 된 본문을 만든다.
+     */
+    private String randomText(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(i % 7 == 6 ? ' ' : (char) random.nextInt('가', '힣' + 1));
+        }
+        return builder.toString();
+    }
+}
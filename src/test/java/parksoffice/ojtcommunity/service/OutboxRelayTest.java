@@ -0,0 +1,234 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
+import parksoffice.ojtcommunity.event.OutboxConsumer;
+import parksoffice.ojtcommunity.event.OutboxMessage;
+import parksoffice.ojtcommunity.event.PostUpdatedEvent;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 아웃박스 기록과 릴레이의 순서 보장, 실패 후 재전달을 검증한다.
+ * <p>
+ *     다른 테스트 컨텍스트의 릴레이가 메시지를 지우지 않도록 별도의 메모리 DB를 사용하고,
+ *     백그라운드 실행이 끼어들지 않도록 주기를 길게 두어 {@link OutboxRelay#relay()}를 직접 호출한다.
+ *     묶음 크기를 작게 두어 여러 묶음에 걸친 전달도 확인한다.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ojtcommunity-outbox;DB_CLOSE_DELAY=-1",
+        "ojt.outbox.batch-size=2",
+        "ojt.outbox.linger-millis=3600000",
+        "ojt.outbox.poll-interval-millis=3600000"
+})
+@ActiveProfiles("test")
+public class OutboxRelayTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private List<OutboxConsumer> consumers;
+    @Autowired
+    @Qualifier("flakyConsumer")
+    private RecordingConsumer flakyConsumer;
+    @Autowired
+    @Qualifier("steadyConsumer")
+    private RecordingConsumer steadyConsumer;
+
+    private Member author;
+    private Board board;
+
+    @BeforeEach
+    public void setup() {
+        outboxRelay.relay(); // 이전 테스트에서 남은 메시지 정리
+        flakyConsumer.reset();
+        steadyConsumer.reset();
+        author = memberService.registerMember(Member.builder()
+                .username("outbox-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        board = boardRepository.findByCode("male").orElseThrow();
+    }
+
+    @Test
+    public void testRelay_DeliversPostChangesInOrder() {
+        // given: 한 게시글의 등록, 수정, 추천, 삭제
+        Post post = register("아웃박스 글");
+        postService.updatePost(post.getId(), update("수정된 글"));
+        postService.recommendPost(post.getId(), author.getId());
+        postService.deletePostById(post.getId());
+
+        // when
+        OutboxRelay.RelayResult result = outboxRelay.relay();
+
+        // then: 변경 순서대로 모든 소비자에게 전달되고, 처리된 메시지는 지워진다.
+        List<String> expected = List.of("PostRegisteredEvent", "PostUpdatedEvent", "PostRecommendedEvent", "PostDeletedEvent");
+        assertEquals(expected, flakyConsumer.types(post.getId()));
+        assertEquals(expected, steadyConsumer.types(post.getId()));
+        assertEquals("수정된 글", ((PostUpdatedEvent) flakyConsumer.messages(post.getId()).get(1).event()).title());
+        assertEquals(4, result.stamped());
+        assertEquals(4L * consumers.size(), result.delivered());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+
+        // then: 순번이 증가하고, 소비자 오프셋이 마지막 순번이다.
+        List<Long> sequences = flakyConsumer.messages(post.getId()).stream().map(OutboxMessage::sequence).toList();
+        assertEquals(sequences.stream().sorted().toList(), sequences);
+        assertEquals(sequences.get(3), jdbcTemplate.queryForObject(
+                "SELECT last_sequence FROM outbox_cursors WHERE name = ?", Long.class, "flaky"));
+
+        // then: 캐시/색인 무효화 소비자도 같은 메시지를 모두 받는다.
+        for (String name : List.of("search-result-cache", "recommender-index", "hot-lookup")) {
+            assertEquals(sequences.get(3), jdbcTemplate.queryForObject(
+                    "SELECT last_sequence FROM outbox_cursors WHERE name = ?", Long.class, name), name);
+        }
+    }
+
+    @Test
+    public void testRolledBackTransaction_WritesNoOutboxMessage() {
+        // given
+        String title = "롤백된 글 " + UUID.randomUUID();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when: 게시글 등록 후 트랜잭션 롤백
+        transaction.executeWithoutResult(status -> {
+            register(title);
+            status.setRollbackOnly();
+        });
+
+        // then: 아웃박스에도 남지 않으므로 전달되지 않는다.
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+        assertEquals(0, outboxRelay.relay().stamped());
+        assertTrue(flakyConsumer.received.isEmpty());
+    }
+
+    @Test
+    public void testConsumerFailure_RedeliversFromFailedMessage() {
+        // given: 수정 메시지를 한 번 실패하는 소비자
+        flakyConsumer.failOnce("PostUpdatedEvent");
+        Post post = register("실패 후 재전달 글");
+        postService.updatePost(post.getId(), update("다시 수정"));
+        postService.deletePostById(post.getId());
+
+        // when
+        OutboxRelay.RelayResult first = outboxRelay.relay();
+
+        // then: 실패한 소비자는 실패 직전에서 멈추고, 다른 소비자는 모두 받는다.
+        assertEquals(1, first.failures());
+        assertEquals(List.of("PostRegisteredEvent"), flakyConsumer.types(post.getId()));
+        assertEquals(List.of("PostRegisteredEvent", "PostUpdatedEvent", "PostDeletedEvent"), steadyConsumer.types(post.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+
+        // when: 다음 실행
+        OutboxRelay.RelayResult second = outboxRelay.relay();
+
+        // then: 실패한 메시지부터 순서대로 다시 전달되고, 이미 처리한 메시지는 다시 받지 않는다.
+        assertEquals(0, second.failures());
+        assertEquals(List.of("PostRegisteredEvent", "PostUpdatedEvent", "PostDeletedEvent"), flakyConsumer.types(post.getId()));
+        assertEquals(3, steadyConsumer.types(post.getId()).size());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+    }
+
+    private Post register(String title) {
+        return postService.registerPost(Post.builder()
+                .title(title)
+                .content("내용")
+                .author(author)
+                .board(board)
+                .build());
+    }
+
+    private UpdatePostDto update(String title) {
+        UpdatePostDto dto = new UpdatePostDto();
+        dto.setTitle(title);
+        dto.setContent("수정된 내용");
+        return dto;
+    }
+
+    @TestConfiguration
+    static class ConsumerConfig {
+
+        @Bean
+        public RecordingConsumer flakyConsumer() {
+            return new RecordingConsumer("flaky");
+        }
+
+        @Bean
+        public RecordingConsumer steadyConsumer() {
+            return new RecordingConsumer("steady");
+        }
+    }
+
+    /**
+     * 받은 메시지를 기록하고, 지정한 종류의 메시지를 한 번 실패하는 소비자
+     */
+    static class RecordingConsumer implements OutboxConsumer {
+
+        private final String name;
+        private final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        private volatile String failOnceType;
+
+        RecordingConsumer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void accept(OutboxMessage message) {
+            if (message.type().equals(failOnceType)) {
+                failOnceType = null;
+                throw new IllegalStateException("consumer failure");
+            }
+            received.add(message);
+        }
+
+        void failOnce(String type) {
+            failOnceType = type;
+        }
+
+        void reset() {
+            received.clear();
+            failOnceType = null;
+        }
+
+        List<OutboxMessage> messages(Long postId) {
+            return received.stream().filter(message -> message.postId().equals(postId)).toList();
+        }
+
+        List<String> types(Long postId) {
+            return messages(postId).stream().map(OutboxMessage::type).toList();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package parksoffice.ojtcommunity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostFeedServiceTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostFeedService postFeedService =
+            new PostFeedService(new ObjectMapper().findAndRegisterModules(), BUFFER_SIZE, 2, 3600, 30, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        postFeedService.shutdown();
+    }
+
+    /**
+     * 새 글 알림이 해당 게시판의 구독자에게만 전달되는지 확인한다.
+     */
+    @Test
+    void testFanOutOnlyToSameBoard() throws Exception {
+        // given
+        RecordingSink male = new RecordingSink();
+        RecordingSink female = new RecordingSink();
+        postFeedService.subscribe("male", male);
+        postFeedService.subscribe("female", female);
+
+        // when
+        postFeedService.onPostRegistered(event(1L, "male"));
+
+        // then
+        male.awaitMessages(1);
+        assertEquals("post", male.messages.get(0).name());
+        assertEquals("1", male.messages.get(0).id());
+        assertTrue(male.messages.get(0).data().contains("\"title\":\"title-1\""));
+        assertTrue(female.messages.isEmpty());
+        assertEquals(2, postFeedService.subscriberCount());
+        assertEquals(2.0, meterRegistry.get("post.feed.subscribers").gauge().value());
+    }
+
+    /**
+     * 느린 구독자의 버퍼가 가득 차면 resync 하나로 합쳐지고, 빠른 구독자는 모든 알림을 받는지 확인한다.
+     */
+    @Test
+    void testSlowSubscriberIsCoalescedIntoResync() throws Exception {
+        // given: 첫 전송에서 멈추는 느린 구독자와 빠른 구독자
+        BlockingSink slow = new BlockingSink();
+        RecordingSink fast = new RecordingSink();
+        PostFeedService.Subscriber slowSubscriber = postFeedService.subscribe("male", slow);
+        postFeedService.subscribe("male", fast);
+
+        // when: 느린 구독자가 첫 메시지를 전송하는 중에 버퍼 크기보다 많은 새 글이 등록됨 (빠른 구독자는 제때 받아 감)
+        postFeedService.onPostRegistered(event(1L, "male"));
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        int posts = BUFFER_SIZE * 3;
+        for (long id = 2; id <= posts; id++) {
+            fast.awaitMessages((int) id - 1);
+            postFeedService.onPostRegistered(event(id, "male"));
+        }
+
+        // then: 느린 구독자의 대기 메시지는 resync 하나뿐이고, 빠른 구독자는 모든 알림을 받는다
+        assertEquals(1, slowSubscriber.pending());
+        fast.awaitMessages(posts);
+        assertEquals(posts, fast.messages.size());
+        assertEquals(0, fast.messages.stream().filter(message -> message.name().equals("resync")).count());
+
+        slow.release.countDown();
+        slow.awaitMessages(2);
+        assertEquals(List.of("post", "resync"), slow.messages.stream().map(PostFeedService.Message::name).toList());
+        assertEquals(1.0, meterRegistry.counter("post.feed.resyncs").count());
+        assertEquals(posts - 1, (int) meterRegistry.counter("post.feed.dropped").count());
+        assertTrue(meterRegistry.get("post.feed.lag").timer().count() >= posts);
+    }
+
+    /**
+     * 전송에 실패한(연결이 끊긴) 구독자는 구독 목록에서 제거되는지 확인한다.
+     */
+    @Test
+    void testDisconnectedSubscriberIsRemoved() throws Exception {
+        // given
+        RecordingSink broken = new RecordingSink();
+        broken.failing = true;
+        postFeedService.subscribe("male", broken);
+
+        // when
+        postFeedService.onPostRegistered(event(1L, "male"));
+
+        // then
+        assertTrue(broken.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, postFeedService.subscriberCount());
+    }
+
+    private static PostRegisteredEvent event(Long postId, String boardCode) {
+        return new PostRegisteredEvent(postId, boardCode, "title-" + postId, 1L, "author", LocalDateTime.now());
+    }
+
+    private static class RecordingSink implements PostFeedService.Sink {
+        final List<PostFeedService.Message> messages = new CopyOnWriteArrayList<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile boolean failing;
+
+        @Override
+        public void send(PostFeedService.Message message) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        void awaitMessages(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (messages.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    /**
+     * 첫 전송에서 release될 때까지 멈추는 전송 대상 (소켓 버퍼가 가득 찬 느린 클라이언트 흉내)
+     */
+    private static class BlockingSink extends RecordingSink {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(PostFeedService.Message message) throws IOException {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            super.send(message);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.exception.PostNotFoundException;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+import parksoffice.ojtcommunity.support.sql.StatementType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글 소프트 삭제와 추천 정보/게시글 행의 일괄 삭제를 검증한다. (메모리 H2 사용)
+ * <p>묶음 크기를 작게 두어, 추천 정보가 여러 트랜잭션에 나뉘어 삭제되는지 확인한다.</p>
+ */
+@SpringBootTest(properties = "ojt.post-purge.chunk-size=7")
+@ActiveProfiles("test")
+public class PostPurgerTest {
+
+    private static final int RECOMMENDATIONS = 30;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private PostPurger postPurger;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostRecommendationRepository postRecommendationRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Member> members = new ArrayList<>();
+    private Post post;
+    private Post otherPost;
+
+    @BeforeEach
+    public void setup() {
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        for (int i = 0; i < RECOMMENDATIONS; i++) {
+            members.add(memberService.registerMember(Member.builder()
+                    .username("purge" + i)
+                    .password("password")
+                    .build()));
+        }
+        post = postService.registerPost(Post.builder()
+                .title("삭제할 글").content("내용").author(members.get(0)).board(board).build());
+        otherPost = postService.registerPost(Post.builder()
+                .title("남는 글").content("내용").author(members.get(0)).board(board).build());
+        for (Member member : members) {
+            postService.recommendPost(post.getId(), member.getId());
+        }
+        postService.recommendPost(otherPost.getId(), members.get(1).getId());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        postPurger.purge();
+        postRecommendationRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    /**
+     * 삭제 요청은 추천 수와 관계없이 UPDATE 한 번과 게시판/작성일 조회 한 번(과 아웃박스 INSERT 한 번)으로 끝나고,
+     * 삭제된 게시글은 즉시 조회에서 제외된다.
+     */
+    @Test
+    public void testDeletePost_SoftDeletesWithSingleStatement() throws Exception {
+        // when (아웃박스 시퀀스 조회는 할당 시점에 따라 0~1회)
+        QueryCounter.capture(() -> postService.deletePostById(post.getId()))
+                .assertUpdates(1)
+                .assertSelects(1)
+                .assertInserts(1)
+                .assertCountAtMost(StatementType.OTHER, 1)
+                .assertTotalAtMost(4);
+
+        // then: 모든 조회 경로에서 제외된다.
+        assertThrows(PostNotFoundException.class, () -> postService.getPostById(post.getId()));
+        assertThrows(PostNotFoundException.class, () -> postService.getPostDetailDto(post.getId()));
+        assertTrue(postService.getPostVersion(post.getId()).isEmpty());
+        assertTrue(postService.getPostsByBoardCode("male").stream().noneMatch(p -> p.getId().equals(post.getId())));
+        assertTrue(postService.getPostSummaries("male", null, 20).getItems().stream()
+                .noneMatch(p -> p.getId().equals(post.getId())));
+        assertEquals(1L, postService.getBoardListVersion("male").orElseThrow().getPostCount());
+
+        // then: 이미 삭제된 게시글을 다시 삭제하거나 추천할 수 없다.
+        assertThrows(PostNotFoundException.class, () -> postService.deletePostById(post.getId()));
+        assertThrows(PostNotFoundException.class, () -> postService.recommendPost(post.getId(), members.get(0).getId()));
+    }
+
+    /**
+     * 일괄 삭제는 삭제된 게시글의 추천 정보를 묶음 단위로 지운 뒤 게시글 행을 지우며, 다른 게시글은 건드리지 않는다.
+     */
+    @Test
+    public void testPurge_RemovesRecommendationsAndPostInChunks() {
+        // given: 다른 테스트가 남긴 삭제 대기 게시글을 먼저 비운다.
+        postPurger.purge();
+        // 삭제 이벤트가 백그라운드 일괄 삭제를 시작하지 않도록, 이벤트 없이 소프트 삭제만 한다.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                postRepository.softDeleteById(post.getId(), LocalDateTime.now()));
+
+        // when
+        PostPurger.PurgeResult result = postPurger.purge();
+
+        // then: 30개를 7개씩: 추천 정보 5묶음 + 게시글 1묶음
+        assertEquals(RECOMMENDATIONS, result.recommendations());
+        assertEquals(1, result.posts());
+        assertEquals(6, result.chunks());
+        assertEquals(0, countRows("SELECT COUNT(*) FROM posts WHERE id = ?", post.getId()));
+        assertEquals(0, countRows("SELECT COUNT(*) FROM post_recommendations WHERE post_id = ?", post.getId()));
+        assertEquals(1, countRows("SELECT COUNT(*) FROM posts WHERE id = ?", otherPost.getId()));
+        assertEquals(1, countRows("SELECT COUNT(*) FROM post_recommendations WHERE post_id = ?", otherPost.getId()));
+    }
+
+    /**
+     * 게시글 삭제가 커밋되면 백그라운드에서 일괄 삭제가 실행된다.
+     */
+    @Test
+    public void testDeletePost_TriggersBackgroundPurge() throws Exception {
+        // when
+        postService.deletePostById(post.getId());
+
+        // then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (countRows("SELECT COUNT(*) FROM posts WHERE id = ?", post.getId()) > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, countRows("SELECT COUNT(*) FROM posts WHERE id = ?", post.getId()));
+        assertEquals(0, countRows("SELECT COUNT(*) FROM post_recommendations WHERE post_id = ?", post.getId()));
+    }
+
+    private long countRows(String sql, Long id) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, id);
+        return count != null ? count : 0;
+    }
+}
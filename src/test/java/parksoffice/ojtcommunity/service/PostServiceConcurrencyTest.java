@@ -0,0 +1,200 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
+import parksoffice.ojtcommunity.dto.member.UpdateMemberDto;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 스레드가 같은 게시글/회원을 동시에 변경할 때 갱신이 유실되지 않는지 검증한다. (메모리 H2 사용)
+ * <p>모든 스레드가 준비된 뒤 한꺼번에 시작하도록 하여 충돌이 최대한 많이 나게 한다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostRecommendationRepository postRecommendationRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Member> members = new ArrayList<>();
+    private Post post;
+
+    @BeforeEach
+    public void setup() {
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        for (int i = 0; i < THREADS; i++) {
+            members.add(memberService.registerMember(Member.builder()
+                    .username("concurrent" + i)
+                    .password("password")
+                    .build()));
+        }
+        post = postService.registerPost(Post.builder()
+                .title("원래 제목")
+                .content("원래 내용")
+                .author(members.get(0))
+                .board(board)
+                .build());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        postRecommendationRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    /**
+     * 여러 회원이 같은 게시글을 동시에 추천해도 모든 추천이 반영된다.
+     */
+    @Test
+    public void testConcurrentRecommendations_NoLostUpdates() throws Exception {
+        // given
+        Long initialVersion = postRepository.findById(post.getId()).orElseThrow().getVersion();
+
+        // when: 모든 회원이 동시에 추천
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Member member : members) {
+            tasks.add(() -> {
+                postService.recommendPost(post.getId(), member.getId());
+                return null;
+            });
+        }
+        List<Throwable> failures = runConcurrently(tasks);
+
+        // then: 실패 없이 모든 추천이 저장되고, 게시글 버전은 그대로이다. (추천은 작성자의 수정과 충돌하지 않는다.)
+        assertTrue(failures.isEmpty(), () -> "Recommendations failed: " + failures);
+        assertEquals(THREADS, postRecommendationRepository.findMemberIdsByPostId(post.getId()).size());
+        assertEquals(THREADS, postService.getRecommendationCount(post.getId()));
+        assertEquals(initialVersion, postRepository.findById(post.getId()).orElseThrow().getVersion());
+    }
+
+    /**
+     * 같은 버전의 수정 폼으로 동시에 저장하면 하나만 성공하고, 나머지는 덮어쓰지 않고 충돌로 실패한다.
+     */
+    @Test
+    public void testConcurrentEdits_OnlyOneWins() throws Exception {
+        // given: 모든 작성자가 같은 버전의 수정 폼을 열었다.
+        Long formVersion = postRepository.findById(post.getId()).orElseThrow().getVersion();
+
+        // when
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            UpdatePostDto updatePostDto = new UpdatePostDto();
+            updatePostDto.setTitle("수정 제목 " + i);
+            updatePostDto.setContent("수정 내용 " + i);
+            updatePostDto.setVersion(formVersion);
+            tasks.add(() -> {
+                postService.updatePost(post.getId(), updatePostDto);
+                return null;
+            });
+        }
+        List<Throwable> failures = runConcurrently(tasks);
+
+        // then: 정확히 하나만 저장되고, 나머지는 모두 낙관적 잠금 충돌이다.
+        assertEquals(THREADS - 1, failures.size());
+        failures.forEach(failure -> assertInstanceOf(OptimisticLockingFailureException.class, failure));
+        Post saved = postRepository.findById(post.getId()).orElseThrow();
+        assertEquals(formVersion + 1, saved.getVersion());
+        assertEquals(saved.getTitle().replace("제목", "내용"), saved.getContent()); // 제목과 본문이 같은 요청에서 왔다.
+    }
+
+    /**
+     * 같은 회원 정보를 동시에 수정하면 하나만 성공한다.
+     */
+    @Test
+    public void testConcurrentMemberUpdates_OnlyOneWins() throws Exception {
+        // given
+        Member member = members.get(1);
+        Long version = memberRepository.findById(member.getId()).orElseThrow().getVersion();
+
+        // when
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            UpdateMemberDto updateMemberDto = new UpdateMemberDto();
+            updateMemberDto.setUsername(member.getUsername());
+            updateMemberDto.setPassword("changed" + i);
+            updateMemberDto.setVersion(version);
+            tasks.add(() -> {
+                memberService.updateMember(member.getId(), updateMemberDto);
+                return null;
+            });
+        }
+        List<Throwable> failures = runConcurrently(tasks);
+
+        // then
+        assertEquals(THREADS - 1, failures.size());
+        failures.forEach(failure -> assertInstanceOf(OptimisticLockingFailureException.class, failure));
+        assertEquals(version + 1, memberRepository.findById(member.getId()).orElseThrow().getVersion());
+    }
+
+    /**
+     * 작업들을 스레드마다 하나씩 배정하고, 모두 준비되면 동시에 시작한다.
+     *
+     * @return 실패한 작업의 예외 목록
+     */
+    private static List<Throwable> runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call();
+                }));
+            }
+            assertTrue(ready.await(10, TimeUnit.SECONDS));
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Void> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException ex) {
+                    failures.add(ex.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
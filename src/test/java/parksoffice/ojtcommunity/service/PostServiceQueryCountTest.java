@@ -0,0 +1,66 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.support.sql.QueryCountFixture;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+import parksoffice.ojtcommunity.support.sql.StatementType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 서비스 호출이 실행하는 SQL 문 수를 검증한다. (메모리 H2 사용)
+ * <p>게시글 수와 관계없이 쿼리 수가 일정해야 하므로, 게시글을 여러 개 만든 뒤 검증한다. ({@link QueryCountFixture})</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostServiceQueryCountTest extends QueryCountFixture {
+
+    @Test
+    public void testGetPostsByBoardCode_LoadsAuthorsInSameQuery() throws Exception {
+        // when : 게시글 목록을 조회하고, 목록 화면처럼 작성자 이름에 접근한다.
+        List<String> usernames = new ArrayList<>();
+        QueryCounter.Result result = QueryCounter.capture(() ->
+                postService.getPostsByBoardCode("male").forEach(post -> usernames.add(post.getAuthor().getUsername())));
+
+        // then : 게시글 수와 관계없이 SELECT 한 번으로 끝나야 한다.
+        assertEquals(POST_COUNT, usernames.size());
+        result.assertSelects(1).assertTotal(1);
+    }
+
+    @Test
+    public void testGetPostDetail_LoadsAuthorAndBoardInSameQuery() throws Exception {
+        // when : 상세 화면에서 사용하는 작성자와 게시판 정보에 접근한다.
+        QueryCounter.Result result = QueryCounter.capture(() -> {
+            Post post = postService.getPostDetail(firstPost.getId());
+            post.getAuthor().getUsername();
+            post.getBoard().getName();
+        });
+
+        // then
+        result.assertSelects(1).assertTotal(1);
+    }
+
+    @Test
+    public void testRecommendPost_QueryCount() throws Exception {
+        // given : 추천자 비트맵을 미리 적재해 둔다.
+        Member recommender = authors.get(1);
+        postService.hasRecommended(firstPost.getId(), recommender.getId());
+
+        // when
+        QueryCounter.Result result = QueryCounter.capture(() ->
+                postService.recommendPost(firstPost.getId(), recommender.getId()));
+
+        // then : 게시글 조회와 탈퇴 여부 확인 한 번씩, 추천/아웃박스 INSERT 한 번씩, 게시글 UPDATE 없음 (회원은 프록시 참조로만 사용, 시퀀스 조회는 할당 시점에 따라 테이블별 0~1회)
+        result.assertSelects(2)
+                .assertInserts(2)
+                .assertUpdates(0)
+                .assertCountAtMost(StatementType.OTHER, 2);
+    }
+}
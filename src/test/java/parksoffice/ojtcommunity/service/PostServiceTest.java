@@ -5,16 +5,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import parksoffice.ojtcommunity.domain.board.Board;
 import parksoffice.ojtcommunity.domain.board.Post;
 import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.PostActivityView;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
 import parksoffice.ojtcommunity.dto.board.UpdatePostDto;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.event.PostDeletedEvent;
+import parksoffice.ojtcommunity.event.PostRecommendedEvent;
+import parksoffice.ojtcommunity.event.PostRegisteredEvent;
 import parksoffice.ojtcommunity.exception.AlreadyRecommendedException;
+import parksoffice.ojtcommunity.exception.BoardNotFoundException;
+import parksoffice.ojtcommunity.exception.MemberNotFoundException;
 import parksoffice.ojtcommunity.exception.PostNotFoundException;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
 import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
 import parksoffice.ojtcommunity.repository.board.PostRepository;
 import parksoffice.ojtcommunity.repository.member.MemberRepository;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,12 +43,27 @@ public class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private BoardRepository boardRepository;
+
     @Mock
     private PostRecommendationRepository postRecommendationRepository;
 
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private RecommenderIndex recommenderIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OptimisticRetry optimisticRetry;
+
+    @Mock
+    private NearDuplicateDetector nearDuplicateDetector;
+
     @InjectMocks
     private PostService postService;
 
@@ -61,6 +90,7 @@ public class PostServiceTest {
                 .board(board)
                 .build();
 
+        when(memberRepository.existsActiveById(1L)).thenReturn(true);
         when(postRepository.save(newPost)).thenReturn(newPost);
 
         // when: registerPost 호출
@@ -70,6 +100,30 @@ public class PostServiceTest {
         assertNotNull(savedPost);
         assertEquals("Test Title", savedPost.getTitle());
         verify(postRepository, times(1)).save(newPost);
+        // then: 실시간 피드를 위한 등록 이벤트가 발행되었는지 검증
+        verify(eventPublisher, times(1)).publishEvent(any(PostRegisteredEvent.class));
+    }
+
+    /**
+     * 탈퇴한 회원(탈퇴 전에 로그인한 세션)은 게시글을 등록할 수 없다.
+     */
+    @Test
+    void testRegisterPost_DeactivatedAuthor() {
+        // given: 작성자가 탈퇴 처리됨
+        Member author = Member.builder().id(1L).username("author").password("pass").build();
+        Post newPost = Post.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .author(author)
+                .board(Board.builder().name("Free Board").code("freeboard").description("자유게시판").build())
+                .build();
+        when(postRepository.save(newPost)).thenReturn(newPost);
+        when(memberRepository.existsActiveById(1L)).thenReturn(false);
+
+        // then: 이벤트를 발행하지 않는다. (저장은 예외로 트랜잭션이 롤백되어 취소된다.)
+        assertThrows(MemberNotFoundException.class, () -> postService.registerPost(newPost));
+        verify(nearDuplicateDetector, never()).indexOnCommit(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     /**
@@ -109,6 +163,22 @@ public class PostServiceTest {
         verify(postRepository, times(1)).findById(1L);
     }
 
+    /**
+     * 상세 조회 시, 작성자와 게시판을 함께 조회하는 전용 쿼리를 사용하고 게시글이 없으면 PostNotFoundException 발생한다.
+     */
+    @Test
+    void testGetPostDetail() {
+        // given
+        Post post = Post.builder().title("Test Title").content("Test Content").build();
+        when(postRepository.findDetailById(1L)).thenReturn(Optional.of(post));
+        when(postRepository.findDetailById(2L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertEquals("Test Title", postService.getPostDetail(1L).getTitle());
+        assertThrows(PostNotFoundException.class, () -> postService.getPostDetail(2L));
+        verify(postRepository, never()).findById(anyLong());
+    }
+
     /**
      * 게시글 제목 검색 시, 키워드를 포함하는 게시글 목록을 반환한다.
      */
@@ -234,19 +304,27 @@ public class PostServiceTest {
     }
 
     /**
-     * 게시글 삭제가 성공적으로 수행된다.
+     * 게시글 삭제가 성공적으로 수행된다. (소프트 삭제 후 일괄 삭제를 위한 이벤트 발행)
      */
     @Test
     void testDeletePostById_Success() {
-        // given: 게시글 존재함을 시뮬레이션
-        when(postRepository.existsById(1L)).thenReturn(true);
+        // given: 게시글 존재함을 시뮬레이션 (소프트 삭제된 행 1개)
+        when(postRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        PostActivityView activity = mock(PostActivityView.class);
+        when(activity.getBoardCode()).thenReturn("male");
+        when(activity.getCreatedAt()).thenReturn(createdAt);
+        when(postRepository.findActivityById(1L)).thenReturn(Optional.of(activity));
 
         // when: deletePostById 호출
         postService.deletePostById(1L);
 
-        // then: 존재 여부 확인 및 삭제 호출 검증
-        verify(postRepository, times(1)).existsById(1L);
-        verify(postRepository, times(1)).deleteById(1L);
+        // then: 소프트 삭제만 수행하고, 행 삭제는 이벤트를 받은 PostPurger에게 맡긴다.
+        verify(postRepository, times(1)).softDeleteById(eq(1L), any(LocalDateTime.class));
+        verify(postRepository, never()).deleteById(anyLong());
+        verify(recommenderIndex, times(1)).evict(1L);
+        // then: 게시판 통계에 필요한 게시판 코드와 작성일을 삭제 트랜잭션에서 읽어 이벤트에 담는다.
+        verify(eventPublisher, times(1)).publishEvent(new PostDeletedEvent(1L, "male", createdAt));
     }
 
     /**
@@ -254,13 +332,13 @@ public class PostServiceTest {
      */
     @Test
     void testDeletePostById_NotFound() {
-        // given: 게시글이 존재하지 않음을 시뮬레이션
-        when(postRepository.existsById(1L)).thenReturn(false);
+        // given: 게시글이 존재하지 않음을 시뮬레이션 (소프트 삭제된 행 없음)
+        when(postRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(0);
 
         // then: PostNotFoundException 발생 검증
         assertThrows(PostNotFoundException.class, () -> postService.deletePostById(1L));
-        verify(postRepository, times(1)).existsById(1L);
-        verify(postRepository, never()).deleteById(anyLong());
+        verify(recommenderIndex, never()).evict(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     /**
@@ -278,12 +356,14 @@ public class PostServiceTest {
                 .author(author)
                 .board(board)
                 .build();
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        runRetriedWorkDirectly();
+        when(postRepository.findForRecommendationById(1L)).thenReturn(Optional.of(post));
 
-        // 중복 추천이 없는 상황을 시뮬레이션
-        when(postRecommendationRepository.existsByPostIdAndMemberId(1L, 2L)).thenReturn(false);
+        // 중복 추천이 없는 상황을 시뮬레이션 (추천자 비트맵에서 확인)
+        when(recommenderIndex.hasRecommended(1L, 2L)).thenReturn(false);
 
-        // memberRepository.getReferenceById()를 통한 회원 참조(프록시) 획득
+        // 탈퇴하지 않은 회원이며, memberRepository.getReferenceById()를 통해 회원 참조(프록시)를 획득
+        when(memberRepository.existsActiveById(2L)).thenReturn(true);
         Member memberRef = Member.builder().id(2L).build();
         when(memberRepository.getReferenceById(2L)).thenReturn(memberRef);
 
@@ -291,10 +371,13 @@ public class PostServiceTest {
         postService.recommendPost(1L, 2L);
 
         // then: 게시글 조회, 중복 추천 확인, 회원 참조 획득, 그리고 게시글 저장이 올바르게 호출되었는지 검증
-        verify(postRepository, times(1)).findById(1L);
-        verify(postRecommendationRepository, times(1)).existsByPostIdAndMemberId(1L, 2L);
+        verify(postRepository, times(1)).findForRecommendationById(1L);
+        verify(recommenderIndex, times(1)).hasRecommended(1L, 2L);
+        verify(postRecommendationRepository, never()).existsByPostIdAndMemberId(anyLong(), anyLong());
         verify(memberRepository, times(1)).getReferenceById(2L);
         verify(postRepository, times(1)).save(post);
+        // 추천자 비트맵 갱신을 위한 이벤트가 발행되었는지 확인
+        verify(eventPublisher, times(1)).publishEvent(new PostRecommendedEvent(1L, 2L));
 
         // 게시글의 추천 컬렉션에 추천 객체가 추가되었음을 확인 (추천 수가 1이어야 함)
         assertEquals(1, post.getRecommendations().size());
@@ -314,15 +397,16 @@ public class PostServiceTest {
                 .author(author)
                 .board(board)
                 .build();
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        runRetriedWorkDirectly();
+        when(postRepository.findForRecommendationById(1L)).thenReturn(Optional.of(post));
 
-        // 중복 추천 상황: 이미 추천한 회원이 있음
-        when(postRecommendationRepository.existsByPostIdAndMemberId(1L, 2L)).thenReturn(true);
+        // 중복 추천 상황: 이미 추천한 회원이 있음 (추천자 비트맵에서 확인)
+        when(recommenderIndex.hasRecommended(1L, 2L)).thenReturn(true);
 
         // then: 추천 처리 시 AlreadyRecommendedException 발생 검증
         assertThrows(AlreadyRecommendedException.class, () -> postService.recommendPost(1L, 2L));
-        verify(postRepository, times(1)).findById(1L);
-        verify(postRecommendationRepository, times(1)).existsByPostIdAndMemberId(1L, 2L);
+        verify(postRepository, times(1)).findForRecommendationById(1L);
+        verify(recommenderIndex, times(1)).hasRecommended(1L, 2L);
         verify(memberRepository, never()).getReferenceById(anyLong());
         verify(postRepository, never()).save(any(Post.class));
     }
@@ -333,11 +417,94 @@ public class PostServiceTest {
     @Test
     void testRecommendPost_PostNotFound() {
         // given: 게시글이 존재하지 않음을 시뮬레이션
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        runRetriedWorkDirectly();
+        when(postRepository.findForRecommendationById(1L)).thenReturn(Optional.empty());
 
         // then: 추천 처리 시 PostNotFoundException 발생 검증
         assertThrows(PostNotFoundException.class, () -> postService.recommendPost(1L, 2L));
-        verify(postRepository, times(1)).findById(1L);
+        verify(postRepository, times(1)).findForRecommendationById(1L);
         verify(postRecommendationRepository, never()).existsByPostIdAndMemberId(anyLong(), anyLong());
+        verify(recommenderIndex, never()).hasRecommended(anyLong(), anyLong());
+    }
+
+    /**
+     * 같은 회원의 동시 추천이 커밋 시 unique 제약 조건에 걸리면 AlreadyRecommendedException으로 알린다.
+     */
+    @Test
+    void testRecommendPost_UniqueViolation() {
+        // given: 커밋 시점에 (post_id, member_id) unique 제약 조건 위반
+        doThrow(new DataIntegrityViolationException("uk_post_recommendations"))
+                .when(optimisticRetry).run(anyString(), any(Runnable.class));
+
+        // then
+        assertThrows(AlreadyRecommendedException.class, () -> postService.recommendPost(1L, 2L));
+    }
+
+    /**
+     * 수정 폼을 연 뒤 게시글이 다른 사용자에 의해 수정되었다면(버전 불일치) 저장하지 않고 충돌 예외를 발생시킨다.
+     */
+    @Test
+    void testUpdatePost_StaleVersion() {
+        // given: 현재 버전은 3이지만 폼을 열 때의 버전은 2
+        Post existingPost = Post.builder()
+                .title("Old Title")
+                .content("Old Content")
+                .version(3L)
+                .build();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(existingPost));
+
+        UpdatePostDto updatePostDto = new UpdatePostDto();
+        updatePostDto.setTitle("New Title");
+        updatePostDto.setContent("New Content");
+        updatePostDto.setVersion(2L);
+
+        // then: 충돌 예외가 발생하고, 게시글은 변경/저장되지 않는다.
+        assertThrows(OptimisticLockingFailureException.class, () -> postService.updatePost(1L, updatePostDto));
+        assertEquals("Old Title", existingPost.getTitle());
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    /**
+     * 게시글 요약 목록 조회 시, 한 개를 더 조회하여 다음 페이지가 있으면 마지막 항목의 ID를 다음 커서로 반환한다.
+     */
+    @Test
+    void testGetPostSummaries_HasNextPage() {
+        // given: 크기 2 요청에 대해 3개가 조회됨
+        List<PostSummaryDto> fetched = Arrays.asList(
+                new PostSummaryDto(30L, "c", "author", 0, null),
+                new PostSummaryDto(20L, "b", "author", 0, null),
+                new PostSummaryDto(10L, "a", "author", 0, null));
+        when(postRepository.findSummariesByBoardCodeBefore("male", Long.MAX_VALUE, Limit.of(3))).thenReturn(fetched);
+
+        // when
+        CursorPage<PostSummaryDto> page = postService.getPostSummaries("male", null, 2);
+
+        // then: 두 개만 반환하고, 다음 커서는 두 번째 항목의 ID. 결과가 있으므로 게시판 존재 여부는 확인하지 않는다.
+        assertEquals(2, page.getItems().size());
+        assertEquals(20L, page.getNextCursor());
+        verify(boardRepository, never()).existsByCode(anyString());
+    }
+
+    /**
+     * 게시글 요약 목록이 비어 있고 게시판도 없으면 BoardNotFoundException 발생한다.
+     */
+    @Test
+    void testGetPostSummaries_BoardNotFound() {
+        // given
+        when(postRepository.findSummariesByBoardCodeBefore("unknown", 5L, Limit.of(21))).thenReturn(Collections.emptyList());
+        when(boardRepository.existsByCode("unknown")).thenReturn(false);
+
+        // then
+        assertThrows(BoardNotFoundException.class, () -> postService.getPostSummaries("unknown", 5L, 20));
+    }
+
+    /**
+     * 재시도 실행기가 작업을 트랜잭션 없이 한 번 그대로 실행하도록 설정한다.
+     */
+    private void runRetriedWorkDirectly() {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(optimisticRetry).run(anyString(), any(Runnable.class));
     }
 }
@@ -0,0 +1,154 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.dto.board.PostSummaryDto;
+import parksoffice.ojtcommunity.dto.common.CursorPage;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.support.sql.QueryCounter;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 검색 결과 캐시의 적중, 게시판 단위 무효화, 삭제 반영을 검증한다.
+ * <p>테스트마다 고유한 검색어를 사용하므로, 다른 테스트가 만든 게시글은 결과에 섞이지 않는다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SearchResultCacheTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private SearchResultCache searchResultCache;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member author;
+    private Board male;
+    private Board female;
+    private String keyword;
+
+    @BeforeEach
+    public void setup() {
+        author = memberService.registerMember(Member.builder()
+                .username("search-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .build());
+        male = boardRepository.findByCode("male").orElseThrow();
+        female = boardRepository.findByCode("female").orElseThrow();
+        keyword = "kw" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+    }
+
+    @Test
+    public void testSearch_RepeatedSearchHitsCache() throws Exception {
+        // given
+        Post older = register(male, "Spring " + keyword + " 입문");
+        Post newer = register(male, "JPA " + keyword.toUpperCase() + " 정리");
+        register(male, "관계없는 글");
+        List<Long> first = ids(postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, "male", null, 10));
+        double hits = hitCount();
+
+        // when: 대소문자와 공백만 다른 검색어로 다시 검색
+        QueryCounter.Result result = QueryCounter.capture(() -> assertEquals(first, ids(
+                postService.searchPostSummaries(SearchResultCache.Field.TITLE, "  " + keyword.toUpperCase() + " ", "male", null, 10))));
+
+        // then: 최신순 결과가 같고, LIKE 검색 대신 식별자 조회 한 번으로 끝난다.
+        assertEquals(List.of(newer.getId(), older.getId()), first);
+        assertEquals(hits + 1, hitCount());
+        result.assertSelects(1).assertTotal(1);
+    }
+
+    @Test
+    public void testSearch_WriteInSameBoardInvalidates() {
+        // given
+        register(male, keyword + " 첫 글");
+        assertEquals(1, postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, "male", null, 10).getItems().size());
+
+        // when
+        register(male, keyword + " 두 번째 글");
+
+        // then
+        assertEquals(2, postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, "male", null, 10).getItems().size());
+    }
+
+    @Test
+    public void testSearch_WriteInOtherBoardKeepsEntry() {
+        // given
+        register(male, keyword);
+        postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, "male", null, 10);
+        double hits = hitCount();
+
+        // when: 다른 게시판에 글 등록
+        register(female, keyword);
+
+        // then: male 게시판 검색은 캐시를 그대로 사용하고, 모든 게시판 검색은 새 글을 포함한다.
+        assertEquals(1, postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, "male", null, 10).getItems().size());
+        assertEquals(hits + 1, hitCount());
+        assertEquals(2, postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, null, null, 10).getItems().size());
+    }
+
+    @Test
+    public void testSearch_DeleteEvictsEntry() {
+        // given
+        Post post = postService.registerPost(Post.builder().title("본문 검색 글").content("내용 " + keyword).author(author).board(male).build());
+        Post other = postService.registerPost(Post.builder().title("다른 글").content(keyword).author(author).board(male).build());
+        assertEquals(2, postService.searchPostSummaries(SearchResultCache.Field.CONTENT, keyword, "male", null, 10).getItems().size());
+        int entries = searchResultCache.size();
+
+        // when
+        postService.deletePostById(other.getId());
+
+        // then
+        assertEquals(entries - 1, searchResultCache.size());
+        assertEquals(List.of(post.getId()),
+                ids(postService.searchPostSummaries(SearchResultCache.Field.CONTENT, keyword, "male", null, 10)));
+    }
+
+    @Test
+    public void testSearch_PagesWithCursorAndEscapesWildcards() {
+        // given
+        Post first = register(male, keyword + " 1");
+        Post second = register(male, keyword + " 2");
+        Post third = register(male, keyword + " 3");
+
+        // when
+        CursorPage<PostSummaryDto> page1 = postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, null, null, 2);
+        CursorPage<PostSummaryDto> page2 = postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword, null, page1.getNextCursor(), 2);
+
+        // then
+        assertEquals(List.of(third.getId(), second.getId()), ids(page1));
+        assertEquals(List.of(first.getId()), ids(page2));
+        assertNull(page2.getNextCursor());
+        // then: % 와 _ 는 와일드카드가 아닌 문자로 검색한다.
+        assertTrue(postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword + "%", null, null, 10).getItems().isEmpty());
+        assertTrue(postService.searchPostSummaries(SearchResultCache.Field.TITLE, keyword + "_1", null, null, 10).getItems().isEmpty());
+        assertTrue(postService.searchPostSummaries(SearchResultCache.Field.TITLE, "   ", null, null, 10).getItems().isEmpty());
+    }
+
+    private Post register(Board board, String title) {
+        return postService.registerPost(Post.builder().title(title).content("내용").author(author).board(board).build());
+    }
+
+    private double hitCount() {
+        return meterRegistry.counter("search.cache.requests", "result", "hit").count();
+    }
+
+    private static List<Long> ids(CursorPage<PostSummaryDto> page) {
+        return page.getItems().stream().map(PostSummaryDto::getId).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package parksoffice.ojtcommunity.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import parksoffice.ojtcommunity.support.sql.ExecutedQuery;
+import parksoffice.ojtcommunity.support.sql.SqlStatistics;
+import parksoffice.ojtcommunity.support.sql.StatementType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlMonitor sqlMonitor = new SqlMonitor(100, 0.0, 2, 50, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        SqlStatistics.end();
+        sqlMonitor.shutdown();
+    }
+
+    /**
+     * 임계값 이상 걸린 쿼리만 요청 식별자와 함께 링 버퍼에 보관되는지 확인한다.
+     */
+    @Test
+    void testOnlySlowQueriesAreKept() {
+        // given
+        SqlStatistics.begin("req-1");
+
+        // when
+        sqlMonitor.afterQuery(query("select 1", 5));
+        sqlMonitor.afterQuery(query("select 2", 150));
+
+        // then
+        List<SqlMonitor.SlowQuery> slowQueries = sqlMonitor.recentSlowQueries();
+        assertEquals(1, slowQueries.size());
+        assertEquals("select 2", slowQueries.get(0).sql());
+        assertEquals("req-1", slowQueries.get(0).requestId());
+        assertEquals(1.0, meterRegistry.counter("sql.slow.queries").count());
+    }
+
+    /**
+     * 링 버퍼가 가득 차면 최근 쿼리만 남고, 전체 건수는 계속 누적되는지 확인한다.
+     */
+    @Test
+    void testRingBufferKeepsMostRecent() {
+        // when
+        for (int i = 1; i <= 3; i++) {
+            sqlMonitor.afterQuery(query("select " + i, 200));
+        }
+
+        // then
+        List<SqlMonitor.SlowQuery> slowQueries = sqlMonitor.recentSlowQueries();
+        assertEquals(List.of("select 3", "select 2"), slowQueries.stream().map(SqlMonitor.SlowQuery::sql).toList());
+        assertEquals(3, sqlMonitor.slowQueryCount());
+    }
+
+    /**
+     * SQL을 실행한 요청만 요청 단위 메트릭에 기록되는지 확인한다.
+     */
+    @Test
+    void testRequestCompletedRecordsMetrics() {
+        // given
+        SqlStatistics empty = SqlStatistics.begin("req-empty");
+        SqlStatistics.end();
+
+        // when
+        sqlMonitor.requestCompleted(empty, "GET", "/css/common.css");
+
+        // then
+        assertEquals(0, meterRegistry.summary("sql.request.statements").count());
+    }
+
+    private static ExecutedQuery query(String sql, long millis) {
+        return new ExecutedQuery(sql, StatementType.of(sql), TimeUnit.MILLISECONDS.toNanos(millis), 1, 1);
+    }
+}
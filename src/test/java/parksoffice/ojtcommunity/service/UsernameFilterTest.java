@@ -0,0 +1,43 @@
+package parksoffice.ojtcommunity.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UsernameFilterTest {
+
+    @Mock
+    private MemberRepository memberRepository; // 회원 저장소 목 객체
+
+    /**
+     * 재구축 중(DB 조회 이후)에 추가된 사용자 이름도 새 필터에 남는지 확인한다.
+     */
+    @Test
+    public void testRebuild_KeepsUsernamesAddedDuringRebuild() {
+        // given: DB 조회가 끝난 직후 다른 요청이 회원가입을 마친다.
+        UsernameFilter usernameFilter = new UsernameFilter(memberRepository, 100, 0.01);
+        when(memberRepository.findAllUsernames()).thenAnswer(invocation -> {
+            usernameFilter.put("lateUser");
+            return List.of("existingUser");
+        });
+
+        // when
+        usernameFilter.rebuild();
+
+        // then
+        assertTrue(usernameFilter.mightExist("existingUser"));
+        assertTrue(usernameFilter.mightExist("lateUser"));
+
+        // 재구축이 끝난 뒤의 추가는 새 필터에 바로 반영된다.
+        usernameFilter.put("afterUser");
+        assertTrue(usernameFilter.mightExist("afterUser"));
+    }
+}
@@ -0,0 +1,176 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedJournalTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 세그먼트를 넘어가며 추가한 레코드를 순번 순서대로 읽을 수 있는지 확인한다.
+     */
+    @Test
+    void testAppendAndReadAcrossSegments() {
+        // given: 세그먼트당 4개
+        try (MappedJournal journal = new MappedJournal(directory, 4)) {
+            for (long i = 0; i < 10; i++) {
+                assertEquals(i, journal.append(100 + i, i, 1, 1000 + i));
+            }
+
+            // when
+            List<Long> keys = new ArrayList<>();
+            long next = journal.read(0, 100, (sequence, key, secondaryKey, type, timestamp) -> {
+                assertEquals(key - 100, secondaryKey);
+                assertEquals(key + 900, timestamp);
+                keys.add(key);
+            });
+
+            // then
+            assertEquals(10, next);
+            assertEquals(List.of(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L), keys);
+            assertEquals(3, journal.segmentCount());
+        }
+    }
+
+    /**
+     * 다시 열면 이어서 쓰고, 체크포인트 이후 레코드부터 다시 읽는지 확인한다.
+     */
+    @Test
+    void testReopenResumesFromCheckpoint() {
+        // given: 6개를 쓰고 4개까지 처리한 뒤 닫음
+        try (MappedJournal journal = new MappedJournal(directory, 4)) {
+            for (long i = 0; i < 6; i++) {
+                journal.append(i, 0, 1, 0);
+            }
+            journal.checkpoint(4);
+        }
+
+        // when
+        try (MappedJournal reopened = new MappedJournal(directory, 4)) {
+            reopened.append(6, 0, 1, 0);
+            List<Long> keys = new ArrayList<>();
+            reopened.read(reopened.checkpoint(), 100, (sequence, key, secondaryKey, type, timestamp) -> keys.add(key));
+
+            // then
+            assertEquals(4, reopened.checkpoint());
+            assertEquals(7, reopened.written());
+            assertEquals(List.of(4L, 5L, 6L), keys);
+        }
+    }
+
+    /**
+     * 체크포인트 이전 레코드만 담은 세그먼트 파일만 지워지는지 확인한다.
+     */
+    @Test
+    void testCompactDeletesConsumedSegments() {
+        // given
+        try (MappedJournal journal = new MappedJournal(directory, 4)) {
+            for (long i = 0; i < 10; i++) {
+                journal.append(i, 0, 1, 0);
+            }
+
+            // when: 0~8번 처리 (8번은 세 번째 세그먼트)
+            journal.checkpoint(9);
+            int deleted = journal.compact();
+
+            // then: 처음 두 세그먼트만 지워지고, 남은 레코드는 읽을 수 있다.
+            assertEquals(2, deleted);
+            assertEquals(1, journal.segmentCount());
+            List<Long> keys = new ArrayList<>();
+            journal.read(9, 100, (sequence, key, secondaryKey, type, timestamp) -> keys.add(key));
+            assertEquals(List.of(9L), keys);
+        }
+    }
+
+    /**
+     * 이미 열려 있는 디렉터리는 다시 열 수 없고, 닫은 뒤에는 열 수 있는지 확인한다.
+     */
+    @Test
+    void testOpenFailsWhileDirectoryIsLocked() {
+        // given
+        MappedJournal journal = new MappedJournal(directory, 4);
+        journal.append(1, 0, 1, 0);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> new MappedJournal(directory, 4));
+
+        // when: 닫은 뒤 다시 연다.
+        journal.close();
+        try (MappedJournal reopened = new MappedJournal(directory, 4)) {
+            // then
+            assertEquals(1, reopened.written());
+        }
+    }
+
+    /**
+     * 순번을 받은 뒤 실패한 추가의 빈 칸에서 멈추지 않고 다음 레코드를 읽는지 확인한다.
+     */
+    @Test
+    void testReadSkipsFailedAppend() throws Exception {
+        // given: 두 번째 세그먼트 파일 자리에 디렉터리가 있어 매핑이 실패한다.
+        try (MappedJournal journal = new MappedJournal(directory, 4)) {
+            for (long i = 0; i < 4; i++) {
+                journal.append(i, 0, 1, 0);
+            }
+            Path blocker = Files.createDirectory(directory.resolve(String.format("%020d.journal", 1)));
+            assertThrows(UncheckedIOException.class, () -> journal.append(4, 0, 1, 0));
+            Files.delete(blocker);
+            journal.append(5, 0, 1, 0);
+
+            // when
+            List<Long> keys = new ArrayList<>();
+            long next = journal.read(0, 100, (sequence, key, secondaryKey, type, timestamp) -> keys.add(key));
+
+            // then: 4번 칸은 건너뛴다.
+            assertEquals(6, next);
+            assertEquals(List.of(0L, 1L, 2L, 3L, 5L), keys);
+        }
+    }
+
+    /**
+     * 여러 스레드가 동시에 추가해도 레코드가 빠지거나 섞이지 않는지 확인한다.
+     */
+    @Test
+    void testConcurrentAppends() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 5_000;
+        try (MappedJournal journal = new MappedJournal(directory, 1024)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                long thread = t;
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(thread, i, 1, 0);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            // when
+            long[] sums = new long[threads];
+            long next = journal.read(0, threads * perThread, (sequence, key, secondaryKey, type, timestamp) ->
+                    sums[(int) key] += secondaryKey);
+
+            // then: 스레드마다 0..perThread-1 을 모두 썼다.
+            assertEquals(threads * perThread, next);
+            for (long sum : sums) {
+                assertEquals((long) perThread * (perThread - 1) / 2, sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTrieTest {
+
+    /**
+     * 접두사 검색 결과가 사전순으로 정렬되고 limit 개수만큼만 반환되는지 확인한다.
+     */
+    @Test
+    void testStartsWith_SortedAndLimited() {
+        // given: 공통 접두사를 가진 문자열들을 순서 없이 추가한다.
+        PrefixTrie trie = new PrefixTrie();
+        Arrays.asList("jinsoo", "jin", "jinwoo", "jisoo", "minsu", "jinsook").forEach(trie::add);
+
+        // when
+        List<String> result = trie.startsWith("jin", 3);
+
+        // then: "jin"으로 시작하는 문자열 중 사전순 상위 3개만 반환된다.
+        assertEquals(List.of("jin", "jinsoo", "jinsook"), result);
+        assertEquals(List.of("jisoo"), trie.startsWith("jis", 10));
+        assertTrue(trie.startsWith("x", 10).isEmpty());
+        assertEquals(6, trie.size());
+    }
+
+    /**
+     * 접두사가 압축된 간선의 중간에서 끝나는 경우에도 하위 문자열을 찾는지 확인한다.
+     */
+    @Test
+    void testStartsWith_PrefixEndsInsideEdge() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("자기소개(남)");
+        trie.add("자기소개(여)");
+
+        assertEquals(List.of("자기소개(남)", "자기소개(여)"), trie.startsWith("자기", 10));
+        assertEquals(List.of("자기소개(여)"), trie.startsWith("자기소개(여", 10));
+    }
+
+    /**
+     * 제거 후 검색 결과에서 빠지고, 다른 문자열은 그대로 남는지 확인한다.
+     */
+    @Test
+    void testRemove() {
+        // given
+        PrefixTrie trie = new PrefixTrie();
+        Arrays.asList("team", "tea", "ten", "test").forEach(trie::add);
+
+        // when
+        assertTrue(trie.remove("tea"));
+        assertTrue(trie.remove("ten"));
+        assertFalse(trie.remove("te")); // 중간 노드는 저장된 문자열이 아니다.
+
+        // then
+        assertFalse(trie.contains("tea"));
+        assertTrue(trie.contains("team"));
+        assertEquals(List.of("team", "test"), trie.startsWith("te", 10));
+        assertEquals(2, trie.size());
+    }
+
+    /**
+     * 100만 개의 회원 이름을 적재했을 때의 메모리 사용량과 검색 지연 시간을 측정한다.
+     * <p>메모리 사용량은 원본 문자열 목록보다 작아야 한다. (조회 지연 시간은 실패 메시지로 보고한다.)</p>
+     */
+    @Test
+    void testMillionUsernames_Footprint() {
+        // given: "user" + 숫자 형태와 임의 문자 조합 형태를 섞어 100만 개의 이름을 만든다.
+        PrefixTrie trie = new PrefixTrie();
+        int count = 1_000_000;
+        long rawBytes = 0;
+        for (int i = 0; i < count; i++) {
+            String name = (i % 2 == 0 ? "user" : Long.toString(i * 2654435761L % 1_000_000_007L, 36)) + i;
+            trie.add(name);
+            rawBytes += 24 + ((16 + name.length() + 7) & ~7); // String + byte[] (Latin-1)
+        }
+
+        // when
+        long estimated = trie.estimateMemoryBytes();
+        long[] nanos = new long[10_000];
+        for (int i = 0; i < nanos.length; i++) {
+            String prefix = "user" + (i % 1000);
+            long start = System.nanoTime();
+            trie.startsWith(prefix, 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        // then
+        assertEquals(count, trie.size());
+        assertTrue(estimated < rawBytes, String.format(
+                "트라이 메모리 사용량(%d MiB)이 원본 문자열(%d MiB)보다 크다. (조회 p50=%dus, p99=%dus)",
+                estimated >> 20, rawBytes >> 20,
+                nanos[nanos.length / 2] / 1000, nanos[nanos.length * 99 / 100] / 1000));
+    }
+}
@@ -0,0 +1,44 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    /**
+     * 용량을 넘으면 가장 오래된 항목부터 덮어쓰고, 스냅샷은 최신순으로 반환되는지 확인한다.
+     */
+    @Test
+    void testOverwritesOldestAndSnapshotsNewestFirst() {
+        // given
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+
+        // then
+        assertEquals(List.of(5, 4, 3), buffer.snapshot());
+        assertEquals(5, buffer.totalAdded());
+    }
+
+    /**
+     * 용량보다 적게 추가된 경우 추가된 항목만 반환되는지 확인한다.
+     */
+    @Test
+    void testPartiallyFilled() {
+        // given
+        RingBuffer<String> buffer = new RingBuffer<>(4);
+
+        // when
+        buffer.add("a");
+        buffer.add("b");
+
+        // then
+        assertEquals(List.of("b", "a"), buffer.snapshot());
+    }
+}
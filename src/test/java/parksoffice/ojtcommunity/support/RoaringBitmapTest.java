@@ -0,0 +1,57 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringBitmapTest {
+
+    /**
+     * 추가한 값만 포함되고, 중복 추가는 카운트되지 않는지 확인한다.
+     */
+    @Test
+    void testAddAndContains() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        // when: 서로 다른 컨테이너(상위 비트)에 속하는 값들을 추가한다.
+        assertTrue(bitmap.add(1L));
+        assertTrue(bitmap.add(70_000L));
+        assertTrue(bitmap.add(5_000_000_000L));
+        assertFalse(bitmap.add(1L)); // 중복
+
+        // then
+        assertTrue(bitmap.contains(1L));
+        assertTrue(bitmap.contains(70_000L));
+        assertTrue(bitmap.contains(5_000_000_000L));
+        assertFalse(bitmap.contains(2L));
+        assertFalse(bitmap.contains(70_001L));
+        assertEquals(3, bitmap.cardinality());
+    }
+
+    /**
+     * 한 컨테이너의 원소가 4096개를 넘어 비트맵 컨테이너로 전환된 이후에도 정확한지 확인한다.
+     */
+    @Test
+    void testDenseContainerConversion() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+        long sparseBytes;
+
+        // when: 짝수만 10,000개 추가 (하나의 컨테이너 안에서 4096개를 초과)
+        for (long i = 0; i < 8192; i += 2) {
+            bitmap.add(i);
+        }
+        sparseBytes = bitmap.estimateBytes();
+        for (long i = 8192; i < 20_000; i += 2) {
+            bitmap.add(i);
+        }
+
+        // then
+        assertEquals(10_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19_998L));
+        assertFalse(bitmap.contains(19_999L));
+        // 비트맵 컨테이너는 8KiB 고정 크기이므로, 원소 수가 늘어도 메모리가 선형으로 증가하지 않는다.
+        assertTrue(bitmap.estimateBytes() < sparseBytes + 1024);
+    }
+}
@@ -0,0 +1,53 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalableBloomFilterTest {
+
+    /**
+     * 추가한 원소는 항상 존재 가능성이 있다고 답해야 한다. (미탐 없음)
+     */
+    @Test
+    void testNoFalseNegatives() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        // when: 초기 용량의 20배를 추가하여 여러 단계로 확장되도록 한다.
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("member" + i);
+        }
+
+        // then
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(filter.mightContain("member" + i));
+        }
+        assertTrue(filter.stageCount() > 1);
+    }
+
+    /**
+     * 확장 이후에도 오탐률이 목표 오탐률의 2배 이내로 유지되는지 확인한다.
+     */
+    @Test
+    void testFalsePositiveRateStaysBounded() {
+        // given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put("member" + i);
+        }
+
+        // when: 한 번도 추가하지 않은 이름으로 조회한다.
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("stranger" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double rate = (double) falsePositives / trials;
+        assertTrue(rate < 0.02, "오탐률이 너무 높다: " + rate);
+    }
+}
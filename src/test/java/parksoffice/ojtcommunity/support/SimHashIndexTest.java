@@ -0,0 +1,115 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimHashIndexTest {
+
+    private static final String SPAM = "지금 바로 가입하면 첫 달 수수료 무료! 하루 만에 수익 인증, 자세한 내용은 프로필 링크에서 확인하세요.";
+
+    /**
+     * 공백/문장 부호나 몇 글자만 바꾼 본문은 지문의 거리가 가깝고, 다른 본문은 멀다.
+     */
+    @Test
+    void testFingerprintIsCloseForNearDuplicates() {
+        // given
+        long original = SimHash.fingerprint(SimHash.normalize(SPAM));
+
+        // when
+        long spaced = SimHash.fingerprint(SimHash.normalize(SPAM.replace(" ", "  ").replace("!", "!!!")));
+        long edited = SimHash.fingerprint(SimHash.normalize(SPAM.replace("첫 달", "첫달이")));
+        long different = SimHash.fingerprint(SimHash.normalize(
+                "오늘 점심은 학교 앞 분식집에서 떡볶이와 김밥을 먹었는데 생각보다 양이 많아서 배가 부르네요."));
+
+        // then
+        assertEquals(0, SimHash.distance(original, spaced));
+        // 짧은 본문은 한 글자만 바꿔도 여러 비트가 달라지므로, 기본 최대 거리(8) 이내인지 확인한다.
+        assertTrue(SimHash.distance(original, edited) <= 8, "distance: " + SimHash.distance(original, edited));
+        assertTrue(SimHash.distance(original, different) > 10, "distance: " + SimHash.distance(original, different));
+    }
+
+    /**
+     * 최대 거리 이내의 지문은 밴드 중 하나가 반드시 같으므로 빠짐없이 찾는다.
+     */
+    @Test
+    void testFindsEveryFingerprintWithinMaxDistance() {
+        // given
+        Random random = new Random(42);
+        SimHashIndex index = new SimHashIndex(1000, 3);
+        long[] fingerprints = new long[1000];
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprints[i] = random.nextLong();
+            index.add(i, fingerprints[i]);
+        }
+
+        // when & then: 임의의 비트를 최대 3개까지 뒤집어도 찾는다.
+        for (int i = 0; i < fingerprints.length; i++) {
+            long query = fingerprints[i];
+            int flips = i % 4;
+            for (int flip = 0; flip < flips; flip++) {
+                query ^= 1L << ((i * 7 + flip * 17) % 64);
+            }
+            SimHashIndex.Match match = index.findNearest(query);
+            assertNotNull(match, "fingerprint " + i);
+            assertEquals(i, match.id());
+            assertEquals(flips, match.distance());
+        }
+        // 임의의 지문은 거리가 멀어 찾지 않는다.
+        assertNull(index.findNearest(fingerprints[0] ^ 0xffL));
+    }
+
+    /**
+     * 가득 차면 가장 오래된 지문을 제거하고, 제거한 지문은 더 이상 찾지 않는다.
+     */
+    @Test
+    void testEvictsOldestAndRemovesById() {
+        // given
+        SimHashIndex index = new SimHashIndex(2, 2);
+        index.add(1, 0x1111L);
+        index.add(2, 0x2222_0000_0000L);
+
+        // when
+        index.add(3, 0x3333_0000_0000_0000L);
+
+        // then
+        assertNull(index.findNearest(0x1111L));
+        assertEquals(2, index.size());
+        assertEquals(2, index.findNearest(0x2222_0000_0000L).id());
+
+        // when
+        assertTrue(index.remove(2));
+
+        // then
+        assertNull(index.findNearest(0x2222_0000_0000L));
+        assertFalse(index.remove(2));
+        assertEquals(1, index.size());
+    }
+
+    /**
+     * 식별자를 바꾼 항목은 새 식별자로 찾고, 제외한 항목은 찾지 않는다.
+     */
+    @Test
+    void testRenameAndExclude() {
+        // given
+        SimHashIndex index = new SimHashIndex(4, 2);
+        index.add(-1, 0x1111L);
+
+        // when
+        assertTrue(index.rename(-1, 7));
+
+        // then
+        assertEquals(7, index.findNearest(0x1111L).id());
+        assertNull(index.findNearest(0x1111L, 7L));
+        assertFalse(index.rename(-1, 8));
+        assertEquals(1, index.size());
+
+        // when: 같은 지문의 다른 항목이 있으면 제외한 항목 대신 찾는다.
+        index.add(9, 0x1113L);
+
+        // then
+        assertEquals(9, index.findNearest(0x1111L, 7L).id());
+    }
+}
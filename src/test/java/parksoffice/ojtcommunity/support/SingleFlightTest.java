@@ -0,0 +1,176 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 조회가 진행 중일 때 같은 키로 들어온 호출은 모두 그 조회 하나의 결과를 받는다.
+     */
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        // given: 모든 호출이 들어올 때까지 끝나지 않는 조회
+        SingleFlight<Long, String> flight = new SingleFlight<>(5, TimeUnit.SECONDS);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                arrived.countDown();
+                return flight.load(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "post-1";
+                });
+            }));
+        }
+        assertTrue(arrived.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100); // 모든 호출이 기다리기 시작할 시간을 준다.
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("post-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, flight.sharedCount());
+
+        // then: 끝난 조회는 캐시되지 않으므로 다음 호출은 다시 조회한다.
+        assertEquals("post-1 again", flight.load(1L, () -> "post-1 again"));
+        assertEquals(2, flight.loadCount());
+    }
+
+    /**
+     * 조회가 실패하면 기다리던 호출도 같은 예외를 받는다.
+     */
+    @Test
+    void testFailureIsSharedWithWaiters() throws Exception {
+        // given
+        SingleFlight<Long, String> flight = new SingleFlight<>(5, TimeUnit.SECONDS);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.load(7L, () -> {
+            await(release);
+            throw new IllegalArgumentException("not found");
+        }));
+        waitUntil(() -> flight.loadCount() == 1);
+
+        // when
+        Future<String> follower = executor.submit(() -> flight.load(7L, () -> "should not load"));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalArgumentException.class, followerFailure.getCause());
+        assertEquals(1, flight.loadCount());
+    }
+
+    /**
+     * 진행 중인 조회가 최대 대기 시간보다 오래 걸리면, 기다리던 호출은 직접 조회한다.
+     */
+    @Test
+    void testWaitIsBounded() throws Exception {
+        // given: 끝나지 않는 조회
+        SingleFlight<Long, String> flight = new SingleFlight<>(50, TimeUnit.MILLISECONDS);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> flight.load(3L, () -> {
+            await(release);
+            return "slow";
+        }));
+        waitUntil(() -> flight.loadCount() == 1);
+
+        // when
+        String result = flight.load(3L, () -> "direct");
+
+        // then
+        assertEquals("direct", result);
+        assertEquals(1, flight.timeoutCount());
+        release.countDown();
+    }
+
+    /**
+     * 값이 바뀐 뒤 들어온 호출은 바뀌기 전에 시작된 조회에 합류하지 않고 새로 조회한다.
+     */
+    @Test
+    void testInvalidateDetachesStaleFlight() throws Exception {
+        // given: 변경 전 값을 읽고 있는 조회
+        SingleFlight<Long, String> flight = new SingleFlight<>(5, TimeUnit.SECONDS);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stale = executor.submit(() -> flight.load(9L, () -> {
+            await(release);
+            return "before";
+        }));
+        waitUntil(() -> flight.loadCount() == 1);
+
+        // when: 변경이 커밋된 뒤 들어온 호출
+        flight.invalidate(9L);
+        String fresh = flight.load(9L, () -> "after");
+        release.countDown();
+
+        // then
+        assertEquals("after", fresh);
+        assertEquals("before", stale.get(5, TimeUnit.SECONDS));
+        assertEquals(2, flight.loadCount());
+        assertEquals(0, flight.sharedCount());
+    }
+
+    /**
+     * 키가 다르면 조회를 합치지 않는다.
+     */
+    @Test
+    void testDifferentKeysLoadIndependently() {
+        // given
+        SingleFlight<String, String> flight = new SingleFlight<>(1, TimeUnit.SECONDS);
+
+        // when & then
+        assertEquals("male", flight.load("male", () -> "male"));
+        assertEquals("female", flight.load("female", () -> "female"));
+        assertEquals(2, flight.loadCount());
+        assertEquals(0, flight.sharedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,164 @@
+package parksoffice.ojtcommunity.support;
+
+import org.junit.jupiter.api.Test;
+import parksoffice.ojtcommunity.support.TokenBucketLimiter.Rate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest {
+
+    private static final Rate FIVE_PER_10_SECONDS = Rate.parse("5/10");
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    /**
+     * 가득 찬 버킷은 용량만큼 연속 요청을 허용하고, 이후에는 토큰이 충전되는 간격마다 하나씩 허용한다.
+     */
+    @Test
+    void testAllowsBurstThenRefillsOneTokenPerInterval() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(100, 60, TimeUnit.SECONDS, clock::get);
+
+        // when & then: 연속 5번 허용, 6번째는 2초(토큰 하나의 충전 간격) 대기
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("post", "ip1", FIVE_PER_10_SECONDS));
+        }
+        assertEquals(TimeUnit.SECONDS.toNanos(2), limiter.tryAcquire("post", "ip1", FIVE_PER_10_SECONDS));
+
+        // then: 다른 키와 다른 범위는 영향을 받지 않는다.
+        assertEquals(0, limiter.tryAcquire("post", "ip2", FIVE_PER_10_SECONDS));
+        assertEquals(0, limiter.tryAcquire("login", "ip1", FIVE_PER_10_SECONDS));
+
+        // then: 2초 뒤 토큰 하나만 생긴다.
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(0, limiter.tryAcquire("post", "ip1", FIVE_PER_10_SECONDS));
+        assertTrue(limiter.tryAcquire("post", "ip1", FIVE_PER_10_SECONDS) > 0);
+
+        // then: 충분히 쉬어도 용량 이상은 쌓이지 않는다.
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        int allowed = 0;
+        while (limiter.tryAcquire("post", "ip1", FIVE_PER_10_SECONDS) == 0) {
+            allowed++;
+        }
+        assertEquals(5, allowed);
+    }
+
+    /**
+     * 가득 찬 채로 유휴 시간이 지난 키는 지워지고, 사용 중인 키는 남는다.
+     */
+    @Test
+    void testSweepRemovesOnlyIdleFullBuckets() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(100, 60, TimeUnit.SECONDS, clock::get);
+        limiter.tryAcquire("post", "idle", FIVE_PER_10_SECONDS);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("post", "busy", FIVE_PER_10_SECONDS);
+        }
+
+        // when: idle 키는 2초 뒤 가득 차고, busy 키는 10초 뒤 가득 찬다. 62초 시점에는 idle만 60초 이상 가득 차 있었다.
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(62));
+
+        // then
+        assertEquals(1, limiter.sweep());
+        assertEquals(0, limiter.tryAcquire("post", "busy", FIVE_PER_10_SECONDS));
+    }
+
+    /**
+     * 키 수가 상한에 도달하면 새 키는 범위별 공용 버킷을 함께 써서, 키를 바꿔 가며 보내도 메모리와 요청 수가 모두 제한된다.
+     */
+    @Test
+    void testNewKeysShareOverflowBucketWhenFull() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 60, TimeUnit.SECONDS, clock::get);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("post", "ip" + i, FIVE_PER_10_SECONDS);
+        }
+
+        // when: 새 IP 100개에서 한 번씩 요청
+        int allowed = 0;
+        for (int i = 100; i < 200; i++) {
+            if (limiter.tryAcquire("post", "ip" + i, FIVE_PER_10_SECONDS) == 0) {
+                allowed++;
+            }
+        }
+
+        // then: 공용 버킷 하나만 늘고, 그 버킷의 용량만큼만 허용된다.
+        assertEquals(4, limiter.size());
+        assertEquals(5, allowed);
+    }
+
+    /**
+     * 클라이언트가 정하는 키는 가득 찬 동안 새 버킷도, 공용 버킷도 만들지 않는다. (이미 추적 중인 키는 계속 제한된다.)
+     */
+    @Test
+    void testUntrustedKeysDoNotCreateBucketsWhenFull() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 60, TimeUnit.SECONDS, clock::get);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquireIfTracked("login", "victim", FIVE_PER_10_SECONDS);
+        }
+        limiter.tryAcquire("login", "user1", FIVE_PER_10_SECONDS);
+        limiter.tryAcquire("login", "user2", FIVE_PER_10_SECONDS);
+
+        // when: 가득 찬 상태에서 새 사용자 이름 100개로 요청
+        int allowed = 0;
+        for (int i = 100; i < 200; i++) {
+            if (limiter.tryAcquireIfTracked("login", "user" + i, FIVE_PER_10_SECONDS) == 0) {
+                allowed++;
+            }
+        }
+
+        // then: 키가 늘지 않고 모두 허용되며, 추적 중인 키는 여전히 제한된다.
+        assertEquals(3, limiter.size());
+        assertEquals(100, allowed);
+        assertTrue(limiter.tryAcquireIfTracked("login", "victim", FIVE_PER_10_SECONDS) > 0);
+    }
+
+    /**
+     * 여러 스레드가 같은 키로 동시에 요청해도 정확히 용량만큼만 허용된다.
+     */
+    @Test
+    void testConcurrentAcquiresNeverExceedCapacity() throws Exception {
+        // given: 시계를 멈춰 두어 충전이 없도록 한다.
+        TokenBucketLimiter limiter = new TokenBucketLimiter(100, 60, TimeUnit.SECONDS, clock::get);
+        Rate rate = Rate.parse("1000/60");
+        int threads = 8;
+        int attemptsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("recommend", "member1", rate) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        // then
+        assertEquals(1000, allowed.get());
+    }
+}
@@ -0,0 +1,76 @@
+package parksoffice.ojtcommunity.support.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import parksoffice.ojtcommunity.domain.board.Board;
+import parksoffice.ojtcommunity.domain.board.Post;
+import parksoffice.ojtcommunity.domain.member.Member;
+import parksoffice.ojtcommunity.repository.board.BoardRepository;
+import parksoffice.ojtcommunity.repository.board.PostRecommendationRepository;
+import parksoffice.ojtcommunity.repository.board.PostRepository;
+import parksoffice.ojtcommunity.repository.member.MemberRepository;
+import parksoffice.ojtcommunity.service.MemberService;
+import parksoffice.ojtcommunity.service.PostService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿼리 수 테스트가 공통으로 사용하는 게시글 데이터
+ *
+ * <p>
+ *     "male" 게시판에 {@link #POST_COUNT}개의 게시글을 만들고, 테스트가 끝나면 게시글/추천/회원을 모두 지운다.
+ *     게시글마다 다른 작성자를 두어, 작성자를 지연 로딩(N+1)하면 쿼리 수가 게시글 수만큼 늘어나도록 한다.
+ * </p>
+ *
+ * @author CRISPYTYPER
+ */
+public abstract class QueryCountFixture {
+
+    protected static final int POST_COUNT = 5;
+
+    @Autowired
+    protected PostService postService;
+    @Autowired
+    protected MemberService memberService;
+    @Autowired
+    protected BoardRepository boardRepository;
+    @Autowired
+    protected PostRepository postRepository;
+    @Autowired
+    protected PostRecommendationRepository postRecommendationRepository;
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    protected final List<Member> authors = new ArrayList<>();
+    protected Post firstPost;
+
+    @BeforeEach
+    public void setupPosts() {
+        Board board = boardRepository.findByCode("male").orElseThrow();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Member author = memberService.registerMember(Member.builder()
+                    .username("writer" + i)
+                    .password("password")
+                    .build());
+            authors.add(author);
+            Post post = postService.registerPost(Post.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .author(author)
+                    .board(board)
+                    .build());
+            if (firstPost == null) {
+                firstPost = post;
+            }
+        }
+    }
+
+    @AfterEach
+    public void cleanupPosts() {
+        postRecommendationRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+}
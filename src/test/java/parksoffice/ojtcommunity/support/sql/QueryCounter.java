@@ -0,0 +1,126 @@
+package parksoffice.ojtcommunity.support.sql;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 블록 안에서 실행된 SQL 문을 수집하고, 종류별 실행 횟수를 검증하는 테스트 유틸리티
+ *
+ * <p>
+ *     애플리케이션 컨텍스트의 DataSource는 {@link SqlInterceptor}로 감싸져 있으므로,
+ *     서비스 호출이나 MockMvc 요청을 {@link #capture(Block)}로 감싸기만 하면 그 사이에 실행된 SQL이 모두 수집된다.
+ *     N+1 같은 쿼리 수 회귀가 생기면 실행된 SQL 목록과 함께 테스트가 실패한다.
+ * </p>
+ *
+ * <pre>{@code
+ * QueryCounter.capture(() -> mockMvc.perform(get("/board/lists").param("id", "male")))
+ *         .assertSelects(3)
+ *         .assertTotalAtMost(3);
+ * }</pre>
+ *
+ * @author CRISPYTYPER
+ */
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    @FunctionalInterface
+    public interface Block {
+        void run() throws Exception;
+    }
+
+    /**
+     * 블록을 실행하면서 현재 스레드에서 실행된 SQL 문을 수집한다.
+     *
+     * @param block 실행할 코드
+     * @return 수집 결과
+     */
+    public static Result capture(Block block) throws Exception {
+        SqlStatistics statistics = SqlStatistics.beginCapturing("query-counter");
+        try {
+            block.run();
+        } finally {
+            SqlStatistics.end();
+        }
+        return new Result(statistics);
+    }
+
+    /**
+     * 수집 결과. 검증 메서드는 연쇄 호출할 수 있도록 자기 자신을 반환한다.
+     */
+    public static final class Result {
+        private final SqlStatistics statistics;
+
+        private Result(SqlStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        public int count(StatementType type) {
+            return statistics.getStatements(type);
+        }
+
+        public int total() {
+            return statistics.getStatements();
+        }
+
+        public List<ExecutedQuery> queries() {
+            return statistics.getCapturedQueries();
+        }
+
+        public Result assertCount(StatementType type, int expected) {
+            if (count(type) != expected) {
+                fail(describe("Expected " + expected + " " + type + " statement(s) but was " + count(type)));
+            }
+            return this;
+        }
+
+        public Result assertCountAtMost(StatementType type, int max) {
+            if (count(type) > max) {
+                fail(describe("Expected at most " + max + " " + type + " statement(s) but was " + count(type)));
+            }
+            return this;
+        }
+
+        public Result assertSelects(int expected) {
+            return assertCount(StatementType.SELECT, expected);
+        }
+
+        public Result assertInserts(int expected) {
+            return assertCount(StatementType.INSERT, expected);
+        }
+
+        public Result assertUpdates(int expected) {
+            return assertCount(StatementType.UPDATE, expected);
+        }
+
+        public Result assertDeletes(int expected) {
+            return assertCount(StatementType.DELETE, expected);
+        }
+
+        public Result assertTotal(int expected) {
+            if (total() != expected) {
+                fail(describe("Expected " + expected + " statement(s) in total but was " + total()));
+            }
+            return this;
+        }
+
+        public Result assertTotalAtMost(int max) {
+            if (total() > max) {
+                fail(describe("Expected at most " + max + " statement(s) in total but was " + total()));
+            }
+            return this;
+        }
+
+        private String describe(String message) {
+            List<ExecutedQuery> queries = queries();
+            return message + IntStream.range(0, queries.size())
+                    .mapToObj(i -> String.format("%n  %d. [%s x%d] %s", i + 1, queries.get(i).type(),
+                            queries.get(i).batchSize(), queries.get(i).sql()))
+                    .collect(Collectors.joining());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package parksoffice.ojtcommunity.support.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlInterceptorTest {
+
+    private final List<ExecutedQuery> queries = new ArrayList<>();
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:interceptor-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource = SqlInterceptor.wrap(h2, queries::add);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table item (id int primary key, name varchar(20))");
+        }
+        queries.clear();
+    }
+
+    /**
+     * 변경 문은 영향받은 행 수, 조회 문은 읽어간 행 수와 함께 보고되는지 확인한다.
+     */
+    @Test
+    void testReportsRowsForUpdatesAndQueries() throws Exception {
+        // given
+        SqlStatistics statistics = SqlStatistics.begin("req-1");
+
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into item values (?, ?)")) {
+                for (int i = 1; i <= 3; i++) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "item" + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement("select name from item where id >= ?")) {
+                select.setInt(1, 2);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(1);
+                    }
+                }
+            }
+        } finally {
+            SqlStatistics.end();
+        }
+
+        // then
+        assertEquals(2, queries.size());
+        assertEquals(StatementType.INSERT, queries.get(0).type());
+        assertEquals(3, queries.get(0).rows());
+        assertEquals(3, queries.get(0).batchSize());
+        assertEquals(StatementType.SELECT, queries.get(1).type());
+        assertEquals("select name from item where id >= ?", queries.get(1).sql());
+        assertEquals(2, queries.get(1).rows());
+
+        assertEquals("req-1", statistics.getRequestId());
+        assertEquals(4, statistics.getStatements());
+        assertEquals(3, statistics.getStatements(StatementType.INSERT));
+        assertEquals(1, statistics.getStatements(StatementType.SELECT));
+        assertEquals(5, statistics.getRows());
+    }
+
+    /**
+     * ResultSet을 닫지 않아도 Statement를 닫을 때 조회 문이 한 번만 보고되는지 확인한다.
+     */
+    @Test
+    void testPendingQueryReportedOnStatementClose() throws Exception {
+        // when
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery("select * from item");
+            resultSet.next();
+        }
+
+        // then
+        assertEquals(1, queries.size());
+        assertEquals(StatementType.SELECT, queries.get(0).type());
+        assertEquals(0, queries.get(0).rows());
+    }
+
+    /**
+     * 통계 수집 중이 아닐 때도 리스너는 호출되고, 커넥션 풀 등의 unwrap이 실제 구현체로 위임되는지 확인한다.
+     */
+    @Test
+    void testUnwrapDelegatesToTarget() throws Exception {
+        // when & then
+        assertTrue(dataSource.isWrapperFor(DriverManagerDataSource.class));
+        assertNotNull(dataSource.unwrap(DriverManagerDataSource.class));
+        assertNull(SqlStatistics.current());
+    }
+
+    /**
+     * SQL 첫 키워드로 종류가 판별되는지 확인한다.
+     */
+    @Test
+    void testStatementTypeDetection() {
+        assertEquals(StatementType.SELECT, StatementType.of("  select 1"));
+        assertEquals(StatementType.SELECT, StatementType.of("with t as (select 1) select * from t"));
+        assertEquals(StatementType.UPDATE, StatementType.of("update posts set title=?"));
+        assertEquals(StatementType.DELETE, StatementType.of("DELETE FROM posts"));
+        assertEquals(StatementType.OTHER, StatementType.of("create table x (id int)"));
+        assertEquals(StatementType.OTHER, StatementType.of("select next value for posts_seq"));
+        assertEquals(StatementType.OTHER, StatementType.of(null));
+    }
+}